@@ -0,0 +1,80 @@
+package com.grinder.utils;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWTUtil 토큰 검증/발급 성능 비교 (./gradlew jmh)
+ * legacy* : 변경 전 방식 (호출마다 JwtParser 생성, key.getBytes(), 헤더 맵 생성)
+ * shared* : 미리 만든 키와 파서를 재사용 (HMAC 검증은 매번 수행)
+ * cached* : JWTUtil.validateToken (같은 토큰은 만료 전까지 한 번만 검증)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JWTUtilBenchmark {
+
+    private static final String KEY = "grinder-benchmark-secret-key-0123456789abcdef";
+
+    private JWTUtil jwtUtil;
+    private JwtParser sharedParser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JWTUtil(KEY);
+        sharedParser = Jwts.parserBuilder().setSigningKey(KEY.getBytes()).build();
+        token = jwtUtil.generateToken(Map.of("email", "test@test.com"), 1);
+    }
+
+    @Benchmark
+    public Object legacyValidate() {
+        return Jwts.parserBuilder()
+                .setSigningKey(KEY.getBytes())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Object sharedValidate() {
+        return sharedParser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Object cachedValidate() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public String legacyGenerate() {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("typ", "JWT");
+        headers.put("alg", "HS256");
+        Map<String, Object> payloads = new HashMap<>(Map.of("email", "test@test.com"));
+
+        return Jwts.builder()
+                .setHeader(headers)
+                .setClaims(payloads)
+                .setIssuedAt(Date.from(ZonedDateTime.now().toInstant()))
+                .setExpiration(Date.from(ZonedDateTime.now().plusMinutes(60).toInstant()))
+                .signWith(SignatureAlgorithm.HS256, KEY.getBytes())
+                .compact();
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtil.generateToken(Map.of("email", "test@test.com"), 1);
+    }
+}
@@ -0,0 +1,41 @@
+package com.grinder.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grinder.utils.AlanAPI;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * 앨런 API 클라이언트 설정
+ * alan.secret 외의 값은 alan.{설정 이름} 으로 바꿀 수 있다.
+ */
+@RequiredArgsConstructor
+@Configuration
+public class AlanConfig {
+    private static final String DEFAULT_BASE_URL = "https://kdt-api-function.azurewebsites.net/api/v1/question";
+
+    private final Environment environment;
+
+    @Bean
+    public AlanAPI alanAPI(ObjectMapper objectMapper) {
+        return new AlanAPI(AlanAPI.Settings.builder()
+                .baseUrl(environment.getProperty("alan.base-url", DEFAULT_BASE_URL))
+                .key(environment.getProperty("alan.secret", ""))
+                .connectTimeout(environment.getProperty("alan.connect-timeout", Duration.class, Duration.ofSeconds(2)))
+                .readTimeout(environment.getProperty("alan.read-timeout", Duration.class, Duration.ofSeconds(15)))
+                .maxConcurrency(environment.getProperty("alan.max-concurrency", Integer.class, 8))
+                .maxQueue(environment.getProperty("alan.max-queue", Integer.class, 100))
+                .maxAttempts(environment.getProperty("alan.max-attempts", Integer.class, 3))
+                .backoff(environment.getProperty("alan.backoff", Duration.class, Duration.ofMillis(200)))
+                .retryRatio(environment.getProperty("alan.retry-ratio", Double.class, 0.2))
+                .retryMaxTokens(environment.getProperty("alan.retry-max-tokens", Double.class, 10.0))
+                .failureThreshold(environment.getProperty("alan.failure-threshold", Integer.class, 5))
+                .openDuration(environment.getProperty("alan.open-duration", Duration.class, Duration.ofSeconds(30)))
+                .awaitTimeout(environment.getProperty("alan.await-timeout", Duration.class, AlanAPI.DEFAULT_AWAIT_TIMEOUT))
+                .build(), objectMapper);
+    }
+}
@@ -0,0 +1,70 @@
+package com.grinder.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Slf4j
+@Configuration
+public class AsyncConfig {
+    // 피드 이미지 업로드 워커 풀 (S3 네트워크 I/O 전용)
+    private final int UPLOAD_CORE_POOL_SIZE = 2;
+    private final int UPLOAD_MAX_POOL_SIZE = 4;
+    private final int UPLOAD_QUEUE_CAPACITY = 100;
+    // 카페 요약 생성 워커 풀 (앨런 API 호출 전용)
+    private final int SUMMARY_CORE_POOL_SIZE = 2;
+    private final int SUMMARY_MAX_POOL_SIZE = 4;
+    private final int SUMMARY_QUEUE_CAPACITY = 50;
+    // 앨런 응답 캐시 저장 풀 (DB, Redis 쓰기 전용. 앨런 HTTP 응답 스레드를 막지 않도록 분리)
+    private final int ALAN_CACHE_CORE_POOL_SIZE = 1;
+    private final int ALAN_CACHE_MAX_POOL_SIZE = 2;
+    private final int ALAN_CACHE_QUEUE_CAPACITY = 100;
+
+    @Bean(name = "imageUploadExecutor")
+    public ThreadPoolTaskExecutor imageUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(UPLOAD_CORE_POOL_SIZE);
+        executor.setMaxPoolSize(UPLOAD_MAX_POOL_SIZE);
+        executor.setQueueCapacity(UPLOAD_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("image-upload-pool-");
+        // 큐가 가득 차면 예외로 거절한다. 호출한 쪽이 처리 중 표시를 지우고, 업로드 행은 PENDING으로 남아 스케줄러가 다시 시도한다.
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "summaryExecutor")
+    public ThreadPoolTaskExecutor summaryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(SUMMARY_CORE_POOL_SIZE);
+        executor.setMaxPoolSize(SUMMARY_MAX_POOL_SIZE);
+        executor.setQueueCapacity(SUMMARY_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("summary-pool-");
+        // 큐가 가득 차면 버린다. 이벤트 행은 점유 시간이 지나면 다시 가져갈 수 있다.
+        executor.setRejectedExecutionHandler((task, pool) -> log.warn("카페 요약 작업 큐가 가득 찼습니다. 점유 시간이 지나면 다시 처리합니다."));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "alanCacheExecutor")
+    public ThreadPoolTaskExecutor alanCacheExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(ALAN_CACHE_CORE_POOL_SIZE);
+        executor.setMaxPoolSize(ALAN_CACHE_MAX_POOL_SIZE);
+        executor.setQueueCapacity(ALAN_CACHE_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("alan-cache-pool-");
+        // 큐가 가득 차면 예외로 거절한다. 호출한 쪽은 저장을 건너뛰고 응답만 돌려준다.
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
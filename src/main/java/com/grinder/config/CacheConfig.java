@@ -0,0 +1,67 @@
+package com.grinder.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.grinder.domain.dto.MenuDTO;
+import com.grinder.utils.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 캐시 설정 (L1 Caffeine + L2 Redis, 서버 간 무효화)
+ * 캐시별 값은 cache.{캐시 이름}.ttl / local-ttl / max-size 로 바꿀 수 있다.
+ */
+@RequiredArgsConstructor
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    // 회원 이메일 → 차단한 회원 id
+    public static final String BLOCKED_MEMBER_IDS = "blockedMemberIds";
+    // 카페 id → 메뉴 목록
+    public static final String CAFE_MENUS = "cafeMenus";
+
+    private final Environment environment;
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     RedisMessageListenerContainer redisMessageListenerContainer,
+                                     ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry) {
+        TypeFactory types = objectMapper.getTypeFactory();
+        List<TwoLevelCacheManager.CacheSpec> specs = List.of(
+                spec(BLOCKED_MEMBER_IDS, types.constructCollectionType(Set.class, String.class),
+                        Duration.ofHours(1), Duration.ofMinutes(10), 10000),
+                spec(CAFE_MENUS, types.constructCollectionType(List.class, MenuDTO.findAllMenuResponse.class),
+                        Duration.ofHours(6), Duration.ofMinutes(10), 1000));
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisConnectionFactory, stringRedisTemplate,
+                redisMessageListenerContainer, objectMapper, meterRegistry, specs);
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
+    }
+
+    private TwoLevelCacheManager.CacheSpec spec(String name, JavaType valueType, Duration ttl, Duration localTtl, long maxSize) {
+        String prefix = "cache." + name + ".";
+        return TwoLevelCacheManager.CacheSpec.builder()
+                .name(name)
+                .valueType(valueType)
+                .ttl(environment.getProperty(prefix + "ttl", Duration.class, ttl))
+                .localTtl(environment.getProperty(prefix + "local-ttl", Duration.class, localTtl))
+                .maxSize(environment.getProperty(prefix + "max-size", Long.class, maxSize))
+                .build();
+    }
+}
@@ -0,0 +1,299 @@
+package com.grinder.config;
+
+import com.grinder.domain.dto.BatchDTO;
+import com.grinder.service.AnalysisTagService;
+import com.grinder.service.BucketProgressService;
+import com.grinder.service.CafeRecommendService;
+import com.grinder.service.JobTelemetryService;
+import com.grinder.utils.BucketPartitioner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 야간 유지보수 배치 (평균 별점, 관심 태그 분석, 카페 추천, 피드 순위)
+ * 각 작업은 이번 회차 버킷(Buckets)을 나눈 파티션을 여러 스레드에서 처리하고, 파티션마다 (bucket, id) 순 keyset 페이징으로 읽어 chunk 단위로 커밋한다.
+ * 실패한 작업을 같은 식별 파라미터로 다시 실행하면 실패한 파티션만 마지막으로 커밋한 chunk 다음부터 이어서 처리한다.
+ * 파티션이 끝나면 그 버킷들의 처리 시각을 기록하고 (BucketProgressService), 작업이 끝나면 처리 건수와 실행 시간을 기록한다. (JobTelemetryService)
+ *
+ * 식별 파라미터 : runDate, buckets (이 서버가 이번 회차에 처리할 버킷)
+ * 실행 파라미터 : chunkSize (chunk 크기 겸 페이지 크기), gridSize (파티션 수), concurrency (동시 실행 스레드 수)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MaintenanceBatchConfig {
+    public static final String AVERAGE_GRADE_JOB = "averageGradeJob";
+    public static final String TAG_ANALYSIS_JOB = "tagAnalysisJob";
+    public static final String CAFE_RECOMMEND_JOB = "cafeRecommendJob";
+    public static final String FEED_RANK_JOB = "feedRankJob";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final AnalysisTagService analysisTagService;
+    private final CafeRecommendService cafeRecommendService;
+    private final BucketProgressService bucketProgressService;
+    private final JobTelemetryService jobTelemetryService;
+
+    // 평균 별점 : 카페별 공개 피드 별점 평균 (소수점 버림), 별점이 없는 카페는 그대로 둔다.
+    @Bean
+    public Job averageGradeJob() {
+        return new JobBuilder(AVERAGE_GRADE_JOB, jobRepository)
+                .start(averageGradeStep(null, null, null))
+                .listener(jobTelemetryListener())
+                .build();
+    }
+
+    @Bean
+    @JobScope
+    public Step averageGradeStep(@Value("#{jobParameters['buckets']}") String buckets,
+                                 @Value("#{jobParameters['gridSize']}") Long gridSize,
+                                 @Value("#{jobParameters['concurrency']}") Long concurrency) {
+        return partitionedStep(AVERAGE_GRADE_JOB, buckets, averageGradeWorkerStep(null), gridSize, concurrency);
+    }
+
+    @Bean
+    @JobScope
+    public Step averageGradeWorkerStep(@Value("#{jobParameters['chunkSize']}") Long chunkSize) {
+        return new StepBuilder(AVERAGE_GRADE_JOB + "WorkerStep", jobRepository)
+                .<BatchDTO.Target, BatchDTO.Target>chunk(chunkSize.intValue(), transactionManager)
+                .reader(cafeReader(null, null))
+                .writer(averageGradeWriter())
+                .listener(bucketProgressListener())
+                .build();
+    }
+
+    @Bean
+    public JdbcBatchItemWriter<BatchDTO.Target> averageGradeWriter() {
+        return new JdbcBatchItemWriterBuilder<BatchDTO.Target>()
+                .dataSource(dataSource)
+                .sql("UPDATE cafe SET average_grade = "
+                        + "(SELECT FLOOR(AVG(f.grade)) FROM feed f WHERE f.cafe_id = ? AND f.is_visible = true) "
+                        + "WHERE cafe_id = ? "
+                        + "AND EXISTS (SELECT 1 FROM feed f WHERE f.cafe_id = ? AND f.is_visible = true AND f.grade IS NOT NULL)")
+                .itemPreparedStatementSetter((target, ps) -> {
+                    ps.setString(1, target.getId());
+                    ps.setString(2, target.getId());
+                    ps.setString(3, target.getId());
+                })
+                .assertUpdates(false)
+                .build();
+    }
+
+    // 관심 태그 분석 : chunk 의 회원 전체를 한 번에 집계해 상위 태그를 추가한다. AnalysisTag 가 없는 회원은 건너뛴다.
+    @Bean
+    public Job tagAnalysisJob() {
+        return new JobBuilder(TAG_ANALYSIS_JOB, jobRepository)
+                .start(tagAnalysisStep(null, null, null))
+                .listener(jobTelemetryListener())
+                .build();
+    }
+
+    @Bean
+    @JobScope
+    public Step tagAnalysisStep(@Value("#{jobParameters['buckets']}") String buckets,
+                                @Value("#{jobParameters['gridSize']}") Long gridSize,
+                                @Value("#{jobParameters['concurrency']}") Long concurrency) {
+        return partitionedStep(TAG_ANALYSIS_JOB, buckets, tagAnalysisWorkerStep(null), gridSize, concurrency);
+    }
+
+    @Bean
+    @JobScope
+    public Step tagAnalysisWorkerStep(@Value("#{jobParameters['chunkSize']}") Long chunkSize) {
+        return new StepBuilder(TAG_ANALYSIS_JOB + "WorkerStep", jobRepository)
+                .<BatchDTO.Target, BatchDTO.Target>chunk(chunkSize.intValue(), transactionManager)
+                .reader(memberReader(null, null))
+                .writer(chunk -> analysisTagService.updateTagLists(chunk.getItems().stream().map(BatchDTO.Target::getId).toList()))
+                .listener(bucketProgressListener())
+                .build();
+    }
+
+    // 카페 추천 : chunk 의 회원 전체를 한 번에 점수 계산해 추천 메시지를 저장한다. 관심 태그가 없는 회원은 건너뛴다.
+    @Bean
+    public Job cafeRecommendJob() {
+        return new JobBuilder(CAFE_RECOMMEND_JOB, jobRepository)
+                .start(cafeRecommendStep(null, null, null))
+                .listener(jobTelemetryListener())
+                .build();
+    }
+
+    @Bean
+    @JobScope
+    public Step cafeRecommendStep(@Value("#{jobParameters['buckets']}") String buckets,
+                                  @Value("#{jobParameters['gridSize']}") Long gridSize,
+                                  @Value("#{jobParameters['concurrency']}") Long concurrency) {
+        return partitionedStep(CAFE_RECOMMEND_JOB, buckets, cafeRecommendWorkerStep(null), gridSize, concurrency);
+    }
+
+    @Bean
+    @JobScope
+    public Step cafeRecommendWorkerStep(@Value("#{jobParameters['chunkSize']}") Long chunkSize) {
+        return new StepBuilder(CAFE_RECOMMEND_JOB + "WorkerStep", jobRepository)
+                .<BatchDTO.Target, BatchDTO.Target>chunk(chunkSize.intValue(), transactionManager)
+                .reader(memberReader(null, null))
+                .writer(chunk -> cafeRecommendService.recommendCafes(chunk.getItems().stream().map(BatchDTO.Target::getId).toList()))
+                .listener(bucketProgressListener())
+                .build();
+    }
+
+    // 피드 순위 : 좋아요 수 / 10 + 댓글 수 / 5
+    @Bean
+    public Job feedRankJob() {
+        return new JobBuilder(FEED_RANK_JOB, jobRepository)
+                .start(feedRankStep(null, null, null))
+                .listener(jobTelemetryListener())
+                .build();
+    }
+
+    @Bean
+    @JobScope
+    public Step feedRankStep(@Value("#{jobParameters['buckets']}") String buckets,
+                             @Value("#{jobParameters['gridSize']}") Long gridSize,
+                             @Value("#{jobParameters['concurrency']}") Long concurrency) {
+        return partitionedStep(FEED_RANK_JOB, buckets, feedRankWorkerStep(null), gridSize, concurrency);
+    }
+
+    @Bean
+    @JobScope
+    public Step feedRankWorkerStep(@Value("#{jobParameters['chunkSize']}") Long chunkSize) {
+        return new StepBuilder(FEED_RANK_JOB + "WorkerStep", jobRepository)
+                .<BatchDTO.Target, BatchDTO.Target>chunk(chunkSize.intValue(), transactionManager)
+                .reader(feedReader(null, null))
+                .writer(feedRankWriter())
+                .listener(bucketProgressListener())
+                .build();
+    }
+
+    @Bean
+    public JdbcBatchItemWriter<BatchDTO.Target> feedRankWriter() {
+        return new JdbcBatchItemWriterBuilder<BatchDTO.Target>()
+                .dataSource(dataSource)
+                .sql("UPDATE feed SET rank = "
+                        + "(SELECT COUNT(*) FROM heart h WHERE h.content_type = 'FEED' AND h.content_id = ?) / 10 "
+                        + "+ (SELECT COUNT(*) FROM comment c WHERE c.feed_id = ?) / 5 "
+                        + "WHERE feed_id = ?")
+                .itemPreparedStatementSetter((target, ps) -> {
+                    ps.setString(1, target.getId());
+                    ps.setString(2, target.getId());
+                    ps.setString(3, target.getId());
+                })
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<BatchDTO.Target> cafeReader(@Value("#{stepExecutionContext['buckets']}") String buckets,
+                                                            @Value("#{jobParameters['chunkSize']}") Long chunkSize) {
+        return pagingReader("cafeReader", "cafe", "cafe_id", null, buckets, chunkSize,
+                (rs, rowNum) -> new BatchDTO.Target(rs.getString("cafe_id"), null));
+    }
+
+    // 탈퇴 회원 제외
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<BatchDTO.Target> memberReader(@Value("#{stepExecutionContext['buckets']}") String buckets,
+                                                              @Value("#{jobParameters['chunkSize']}") Long chunkSize) {
+        return pagingReader("memberReader", "member", "member_id, email", "is_deleted = false", buckets, chunkSize,
+                (rs, rowNum) -> new BatchDTO.Target(rs.getString("member_id"), rs.getString("email")));
+    }
+
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<BatchDTO.Target> feedReader(@Value("#{stepExecutionContext['buckets']}") String buckets,
+                                                            @Value("#{jobParameters['chunkSize']}") Long chunkSize) {
+        return pagingReader("feedReader", "feed", "feed_id", null, buckets, chunkSize,
+                (rs, rowNum) -> new BatchDTO.Target(rs.getString("feed_id"), null));
+    }
+
+    // 파티션이 완료되면 담당 버킷의 처리 시각 기록 (실패한 파티션의 버킷은 다음 회차에 다시 고른다)
+    @Bean
+    public StepExecutionListener bucketProgressListener() {
+        return new StepExecutionListener() {
+            @Override
+            public ExitStatus afterStep(StepExecution stepExecution) {
+                if (stepExecution.getStatus() == BatchStatus.COMPLETED) {
+                    bucketProgressService.markProcessed(stepExecution.getJobExecution().getJobInstance().getJobName(),
+                            BucketPartitioner.parse(stepExecution.getExecutionContext().getString(BucketPartitioner.BUCKETS, "")));
+                }
+                return stepExecution.getExitStatus();
+            }
+        };
+    }
+
+    @Bean
+    public JobExecutionListener jobTelemetryListener() {
+        return new JobExecutionListener() {
+            @Override
+            public void afterJob(JobExecution jobExecution) {
+                jobTelemetryService.recordJob(jobExecution);
+            }
+        };
+    }
+
+    private Step partitionedStep(String jobName, String buckets, Step workerStep, Long gridSize, Long concurrency) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(jobName + "-");
+        taskExecutor.setConcurrencyLimit(concurrency.intValue());
+        return new StepBuilder(jobName + "Step", jobRepository)
+                .partitioner(workerStep.getName(), new BucketPartitioner(BucketPartitioner.parse(buckets)))
+                .step(workerStep)
+                .gridSize(gridSize.intValue())
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    // 파티션 버킷 안에서 (bucket, id) 순 keyset 페이징 (마지막으로 읽은 키를 실행 상태에 저장해 재시작)
+    // 버킷 목록은 숫자로 다시 읽어 조건에 넣는다.
+    private JdbcPagingItemReader<BatchDTO.Target> pagingReader(String name, String table, String columns, String condition,
+                                                               String buckets, Long pageSize,
+                                                               RowMapper<BatchDTO.Target> rowMapper) {
+        String idColumn = columns.split(",")[0].trim();
+        List<Integer> bucketList = BucketPartitioner.parse(buckets);
+        List<String> conditions = new ArrayList<>();
+        if (condition != null) conditions.add(condition);
+        conditions.add(bucketList.isEmpty() ? "1 = 0" : "bucket IN (" + BucketPartitioner.join(bucketList) + ")");
+
+        Map<String, Order> sortKeys = new LinkedHashMap<>();
+        sortKeys.put("bucket", Order.ASCENDING);
+        sortKeys.put(idColumn, Order.ASCENDING);
+
+        return new JdbcPagingItemReaderBuilder<BatchDTO.Target>()
+                .name(name)
+                .dataSource(dataSource)
+                .selectClause("SELECT bucket, " + columns)
+                .fromClause("FROM " + table)
+                .whereClause(String.join(" AND ", conditions))
+                .sortKeys(sortKeys)
+                .pageSize(pageSize.intValue())
+                .rowMapper(rowMapper)
+                .saveState(true)
+                .build();
+    }
+}
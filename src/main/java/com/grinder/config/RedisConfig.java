@@ -2,12 +2,16 @@ package com.grinder.config;
 
 import com.grinder.utils.RedisProperties;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -23,7 +27,19 @@ public class RedisConfig {
         RedisStandaloneConfiguration redisConfiguration = new RedisStandaloneConfiguration();
         redisConfiguration.setHostName(redisProperties.getHost());
         redisConfiguration.setPort(redisProperties.getPort());
-        return new LettuceConnectionFactory(redisConfiguration);
+
+        // 파이프라인/트랜잭션처럼 연결을 점유하는 작업을 위한 연결 풀과 명령 타임아웃
+        GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(redisProperties.getPoolMaxActive());
+        poolConfig.setMaxIdle(redisProperties.getPoolMaxIdle());
+        poolConfig.setMinIdle(redisProperties.getPoolMinIdle());
+        poolConfig.setMaxWait(redisProperties.getPoolMaxWait());
+
+        LettuceClientConfiguration clientConfiguration = LettucePoolingClientConfiguration.builder()
+                .poolConfig(poolConfig)
+                .commandTimeout(redisProperties.getTimeout())
+                .build();
+        return new LettuceConnectionFactory(redisConfiguration, clientConfiguration);
     }
 
     @Bean
@@ -35,4 +51,12 @@ public class RedisConfig {
 
         return redisTemplate;
     }
+
+    // Redis pub/sub 구독 (노드 간 로컬 캐시 동기화)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
 }
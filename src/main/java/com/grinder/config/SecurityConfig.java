@@ -1,11 +1,15 @@
 package com.grinder.config;
 
 import com.grinder.repository.MemberRepository;
-import com.grinder.repository.RefreshRepository;
 import com.grinder.security.CustomAuthenticationEntryPoint;
 import com.grinder.security.handler.CustomAccessDeniedHandler;
+import com.grinder.security.service.BoundedPasswordEncoder;
 import com.grinder.security.service.CustomOAuth2MemberService;
+import com.grinder.security.service.LoginRateLimiter;
 import com.grinder.security.service.MemberDetailsService;
+import com.grinder.security.service.PrincipalCache;
+import com.grinder.security.service.RefreshTokenStore;
+import com.grinder.security.service.TokenRevocationService;
 import com.grinder.security.filter.APILoginFilter;
 import com.grinder.security.filter.APILogoutFilter;
 import com.grinder.security.filter.RefreshTokenFilter;
@@ -13,9 +17,10 @@ import com.grinder.security.filter.TokenCheckFilter;
 import com.grinder.security.handler.APILoginFailureHandler;
 import com.grinder.security.handler.APILoginSuccessHandler;
 import com.grinder.utils.JWTUtil;
-import com.grinder.utils.RedisUtil;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,7 +32,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -48,12 +52,24 @@ public class SecurityConfig {
 
     private final MemberDetailsService memberDetailsService;
     private final MemberRepository memberRepository;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final JWTUtil jwtUtil;
-    private final RedisUtil redisUtil;
     private final CustomOAuth2MemberService customOAuth2MemberService;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final MeterRegistry meterRegistry;
+    private final LoginRateLimiter loginRateLimiter;
+
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+    @Value("${security.password.pool-size:2}")
+    private int bcryptPoolSize;
+    @Value("${security.password.queue-capacity:20}")
+    private int bcryptQueueCapacity;
+    @Value("${security.password.timeout-ms:3000}")
+    private long bcryptTimeoutMillis;
 
 
     @Bean
@@ -65,7 +81,7 @@ public class SecurityConfig {
     }
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception{
-        APILoginSuccessHandler successHandler = new APILoginSuccessHandler(jwtUtil,refreshRepository);
+        APILoginSuccessHandler successHandler = new APILoginSuccessHandler(jwtUtil,refreshTokenStore);
         APILoginFailureHandler failureHandler = new APILoginFailureHandler();
         //AuthenticationManager 설정
         AuthenticationManagerBuilder authenticationManagerBuilder = http.getSharedObject(AuthenticationManagerBuilder.class);
@@ -85,7 +101,7 @@ public class SecurityConfig {
                 .failureHandler(failureHandler));
 
         //APILOGINFilter
-        APILoginFilter apiLoginFilter = new APILoginFilter("/api/login");
+        APILoginFilter apiLoginFilter = new APILoginFilter("/api/login", loginRateLimiter);
         apiLoginFilter.setAuthenticationManager(authenticationManager);
 
         //APILoginFilter의 위치 조정
@@ -98,15 +114,15 @@ public class SecurityConfig {
                 tokenCheckFilter(jwtUtil),
                 UsernamePasswordAuthenticationFilter.class
         );
-        http.addFilterBefore(new RefreshTokenFilter("/api/reissue",jwtUtil, refreshRepository, redisUtil),
+        http.addFilterBefore(new RefreshTokenFilter("/api/reissue",jwtUtil, refreshTokenStore),
                 TokenCheckFilter.class);
 
-        http.addFilterBefore(new APILogoutFilter(jwtUtil, refreshRepository,redisUtil), LogoutFilter.class);
+        http.addFilterBefore(new APILogoutFilter(jwtUtil, refreshTokenStore, tokenRevocationService), LogoutFilter.class);
 
         //Swagger UI
         http.authorizeHttpRequests(auth -> auth
                        .requestMatchers("/v3/**", "/v3/api-docs/**", "/swagger-ui/**", "/swagger-resources/**").permitAll()
-                       .requestMatchers("/admin/**").hasRole("관리자")
+                       .requestMatchers("/admin/**", "/actuator/**").hasRole("관리자")
                        .requestMatchers("/mypage/**", "/api/report/**", "/cafe/**", "/page/change/memberInfo/**", "/cafe/add",
                                "/myImage", "/myCafeImage/**", "/api/blacklist/**", "/api/bookmark", "/api/cafe/**",
                                "/api/cafe_register/**", "/api/cafe_summary/", "/comment/**", "/feed/**", "/api/following",
@@ -130,12 +146,13 @@ public class SecurityConfig {
         return http.build();
 
     }
+    // BCrypt 는 전용 풀에서 실행 (요청 스레드 보호), strength 변경 시 로그인할 때 다시 해시
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(bcryptStrength, bcryptPoolSize, bcryptQueueCapacity, bcryptTimeoutMillis);
     }
     private TokenCheckFilter tokenCheckFilter(JWTUtil jwtUtil){
-        return new TokenCheckFilter(jwtUtil,memberDetailsService);
+        return new TokenCheckFilter(jwtUtil,memberDetailsService, principalCache, tokenRevocationService, meterRegistry);
     }
 
     //CORS 설정
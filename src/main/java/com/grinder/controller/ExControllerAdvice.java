@@ -82,4 +82,16 @@ public class ExControllerAdvice {
         return ResponseEntity.status(406).body(new ErrorResult("최근 추가됨", e.getMessage()));
 
     }
+
+    @ExceptionHandler(PasswordHashThrottledException.class)
+    public ResponseEntity<ErrorResult> passwordHashThrottledExHandle(PasswordHashThrottledException e) {
+        log.warn("[exceptionHandle] passwordHashThrottledExHandle : " + e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(new ErrorResult("요청 제한", e.getMessage()));
+    }
+
+    @ExceptionHandler(AlanUnavailableException.class)
+    public ResponseEntity<ErrorResult> alanUnavailableExHandle(AlanUnavailableException e) {
+        log.error("[exceptionHandle] alanUnavailableExHandle", e);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ErrorResult("앨런 사용 불가", e.getMessage()));
+    }
 }
@@ -26,6 +26,8 @@ public class AdminController {
     private final ReportService reportService;
     private final SellerApplyService sellerApplyService;
     private final SellerInfoService sellerInfoService;
+    private final JobTelemetryService jobTelemetryService;
+    private final FollowService followService;
 
     @PostMapping("/api/cafe/{registerId}")
     public ResponseEntity<SuccessResult> addCafe(@PathVariable String registerId) {
@@ -86,6 +88,12 @@ public class AdminController {
         return ResponseEntity.ok(new SuccessResult("Recover member", "회원 삭제가 취소되었습니다."));
     }
 
+    @PostMapping("/api/follow/recount")
+    public ResponseEntity<SuccessResult> recountFollows() {
+        int updated = followService.syncFollowCounts();
+        return ResponseEntity.ok(new SuccessResult("Recount follows", "회원 " + updated + "명의 팔로우 수를 다시 계산했습니다."));
+    }
+
     @GetMapping("/api/member/search")
     public ResponseEntity<Slice<MemberDTO.FindMemberDTO>> searchMemberByNicknameAndRole(@RequestParam String nickname, @RequestParam String role, @PageableDefault(size = 5) Pageable pageable) {
         Slice<MemberDTO.FindMemberDTO> memberSlice = memberService.searchMemberSlice(role, nickname, pageable);
@@ -112,6 +120,12 @@ public class AdminController {
         return ResponseEntity.ok(reportList);
     }
 
+    @GetMapping("/api/scheduler_log")
+    public ResponseEntity<Slice<SchedulerLogDTO.FindSchedulerLogDTO>> findSchedulerLogs(@RequestParam(required = false) String taskName, @PageableDefault(size = 20) Pageable pageable) {
+        Slice<SchedulerLogDTO.FindSchedulerLogDTO> schedulerLogSlice = jobTelemetryService.findSchedulerLogs(taskName, pageable);
+        return ResponseEntity.ok(schedulerLogSlice);
+    }
+
     @GetMapping("/api/seller_apply")
     public ResponseEntity<Slice<SellerApplyDTO.FindSellerApplyDTO>> findAllSellerApplies(@PageableDefault(size = 5)Pageable pageable) {
         Slice<SellerApplyDTO.FindSellerApplyDTO> sellerApplySlice = sellerApplyService.findAllSellerApplies(pageable);
@@ -30,17 +30,19 @@ public class FollowController {
 
     @GetMapping("/following")
     public ResponseEntity<List<FollowDTO.findAllFollowingResponse>> findAllFollowingSlice(
+            @RequestParam(value = "lastFollowId", required = false) Long lastFollowId,
             @PageableDefault Pageable pageable) {
         String email = getEmail();
-        List<FollowDTO.findAllFollowingResponse> list = followService.findAllFollowingSlice(email, pageable).getContent();
+        List<FollowDTO.findAllFollowingResponse> list = followService.findAllFollowingSlice(email, lastFollowId, pageable).getContent();
         return ResponseEntity.ok().body(list);
     }
 
     @GetMapping("/follower")
     public ResponseEntity<List<FollowDTO.findAllFollowerResponse>> findAllFollowerSlice(
+            @RequestParam(value = "lastFollowId", required = false) Long lastFollowId,
             @PageableDefault Pageable pageable) {
         String email = getEmail();
-        List<FollowDTO.findAllFollowerResponse> list = followService.findAllFollowerSlice(email, pageable).getContent();
+        List<FollowDTO.findAllFollowerResponse> list = followService.findAllFollowerSlice(email, lastFollowId, pageable).getContent();
         return ResponseEntity.ok().body(list);
     }
 
@@ -7,23 +7,24 @@ import com.grinder.domain.enums.MenuType;
 import com.grinder.domain.enums.TagName;
 import com.grinder.exception.LoginRequiredException;
 import com.grinder.exception.NoMoreContentException;
+import com.grinder.security.service.ViewerContext;
 import com.grinder.service.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.web.PageableDefault;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 @Controller
 @RequiredArgsConstructor
@@ -38,41 +39,55 @@ public class ComponentsController {
     private final MessageService messageService;
     private final CafeService cafeService;
     private final ImageService imageService;
+    private final MemberSuggestionService memberSuggestionService;
+    private final ViewerContext viewerContext;
 
 
+    // 메시지는 읽지 않은 수(회원 정보에 포함)만 보여주고, 목록은 앨런 탭을 열 때 불러온다.
     @GetMapping("/get-header")
     public String getHeader(Model model) {
-        String email = getEmail();
         MemberDTO.FindMemberDTO member = null;
-        boolean checkMessage = false;
-        if (email != null && !email.equals("anonymousUser")) {
-            member = new MemberDTO.FindMemberDTO(memberService.findMemberByEmail(email));
-            checkMessage = messageService.existNonCheckMessage(email);
-            String imageUrl = imageService.findImageUrlByContentId(member.getMemberId());
-            model.addAttribute("memberImageUrl", imageUrl);
+        int unreadMessageCount = 0;
+        if (viewerContext.isAuthenticated()) {
+            member = viewerContext.getMember();
+            unreadMessageCount = member.getUnreadMessageCount();
+            model.addAttribute("memberImageUrl", viewerContext.getProfileImageUrl());
         }
-        List<Message> message = messageService.findAllByEmail(email);
-        model.addAttribute("AlanMessages", message);
         model.addAttribute("headerMember",member);
-        model.addAttribute("checkMessage", checkMessage);
+        model.addAttribute("checkMessage", unreadMessageCount > 0);
+        model.addAttribute("unreadMessageCount", unreadMessageCount);
         return "components/header :: headers";
     }
 
+    /**
+     * 앨런 탭 (받은 메시지 키셋 페이지)
+     * 첫 페이지를 열면 받은 메시지를 모두 확인 처리하고, 다음 페이지는 메시지 목록 조각만 반환한다.
+     */
     @GetMapping("/get-alan")
-    public String getAlanMessage(Model model) {
-        String email = getEmail();
-        List<Message> message = messageService.findAllByEmail(email);
-        model.addAttribute("AlanMessages", message);
+    public String getAlanMessage(Model model,
+                                 @RequestParam(value = "lastCreatedAt", required = false)
+                                 @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastCreatedAt,
+                                 @RequestParam(value = "lastMessageId", required = false) String lastMessageId,
+                                 @PageableDefault Pageable pageable) {
+        Slice<MessageDTO.findAllResponse> messages = new SliceImpl<>(new ArrayList<>(), pageable, false);
+        if (viewerContext.isAuthenticated()) {
+            String memberId = viewerContext.getMemberId();
+            messages = messageService.findInboxSlice(memberId, lastCreatedAt, lastMessageId, pageable);
+            if (lastCreatedAt == null) messageService.checkAllMessages(memberId);
+        }
+        model.addAttribute("AlanMessages", messages.getContent());
+        model.addAttribute("hasNext", messages.hasNext());
+        if (lastCreatedAt != null) return "components/alanTab :: alan_messages";
         model.addAttribute("tagList", TagName.values());
         return "components/alanTab :: alan_tab";
     }
 
     @GetMapping("/get-follower")
     public String getFollower(Model model, @PageableDefault Pageable pageable) {
-        String email = getEmail();
+        String email = viewerContext.getEmail();
         List<FollowDTO.findAllFollowerResponse> list = new ArrayList<>();
-        if (email != null && !email.equals("anonymousUser")) {
-                list = followService.findAllFollowerSlice(email, pageable).getContent();
+        if (viewerContext.isAuthenticated()) {
+                list = followService.findAllFollowerSlice(email, null, pageable).getContent();
         }
         model.addAttribute("followMembers", list);
         return "components/followerList :: followList(title='follower')";
@@ -80,20 +95,31 @@ public class ComponentsController {
 
     @GetMapping("/get-following")
     public String getFollowing(Model model, @PageableDefault Pageable pageable) {
-        String email = getEmail();
+        String email = viewerContext.getEmail();
         List<FollowDTO.findAllFollowingResponse> list = new ArrayList<>();
-        if (email != null && !email.equals("anonymousUser")) {
-            list = followService.findAllFollowingSlice(email, pageable).getContent();
+        if (viewerContext.isAuthenticated()) {
+            list = followService.findAllFollowingSlice(email, null, pageable).getContent();
         }
         model.addAttribute("followMembers", list);
         return "components/followerList :: followList(title='following')";
     }
 
+    @GetMapping("/get-suggestion")
+    public String getSuggestion(Model model) {
+        String email = viewerContext.getEmail();
+        List<MemberDTO.SuggestedMemberDTO> list = new ArrayList<>();
+        if (viewerContext.isAuthenticated()) {
+            list = memberSuggestionService.findSuggestions(email);
+        }
+        model.addAttribute("followMembers", list);
+        return "components/followerList :: followList(title='suggestion')";
+    }
+
     @GetMapping("/get-blacklist")
     public String getBlacklist(Model model) {
-        String email = getEmail();
+        String email = viewerContext.getEmail();
         List<BlacklistDTO.findAllResponse> list = new ArrayList<>();
-        if (email != null && !email.equals("anonymousUser")) {
+        if (viewerContext.isAuthenticated()) {
             list = blacklistService.findAllBlacklist(email);
         }
         model.addAttribute("blackMembers", list);
@@ -102,9 +128,9 @@ public class ComponentsController {
 
     @GetMapping("/get-bookmark")
     public String getBookmark(Model model, @PageableDefault Pageable pageable) {
-        String email = getEmail();
+        String email = viewerContext.getEmail();
         List<BookmarkDTO.findAllResponse> list = new ArrayList<>();
-        if (email != null && !email.equals("anonymousUser")) {
+        if (viewerContext.isAuthenticated()) {
             list = bookmarkService.findAllBookmarksSlice(email, pageable).getContent();
         }
         model.addAttribute("bookmarks", list);
@@ -113,9 +139,9 @@ public class ComponentsController {
 
     @GetMapping("/get-mycafe")
     public String getMyCafe(Model model) {
-        String email = getEmail();
+        String email = viewerContext.getEmail();
         List<SellerInfoDTO.findAllResponse> list = new ArrayList<>();
-        if (email != null && !email.equals("anonymousUser")) {
+        if (viewerContext.isAuthenticated()) {
             list = sellerInfoService.findAllSellerInfoByEmail(email);
         }
         model.addAttribute("myCafeList", list);
@@ -129,9 +155,9 @@ public class ComponentsController {
 
     @GetMapping("/get-mymenu/{cafe_id}")
     public String getMyMenu(@PathVariable("cafe_id")String cafeId, Model model) {
-        String email = getEmail();
+        String email = viewerContext.getEmail();
         List<MenuDTO.findAllMenuResponse> list = new ArrayList<>();
-        if (email != null && !email.equals("anonymousUser")) {
+        if (viewerContext.isAuthenticated()) {
             list = myMenuService.findAllMenuWithImage(email,cafeId);
         }
         model.addAttribute("myMenus", list);
@@ -202,11 +228,10 @@ public class ComponentsController {
             @PageableDefault(size = 20) Pageable pageable
     ) {
         // 멤버
-        String email = getEmail();
         Slice<FeedDTO.FeedWithImageResponseDTO> feedSlice;
-        if (email != null && !email.equals("anonymousUser")) {
-            MemberDTO.FindMemberDTO member = new MemberDTO.FindMemberDTO(memberService.findMemberByEmail(email));
-            feedSlice = feedService.findRecentFeedWithImage(email, pageable);
+        if (viewerContext.isAuthenticated()) {
+            MemberDTO.FindMemberDTO member = viewerContext.getMember();
+            feedSlice = feedService.findRecentFeedWithImage(viewerContext.getEmail(), pageable);
             model.addAttribute("feedSlice", feedSlice);
             model.addAttribute("feedMember", member);
 
@@ -233,10 +258,8 @@ public class ComponentsController {
 
     @GetMapping("/get-search-feed")
     public String getSearchFeed(@RequestParam String query, @PageableDefault(size = 5) Pageable pageable, Model model) {
-        String email = getEmail();
-        Slice<FeedDTO.FeedWithImageResponseDTO> feedSlice = feedService.searchFeed(email, query, pageable);
-        MemberDTO.FindMemberDTO member = new MemberDTO.FindMemberDTO(memberService.findMemberByEmail(email));
-        model.addAttribute("feedMember", member);
+        Slice<FeedDTO.FeedWithImageResponseDTO> feedSlice = feedService.searchFeed(viewerContext.getEmail(), query, pageable);
+        model.addAttribute("feedMember", viewerContext.getMember());
         model.addAttribute("feedSlice", feedSlice);
         if (!feedSlice.hasNext() && feedSlice.getNumberOfElements() == 0) {
             throw new NoMoreContentException("존재하지 않음");
@@ -248,10 +271,8 @@ public class ComponentsController {
     public String getMyFeed(@PathVariable("email")String memberEmail,
                             @PageableDefault Pageable pageable,
                             Model model) {
-        String email = getEmail();
-        MemberDTO.FindMemberDTO member = new MemberDTO.FindMemberDTO(memberService.findMemberByEmail(email));
-        model.addAttribute("feedMember", member);
-        Slice<FeedDTO.FeedWithImageResponseDTO> slice = feedService.findMyPageFeedWithImage(email, memberEmail, pageable);
+        model.addAttribute("feedMember", viewerContext.getMember());
+        Slice<FeedDTO.FeedWithImageResponseDTO> slice = feedService.findMyPageFeedWithImage(viewerContext.getEmail(), memberEmail, pageable);
         if (!slice.hasNext() && slice.getNumberOfElements() == 0) {
             throw new NoMoreContentException("존재하지 않음");
         }
@@ -263,10 +284,8 @@ public class ComponentsController {
     public String getCafeFeed(@PathVariable("cafeId")String cafeId,
                             @PageableDefault Pageable pageable,
                             Model model) {
-        String email = getEmail();
-        MemberDTO.FindMemberDTO member = new MemberDTO.FindMemberDTO(memberService.findMemberByEmail(email));
-        model.addAttribute("feedMember", member);
-        Slice<FeedDTO.FeedWithImageResponseDTO> slice = feedService.findCafeFeedWithImage(email, cafeId, pageable);
+        model.addAttribute("feedMember", viewerContext.getMember());
+        Slice<FeedDTO.FeedWithImageResponseDTO> slice = feedService.findCafeFeedWithImage(viewerContext.getEmail(), cafeId, pageable);
         if (!slice.hasNext() && slice.getNumberOfElements() == 0) {
             throw new NoMoreContentException("존재하지 않음");
         }
@@ -276,9 +295,7 @@ public class ComponentsController {
 
     @GetMapping("/get-search-member")
     public String getSearchMember(@RequestParam String query, @PageableDefault Pageable pageable, Model model) {
-        String email = getEmail();
-        String memberId = memberService.findMemberByEmail(email).getMemberId();
-        Slice<MemberDTO.SearchMemberDTO> memberSlice = memberService.searchMember(memberId, query, pageable);
+        Slice<MemberDTO.SearchMemberDTO> memberSlice = memberService.searchMember(viewerContext.getMemberId(), query, pageable);
         model.addAttribute("followMembers", memberSlice.getContent());
         model.addAttribute("hasNext", memberSlice.hasNext());
         if (!memberSlice.hasNext() && memberSlice.getNumberOfElements() == 0) {
@@ -296,16 +313,9 @@ public class ComponentsController {
 
     @GetMapping("/get-feed-comment/{feedId}")
     public String getFeedComment(@PathVariable("feedId")String feedId, Model model) {
-        String email = getEmail();
-        MemberDTO.FindMemberDTO member = new MemberDTO.FindMemberDTO(memberService.findMemberByEmail(email));
-        model.addAttribute("feedMember", member);
-        List<FeedDTO.FeedWithImageResponseDTO> list = feedService.findFeedForComment(email, feedId);
+        model.addAttribute("feedMember", viewerContext.getMember());
+        List<FeedDTO.FeedWithImageResponseDTO> list = feedService.findFeedForComment(viewerContext.getEmail(), feedId);
         model.addAttribute("feedOne", list);
         return "components/comment :: comment_update";
     }
-
-    private String getEmail() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return  Optional.ofNullable(authentication.getName()).orElse(null);
-    }
 }
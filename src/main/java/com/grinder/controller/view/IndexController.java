@@ -1,35 +1,20 @@
 package com.grinder.controller.view;
 
-import com.grinder.domain.dto.MemberDTO;
-import com.grinder.service.MemberService;
+import com.grinder.security.service.ViewerContext;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
-import java.util.Optional;
-
 @Controller
 @RequiredArgsConstructor
 public class IndexController {
-    private final MemberService memberService;
+    private final ViewerContext viewerContext;
 
     @GetMapping
     public String index(Model model) {
-        String email = getEmail();
-        if (email != null && !email.equals("anonymousUser")) {
-            MemberDTO.FindMemberDTO member = new MemberDTO.FindMemberDTO(memberService.findMemberByEmail(email));
-            model.addAttribute("member", member);
-        } else  {
-            model.addAttribute("member", null);
-        }
+        // 비로그인 시 null
+        model.addAttribute("member", viewerContext.getMember());
         return "index";
     }
-
-    private String getEmail() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return  Optional.ofNullable(authentication.getName()).orElse(null);
-    }
 }
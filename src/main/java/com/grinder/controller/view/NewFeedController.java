@@ -1,23 +1,20 @@
 package com.grinder.controller.view;
 
 import com.grinder.domain.dto.FeedDTO;
-import com.grinder.domain.dto.MemberDTO;
 import com.grinder.domain.entity.Feed;
 import com.grinder.domain.entity.Image;
 import com.grinder.domain.entity.Tag;
 import com.grinder.domain.enums.ContentType;
 import com.grinder.domain.enums.TagName;
+import com.grinder.security.service.ViewerContext;
 import com.grinder.service.*;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
-import java.util.Optional;
 
 @Controller
 @RequiredArgsConstructor
@@ -25,16 +22,14 @@ public class NewFeedController {
     private final FeedService feedService;
     private final ImageService imageService;
     private final TagService tagService;
-    private final MemberService memberService;
+    private final ViewerContext viewerContext;
 
     @GetMapping("/feed/newfeed")
     public String newFeed(
             Model model,
             @RequestParam(required = false) String feedId     // id가 없으면 null
     ) {
-        String email = getEmail();
-        MemberDTO.FindMemberDTO member = new MemberDTO.FindMemberDTO(memberService.findMemberByEmail(email));
-        model.addAttribute("member", member);
+        model.addAttribute("member", viewerContext.getMember());
 
         if (feedId == null) {  // 피드 등록
             model.addAttribute("newfeed", new FeedDTO.NewFeedResponseDTO());
@@ -50,9 +45,4 @@ public class NewFeedController {
 
         return "feedWriteForm";
     }
-
-    private String getEmail() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return  Optional.ofNullable(authentication.getName()).orElse(null);
-    }
 }
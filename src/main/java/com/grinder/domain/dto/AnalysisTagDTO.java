@@ -0,0 +1,17 @@
+package com.grinder.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+public class AnalysisTagDTO {
+
+    // 마지막 카페 추천 기록. cafes 는 실제로 보낸 카페 id ("," 구분, 순위 순)
+    @Getter
+    @AllArgsConstructor
+    public static class RecommendedCafes {
+        private String cafes;
+        private LocalDateTime recommendedAt;
+    }
+}
@@ -0,0 +1,15 @@
+package com.grinder.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+public class BatchDTO {
+
+    // 배치 처리 대상. id 는 분할/순번 기준, key 는 처리에 필요한 값 (회원 이메일 등, 없으면 null)
+    @Getter
+    @AllArgsConstructor
+    public static class Target {
+        private String id;
+        private String key;
+    }
+}
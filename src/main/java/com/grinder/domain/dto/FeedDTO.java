@@ -88,6 +88,7 @@ public class FeedDTO {
         private List<String> tagNameList;
         private List<CommentDTO.ParentCommentResponseDTO> parentCommentList;
         private List<String> imageUrls;
+        private Boolean isImageReady;   // 이미지 업로드가 끝났는지 여부
         private boolean isHeart;    // 사용자가 댓글을 좋아요 했는지 여부
         private int heartNum;       // 해당 댓글의 좋아요 수
 
@@ -109,6 +110,7 @@ public class FeedDTO {
             this.tagNameList = list;
             this.parentCommentList = parentCommentList;
             this.imageUrls = imageUrls;
+            this.isImageReady = !Boolean.FALSE.equals(feed.getIsImageReady());
             this.isHeart = isHeart;
             this.heartNum = Math.toIntExact(heartNum);
         }
@@ -116,6 +118,7 @@ public class FeedDTO {
         public FeedWithImageResponseDTO(Feed feed, List<String> imageUrls, Long heartNum) {
             this.isVisible = feed.getIsVisible();
             this.imageUrls = imageUrls;
+            this.isImageReady = !Boolean.FALSE.equals(feed.getIsImageReady());
             this.heartNum = Math.toIntExact(heartNum);
         }
     }
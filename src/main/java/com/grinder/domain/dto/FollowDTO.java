@@ -48,4 +48,20 @@ public class FollowDTO {
             followImage = imageUrl;
         }
     }
+
+    @Getter
+    @NoArgsConstructor
+    public static class FollowEdgeDTO {
+        private String memberId;
+        private String memberEmail;
+        private String followingId;
+        private String followingEmail;
+
+        public FollowEdgeDTO(String memberId, String memberEmail, String followingId, String followingEmail) {
+            this.memberId = memberId;
+            this.memberEmail = memberEmail;
+            this.followingId = followingId;
+            this.followingEmail = followingEmail;
+        }
+    }
 }
@@ -20,6 +20,7 @@ public class MemberDTO {
         private String phoneNum;
         private String role;
         private Boolean isDeleted;
+        private Integer unreadMessageCount;
 
         public FindMemberDTO(Member member) {
             this.memberId = member.getMemberId();
@@ -28,6 +29,7 @@ public class MemberDTO {
             this.phoneNum = member.getPhoneNum();
             this.role = member.getRole().name();
             this.isDeleted = member.getIsDeleted();
+            this.unreadMessageCount = member.getUnreadMessageCount();
         }
     }
 
@@ -53,6 +55,8 @@ public class MemberDTO {
         private String nickname;
         private String role;
         private String image;
+        private Integer followerCount;
+        private Integer followingCount;
 
         public FindMemberAndImageDTO(Member member, String image) {
             memberId = member.getMemberId();
@@ -60,6 +64,8 @@ public class MemberDTO {
             nickname = member.getNickname();
             role = member.getRole().getValue();
             this.image = image;
+            followerCount = member.getFollowerCount();
+            followingCount = member.getFollowingCount();
         }
     }
 
@@ -97,4 +103,28 @@ public class MemberDTO {
             this.followImage = dto.getImage();
         }
     }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SuggestedMemberDTO {
+        private String followMemberId;
+        private String followNickname;
+        private String followEmail;
+        private String followRole;
+        private String followImage;
+        private Integer mutualCount;
+        private Integer sharedTagCount;
+
+        public SuggestedMemberDTO(FindMemberAndImageDTO dto, int mutualCount, int sharedTagCount) {
+            this.followMemberId = dto.getMemberId();
+            this.followNickname = dto.getNickname();
+            this.followEmail = dto.getEmail();
+            this.followRole = dto.getRole();
+            this.followImage = dto.getImage();
+            this.mutualCount = mutualCount;
+            this.sharedTagCount = sharedTagCount;
+        }
+    }
 }
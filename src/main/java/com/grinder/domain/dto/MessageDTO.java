@@ -0,0 +1,24 @@
+package com.grinder.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+public class MessageDTO {
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class findAllResponse {
+        private String messageId;
+        private String content;
+        private String adminName;
+        private Boolean isChecked;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+}
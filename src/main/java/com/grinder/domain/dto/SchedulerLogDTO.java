@@ -0,0 +1,49 @@
+package com.grinder.domain.dto;
+
+import com.grinder.domain.entity.SchedulerLog;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+public class SchedulerLogDTO {
+
+    @Getter
+    @Setter
+    public static class FindSchedulerLogDTO {
+        private Long id;
+        private String taskName;
+        private String nodeId;
+        private Boolean success;
+        private LocalDateTime startedAt;
+        private LocalDateTime endedAt;
+        private Long durationMs;
+        private Integer attemptCount;
+        private Long readCount;
+        private Long writeCount;
+        private Long skipCount;
+        // 초당 처리 건수 (배치 작업 기록만)
+        private Double throughput;
+        private String errorSample;
+        private String logMessage;
+
+        public FindSchedulerLogDTO(SchedulerLog schedulerLog) {
+            this.id = schedulerLog.getId();
+            this.taskName = schedulerLog.getTaskName();
+            this.nodeId = schedulerLog.getNodeId();
+            this.success = schedulerLog.getSuccess();
+            this.startedAt = schedulerLog.getStartedAt();
+            this.endedAt = schedulerLog.getEndedAt();
+            this.durationMs = schedulerLog.getDurationMs();
+            this.attemptCount = schedulerLog.getAttemptCount();
+            this.readCount = schedulerLog.getReadCount();
+            this.writeCount = schedulerLog.getWriteCount();
+            this.skipCount = schedulerLog.getSkipCount();
+            this.errorSample = schedulerLog.getErrorSample();
+            this.logMessage = schedulerLog.getLogMessage();
+            if (writeCount != null && durationMs != null && durationMs > 0) {
+                this.throughput = writeCount * 1000.0 / durationMs;
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.grinder.domain.entity;
+
+import com.grinder.domain.enums.AlanPromptKind;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 앨런 응답 캐시 (Redis 가 비었거나 장애일 때 사용하는 원본)
+ * fingerprint 는 종류와 정규화한 질문의 SHA-256 이다.
+ */
+@Entity
+@Table(name = "alan_prompt_cache")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlanPromptCache extends BaseEntity {
+
+    @Id
+    @Column(name = "fingerprint", updatable = false, length = 80)
+    private String fingerprint;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false, length = 20)
+    private AlanPromptKind kind;
+
+    @Column(name = "action_name")
+    private String actionName;
+
+    @Column(name = "action_speak")
+    private String actionSpeak;
+
+    @Column(name = "content", length = 2000)
+    private String content;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
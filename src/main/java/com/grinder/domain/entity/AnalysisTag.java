@@ -1,15 +1,15 @@
 package com.grinder.domain.entity;
 
+import com.grinder.domain.enums.TagName;
+import com.grinder.utils.TagVector;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.Map;
 
 @Entity
 @Table(name = "analysis_tag", indexes = {
@@ -20,6 +20,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 public class AnalysisTag extends BaseEntity {
+    public static final int SUMMARY_SIZE = 5;
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -30,36 +31,42 @@ public class AnalysisTag extends BaseEntity {
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
 
+    // 상위 태그 요약 ("/" 구분, 가중치 순). 이전에는 태그를 계속 이어 붙인 목록이었다.
     @Column(name = "tag_list", nullable = false)
     private String tagList;
 
-    // 태그 추가 메소드
-    public void addTags(String newTags) {
-        StringBuilder sb = new StringBuilder();
+    // 태그 가중치 (TagVector)
+    @Column(name = "tag_vector", length = TagVector.MAX_BYTES)
+    private byte[] tagVector;
 
-        if (this.tagList != null && !this.tagList.isEmpty()) sb.append(this.tagList).append("/");
-        sb.append(newTags);
+    // 가중치를 마지막으로 감쇠한 시각
+    @Column(name = "decayed_at")
+    private LocalDateTime decayedAt;
 
-        this.tagList = sb.toString();
+    // 마지막으로 추천한 카페 id ("," 구분, 순위 순)
+    @Column(name = "recommended_cafes", length = 200)
+    private String recommendedCafes;
 
-        // 태그 길이 확인 및 앞부분 제거
-        if (this.tagList.length() >= 1800) {
-            this.tagList = removeLeadingTags(this.tagList, 7);
-        }
-    }
+    // 마지막으로 추천 메시지를 보낸 시각
+    @Column(name = "recommended_at")
+    private LocalDateTime recommendedAt;
 
-    // 앞부분의 태그 7개를 제거하는 메소드
-    private String removeLeadingTags(String tags, int numTagsToRemove) {
-        String[] tagArray = tags.split("/");
-        if (tagArray.length <= numTagsToRemove) {
-            return "";  // 모든 태그를 제거
-        }
+    // 저장된 가중치가 없으면 이전 형식의 태그 목록에서 계산
+    public TagVector getVector() {
+        return tagVector == null ? TagVector.fromTagList(tagList, decayedAt) : TagVector.decode(tagVector, decayedAt);
+    }
 
-        List<String> tagList = new ArrayList<>(Arrays.asList(tagArray));
-        for (int i = 0; i < numTagsToRemove; i++) {
-            tagList.remove(0);
-        }
+    // 지금까지 감쇠한 뒤 태그 가중치 추가
+    public void addTags(Map<TagName, ? extends Number> weights, LocalDateTime now) {
+        TagVector vector = getVector();
+        vector.decayTo(now);
+        weights.forEach((tagName, weight) -> vector.add(tagName, weight.doubleValue()));
+        apply(vector);
+    }
 
-        return String.join("/", tagList);
+    public void apply(TagVector vector) {
+        this.tagVector = vector.encode();
+        this.decayedAt = vector.getAsOf();
+        this.tagList = vector.summary(SUMMARY_SIZE);
     }
 }
@@ -0,0 +1,47 @@
+package com.grinder.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 순환 배치 작업의 버킷별 마지막 처리 시각.
+ * 다음 회차는 가장 오래전에 처리한 버킷부터 고르므로 실행하지 못한 날이 있어도 빠지는 버킷이 없다.
+ */
+@Entity
+@Table(name = "bucket_progress", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_bucket_progress_job_bucket", columnNames = {"job_name", "bucket"})
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BucketProgress extends BaseEntity {
+
+    @Id
+    @Column(name = "progress_id", updatable = false, length = 36)
+    private String progressId;
+
+    @Column(name = "job_name", nullable = false, length = 50)
+    private String jobName;
+
+    @Column(name = "bucket", nullable = false)
+    private Integer bucket;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+
+    @PrePersist
+    public void prePersist() {
+        progressId = progressId == null ? UUID.randomUUID().toString() : progressId;
+    }
+
+    public void process(LocalDateTime processedAt) {
+        this.processedAt = processedAt;
+    }
+}
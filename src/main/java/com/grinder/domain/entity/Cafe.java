@@ -1,12 +1,15 @@
 package com.grinder.domain.entity;
 
+import com.grinder.utils.Buckets;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.util.UUID;
 
 @Entity
-@Table(name = "cafe")
+@Table(name = "cafe", indexes = {
+        @Index(name = "idx_cafe_bucket_cafeId", columnList = "bucket, cafe_id")
+})
 @Getter
 @Setter
 @Builder
@@ -33,10 +36,15 @@ public class Cafe extends BaseEntity {
     @Column(name = "reg_image_url")
     private String regImageUrl;
 
+    // 순환 배치 버킷 (Buckets.of)
+    @Column(name = "bucket")
+    private Integer bucket;
+
     @PrePersist
     public void prePersist() {
         cafeId = cafeId == null ? UUID.randomUUID().toString() : cafeId;
         averageGrade = averageGrade == null ? 0 : averageGrade;
+        bucket = Buckets.of(cafeId);
     }
 
     public void uploadRegImage(String regImageUrl) {
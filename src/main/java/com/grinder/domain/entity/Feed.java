@@ -1,6 +1,7 @@
 package com.grinder.domain.entity;
 
 import com.grinder.domain.dto.FeedDTO;
+import com.grinder.utils.Buckets;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,7 +13,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "feed", indexes = {
         @Index(name = "idx_cafe_id", columnList = "cafe_id"),
-        @Index(name = "idx_visible_updatedAt_feedId", columnList = "is_visible, updated_at, feed_id")
+        @Index(name = "idx_visible_updatedAt_feedId", columnList = "is_visible, updated_at, feed_id"),
+        @Index(name = "idx_feed_bucket_feedId", columnList = "bucket, feed_id")
 })
 @Getter
 @Builder
@@ -44,11 +46,20 @@ public class Feed extends BaseEntity {
     @Column(name = "rank")
     private Integer rank;
 
+    @Column(name = "is_image_ready")
+    private Boolean isImageReady;
+
+    // 순환 배치 버킷 (Buckets.of)
+    @Column(name = "bucket")
+    private Integer bucket;
+
     @PrePersist
     public void prePersist() {
         feedId = feedId == null ? UUID.randomUUID().toString() : feedId;
         isVisible = isVisible == null ? true : isVisible;
         rank = rank == null ? 0 : rank;
+        isImageReady = isImageReady == null ? true : isImageReady;
+        bucket = Buckets.of(feedId);
     }
 
     public void updateFeed(Cafe cafe, String content, Integer grade) {
@@ -60,4 +71,14 @@ public class Feed extends BaseEntity {
     public void notVisible() {
         isVisible = false;
     }
+
+    // 이미지 업로드 대기 상태로 변경
+    public void waitForImages() {
+        isImageReady = false;
+    }
+
+    // 대기 중인 이미지 업로드가 모두 끝난 경우
+    public void imageReady() {
+        isImageReady = true;
+    }
 }
@@ -7,7 +7,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "follow", uniqueConstraints = {@UniqueConstraint(columnNames = {"member_id", "following_id"})})
+@Table(name = "follow", uniqueConstraints = {@UniqueConstraint(columnNames = {"member_id", "following_id"})},
+        indexes = {
+                @Index(name = "idx_follow_member_followId", columnList = "member_id, follow_id"),
+                @Index(name = "idx_follow_following_followId", columnList = "following_id, follow_id")
+        })
 @Getter
 @Builder
 @NoArgsConstructor
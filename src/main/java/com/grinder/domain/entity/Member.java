@@ -1,11 +1,13 @@
 package com.grinder.domain.entity;
 
 import com.grinder.domain.enums.Role;
+import com.grinder.utils.Buckets;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,7 +18,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "member", indexes = {
-        @Index(name = "idx_email", columnList = "email")
+        @Index(name = "idx_email", columnList = "email"),
+        @Index(name = "idx_member_bucket_memberId", columnList = "bucket, member_id")
 })
 @Getter
 @Builder
@@ -47,11 +50,32 @@ public class Member extends BaseEntity{
     @Column(name = "phone_num", nullable = false, length = 11)
     private String phoneNum;
 
+    @ColumnDefault("0")
+    @Column(name = "follower_count", nullable = false)
+    private Integer followerCount;
+
+    @ColumnDefault("0")
+    @Column(name = "following_count", nullable = false)
+    private Integer followingCount;
+
+    // 확인하지 않은 메시지 수 (헤더 알림 표시용)
+    @ColumnDefault("0")
+    @Column(name = "unread_message_count", nullable = false)
+    private Integer unreadMessageCount;
+
+    // 순환 배치 버킷 (기존 행은 시작 시 채우므로 컬럼은 null 허용)
+    @Column(name = "bucket")
+    private Integer bucket;
+
     @PrePersist
     public void prePersist() {
         memberId = memberId == null ? UUID.randomUUID().toString() : memberId;
         role = role == null ? Role.MEMBER : role;
         isDeleted = isDeleted == null ? false : isDeleted;
+        followerCount = followerCount == null ? 0 : followerCount;
+        followingCount = followingCount == null ? 0 : followingCount;
+        unreadMessageCount = unreadMessageCount == null ? 0 : unreadMessageCount;
+        bucket = Buckets.of(memberId);
     }
 
     public void verify() {
@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 import java.util.UUID;
 
 @Entity
-@Table(name = "message")
+@Table(name = "message", indexes = {
+        @Index(name = "idx_message_receiveMemberId_createdAt", columnList = "receive_member_id, created_at")
+})
 @Getter
 @Builder
 @NoArgsConstructor
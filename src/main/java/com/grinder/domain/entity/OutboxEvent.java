@@ -0,0 +1,76 @@
+package com.grinder.domain.entity;
+
+import com.grinder.domain.enums.OutboxEventType;
+import com.grinder.domain.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 트랜잭션 아웃박스 이벤트.
+ * 요청 트랜잭션에서는 이 행만 기록하고, 외부 호출이 필요한 후속 작업은 커밋 이후 워커가 처리한다.
+ * 처리가 끝난 행은 삭제하며, availableAt 이 지난 PENDING 행만 다시 가져갈 수 있다.
+ */
+@Entity
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "idx_outbox_event_status_availableAt", columnList = "status, available_at")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent extends BaseEntity {
+
+    @Id
+    @Column(name = "event_id", updatable = false, length = 36)
+    private String eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private OutboxEventType eventType;
+
+    // 대상 id (카페 요약이면 cafeId)
+    @Column(name = "aggregate_id", nullable = false, length = 36)
+    private String aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private OutboxStatus status;
+
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @PrePersist
+    public void prePersist() {
+        eventId = eventId == null ? UUID.randomUUID().toString() : eventId;
+        status = status == null ? OutboxStatus.PENDING : status;
+        attemptCount = attemptCount == null ? 0 : attemptCount;
+        availableAt = availableAt == null ? LocalDateTime.now() : availableAt;
+    }
+
+    // 워커가 가져감, leaseUntil 까지 끝나지 않으면(서버 종료 등) 다른 워커가 다시 가져간다.
+    public void claim(LocalDateTime leaseUntil) {
+        attemptCount++;
+        availableAt = leaseUntil;
+    }
+
+    // 처리 실패 시 retryAt 이후 재시도, 최대 횟수에 도달하면 실패 처리
+    public void failAttempt(String error, LocalDateTime retryAt, int maxAttempts) {
+        lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        availableAt = retryAt;
+        if (attemptCount >= maxAttempts) {
+            status = OutboxStatus.FAILED;
+        }
+    }
+}
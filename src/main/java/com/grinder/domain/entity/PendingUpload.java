@@ -0,0 +1,71 @@
+package com.grinder.domain.entity;
+
+import com.grinder.domain.enums.ContentType;
+import com.grinder.domain.enums.UploadStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * S3 업로드를 기다리는 이미지.
+ * 피드 트랜잭션에서는 로컬 디스크에 파일을 임시 저장(spool)하고 이 행만 기록하며,
+ * 실제 업로드는 커밋 이후 업로드 워커가 처리한다.
+ */
+@Entity
+@Table(name = "pending_upload", indexes = {
+        @Index(name = "idx_pending_upload_content_id", columnList = "content_id"),
+        @Index(name = "idx_pending_upload_status_updatedAt", columnList = "status, updated_at")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingUpload extends BaseEntity {
+
+    @Id
+    @Column(name = "upload_id", updatable = false, length = 36)
+    private String uploadId;
+
+    @Column(name = "content_id", nullable = false, length = 36)
+    private String contentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "content_type", nullable = false, length = 16)
+    private ContentType contentType;
+
+    @Column(name = "spool_path", nullable = false)
+    private String spoolPath;
+
+    @Column(name = "original_file_name", nullable = false)
+    private String originalFileName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private UploadStatus status;
+
+    @Column(name = "retry_count", nullable = false)
+    private Integer retryCount;
+
+    @PrePersist
+    public void prePersist() {
+        uploadId = uploadId == null ? UUID.randomUUID().toString() : uploadId;
+        status = status == null ? UploadStatus.PENDING : status;
+        retryCount = retryCount == null ? 0 : retryCount;
+    }
+
+    // 업로드 실패 시 재시도 횟수 증가, 최대 횟수에 도달하면 실패 처리
+    public void failAttempt(int maxRetries) {
+        retryCount++;
+        if (retryCount >= maxRetries) {
+            status = UploadStatus.FAILED;
+        }
+    }
+
+    public void fail() {
+        status = UploadStatus.FAILED;
+    }
+}
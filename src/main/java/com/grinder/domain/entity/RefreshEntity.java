@@ -3,7 +3,9 @@ package com.grinder.domain.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,6 +14,10 @@ import lombok.NoArgsConstructor;
 import java.util.UUID;
 
 @Entity
+@Table(name = "refresh_entity", indexes = {
+        @Index(name = "idx_refresh_refresh", columnList = "refresh"),
+        @Index(name = "idx_refresh_email", columnList = "email")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -1,14 +1,25 @@
 package com.grinder.domain.entity;
 
 import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.Setter;
-import org.springframework.web.bind.annotation.GetMapping;
 
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 실행 기록. 작업(executeWithRetry) 단위 기록과 배치 작업(JobExecution) 단위 기록이 함께 쌓인다.
+ * 처리 건수는 배치 작업 기록에만 있다.
+ */
 @Entity
+@Table(name = "scheduler_log", indexes = {
+        @Index(name = "idx_scheduler_log_taskName_startedAt", columnList = "task_name, started_at")
+})
 @Getter
+@Builder
 @NoArgsConstructor
+@AllArgsConstructor
 public class SchedulerLog extends BaseEntity {
 
     @Id
@@ -18,7 +29,37 @@ public class SchedulerLog extends BaseEntity {
     @Column(name = "log_message")
     private String logMessage;
 
-    public SchedulerLog(String logMessage) {
-        this.logMessage = logMessage;
-    }
+    @Column(name = "task_name", length = 100)
+    private String taskName;
+
+    @Column(name = "node_id", length = 36)
+    private String nodeId;
+
+    @Column(name = "success")
+    private Boolean success;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "ended_at")
+    private LocalDateTime endedAt;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    @Column(name = "attempt_count")
+    private Integer attemptCount;
+
+    @Column(name = "read_count")
+    private Long readCount;
+
+    @Column(name = "write_count")
+    private Long writeCount;
+
+    @Column(name = "skip_count")
+    private Long skipCount;
+
+    // 실패 원인 (앞부분만)
+    @Column(name = "error_sample", length = 1000)
+    private String errorSample;
 }
@@ -0,0 +1,17 @@
+package com.grinder.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+@Getter
+@RequiredArgsConstructor
+public enum AlanPromptKind {
+    SUMMARY("카페 요약", Duration.ofDays(30)),
+    RECOMMEND("태그 기반 카페 추천", Duration.ofDays(7));
+
+    private final String value;
+    // 기본 보관 기간 (alan.cache.{소문자 이름}.ttl 로 변경)
+    private final Duration ttl;
+}
@@ -0,0 +1,12 @@
+package com.grinder.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+    CAFE_SUMMARY_REQUESTED("카페 요약 생성 요청");
+
+    private final String value;
+}
@@ -0,0 +1,13 @@
+package com.grinder.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxStatus {
+    PENDING("처리 대기"),
+    FAILED("처리 실패");
+
+    private final String value;
+}
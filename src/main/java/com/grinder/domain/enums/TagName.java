@@ -3,6 +3,12 @@ package com.grinder.domain.enums;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Getter
 @RequiredArgsConstructor
 public enum TagName {
@@ -30,14 +36,11 @@ public enum TagName {
 
     private final String value;
 
-//    public static TagName fromString(String text) {
-//        for (TagName type : TagName.values()) {
-//            if (type.getValue().equals(text)) {
-//                return type;
-//            }
-//        }
-//        throw new IllegalArgumentException("No constant with text " + text + " found");
-//    }
-}
-
+    private static final Map<String, TagName> BY_VALUE = Arrays.stream(values())
+            .collect(Collectors.toMap(TagName::getValue, Function.identity()));
 
+    // 화면에 표시되는 태그 문구로 찾기
+    public static Optional<TagName> fromValue(String value) {
+        return Optional.ofNullable(BY_VALUE.get(value));
+    }
+}
@@ -0,0 +1,13 @@
+package com.grinder.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum UploadStatus {
+    PENDING("업로드 대기"),
+    FAILED("업로드 실패");
+
+    private final String value;
+}
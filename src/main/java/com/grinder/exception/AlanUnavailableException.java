@@ -0,0 +1,12 @@
+package com.grinder.exception;
+
+public class AlanUnavailableException extends RuntimeException {
+
+    public AlanUnavailableException(String message) {
+        super(message);
+    }
+
+    public AlanUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,9 @@
+package com.grinder.exception;
+
+// 비밀번호 해시/검증 전용 풀 포화 (회원가입, 비밀번호 변경/재설정, 로그인 공통)
+public class PasswordHashThrottledException extends RuntimeException {
+
+    public PasswordHashThrottledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.grinder.repository;
+
+import com.grinder.domain.entity.AlanPromptCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AlanPromptCacheRepository extends JpaRepository<AlanPromptCache, String> {
+}
@@ -3,6 +3,7 @@ package com.grinder.repository;
 import com.grinder.domain.entity.Blacklist;
 import com.grinder.domain.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +13,7 @@ import java.util.Optional;
 public interface BlacklistRepository extends JpaRepository<Blacklist, Long> {
     Optional<List<Blacklist>> findAllByMember(Member member);
     Long countAllByMember(Member member);
+
+    @Query("SELECT b.blockedMember.memberId FROM Blacklist b WHERE b.member.email = :memberEmail")
+    List<String> findBlockedMemberIdsByMemberEmail(String memberEmail);
 }
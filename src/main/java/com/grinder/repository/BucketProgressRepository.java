@@ -0,0 +1,14 @@
+package com.grinder.repository;
+
+import com.grinder.domain.entity.BucketProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BucketProgressRepository extends JpaRepository<BucketProgress, String> {
+    List<BucketProgress> findAllByJobName(String jobName);
+    List<BucketProgress> findAllByJobNameAndBucketIn(String jobName, Collection<Integer> buckets);
+}
@@ -12,8 +12,6 @@ public interface CafeRepository extends JpaRepository<Cafe, String> {
     Optional<Cafe> findByName(String name);
     Optional<Cafe> findByAddress(String address);
     List<Cafe> findByNameContainingIgnoreCase(String name);
-    @Query("SELECT c FROM Cafe c")
-    List<Cafe> findCafesForAverageCalculation(long limit, long offset);
 
     @Query("SELECT AVG(f.grade) FROM Feed f WHERE f.cafe.cafeId = :cafeId AND f.isVisible = true")
     Double findAverageGradeByCafeId(String cafeId);
@@ -16,11 +16,13 @@ public interface FeedRepository extends JpaRepository<Feed, String> {
     List<Feed> findAllByIsVisibleTrue();
     List<Feed> findFeedsByCafe_CafeId(String cafeId);
 
-    @Query("SELECT f FROM Feed f")
-    List<Feed> findFeedsForRankUpdate(long limit, long offset);
-
     @Modifying
     @Transactional
     @Query("UPDATE Feed f SET f.rank = :rank WHERE f.feedId = :feedId")
     void updateFeedRank(@Param("feedId") String feedId, @Param("rank") Integer rank);
+
+    // 대기 중인 이미지 업로드가 없는데 아직 준비 완료 처리되지 않은 피드
+    @Query("SELECT f FROM Feed f WHERE f.isImageReady = false AND NOT EXISTS " +
+            "(SELECT p FROM PendingUpload p WHERE p.contentId = f.feedId AND p.status = com.grinder.domain.enums.UploadStatus.PENDING)")
+    List<Feed> findFeedsWithFinishedUploads();
 }
@@ -28,8 +28,47 @@ public interface MemberRepository extends JpaRepository<Member, String> {
     @Query("UPDATE Member m SET m.nickname = :nickname, m.password = :password, m.phoneNum = :phoneNum WHERE m.memberId = :memberId")
     void updateMemberInfo(String memberId, String nickname, String password, String phoneNum);
 
-    @Query("SELECT m FROM Member m")
-    List<Member> findMembersForTagUpdate(long limit, long offset);
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :password WHERE m.email = :email")
+    void updatePassword(String email, String password);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET m.followingCount = m.followingCount + :delta WHERE m.memberId = :memberId")
+    void addFollowingCount(String memberId, int delta);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET m.followerCount = m.followerCount + :delta WHERE m.memberId = :memberId")
+    void addFollowerCount(String memberId, int delta);
+
+    // 회원 삭제/복구 시 그 회원이 팔로우하는 회원들의 팔로워 수 조정
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET m.followerCount = m.followerCount + :delta " +
+            "WHERE m.memberId IN (SELECT f.following.memberId FROM Follow f WHERE f.member.memberId = :memberId)")
+    void addFollowerCountOfFollowings(String memberId, int delta);
+
+    // 회원 삭제/복구 시 그 회원을 팔로우하는 회원들의 팔로잉 수 조정
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET m.followingCount = m.followingCount + :delta " +
+            "WHERE m.memberId IN (SELECT f.member.memberId FROM Follow f WHERE f.following.memberId = :memberId)")
+    void addFollowingCountOfFollowers(String memberId, int delta);
+
+    // 팔로우 테이블 기준으로 팔로우 수 전체 재계산 (카운터 보정용, 목록과 같이 삭제된 회원 제외)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET " +
+            "m.followerCount = (SELECT COUNT(f) FROM Follow f WHERE f.following = m AND f.member.isDeleted = false), " +
+            "m.followingCount = (SELECT COUNT(f) FROM Follow f WHERE f.member = m AND f.following.isDeleted = false)")
+    int syncFollowCounts();
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET m.unreadMessageCount = m.unreadMessageCount + :delta WHERE m.memberId = :memberId")
+    void addUnreadMessageCount(String memberId, int delta);
 
     @Query("SELECT m FROM Member m")
     List<Member> findMembersForRecommendation(Pageable pageable);
@@ -0,0 +1,36 @@
+package com.grinder.repository;
+
+import com.grinder.domain.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, String> {
+
+    // 처리할 차례가 된 이벤트를 잠그며 조회, 다른 서버가 잠근 행은 기다리지 않고 건너뛴다.
+    @Query(value = "SELECT * FROM outbox_event "
+            + "WHERE status = 'PENDING' AND available_at <= :now "
+            + "ORDER BY available_at "
+            + "LIMIT :limit "
+            + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> findClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 처리 실패 기록용, 점유 확인과 기록 사이에 다른 워커가 가져가지 못하도록 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.eventId = :eventId")
+    Optional<OutboxEvent> findLockedById(@Param("eventId") String eventId);
+
+    // 처리 완료, 가져간 뒤 다른 워커가 다시 가져갔으면(attemptCount 증가) 삭제하지 않는다.
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.eventId = :eventId AND e.attemptCount = :attemptCount")
+    int deleteLeased(@Param("eventId") String eventId, @Param("attemptCount") int attemptCount);
+}
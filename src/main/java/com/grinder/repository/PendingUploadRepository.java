@@ -0,0 +1,17 @@
+package com.grinder.repository;
+
+import com.grinder.domain.entity.PendingUpload;
+import com.grinder.domain.enums.ContentType;
+import com.grinder.domain.enums.UploadStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PendingUploadRepository extends JpaRepository<PendingUpload, String> {
+    List<PendingUpload> findAllByContentIdAndContentType(String contentId, ContentType contentType);
+    boolean existsByContentIdAndStatus(String contentId, UploadStatus status);
+    List<PendingUpload> findAllByStatusAndUpdatedAtBefore(UploadStatus status, LocalDateTime updatedAt);
+}
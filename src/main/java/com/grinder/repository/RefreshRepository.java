@@ -2,6 +2,8 @@ package com.grinder.repository;
 
 import com.grinder.domain.entity.RefreshEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,4 +14,13 @@ public interface RefreshRepository extends JpaRepository<RefreshEntity, String>
 
     @Transactional
     void deleteByRefresh(String refresh);
+
+    @Transactional
+    void deleteByEmail(String email);
+
+    // 토큰 교체 시 이전 토큰 소비. 삭제된 행이 없으면 이미 사용된 토큰
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshEntity r WHERE r.refresh = :refresh")
+    int consumeByRefresh(String refresh);
 }
\ No newline at end of file
@@ -1,9 +1,13 @@
 package com.grinder.repository;
 
 import com.grinder.domain.entity.SchedulerLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface SchedulerLogRepository extends JpaRepository<SchedulerLog, Long> {
+    Slice<SchedulerLog> findAllByOrderByIdDesc(Pageable pageable);
+    Slice<SchedulerLog> findAllByTaskNameStartingWithOrderByIdDesc(String taskName, Pageable pageable);
 }
@@ -1,16 +1,21 @@
 package com.grinder.repository.queries;
 
+import com.grinder.domain.dto.AnalysisTagDTO;
 import com.grinder.domain.entity.*;
+import com.grinder.domain.enums.ContentType;
 import com.grinder.domain.enums.TagName;
-import com.querydsl.core.Tuple;
+import com.grinder.utils.TagVector;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Repository
 public class AnalysisTagQueryRepository {
@@ -21,25 +26,98 @@ public class AnalysisTagQueryRepository {
         this.queryFactory = new JPAQueryFactory(entityManager);
     }
 
-    public List<String> AnalysisMemberTag(String email) {
+    /**
+     * 회원별 태그 점수 (좋아요한 피드의 태그 + 북마크한 카페 피드의 태그 개수)
+     * 회원 목록 전체를 (회원, 태그) 로 묶어 좋아요/북마크 각각 한 번씩만 조회한다.
+     * @return : 회원 id → 태그 → 개수 (좋아요, 북마크가 없는 회원은 없음)
+     */
+    public Map<String, Map<TagName, Long>> countTagsByMember(Collection<String> memberIds) {
         QBookmark bookmark = QBookmark.bookmark;
-        QCafe cafe = QCafe.cafe;
         QTag tag = QTag.tag;
         QFeed feed = QFeed.feed;
         QHeart heart = QHeart.heart;
+        NumberExpression<Long> count = tag.count();
 
-        List<TagName> topTags = queryFactory
-                .select(tag.tagName)
-                .from(tag)
-                .leftJoin(tag.feed, feed) // 좋아요 누른 피드와 연결된 태그
-                .leftJoin(heart).on(heart.contentId.eq(feed.feedId).and(heart.member.email.eq(email)))
-                .leftJoin(feed.cafe, cafe) // 북마크한 카페와 연결된 태그
-                .leftJoin(bookmark).on(bookmark.cafe.eq(cafe).and(bookmark.member.email.eq(email)))
-                .groupBy(tag.tagName)
-                .orderBy(tag.tagName.count().desc())
-                .limit(5)
-                .fetch();
-
-        return topTags.stream().map(TagName::getValue).toList();
+        Map<String, Map<TagName, Long>> counts = new HashMap<>();
+        if (memberIds.isEmpty()) return counts;
+
+        queryFactory
+                .select(heart.member.memberId, tag.tagName, count)
+                .from(heart)
+                .join(tag).on(tag.feed.feedId.eq(heart.contentId))
+                .where(heart.contentType.eq(ContentType.FEED), heart.member.memberId.in(memberIds))
+                .groupBy(heart.member.memberId, tag.tagName)
+                .fetch()
+                .forEach(tuple -> counts.computeIfAbsent(tuple.get(heart.member.memberId), key -> new EnumMap<>(TagName.class))
+                        .merge(tuple.get(tag.tagName), tuple.get(count), Long::sum));
+
+        queryFactory
+                .select(bookmark.member.memberId, tag.tagName, count)
+                .from(bookmark)
+                .join(feed).on(feed.cafe.eq(bookmark.cafe))
+                .join(tag).on(tag.feed.eq(feed))
+                .where(bookmark.member.memberId.in(memberIds))
+                .groupBy(bookmark.member.memberId, tag.tagName)
+                .fetch()
+                .forEach(tuple -> counts.computeIfAbsent(tuple.get(bookmark.member.memberId), key -> new EnumMap<>(TagName.class))
+                        .merge(tuple.get(tag.tagName), tuple.get(count), Long::sum));
+
+        return counts;
+    }
+
+    /**
+     * 회원 목록의 관심 태그 가중치
+     * @return : 회원 id → 가중치 (AnalysisTag 가 없는 회원은 없음)
+     */
+    public Map<String, TagVector> findTagVectors(Collection<String> memberIds) {
+        QAnalysisTag analysisTag = QAnalysisTag.analysisTag;
+        if (memberIds.isEmpty()) return new HashMap<>();
+        return fetchTagVectors(analysisTag.member.memberId.in(memberIds));
+    }
+
+    /**
+     * 전체 회원의 관심 태그 가중치
+     * @return : 회원 id → 가중치
+     */
+    public Map<String, TagVector> findAllTagVectors() {
+        return fetchTagVectors(null);
+    }
+
+    /**
+     * @return : 회원 id → 마지막으로 추천한 카페 id 목록과 보낸 시각 (추천한 적 없는 회원은 없음)
+     */
+    public Map<String, AnalysisTagDTO.RecommendedCafes> findRecommendedCafes(Collection<String> memberIds) {
+        QAnalysisTag analysisTag = QAnalysisTag.analysisTag;
+
+        Map<String, AnalysisTagDTO.RecommendedCafes> recommended = new HashMap<>();
+        if (memberIds.isEmpty()) return recommended;
+
+        queryFactory
+                .select(analysisTag.member.memberId, analysisTag.recommendedCafes, analysisTag.recommendedAt)
+                .from(analysisTag)
+                .where(analysisTag.member.memberId.in(memberIds), analysisTag.recommendedCafes.isNotNull())
+                .fetch()
+                .forEach(tuple -> recommended.putIfAbsent(tuple.get(analysisTag.member.memberId),
+                        new AnalysisTagDTO.RecommendedCafes(tuple.get(analysisTag.recommendedCafes), tuple.get(analysisTag.recommendedAt))));
+        return recommended;
+    }
+
+    private Map<String, TagVector> fetchTagVectors(Predicate condition) {
+        QAnalysisTag analysisTag = QAnalysisTag.analysisTag;
+
+        Map<String, TagVector> vectors = new HashMap<>();
+        queryFactory
+                .select(analysisTag.member.memberId, analysisTag.tagList, analysisTag.tagVector, analysisTag.decayedAt)
+                .from(analysisTag)
+                .where(condition)
+                .fetch()
+                .forEach(tuple -> {
+                    byte[] bytes = tuple.get(analysisTag.tagVector);
+                    LocalDateTime decayedAt = tuple.get(analysisTag.decayedAt);
+                    vectors.putIfAbsent(tuple.get(analysisTag.member.memberId), bytes == null
+                            ? TagVector.fromTagList(tuple.get(analysisTag.tagList), decayedAt)
+                            : TagVector.decode(bytes, decayedAt));
+                });
+        return vectors;
     }
 }
@@ -12,6 +12,9 @@ import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Repository
 public class BlacklistQueryRepository {
@@ -42,4 +45,21 @@ public class BlacklistQueryRepository {
                     return new BlacklistDTO.findAllResponse(black,imageUrl);
                 }).toList();
     }
+
+    /**
+     * 전체 차단 관계
+     * @return : 회원 id, 해당 회원이 차단한 회원 id 목록
+     */
+    public Map<String, Set<String>> findAllBlockedMemberIds() {
+        QBlacklist blacklist = QBlacklist.blacklist;
+
+        return queryFactory
+                .select(blacklist.member.memberId, blacklist.blockedMember.memberId)
+                .from(blacklist)
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        tuple -> tuple.get(blacklist.member.memberId),
+                        Collectors.mapping(tuple -> tuple.get(blacklist.blockedMember.memberId), Collectors.toSet())));
+    }
 }
@@ -14,7 +14,12 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Repository
 public class BookmarkQueryRepository {
@@ -70,4 +75,23 @@ public class BookmarkQueryRepository {
 
         return exists;
     }
+
+    /**
+     * @return : 회원 id → 북마크한 카페 id (북마크가 없는 회원은 없음)
+     */
+    public Map<String, Set<String>> findBookmarkedCafeIds(Collection<String> memberIds) {
+        QBookmark bookmark = QBookmark.bookmark;
+
+        Map<String, Set<String>> cafeIds = new HashMap<>();
+        if (memberIds.isEmpty()) return cafeIds;
+
+        queryFactory
+                .select(bookmark.member.memberId, bookmark.cafe.cafeId)
+                .from(bookmark)
+                .where(bookmark.member.memberId.in(memberIds))
+                .fetch()
+                .forEach(tuple -> cafeIds.computeIfAbsent(tuple.get(bookmark.member.memberId), key -> new HashSet<>())
+                        .add(tuple.get(bookmark.cafe.cafeId)));
+        return cafeIds;
+    }
 }
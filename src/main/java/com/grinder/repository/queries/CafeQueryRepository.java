@@ -5,9 +5,11 @@ import com.grinder.domain.dto.FeedDTO;
 import com.grinder.domain.entity.*;
 import com.grinder.domain.enums.ContentType;
 import com.grinder.domain.enums.TagName;
+import com.grinder.utils.TagVector;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Pageable;
@@ -17,7 +19,9 @@ import org.springframework.stereotype.Repository;
 
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Repository
@@ -146,4 +150,26 @@ public class CafeQueryRepository {
 
         return cafeList;
     }
+
+    /**
+     * 카페별 태그 분포 (공개 피드에 달린 태그 개수)
+     * @return : 카페 id → 태그별 개수 (태그가 달린 공개 피드가 없는 카페는 없음)
+     */
+    public Map<String, TagVector> findAllTagVectors() {
+        QTag tag = QTag.tag;
+        QFeed feed = QFeed.feed;
+        NumberExpression<Long> count = tag.count();
+
+        Map<String, TagVector> vectors = new HashMap<>();
+        queryFactory
+                .select(feed.cafe.cafeId, tag.tagName, count)
+                .from(tag)
+                .join(tag.feed, feed)
+                .where(feed.cafe.isNotNull(), feed.isVisible.isTrue())
+                .groupBy(feed.cafe.cafeId, tag.tagName)
+                .fetch()
+                .forEach(tuple -> vectors.computeIfAbsent(tuple.get(feed.cafe.cafeId), key -> TagVector.empty())
+                        .add(tuple.get(tag.tagName), tuple.get(count)));
+        return vectors;
+    }
 }
@@ -69,10 +69,11 @@ public class FeedQueryRepository {
 
     /**
      * @param email  : 로그인한 회원의 email
+     * @param blockedIds : 접속한 회원이 차단한 회원 id 목록
      * @param feedId : 가져오려는 feed의 ID
      * @return : 해당 feed의 ID를 통해 feed를 가져오고 email에 맞춘 데이터를 반환합니다.
      */
-    public List<FeedDTO.FeedWithImageResponseDTO> findFeedWithImage(String email, String feedId) {
+    public List<FeedDTO.FeedWithImageResponseDTO> findFeedWithImage(String email, Set<String> blockedIds, String feedId) {
 
         QFeed feed = QFeed.feed;
         QHeart heart = QHeart.heart;
@@ -88,11 +89,11 @@ public class FeedQueryRepository {
                 .leftJoin(feed.member, member).fetchJoin()
                 .leftJoin(feed.cafe, cafe).fetchJoin()
                 .where(feed.isVisible.isTrue())
-                .where(feed.feedId.eq(feedId))
+                .where(feed.feedId.eq(feedId), isNotBlocked(feed.member.memberId, blockedIds))
                 .orderBy(feed.updatedAt.desc())
                 .fetch();
 
-        return FindCommentInfo(feeds, email, Pageable.ofSize(1), tag, image, comment, subComment, heart, feed).getContent();
+        return FindCommentInfo(feeds, email, blockedIds, Pageable.ofSize(1), tag, image, comment, subComment, heart, feed).getContent();
     }
 
     /**
@@ -103,14 +104,12 @@ public class FeedQueryRepository {
      *                          내가 작성한 피드는 제외, 블랙리스트 피드 제외
      */
     @Transactional(isolation = Isolation.READ_UNCOMMITTED)
-    public Slice<FeedDTO.FeedWithImageResponseDTO> RecommendFeedWithImage(String email, Pageable pageable) {
+    public Slice<FeedDTO.FeedWithImageResponseDTO> RecommendFeedWithImage(String email, Set<String> followingIds, Set<String> blockedIds, Pageable pageable) {
         QFeed feed = QFeed.feed;
         QHeart heart = QHeart.heart;
         QComment comment = QComment.comment;
         QComment subComment = QComment.comment;
-        QFollow follow = QFollow.follow;
         QMember member = QMember.member;
-        QBlacklist blacklist = QBlacklist.blacklist;
         QTag tag = QTag.tag;
         QImage image = QImage.image;
         QCafe cafe = QCafe.cafe;
@@ -125,32 +124,31 @@ public class FeedQueryRepository {
         NumberExpression<Integer> weeksSinceCreated = daysSinceCreated.divide(7);
 
 
+        // 팔로우 여부는 팔로우 그래프에서 조회한 팔로잉 id 목록으로 판단 (follow 조인 제거)
+        NumberExpression<Integer> followBonus = followingIds.isEmpty()
+                ? Expressions.asNumber(0)
+                : new CaseBuilder()
+                        .when(feed.member.memberId.in(followingIds)).then(5)
+                        .otherwise(0);
+
         NumberExpression<Integer> calculatedRank = feed.rank
                 .add(new CaseBuilder()
                         .when(feed.createdAt.goe(twoMonthsAgo)).then(3)
                         .otherwise(0))
-                .add(new CaseBuilder()
-                        .when(follow.following.memberId.isNotNull()).then(5)
-                        .otherwise(0))
+                .add(followBonus)
                 .subtract(weeksSinceCreated);
 
-        BooleanExpression isNotBlacklisted = blacklist.blockedMember.isNull();
         BooleanExpression isVisible = feed.isVisible.eq(true);
         BooleanExpression isNotCurrentUser = feed.member.email.ne(email);
-        BooleanExpression isFollowed = follow.following.email.eq(email);
 
         List<Tuple> tuples = queryFactory
                 .select(feed, calculatedRank)
                 .from(feed)
                 .leftJoin(feed.cafe, cafe).fetchJoin()
                 .leftJoin(feed.member, member).fetchJoin()
-                .leftJoin(follow).on(follow.following.memberId.eq(feed.member.memberId)
-                        .and(isFollowed))
-                .leftJoin(blacklist).on(blacklist.blockedMember.memberId.eq(feed.member.memberId)
-                        .and(blacklist.member.email.eq(email)))
                 .where(isVisible
                         .and(isNotCurrentUser)
-                        .and(isNotBlacklisted))
+                        .and(isNotBlocked(feed.member.memberId, blockedIds)))
                 .orderBy(calculatedRank.desc())
                 .limit(pageable.getPageSize())
                 .offset(pageable.getOffset() + 1)
@@ -160,7 +158,7 @@ public class FeedQueryRepository {
                 .map(tuple -> tuple.get(feed))
                 .collect(Collectors.toList());
 
-        return FindCommentInfo(feeds, email, pageable, tag, image, comment, subComment, heart, feed);
+        return FindCommentInfo(feeds, email, blockedIds, pageable, tag, image, comment, subComment, heart, feed);
     }
 
     /**
@@ -168,7 +166,7 @@ public class FeedQueryRepository {
      * @return : 피드를 최신순으로 접속한 유저와 관련된 정보를 추출하여 보여줍니다.
      */
     @Transactional(isolation = Isolation.READ_UNCOMMITTED)
-    public Slice<FeedDTO.FeedWithImageResponseDTO> findRecentFeedWithImage(String email, Pageable pageable) {
+    public Slice<FeedDTO.FeedWithImageResponseDTO> findRecentFeedWithImage(String email, Set<String> blockedIds, Pageable pageable) {
         QFeed feed = QFeed.feed;
         QCafe cafe = QCafe.cafe;
         QMember member = QMember.member;
@@ -183,14 +181,14 @@ public class FeedQueryRepository {
                 .from(feed)
                 .leftJoin(feed.cafe, cafe).fetchJoin()
                 .leftJoin(feed.member, member).fetchJoin()
-                .where(feed.isVisible.isTrue())
+                .where(feed.isVisible.isTrue(), isNotBlocked(feed.member.memberId, blockedIds))
                 .orderBy(feed.updatedAt.desc())
                 .distinct()
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1)
                 .fetch();
 
-        return FindCommentInfo(feeds, email, pageable, tag, image, comment, subComment, heart, feed);
+        return FindCommentInfo(feeds, email, blockedIds, pageable, tag, image, comment, subComment, heart, feed);
 
 //        List<CompletableFuture<FeedDTO.FeedWithImageResponseDTO>> futures = feeds.stream()
 //                .map(result -> asyncFindCommentInfo(result, email, tag, image, comment, subComment, heart, feed))
@@ -210,7 +208,7 @@ public class FeedQueryRepository {
      * @param query : 검색 쿼리
      * @return : content에서 검색 쿼리에 맞는 조건을 찾은 후 최신 순으로 나열합니다.
      */
-    public Slice<FeedDTO.FeedWithImageResponseDTO> findSearchRecentFeedWithImage(String email, String query, Pageable pageable) {
+    public Slice<FeedDTO.FeedWithImageResponseDTO> findSearchRecentFeedWithImage(String email, Set<String> blockedIds, String query, Pageable pageable) {
         QFeed feed = QFeed.feed;
         QImage image = QImage.image;
         QTag tag = QTag.tag;
@@ -224,7 +222,7 @@ public class FeedQueryRepository {
                 .selectFrom(feed)
                 .leftJoin(feed.member, member)
                 .leftJoin(feed.cafe, cafe)
-                .where(feed.isVisible.isTrue())
+                .where(feed.isVisible.isTrue(), isNotBlocked(feed.member.memberId, blockedIds))
                 .where(feed.content.containsIgnoreCase(query)
                         .or(feed.cafe.name.containsIgnoreCase(query))
                         .or(feed.member.nickname.containsIgnoreCase(query)))
@@ -233,7 +231,7 @@ public class FeedQueryRepository {
                 .limit(pageable.getPageSize() + 2)
                 .fetch();
 
-        return FindCommentInfo(feeds, email, pageable, tag, image, comment, subComment, heart, feed);
+        return FindCommentInfo(feeds, email, blockedIds, pageable, tag, image, comment, subComment, heart, feed);
     }
 
     /**
@@ -241,7 +239,7 @@ public class FeedQueryRepository {
      * @param writerEmail : 유저정보페이지 이메일
      * @return : 유저 정보 페이지에서 해당 유저가 작성한 피드를 모아서 보여줍니다.
      */
-    public Slice<FeedDTO.FeedWithImageResponseDTO> FindMemberFeedWithImage(String email, String writerEmail, Pageable pageable) {
+    public Slice<FeedDTO.FeedWithImageResponseDTO> FindMemberFeedWithImage(String email, Set<String> blockedIds, String writerEmail, Pageable pageable) {
         QFeed feed = QFeed.feed;
         QImage image = QImage.image;
         QTag tag = QTag.tag;
@@ -254,13 +252,13 @@ public class FeedQueryRepository {
         List<Feed> feeds = queryFactory
                 .selectFrom(feed)
                 .leftJoin(feed.member, member)
-                .where(feed.isVisible.isTrue(), feed.member.email.eq(writerEmail))
+                .where(feed.isVisible.isTrue(), feed.member.email.eq(writerEmail), isNotBlocked(feed.member.memberId, blockedIds))
                 .orderBy(feed.updatedAt.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1)
                 .fetch();
 
-        return FindCommentInfo(feeds, email, pageable, tag, image, comment, subComment, heart, feed);
+        return FindCommentInfo(feeds, email, blockedIds, pageable, tag, image, comment, subComment, heart, feed);
     }
 
     /**
@@ -268,7 +266,7 @@ public class FeedQueryRepository {
      * @param cafeId : 확인하려는 cafeId
      * @return : 카페페이지에 접속 시 띄워줄 해당 카페 관련 피드를 호출합니다.
      */
-    public Slice<FeedDTO.FeedWithImageResponseDTO> FindCafeFeedWithImage(String email, String cafeId, Pageable pageable) {
+    public Slice<FeedDTO.FeedWithImageResponseDTO> FindCafeFeedWithImage(String email, Set<String> blockedIds, String cafeId, Pageable pageable) {
         QFeed feed = QFeed.feed;
         QImage image = QImage.image;
         QTag tag = QTag.tag;
@@ -282,20 +280,20 @@ public class FeedQueryRepository {
                 .selectFrom(feed)
                 .leftJoin(feed.member, member)
                 .leftJoin(feed.cafe, cafe)
-                .where(feed.isVisible.isTrue(), feed.cafe.cafeId.eq(cafeId))
+                .where(feed.isVisible.isTrue(), feed.cafe.cafeId.eq(cafeId), isNotBlocked(feed.member.memberId, blockedIds))
                 .orderBy(feed.updatedAt.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1)
                 .fetch();
 
-        return FindCommentInfo(feeds, email, pageable, tag, image, comment, subComment, heart, feed);
+        return FindCommentInfo(feeds, email, blockedIds, pageable, tag, image, comment, subComment, heart, feed);
     }
 
     /**
      * @param feeds : 검색이 완료된 feed List
      * @return : 태그 네임과, 이미지, 부모 댓글과 자식 댓글을 찾아 반환합니다.
      */
-    private Slice<FeedDTO.FeedWithImageResponseDTO> FindCommentInfo(List<Feed> feeds, String email, Pageable pageable, QTag tag, QImage image, QComment comment, QComment subComment, QHeart heart, QFeed feed) {
+    private Slice<FeedDTO.FeedWithImageResponseDTO> FindCommentInfo(List<Feed> feeds, String email, Set<String> blockedIds, Pageable pageable, QTag tag, QImage image, QComment comment, QComment subComment, QHeart heart, QFeed feed) {
         List<FeedDTO.FeedWithImageResponseDTO> list = feeds.stream().map(result -> {
             List<Tuple> tagImage = queryFactory
                     .select(tag, image.imageUrl)
@@ -326,7 +324,8 @@ public class FeedQueryRepository {
                                     .where(image.contentType.eq(ContentType.MEMBER), image.contentId.eq(comment.member.memberId))
                     )
                     .from(comment)
-                    .where(comment.isVisible.isTrue(), comment.feed.eq(result), comment.parentComment.isNull())
+                    .where(comment.isVisible.isTrue(), comment.feed.eq(result), comment.parentComment.isNull(),
+                            isNotBlocked(comment.member.memberId, blockedIds))
                     .fetch()
                     .stream()
                     .map(tuple -> {
@@ -349,7 +348,8 @@ public class FeedQueryRepository {
                                                 .where(image.contentType.eq(ContentType.MEMBER), image.contentId.eq(subComment.member.memberId)))
                                 )
                                 .from(subComment)
-                                .where(subComment.isVisible.isTrue(), subComment.parentComment.eq(parent))
+                                .where(subComment.isVisible.isTrue(), subComment.parentComment.eq(parent),
+                                        isNotBlocked(subComment.member.memberId, blockedIds))
                                 .fetch();
 
 
@@ -385,4 +385,12 @@ public class FeedQueryRepository {
         List<FeedDTO.FeedWithImageResponseDTO> content = hasNext ? list.subList(0, pageable.getPageSize()) : list;
         return new SliceImpl<>(content, pageable, hasNext);
     }
-}
\ No newline at end of file
+
+    /**
+     * 차단한 회원의 피드/댓글 제외 조건 (차단 목록은 최대 10명이므로 NOT IN 으로 처리)
+     * @return : 차단한 회원이 없으면 null (조건 없음)
+     */
+    private BooleanExpression isNotBlocked(StringPath memberId, Set<String> blockedIds) {
+        return blockedIds == null || blockedIds.isEmpty() ? null : memberId.notIn(blockedIds);
+    }
+}
@@ -1,11 +1,13 @@
 package com.grinder.repository.queries;
 
 import com.grinder.domain.dto.FollowDTO;
+import com.grinder.domain.entity.Follow;
 import com.grinder.domain.entity.QFollow;
 import com.grinder.domain.entity.QImage;
 import com.grinder.domain.entity.QMember;
 import com.grinder.domain.enums.ContentType;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Pageable;
@@ -13,7 +15,10 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Repository
 public class FollowQueryRepository {
@@ -23,56 +28,68 @@ public class FollowQueryRepository {
         queryFactory = new JPAQueryFactory(entityManager);
     }
 
-    public Slice<FollowDTO.findAllFollowingResponse> findAllFollowingSlice(String email, Pageable pageable) {
-        QMember member = QMember.member;
+    /**
+     * 팔로잉 목록 (follow_id 기준 키셋 페이지네이션)
+     * @param lastFollowId : 이전 페이지의 마지막 followId, 첫 페이지는 null
+     */
+    public Slice<FollowDTO.findAllFollowingResponse> findAllFollowingSlice(String email, Long lastFollowId, Pageable pageable) {
+        QMember member = new QMember("follower");
+        QMember following = new QMember("following");
         QFollow follow = QFollow.follow;
-        QImage image = QImage.image;
-
-        long limit = pageable.getPageSize() + 1;
-        long offset = pageable.getOffset();
 
-        List<FollowDTO.findAllFollowingResponse> content =
-                queryFactory
-                .select(Projections.constructor(FollowDTO.findAllFollowingResponse.class,
-                                follow,
-                                image.imageUrl))
-                .from(follow)
+        List<Follow> follows = queryFactory
+                .selectFrom(follow)
                 .join(follow.member, member)
-                .leftJoin(image).on(image.contentId.eq(follow.following.memberId))
-                .where(follow.member.email.eq(email).and(follow.following.isDeleted.isFalse()))
-                .limit(limit)
-                .offset(offset)
+                .join(follow.following, following).fetchJoin()
+                .where(member.email.eq(email)
+                        .and(following.isDeleted.isFalse())
+                        .and(followIdLessThan(lastFollowId)))
+                .orderBy(follow.followId.desc())
+                .limit(pageable.getPageSize() + 1)
                 .fetch();
 
-        boolean hasNext = content.size() > pageable.getPageSize();
-        if (hasNext) content.remove(content.size() - 1);
+        boolean hasNext = follows.size() > pageable.getPageSize();
+        if (hasNext) follows.remove(follows.size() - 1);
+
+        Map<String, String> imageUrls = findMemberImageUrls(follows.stream()
+                .map(f -> f.getFollowing().getMemberId())
+                .collect(Collectors.toList()));
+        List<FollowDTO.findAllFollowingResponse> content = follows.stream()
+                .map(f -> new FollowDTO.findAllFollowingResponse(f, imageUrls.get(f.getFollowing().getMemberId())))
+                .collect(Collectors.toList());
 
         return new SliceImpl<>(content, pageable, hasNext);
     }
 
-    public Slice<FollowDTO.findAllFollowerResponse> findAllFollowerSlice(String email, Pageable pageable) {
-        QMember member = QMember.member;
+    /**
+     * 팔로워 목록 (follow_id 기준 키셋 페이지네이션)
+     * @param lastFollowId : 이전 페이지의 마지막 followId, 첫 페이지는 null
+     */
+    public Slice<FollowDTO.findAllFollowerResponse> findAllFollowerSlice(String email, Long lastFollowId, Pageable pageable) {
+        QMember follower = new QMember("follower");
+        QMember member = new QMember("following");
         QFollow follow = QFollow.follow;
-        QImage image = QImage.image;
-
-        long limit = pageable.getPageSize() + 1;
-        long offset = pageable.getOffset();
 
-        List<FollowDTO.findAllFollowerResponse> content = queryFactory
-                .select(Projections.constructor(FollowDTO.findAllFollowerResponse.class,
-                        follow,
-                        image.imageUrl))
-                .from(follow)
+        List<Follow> follows = queryFactory
+                .selectFrom(follow)
                 .join(follow.following, member)
-                .leftJoin(image).on(image.contentType.eq(ContentType.MEMBER)
-                        .and(image.contentId.eq(follow.following.memberId)))
-                .where(follow.following.email.eq(email).and(follow.member.isDeleted.isFalse()))
-                .limit(limit)
-                .offset(offset)
+                .join(follow.member, follower).fetchJoin()
+                .where(member.email.eq(email)
+                        .and(follower.isDeleted.isFalse())
+                        .and(followIdLessThan(lastFollowId)))
+                .orderBy(follow.followId.desc())
+                .limit(pageable.getPageSize() + 1)
                 .fetch();
 
-        boolean hasNext = content.size() > pageable.getPageSize();
-        if (hasNext) content.remove(content.size() - 1);
+        boolean hasNext = follows.size() > pageable.getPageSize();
+        if (hasNext) follows.remove(follows.size() - 1);
+
+        Map<String, String> imageUrls = findMemberImageUrls(follows.stream()
+                .map(f -> f.getMember().getMemberId())
+                .collect(Collectors.toList()));
+        List<FollowDTO.findAllFollowerResponse> content = follows.stream()
+                .map(f -> new FollowDTO.findAllFollowerResponse(f, imageUrls.get(f.getMember().getMemberId())))
+                .collect(Collectors.toList());
 
         return new SliceImpl<>(content, pageable, hasNext);
     }
@@ -93,4 +110,46 @@ public class FollowQueryRepository {
 
         return exists;
     }
+
+    /**
+     * 팔로우 그래프 적재용 전체 팔로우 관계 (회원 id, 이메일 쌍)
+     */
+    public List<FollowDTO.FollowEdgeDTO> findAllFollowEdges() {
+        QMember memberFollower = new QMember("follower");
+        QMember memberFollowing = new QMember("following");
+        QFollow follow = QFollow.follow;
+
+        return queryFactory
+                .select(Projections.constructor(FollowDTO.FollowEdgeDTO.class,
+                        memberFollower.memberId,
+                        memberFollower.email,
+                        memberFollowing.memberId,
+                        memberFollowing.email))
+                .from(follow)
+                .join(follow.member, memberFollower)
+                .join(follow.following, memberFollowing)
+                .fetch();
+    }
+
+    private BooleanExpression followIdLessThan(Long lastFollowId) {
+        return lastFollowId == null ? null : QFollow.follow.followId.lt(lastFollowId);
+    }
+
+    // 목록에 표시할 회원 프로필 이미지를 한 번에 조회
+    private Map<String, String> findMemberImageUrls(List<String> memberIds) {
+        if (memberIds.isEmpty()) return Collections.emptyMap();
+        QImage image = QImage.image;
+
+        return queryFactory
+                .select(image.contentId, image.imageUrl)
+                .from(image)
+                .where(image.contentType.eq(ContentType.MEMBER)
+                        .and(image.contentId.in(memberIds)))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(image.contentId),
+                        tuple -> tuple.get(image.imageUrl),
+                        (first, second) -> first));
+    }
 }
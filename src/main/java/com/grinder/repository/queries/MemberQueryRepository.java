@@ -2,7 +2,9 @@ package com.grinder.repository.queries;
 
 import static com.grinder.domain.dto.MemberDTO.*;
 
+import com.grinder.domain.entity.QImage;
 import com.grinder.domain.entity.QMember;
+import com.grinder.domain.enums.ContentType;
 import com.grinder.domain.enums.Role;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
@@ -12,7 +14,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public class MemberQueryRepository {
@@ -57,4 +62,29 @@ public class MemberQueryRepository {
 
     }
 
+    // 탈퇴한 회원 id 목록
+    public Set<String> findDeletedMemberIds() {
+        QMember member = QMember.member;
+
+        return new HashSet<>(queryFactory
+                .select(member.memberId)
+                .from(member)
+                .where(member.isDeleted.isTrue())
+                .fetch());
+    }
+
+    // 회원 id 목록으로 회원 정보와 프로필 이미지를 한 번에 조회
+    public List<FindMemberAndImageDTO> findAllMemberAndImageByIds(Collection<String> memberIds) {
+        if (memberIds.isEmpty()) return List.of();
+        QMember member = QMember.member;
+        QImage image = QImage.image;
+
+        return queryFactory
+                .select(Projections.constructor(FindMemberAndImageDTO.class, member, image.imageUrl))
+                .from(member)
+                .leftJoin(image).on(image.contentType.eq(ContentType.MEMBER)
+                        .and(image.contentId.eq(member.memberId)))
+                .where(member.memberId.in(memberIds))
+                .fetch();
+    }
 }
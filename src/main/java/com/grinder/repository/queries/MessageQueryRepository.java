@@ -1,11 +1,19 @@
 package com.grinder.repository.queries;
 
-import com.grinder.domain.entity.QMember;
+import com.grinder.domain.dto.MessageDTO;
 import com.grinder.domain.entity.QMessage;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public class MessageQueryRepository {
     private final JPAQueryFactory queryFactory;
@@ -14,15 +22,36 @@ public class MessageQueryRepository {
         this.queryFactory = new JPAQueryFactory(entityManager);
     }
 
-    public boolean existsNonCheck(String email) {
+    /**
+     * 받은 메시지 목록 (created_at, message_id 기준 키셋 페이지네이션, 최신순)
+     * (receive_member_id, created_at) 인덱스를 따라 읽으므로 페이지가 뒤로 가도 비용이 같다.
+     * @param lastCreatedAt : 이전 페이지 마지막 메시지의 작성 시각, 첫 페이지는 null
+     * @param lastMessageId : 이전 페이지 마지막 메시지 id (같은 시각의 메시지 구분용)
+     */
+    public Slice<MessageDTO.findAllResponse> findInboxSlice(String memberId, LocalDateTime lastCreatedAt, String lastMessageId, Pageable pageable) {
         QMessage message = QMessage.message;
-        QMember member = QMember.member;
 
-        return queryFactory.selectOne()
+        List<MessageDTO.findAllResponse> content = queryFactory
+                .select(Projections.constructor(MessageDTO.findAllResponse.class,
+                        message.messageId, message.content, message.adminName, message.isChecked,
+                        message.createdAt, message.updatedAt))
                 .from(message)
-                .join(message.receiveMember, member)
-                .where(member.email.eq(email)
-                        .and(message.isChecked.isFalse()))
-                .fetchFirst() != null;
+                .where(message.receiveMember.memberId.eq(memberId),
+                        before(lastCreatedAt, lastMessageId))
+                .orderBy(message.createdAt.desc(), message.messageId.desc())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) content.remove(content.size() - 1);
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private BooleanExpression before(LocalDateTime lastCreatedAt, String lastMessageId) {
+        if (lastCreatedAt == null) return null;
+        QMessage message = QMessage.message;
+        BooleanExpression older = message.createdAt.lt(lastCreatedAt);
+        if (lastMessageId == null) return older;
+        return older.or(message.createdAt.eq(lastCreatedAt).and(message.messageId.lt(lastMessageId)));
     }
 }
@@ -1,35 +1,55 @@
 package com.grinder.security.dto;
 
 import com.grinder.domain.entity.Member;
+import com.grinder.domain.enums.Role;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
+// 인증에 필요한 회원 정보만 보관 (엔티티를 들고 있지 않아 캐시에 그대로 보관 가능)
 public class CustomUserDetails implements UserDetails {
 
-    private Member member;
+    private final String memberId;
+    private final String email;
+    private final String password;
+    private final Role role;
+    private final boolean isDeleted;
+
     public CustomUserDetails(Member member){
-        this.member = member;
+        this(member.getMemberId(), member.getEmail(), member.getPassword(), member.getRole(), member.getIsDeleted());
+    }
+
+    private CustomUserDetails(String memberId, String email, String password, Role role, Boolean isDeleted) {
+        this.memberId = memberId;
+        this.email = email;
+        this.password = password;
+        this.role = role;
+        this.isDeleted = Boolean.TRUE.equals(isDeleted);
     }
+
+    // 비밀번호를 제외한 사본 (토큰 인증용 캐시에 보관)
+    public CustomUserDetails withoutPassword() {
+        return new CustomUserDetails(memberId, email, null, role, isDeleted);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        ArrayList<GrantedAuthority> auth = new ArrayList<>();
-        auth.add(new SimpleGrantedAuthority("ROLE_"+member.getRole().getValue()));
-        return auth;
+        return List.of(new SimpleGrantedAuthority("ROLE_"+role.getValue()));
     }
 
-    public String getMemberId(){return member.getMemberId();}
+    public String getMemberId(){return memberId;}
+    public Role getRole(){return role;}
     @Override
     public String getPassword() {
-        return member.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return member.getEmail();
+        return email;
     }
 
     @Override
@@ -49,7 +69,7 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return !member.getIsDeleted();
+        return !isDeleted;
     }
 
 }
@@ -0,0 +1,11 @@
+package com.grinder.security.exception;
+
+import org.springframework.security.core.AuthenticationException;
+
+// 로그인 시도 제한 (IP/계정+IP 별 토큰 버킷 소진, 로그인 중 비밀번호 검증 풀 포화)
+public class LoginThrottledException extends AuthenticationException {
+
+    public LoginThrottledException(String message) {
+        super(message);
+    }
+}
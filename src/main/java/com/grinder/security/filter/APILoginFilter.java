@@ -1,10 +1,14 @@
 package com.grinder.security.filter;
 
 import com.google.gson.Gson;
+import com.grinder.exception.PasswordHashThrottledException;
+import com.grinder.security.exception.LoginThrottledException;
+import com.grinder.security.service.LoginRateLimiter;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -18,8 +22,16 @@ import java.util.Map;
 @Slf4j
 public class APILoginFilter extends AbstractAuthenticationProcessingFilter {
 
+    // IP, (계정, IP) 별 로그인 시도 제한 (null 이면 제한 없음)
+    private final LoginRateLimiter loginRateLimiter;
+
     public APILoginFilter(String defaultFilterProcessUrl){
+        this(defaultFilterProcessUrl, null);
+    }
+
+    public APILoginFilter(String defaultFilterProcessUrl, LoginRateLimiter loginRateLimiter){
         super(defaultFilterProcessUrl);
+        this.loginRateLimiter = loginRateLimiter;
     }
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request,
@@ -28,10 +40,22 @@ public class APILoginFilter extends AbstractAuthenticationProcessingFilter {
             return null;
         }
         Map<String, String> jsonData = parseRequestJSON(request);
+        // 비밀번호 검증(BCrypt) 전에 시도 횟수부터 확인
+        if(loginRateLimiter != null && !loginRateLimiter.tryAcquire(request.getRemoteAddr(), jsonData.get("email"))){
+            throw new LoginThrottledException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                 jsonData.get("email"),jsonData.get("password"));
 
-        return getAuthenticationManager().authenticate(authenticationToken);
+        try {
+            return getAuthenticationManager().authenticate(authenticationToken);
+        } catch (PasswordHashThrottledException e) {
+            throw new LoginThrottledException(e.getMessage());
+        } catch (InternalAuthenticationServiceException e) {
+            // 회원 조회 중 (타이밍 공격 방지용 해시) 풀이 포화된 경우
+            if (e.getCause() instanceof PasswordHashThrottledException) throw new LoginThrottledException(e.getCause().getMessage());
+            throw e;
+        }
     }
 
     private Map<String, String> parseRequestJSON(HttpServletRequest request) {
@@ -1,10 +1,10 @@
 package com.grinder.security.filter;
 
-import com.grinder.repository.RefreshRepository;
 import com.grinder.security.exception.AccessTokenException;
 import com.grinder.security.exception.RefreshTokenException;
+import com.grinder.security.service.RefreshTokenStore;
+import com.grinder.security.service.TokenRevocationService;
 import com.grinder.utils.JWTUtil;
-import com.grinder.utils.RedisUtil;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -26,8 +26,8 @@ import static java.awt.SystemColor.window;
 @RequiredArgsConstructor
 public class APILogoutFilter extends GenericFilterBean {
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
-    private final RedisUtil redisUtil;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationService tokenRevocationService;
 
 
     @Override
@@ -79,9 +79,8 @@ public class APILogoutFilter extends GenericFilterBean {
 //        }
 
 
-        //DB에 저장되어 있는지 확인
-        Boolean isExist = refreshRepository.existsByRefresh(refresh);
-        if (!isExist) {
+        //저장소에 있는지 확인
+        if (!refreshTokenStore.exists(refresh)) {
             Cookie reCookie = new Cookie("refresh", null);
             reCookie.setMaxAge(0);
             reCookie.setPath("/");
@@ -97,12 +96,12 @@ public class APILogoutFilter extends GenericFilterBean {
         }
 
         //로그아웃 진행
-        //Refresh 토큰 DB에서 제거
-        refreshRepository.deleteByRefresh(refresh);
+        //Refresh 토큰 저장소에서 제거
+        refreshTokenStore.delete(refresh);
 
-        // accessToken blacklist에 추가
+        // accessToken 폐기 목록에 추가 (만료 시각까지 유지, 다른 서버에도 전파)
         String accessToken = cutOffBearer(getAccess(request, response));
-//        redisUtil.setBlackList(accessToken,"accessToken",60);
+        tokenRevocationService.revoke(accessToken);
 
         //Refresh 토큰 Cookie 값 0
         Cookie reCookie = new Cookie("refresh", null);
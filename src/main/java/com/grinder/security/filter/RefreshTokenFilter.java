@@ -1,11 +1,10 @@
 package com.grinder.security.filter;
 
 import com.google.gson.Gson;
-import com.grinder.repository.RefreshRepository;
 import com.grinder.security.exception.AccessTokenException;
 import com.grinder.security.exception.RefreshTokenException;
+import com.grinder.security.service.RefreshTokenStore;
 import com.grinder.utils.JWTUtil;
-import com.grinder.utils.RedisUtil;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import jakarta.servlet.FilterChain;
@@ -32,8 +31,7 @@ public class RefreshTokenFilter extends OncePerRequestFilter {
 
     private final String refreshPath;
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
-    private final RedisUtil redisUtil;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -69,13 +67,19 @@ public class RefreshTokenFilter extends OncePerRequestFilter {
 
             long gapTime = (expTime.getTime()-current.getTime());
 
-            String email = jwtUtil.getEmail(refreshToken);
+            // 검증 시 얻은 클레임을 그대로 사용 (토큰을 다시 파싱하지 않음)
+            String email = (String) refreshClaims.get("email");
             Map<String, Object> mid = Map.of("email", email);
             //이 상태 도달 시 무조건 accessToken은 새로 생성
             String accessToken = jwtUtil.generateToken(mid,1);
-            //refreshToken이 3일도 안남았을때
+            //refreshToken이 3일도 안남았을때 새 토큰으로 교체
             if(gapTime < (1000*60*60*24*3)){
-                refreshToken = jwtUtil.generateToken(mid,24*7);
+                String newRefreshToken = jwtUtil.generateToken(mid,24*7);
+                // 동시에 같은 토큰으로 교체를 시도한 경우 (재사용) 모든 토큰이 폐기된다
+                if (!refreshTokenStore.rotate(email, refreshToken, newRefreshToken)) {
+                    throw new RefreshTokenException(RefreshTokenException.ErrorCase.BAD_REFRESH);
+                }
+                refreshToken = newRefreshToken;
             }
 
             sendToken(accessToken,refreshToken,response);
@@ -91,17 +95,22 @@ public class RefreshTokenFilter extends OncePerRequestFilter {
     private Map<String,Object> checkRefreshToken(String refreshToken, HttpServletRequest request, HttpServletResponse response)throws RefreshTokenException{
         try{
             Map<String,Object> values = jwtUtil.validateToken(refreshToken);
+            // 로그아웃, 교체, 일괄 폐기된 토큰
+            if(!refreshTokenStore.exists(refreshToken)){
+                throw new RefreshTokenException(RefreshTokenException.ErrorCase.BAD_REFRESH);
+            }
             return values;
         }catch (ExpiredJwtException expiredJwtException){
             deleteCookie(refreshToken, request, response);
             throw new RefreshTokenException(RefreshTokenException.ErrorCase.OLD_REFRESH);
+        }catch (RefreshTokenException refreshTokenException){
+            throw refreshTokenException;
         }catch (MalformedJwtException malformedJwtException){
             log.error("MalformedJwtException------------------------");
             throw new RefreshTokenException(RefreshTokenException.ErrorCase.NO_REFRESH);
         }catch (Exception exception){
-            new RefreshTokenException(RefreshTokenException.ErrorCase.NO_REFRESH);
+            throw new RefreshTokenException(RefreshTokenException.ErrorCase.NO_REFRESH);
         }
-        return null;
     }
 
     //만들어진 토큰들 전송
@@ -124,8 +133,8 @@ public class RefreshTokenFilter extends OncePerRequestFilter {
 
     protected void deleteCookie(String refresh, HttpServletRequest request, HttpServletResponse response) {
         //로그아웃 진행
-        //Refresh 토큰 DB에서 제거
-        refreshRepository.deleteByRefresh(refresh);
+        //Refresh 토큰 저장소에서 제거
+        refreshTokenStore.delete(refresh);
 
         // accessToken blacklist에 추가
         String accessToken = cutOffBearer(getAccess(request, response));
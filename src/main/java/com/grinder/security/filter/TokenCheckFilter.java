@@ -1,11 +1,16 @@
 package com.grinder.security.filter;
 
+import com.grinder.security.dto.CustomUserDetails;
 import com.grinder.security.service.MemberDetailsService;
+import com.grinder.security.service.PrincipalCache;
+import com.grinder.security.service.TokenRevocationService;
 import com.grinder.security.exception.AccessTokenException;
 import com.grinder.utils.JWTUtil;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -29,6 +34,9 @@ public class TokenCheckFilter extends OncePerRequestFilter {
     //JWTUtil의 validateToken() 활용
     private final JWTUtil jwtUtil;
     private final MemberDetailsService memberDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -43,10 +51,19 @@ public class TokenCheckFilter extends OncePerRequestFilter {
                 return;
             }
 
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String principalSource = "none";
             try {
                 Map<String, Object> map = validateAccessToken(header);
                 String email = (String) map.get("email");
-                UserDetails userDetails = memberDetailsService.loadUserByUsername(email);
+                UserDetails userDetails = principalCache.get(email);
+                principalSource = "cache";
+                if (userDetails == null) {
+                    CustomUserDetails loaded = (CustomUserDetails) memberDetailsService.loadUserByUsername(email);
+                    principalCache.put(email, loaded);
+                    userDetails = loaded;
+                    principalSource = "db";
+                }
 
                 if(userDetails != null){
                     UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
@@ -56,6 +73,9 @@ public class TokenCheckFilter extends OncePerRequestFilter {
                 }
             } catch (AccessTokenException accessTokenException) {
                 accessTokenException.sendResponseError(response);
+            } finally {
+                // 요청당 인증 비용 (토큰 검증 + 회원 정보 조회), source=cache|db|none
+                sample.stop(meterRegistry.timer("grinder.auth.token.check", "source", principalSource));
             }
             filterChain.doFilter(request, response);
         } else filterChain.doFilter(request, response);
@@ -77,7 +97,10 @@ public class TokenCheckFilter extends OncePerRequestFilter {
 
         try{
             Map<String,Object> values = jwtUtil.validateToken(tokenStr);
-
+            // 로그아웃한 토큰인지 확인
+            if(tokenRevocationService.isRevoked(tokenStr)){
+                throw new AccessTokenException(AccessTokenException.TOKEN_ERROR.BLACKLISTED);
+            }
             return values;
         }catch (MalformedJwtException malformedJwtException){
             log.error("MalformedJwtException------------------------");
@@ -2,6 +2,7 @@ package com.grinder.security.handler;
 
 import com.google.gson.Gson;
 import com.grinder.exception.UserRegistrationException;
+import com.grinder.security.exception.LoginThrottledException;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -26,8 +27,13 @@ public class APILoginFailureHandler implements AuthenticationFailureHandler {
         } else {
 
             Map<String, String> errorDetails = new HashMap<>();
+            int status = HttpServletResponse.SC_UNAUTHORIZED;
 
-            if (exception instanceof BadCredentialsException) {
+            if (exception instanceof LoginThrottledException) {
+                errorDetails.put("code", "로그인 제한");
+                errorDetails.put("message", exception.getMessage());
+                status = 429;
+            } else if (exception instanceof BadCredentialsException) {
                 errorDetails.put("code", "로그인 실패");
                 errorDetails.put("message", "아이디 또는 비밀번호가 일치하지 않습니다.");
             } else if (exception instanceof InternalAuthenticationServiceException) {
@@ -38,7 +44,7 @@ public class APILoginFailureHandler implements AuthenticationFailureHandler {
                 errorDetails.put("message", "인증 과정에서 오류가 발생했습니다.");
             }
 
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.setStatus(status);
             response.setContentType("application/json");
             response.setCharacterEncoding("UTF-8");
 
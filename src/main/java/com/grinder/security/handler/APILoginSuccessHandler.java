@@ -1,10 +1,9 @@
 package com.grinder.security.handler;
 
 import com.google.gson.Gson;
-import com.grinder.domain.entity.RefreshEntity;
-import com.grinder.repository.RefreshRepository;
 import com.grinder.security.dto.CustomOauth2Member;
 import com.grinder.security.dto.CustomUserDetails;
+import com.grinder.security.service.RefreshTokenStore;
 import com.grinder.utils.JWTUtil;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -19,8 +18,6 @@ import org.springframework.security.web.authentication.AuthenticationSuccessHand
 
 import java.awt.*;
 import java.io.IOException;
-import java.time.ZonedDateTime;
-import java.util.Date;
 import java.util.Map;
 
 @Slf4j
@@ -28,7 +25,7 @@ import java.util.Map;
 public class APILoginSuccessHandler implements AuthenticationSuccessHandler {
 
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request,
@@ -51,10 +48,10 @@ public class APILoginSuccessHandler implements AuthenticationSuccessHandler {
         Map<String, Object> claim = Map.of("email", email);
         //Access Token 유효기간 1시간
         String accessToken = jwtUtil.generateToken(claim, 1);
-        //Refresh Token 유효기간 1일
+        //Refresh Token 유효기간 7일 (저장소 TTL 은 토큰 만료 시각으로 설정)
         String refreshToken = jwtUtil.generateToken(claim, 24*7);
 
-        addRefreshEntity(authentication.getName(),refreshToken,24&7);
+        refreshTokenStore.save(email, refreshToken);
 
 
         //accessToken은 로컬 스토리지 , refreshToken은 httpOnly 쿠키에 저장
@@ -74,15 +71,4 @@ public class APILoginSuccessHandler implements AuthenticationSuccessHandler {
         return cookie;
     }
 
-    private void addRefreshEntity(String email, String refresh,int time) {
-
-        RefreshEntity refreshEntity = RefreshEntity.builder()
-                .refresh(refresh)
-                .email(email)
-                .expiration(Date.from(ZonedDateTime.now().plusMinutes(time).toInstant()).toString())
-                .build();
-
-        refreshRepository.save(refreshEntity);
-    }
-
 }
\ No newline at end of file
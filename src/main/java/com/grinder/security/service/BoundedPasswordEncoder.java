@@ -0,0 +1,83 @@
+package com.grinder.security.service;
+
+import com.grinder.exception.PasswordHashThrottledException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 해시/검증을 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * 요청 스레드가 직접 BCrypt 를 돌리지 않도록 동시 실행 수를 풀 크기로 제한하고,
+ * 대기열이 가득 차거나 대기 시간이 지나면 PasswordHashThrottledException 으로 즉시 실패시킨다.
+ * (인증 예외가 아니므로 회원가입/비밀번호 변경에서는 ExControllerAdvice 가, 로그인에서는 APILoginFilter 가 429 로 바꾼다)
+ * 저장된 해시의 strength 가 설정값보다 낮으면 upgradeEncoding 이 true 를 반환해
+ * 로그인 성공 시 MemberDetailsService.updatePassword 로 다시 해시한다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public BoundedPasswordEncoder(int strength, int poolSize, int queueCapacity, long timeoutMillis) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "bcrypt-pool-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 검증 대기열이 가득 찼습니다.");
+            throw new PasswordHashThrottledException("요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashThrottledException("요청이 많아 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashThrottledException("비밀번호 검증이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
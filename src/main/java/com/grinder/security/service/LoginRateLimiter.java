@@ -0,0 +1,84 @@
+package com.grinder.security.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 로그인 시도 제한 (Redis 토큰 버킷)
+ * IP 별, (계정, IP) 별 버킷을 두고 로그인 시도마다 두 버킷에서 토큰을 하나씩 꺼낸다.
+ * 계정 버킷을 IP 와 묶어 다른 IP 에서의 실패 시도로 피해 계정이 잠기지 않게 한다.
+ * 토큰은 분당 refill 개씩 capacity 까지 채워지며, 두 버킷 확인과 차감은 Lua 스크립트 하나로 원자적으로 처리한다.
+ * Redis 장애 시에는 로그인을 막지 않는다.
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+    private static final String IP_PREFIX = "login:bucket:ip:";
+    private static final String ACCOUNT_PREFIX = "login:bucket:account:";
+
+    // KEYS: 버킷 키들, ARGV: 현재 시각(ms), 그 뒤로 버킷마다 capacity, 분당 refill
+    // 모든 버킷에 토큰이 있을 때만 차감하고 1, 아니면 0
+    private static final RedisScript<Long> TOKEN_BUCKET = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) " +
+            "local tokens = {} " +
+            "for i, key in ipairs(KEYS) do " +
+            "  local capacity = tonumber(ARGV[i * 2]) " +
+            "  local refill = tonumber(ARGV[i * 2 + 1]) " +
+            "  local bucket = redis.call('HMGET', key, 'tokens', 'ts') " +
+            "  local current = tonumber(bucket[1]) or capacity " +
+            "  local ts = tonumber(bucket[2]) or now " +
+            "  current = math.min(capacity, current + (now - ts) * refill / 60000) " +
+            "  if current < 1 then return 0 end " +
+            "  tokens[i] = current " +
+            "end " +
+            "for i, key in ipairs(KEYS) do " +
+            "  local capacity = tonumber(ARGV[i * 2]) " +
+            "  local refill = tonumber(ARGV[i * 2 + 1]) " +
+            "  redis.call('HSET', key, 'tokens', tokens[i] - 1, 'ts', now) " +
+            "  redis.call('PEXPIRE', key, math.ceil(capacity / refill * 60000)) " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int ipCapacity;
+    private final int ipRefillPerMinute;
+    private final int accountCapacity;
+    private final int accountRefillPerMinute;
+
+    public LoginRateLimiter(StringRedisTemplate stringRedisTemplate,
+                            @Value("${security.login.ip.capacity:20}") int ipCapacity,
+                            @Value("${security.login.ip.refill-per-minute:10}") int ipRefillPerMinute,
+                            @Value("${security.login.account.capacity:5}") int accountCapacity,
+                            @Value("${security.login.account.refill-per-minute:1}") int accountRefillPerMinute) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerMinute = ipRefillPerMinute;
+        this.accountCapacity = accountCapacity;
+        this.accountRefillPerMinute = accountRefillPerMinute;
+    }
+
+    /**
+     * @return : 로그인 시도 허용 여부
+     */
+    public boolean tryAcquire(String ip, String email) {
+        try {
+            Long allowed = stringRedisTemplate.execute(TOKEN_BUCKET,
+                    List.of(IP_PREFIX + ip, ACCOUNT_PREFIX + (email == null ? "" : email.toLowerCase()) + ":" + ip),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(ipCapacity), String.valueOf(ipRefillPerMinute),
+                    String.valueOf(accountCapacity), String.valueOf(accountRefillPerMinute));
+            return allowed == null || allowed == 1L;
+        } catch (DataAccessException e) {
+            log.warn("로그인 시도 제한 확인 실패 : " + e.getMessage());
+            return true;
+        }
+    }
+}
@@ -5,17 +5,20 @@ import com.grinder.repository.MemberRepository;
 import com.grinder.security.dto.CustomUserDetails;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-public class MemberDetailsService implements UserDetailsService {
+public class MemberDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
+    private final PrincipalCache principalCache;
 
-    public MemberDetailsService(MemberRepository memberRepository) {
+    public MemberDetailsService(MemberRepository memberRepository, PrincipalCache principalCache) {
         this.memberRepository = memberRepository;
+        this.principalCache = principalCache;
     }
     @Override
     public UserDetails loadUserByUsername(String email){
@@ -24,4 +27,13 @@ public class MemberDetailsService implements UserDetailsService {
         // TODO : 탈퇴한 회원 예외처리하기
         return new CustomUserDetails(member);
     }
+
+    // 로그인 성공 시 저장된 해시의 strength 가 설정값과 다르면 호출됨 (새 해시로 교체)
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        memberRepository.updatePassword(user.getUsername(), newPassword);
+        principalCache.evict(user.getUsername());
+        log.info("비밀번호 해시 갱신 : " + user.getUsername());
+        return loadUserByUsername(user.getUsername());
+    }
 }
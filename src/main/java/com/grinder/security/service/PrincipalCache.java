@@ -0,0 +1,123 @@
+package com.grinder.security.service;
+
+import com.grinder.security.dto.CustomUserDetails;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰 인증용 회원 정보 캐시 (이메일 → 비밀번호를 제외한 CustomUserDetails)
+ * 요청마다 회원 조회 쿼리가 나가지 않도록 TokenCheckFilter 에서 사용한다.
+ * 유효 시간은 액세스 토큰 유효 시간(1시간)을 넘지 않으며,
+ * 권한/탈퇴/회원 정보 변경 시 evict 로 즉시 무효화하고,
+ * TwoLevelCacheManager 와 같은 cache:invalidate 채널로 "{서버 id}|principal|{이메일}" 을 보내 다른 서버의 캐시도 비운다.
+ */
+@Slf4j
+@Component
+public class PrincipalCache implements MessageListener {
+    public static final String CACHE_NAME = "principal";
+    private static final ChannelTopic CHANNEL = new ChannelTopic("cache:invalidate");
+    private static final Duration MAX_TTL = Duration.ofHours(1);
+    private static final int MAX_SIZE = 10000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public PrincipalCache(StringRedisTemplate stringRedisTemplate,
+                          RedisMessageListenerContainer redisMessageListenerContainer,
+                          @Value("${security.principal-cache.ttl:30m}") Duration ttl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.ttlNanos = (ttl.compareTo(MAX_TTL) > 0 ? MAX_TTL : ttl).toNanos();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, CHANNEL);
+    }
+
+    public CustomUserDetails get(String email) {
+        Entry entry = cache.get(email);
+        if (entry == null) return null;
+        if (System.nanoTime() - entry.createdAt > ttlNanos) {
+            cache.remove(email, entry);
+            return null;
+        }
+        return entry.userDetails;
+    }
+
+    public void put(String email, CustomUserDetails userDetails) {
+        if (cache.size() >= MAX_SIZE) evictExpired();
+        if (cache.size() >= MAX_SIZE) cache.clear();
+        cache.put(email, new Entry(userDetails.withoutPassword(), System.nanoTime()));
+    }
+
+    /**
+     * 캐시 무효화. 트랜잭션 안에서 호출되면 커밋 이후 한 번 더 무효화하고 그때 다른 서버에 알려
+     * 커밋 전에 다른 요청이 이전 정보를 다시 캐시하는 경우를 막는다.
+     */
+    public void evict(String email) {
+        cache.remove(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.remove(email);
+                    publish(email);
+                }
+            });
+        } else {
+            publish(email);
+        }
+    }
+
+    // 다른 서버에서 무효화한 회원 (다른 캐시 이름과 자기 서버가 보낸 메시지는 무시)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || nodeId.equals(parts[0]) || !CACHE_NAME.equals(parts[1])) return;
+        if (parts[2].isEmpty()) cache.clear();
+        else cache.remove(parts[2]);
+    }
+
+    private void publish(String email) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL.getTopic(), nodeId + "|" + CACHE_NAME + "|" + email);
+        } catch (DataAccessException e) {
+            log.warn("회원 정보 캐시 무효화 전파 실패 : " + e.getMessage());
+        }
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        cache.entrySet().removeIf(entry -> now - entry.getValue().createdAt > ttlNanos);
+    }
+
+    private static class Entry {
+        private final CustomUserDetails userDetails;
+        private final long createdAt;
+
+        private Entry(CustomUserDetails userDetails, long createdAt) {
+            this.userDetails = userDetails;
+            this.createdAt = createdAt;
+        }
+    }
+}
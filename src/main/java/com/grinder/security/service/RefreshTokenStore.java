@@ -0,0 +1,151 @@
+package com.grinder.security.service;
+
+import com.grinder.domain.entity.RefreshEntity;
+import com.grinder.repository.RefreshRepository;
+import com.grinder.utils.JWTUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * 리프레시 토큰 저장소 (Redis)
+ * refresh:token:{토큰 SHA-256} → 이메일, 토큰 만료 시각까지 TTL 을 걸어 만료된 토큰은 Redis 가 삭제한다.
+ * refresh:member:{이메일} 에 회원이 발급받은 토큰 다이제스트를 모아 두어 회원 단위로 한 번에 폐기한다.
+ * security.refresh-store.jpa-fallback=true 인 경우 RefreshEntity 테이블에도 기록하고, Redis 장애 시 테이블을 사용한다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+    private static final String TOKEN_PREFIX = "refresh:token:";
+    private static final String MEMBER_PREFIX = "refresh:member:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RefreshRepository refreshRepository;
+    private final JWTUtil jwtUtil;
+    private final boolean jpaFallback;
+
+    public RefreshTokenStore(StringRedisTemplate stringRedisTemplate,
+                             RefreshRepository refreshRepository,
+                             JWTUtil jwtUtil,
+                             @Value("${security.refresh-store.jpa-fallback:false}") boolean jpaFallback) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.refreshRepository = refreshRepository;
+        this.jwtUtil = jwtUtil;
+        this.jpaFallback = jpaFallback;
+    }
+
+    /**
+     * 발급한 리프레시 토큰 저장. TTL 은 토큰의 exp 까지 남은 시간
+     */
+    public void save(String email, String refreshToken) {
+        Date expiration = getExpiration(refreshToken);
+        Duration ttl = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis());
+        if (ttl.isNegative() || ttl.isZero()) return;
+
+        if (jpaFallback) {
+            refreshRepository.save(RefreshEntity.builder()
+                    .refresh(refreshToken)
+                    .email(email)
+                    .expiration(expiration.toString())
+                    .build());
+        }
+        try {
+            String digest = JWTUtil.digest(refreshToken);
+            String memberKey = MEMBER_PREFIX + email;
+            stringRedisTemplate.opsForValue().set(TOKEN_PREFIX + digest, email, ttl);
+            stringRedisTemplate.opsForSet().add(memberKey, digest);
+            // 회원 키는 가장 늦게 만료되는 토큰까지 유지
+            Long memberTtl = stringRedisTemplate.getExpire(memberKey);
+            if (memberTtl == null || memberTtl < ttl.getSeconds()) {
+                stringRedisTemplate.expire(memberKey, ttl);
+            }
+        } catch (DataAccessException e) {
+            if (!jpaFallback) throw e;
+            log.warn("리프레시 토큰 Redis 저장 실패, 테이블만 사용합니다. : " + e.getMessage());
+        }
+    }
+
+    public boolean exists(String refreshToken) {
+        if (refreshToken == null) return false;
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(TOKEN_PREFIX + JWTUtil.digest(refreshToken)));
+        } catch (DataAccessException e) {
+            if (!jpaFallback) throw e;
+            log.warn("리프레시 토큰 Redis 조회 실패, 테이블에서 조회합니다. : " + e.getMessage());
+            return Boolean.TRUE.equals(refreshRepository.existsByRefresh(refreshToken));
+        }
+    }
+
+    public void delete(String refreshToken) {
+        if (refreshToken == null) return;
+        if (jpaFallback) refreshRepository.deleteByRefresh(refreshToken);
+        try {
+            String digest = JWTUtil.digest(refreshToken);
+            String email = stringRedisTemplate.opsForValue().get(TOKEN_PREFIX + digest);
+            stringRedisTemplate.delete(TOKEN_PREFIX + digest);
+            if (email != null) stringRedisTemplate.opsForSet().remove(MEMBER_PREFIX + email, digest);
+        } catch (DataAccessException e) {
+            if (!jpaFallback) throw e;
+            log.warn("리프레시 토큰 Redis 삭제 실패 : " + e.getMessage());
+        }
+        jwtUtil.evictToken(refreshToken);
+    }
+
+    /**
+     * 토큰 교체. 이전 토큰을 GETDEL 로 한 번에 조회/삭제해 소비하고 새 토큰을 저장한다.
+     * 이미 소비된 토큰이면 탈취된 토큰의 재사용으로 보고 회원의 모든 리프레시 토큰을 폐기한다.
+     * @return : 교체 성공 여부 (false 면 재사용)
+     */
+    public boolean rotate(String email, String oldToken, String newToken) {
+        String digest = JWTUtil.digest(oldToken);
+        boolean consumed;
+        try {
+            String owner = stringRedisTemplate.opsForValue().getAndDelete(TOKEN_PREFIX + digest);
+            if (owner != null) stringRedisTemplate.opsForSet().remove(MEMBER_PREFIX + owner, digest);
+            if (jpaFallback) refreshRepository.consumeByRefresh(oldToken);
+            consumed = email.equals(owner);
+        } catch (DataAccessException e) {
+            if (!jpaFallback) throw e;
+            log.warn("리프레시 토큰 Redis 교체 실패, 테이블에서 교체합니다. : " + e.getMessage());
+            consumed = refreshRepository.consumeByRefresh(oldToken) > 0;
+        }
+        jwtUtil.evictToken(oldToken);
+
+        if (!consumed) {
+            log.warn("이미 사용된 리프레시 토큰 재사용 감지, 모든 토큰을 폐기합니다. : " + email);
+            revokeAll(email);
+            return false;
+        }
+        save(email, newToken);
+        return true;
+    }
+
+    /**
+     * 회원의 모든 리프레시 토큰 폐기 (탈퇴, 비밀번호 재설정 등)
+     */
+    public void revokeAll(String email) {
+        try {
+            String memberKey = MEMBER_PREFIX + email;
+            Set<String> digests = stringRedisTemplate.opsForSet().members(memberKey);
+            if (digests != null && !digests.isEmpty()) {
+                stringRedisTemplate.delete(digests.stream().map(digest -> TOKEN_PREFIX + digest).toList());
+            }
+            stringRedisTemplate.delete(memberKey);
+        } catch (DataAccessException e) {
+            if (!jpaFallback) throw e;
+            log.warn("리프레시 토큰 Redis 일괄 폐기 실패 : " + e.getMessage());
+        }
+        if (jpaFallback) refreshRepository.deleteByEmail(email);
+    }
+
+    private Date getExpiration(String refreshToken) {
+        Object exp = jwtUtil.validateToken(refreshToken).get("exp");
+        return new Date(((Number) exp).longValue() * 1000);
+    }
+}
@@ -0,0 +1,143 @@
+package com.grinder.security.service;
+
+import com.grinder.utils.BloomFilter;
+import com.grinder.utils.JWTUtil;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * 로그아웃한 access token 폐기 목록
+ * Redis 에 revoked:access:{토큰 SHA-256} 를 토큰 만료 시각까지 저장하고, 채널로 다른 서버에 알린다.
+ * 각 서버는 폐기된 토큰을 로컬 Bloom filter 에 보관해 대부분의 요청을 Redis 조회 없이 통과시키고,
+ * Bloom filter 에 걸린 토큰만 Redis 에서 정확히 확인한다.
+ * Bloom filter 는 access token 유효 시간(1시간)마다 세대를 교체해 이전 세대와 함께 조회하므로,
+ * 폐기된 토큰은 최소 1시간 동안 유지되고 만료된 토큰은 자연스럽게 빠진다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationService implements MessageListener {
+    private static final String KEY_PREFIX = "revoked:access:";
+    private static final ChannelTopic CHANNEL = new ChannelTopic("token:revoked");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final JWTUtil jwtUtil;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+
+    public TokenRevocationService(StringRedisTemplate stringRedisTemplate,
+                                  RedisMessageListenerContainer redisMessageListenerContainer,
+                                  JWTUtil jwtUtil,
+                                  @Value("${security.revocation.expected-insertions:100000}") int expectedInsertions,
+                                  @Value("${security.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.jwtUtil = jwtUtil;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.current = newFilter();
+        this.previous = newFilter();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, CHANNEL);
+    }
+
+    /**
+     * 서버 시작 시 Redis 에 남아 있는(아직 만료되지 않은) 폐기 토큰을 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        int count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                current.put(HexFormat.of().parseHex(cursor.next().substring(KEY_PREFIX.length())));
+                count++;
+            }
+        } catch (DataAccessException | IllegalArgumentException e) {
+            log.warn("폐기 토큰 목록 적재 실패 : " + e.getMessage());
+        }
+        log.info("폐기 토큰 " + count + "건 적재 완료");
+    }
+
+    /**
+     * access token 폐기. 이미 만료되었거나 잘못된 토큰은 폐기할 필요가 없다.
+     */
+    public void revoke(String accessToken) {
+        if (accessToken == null) return;
+        long expiresAt;
+        try {
+            expiresAt = ((Number) jwtUtil.validateToken(accessToken).get("exp")).longValue() * 1000;
+        } catch (JwtException e) {
+            return;
+        }
+        Duration ttl = Duration.ofMillis(expiresAt - System.currentTimeMillis());
+        if (ttl.isNegative() || ttl.isZero()) return;
+
+        String digest = JWTUtil.digest(accessToken);
+        current.put(HexFormat.of().parseHex(digest));
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + digest, "1", ttl);
+        stringRedisTemplate.convertAndSend(CHANNEL.getTopic(), digest);
+        jwtUtil.evictToken(accessToken);
+    }
+
+    /**
+     * Bloom filter 에 없으면 폐기되지 않은 토큰, 있으면 Redis 에서 확인한다.
+     * Redis 조회에 실패하면 폐기된 토큰으로 취급한다.
+     */
+    public boolean isRevoked(String accessToken) {
+        String digest = JWTUtil.digest(accessToken);
+        byte[] bytes = HexFormat.of().parseHex(digest);
+        if (!current.mightContain(bytes) && !previous.mightContain(bytes)) return false;
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + digest));
+        } catch (DataAccessException e) {
+            log.warn("폐기 토큰 확인 실패 : " + e.getMessage());
+            return true;
+        }
+    }
+
+    // 다른 서버에서 폐기한 토큰
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            current.put(HexFormat.of().parseHex(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 폐기 토큰 메시지 : " + e.getMessage());
+        }
+    }
+
+    // access token 유효 시간마다 세대 교체
+    @Scheduled(initialDelay = 3600000, fixedDelay = 3600000)
+    public void rotate() {
+        previous = current;
+        current = newFilter();
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+}
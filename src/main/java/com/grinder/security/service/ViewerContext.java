@@ -0,0 +1,110 @@
+package com.grinder.security.service;
+
+import com.grinder.domain.dto.MemberDTO;
+import com.grinder.domain.enums.Role;
+import com.grinder.security.dto.CustomUserDetails;
+import com.grinder.service.BlacklistService;
+import com.grinder.service.ImageService;
+import com.grinder.service.MemberService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * 현재 요청의 로그인 회원 정보 (요청 단위 빈)
+ * 회원 id, 이메일, 권한은 인증 정보(CustomUserDetails)에서 바로 꺼내고,
+ * 회원 정보, 차단 회원 목록, 프로필 이미지는 처음 필요할 때 한 번만 조회해 같은 요청 안에서 재사용한다.
+ * 컨트롤러와 서비스 어디에서든 주입받아 사용할 수 있다.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class ViewerContext {
+
+    private final MemberService memberService;
+    private final BlacklistService blacklistService;
+    private final ImageService imageService;
+
+    private boolean resolved;
+    private boolean authenticated;
+    private String email;
+    private String memberId;
+    private Role role;
+
+    private MemberDTO.FindMemberDTO member;
+    private Set<String> blockedIds;
+    private String profileImageUrl;
+    private boolean profileImageLoaded;
+
+    public boolean isAuthenticated() {
+        resolve();
+        return authenticated;
+    }
+
+    /**
+     * @return : 로그인 회원 이메일, 비로그인 시 "anonymousUser"
+     */
+    public String getEmail() {
+        resolve();
+        return email;
+    }
+
+    public String getMemberId() {
+        resolve();
+        if (memberId == null && authenticated) memberId = getMember().getMemberId();
+        return memberId;
+    }
+
+    public Role getRole() {
+        resolve();
+        if (role == null && authenticated) role = Role.valueOf(getMember().getRole());
+        return role;
+    }
+
+    /**
+     * @return : 로그인 회원 정보, 비로그인 시 null
+     */
+    public MemberDTO.FindMemberDTO getMember() {
+        if (!isAuthenticated()) return null;
+        if (member == null) member = new MemberDTO.FindMemberDTO(memberService.findMemberByEmail(email));
+        return member;
+    }
+
+    public Set<String> getBlockedIds() {
+        if (!isAuthenticated()) return Collections.emptySet();
+        if (blockedIds == null) blockedIds = blacklistService.findBlockedMemberIds(email);
+        return blockedIds;
+    }
+
+    public String getProfileImageUrl() {
+        if (!isAuthenticated()) return null;
+        if (!profileImageLoaded) {
+            profileImageUrl = imageService.findImageUrlByContentId(getMemberId());
+            profileImageLoaded = true;
+        }
+        return profileImageUrl;
+    }
+
+    private void resolve() {
+        if (resolved) return;
+        resolved = true;
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) return;
+        email = authentication.getName();
+        authenticated = email != null
+                && !(authentication instanceof AnonymousAuthenticationToken)
+                && !email.equals("anonymousUser");
+        if (authentication.getPrincipal() instanceof CustomUserDetails) {
+            CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+            memberId = userDetails.getMemberId();
+            role = userDetails.getRole();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.grinder.service;
+
+import com.grinder.domain.dto.AlanDTO;
+import com.grinder.domain.enums.AlanPromptKind;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+public interface AlanPromptCacheService {
+    AlanDTO.AlanResponse requestSummary(String cafeName, String address);
+    // 캐시를 지우고 앨런에 다시 요청 (관리자 최신화)
+    AlanDTO.AlanResponse refreshSummary(String cafeName, String address);
+    AlanDTO.AlanResponse recommendCafeByTag(String tagList);
+    CompletableFuture<AlanDTO.AlanResponse> get(AlanPromptKind kind, String prompt, Supplier<CompletableFuture<AlanDTO.AlanResponse>> loader);
+}
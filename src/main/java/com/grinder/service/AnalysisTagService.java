@@ -6,7 +6,8 @@ import java.util.List;
 
 public interface AnalysisTagService {
 
-    void updateTagList(String email);
+    // 회원 목록의 관심 태그 분석 (AnalysisTag 가 없는 회원은 건너뛴다)
+    void updateTagLists(List<String> memberIds);
 
     AnalysisTag findByEmail(String email);
 
@@ -5,6 +5,7 @@ import com.grinder.domain.enums.ContentType;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 
 public interface AwsS3Service {
@@ -16,5 +17,7 @@ public interface AwsS3Service {
 
     Image uploadSingleImageBucket(MultipartFile imageFile, String contentId, ContentType contentType);
 
+    String uploadSpooledImage(Path spoolPath, String originalFileName);
+
     void deleteFile(String fileURL) throws IOException;
 }
\ No newline at end of file
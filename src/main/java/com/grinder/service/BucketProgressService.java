@@ -0,0 +1,12 @@
+package com.grinder.service;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BucketProgressService {
+    // 주기(cycle)당 한 번씩 모든 버킷을 돌도록, 가장 오래전에 처리한(또는 처리한 적 없는) 버킷 COUNT / cycle 개
+    List<Integer> nextBuckets(String jobName, int cycle);
+    void markProcessed(String jobName, Collection<Integer> buckets);
+    // 버킷이 비어 있는 기존 행 채우기
+    void backfillBuckets();
+}
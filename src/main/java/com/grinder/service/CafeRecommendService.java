@@ -0,0 +1,7 @@
+package com.grinder.service;
+
+import java.util.List;
+
+public interface CafeRecommendService {
+    int recommendCafes(List<String> memberIds);
+}
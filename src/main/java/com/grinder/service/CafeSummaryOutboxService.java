@@ -0,0 +1,7 @@
+package com.grinder.service;
+
+public interface CafeSummaryOutboxService {
+    void requestSummary(String cafeId);
+    void dispatchPending();
+    void process(String eventId);
+}
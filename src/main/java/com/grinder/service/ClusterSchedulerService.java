@@ -0,0 +1,19 @@
+package com.grinder.service;
+
+import com.grinder.utils.Shard;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public interface ClusterSchedulerService {
+    // 작업을 조각으로 나눠 살아 있는 서버들이 하나씩 임대해 실행. 모든 조각이 끝날 때까지 기다리며
+    // 실패했거나 임대가 만료된 조각은 다른 서버가 다시 가져간다. (아무도 다시 못 하면 다음 회차에 처리)
+    void runSharded(String jobName, Consumer<Shard> task);
+    // 실행 회차마다 처음 제안된 값을 모든 서버가 같이 사용 (Redis 장애 시 이 서버의 제안 값)
+    String agree(String name, Supplier<String> proposal);
+    // 살아 있는 서버 id (정렬)
+    List<String> findLiveNodes();
+    String getNodeId();
+    void heartbeat();
+}
@@ -0,0 +1,18 @@
+package com.grinder.service;
+
+import com.grinder.domain.entity.Feed;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+public interface FeedImageUploadService {
+    // 이미지를 로컬 디스크에 임시 저장하고 업로드 대기 행을 기록 (피드 트랜잭션 커밋 후 업로드 시작)
+    void stageFeedImages(Feed feed, List<MultipartFile> imageList);
+    // 아직 업로드되지 않은 피드 이미지를 폐기 (피드 수정 시 사용)
+    void discardPendingImages(String feedId);
+    // 업로드 대기 행 하나를 S3에 업로드하고 Image 행을 기록
+    void upload(String uploadId);
+    // 멈춰 있는 업로드 재시도 및 고아 업로드 정리
+    void retryStaleUploads();
+    void cleanUpOrphanedUploads();
+}
@@ -0,0 +1,20 @@
+package com.grinder.service;
+
+import com.grinder.domain.entity.Member;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface FollowGraphService {
+    void reload();
+    void addFollow(Member member, Member following);
+    void removeFollow(Member member, Member following);
+    boolean isFollowing(String email, String followEmail);
+    int countFollowing(String email);
+    int countFollowers(String email);
+    Set<String> findFollowingIds(String email);
+    List<String> findFollowerIds(String email);
+    Map<String, String> findAllMembers();
+    Map<String, Integer> countTwoHopCandidates(String email);
+}
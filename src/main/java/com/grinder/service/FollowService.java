@@ -7,9 +7,10 @@ import org.springframework.data.domain.Slice;
 import java.util.List;
 
 public interface FollowService {
-    Slice<FollowDTO.findAllFollowingResponse> findAllFollowingSlice(String email, Pageable pageable);
-    Slice<FollowDTO.findAllFollowerResponse> findAllFollowerSlice(String email, Pageable pageable);
+    Slice<FollowDTO.findAllFollowingResponse> findAllFollowingSlice(String email, Long lastFollowId, Pageable pageable);
+    Slice<FollowDTO.findAllFollowerResponse> findAllFollowerSlice(String email, Long lastFollowId, Pageable pageable);
     boolean addFollow(String email, String followEmail);
     boolean deleteFollow(String email, String followEmail);
     boolean existFollow(String email, String followEmail);
+    int syncFollowCounts();
 }
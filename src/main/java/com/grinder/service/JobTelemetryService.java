@@ -0,0 +1,17 @@
+package com.grinder.service;
+
+import com.grinder.domain.dto.SchedulerLogDTO;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+
+public interface JobTelemetryService {
+    // 스케줄 작업 1회 실행 결과 (error 가 null 이면 성공)
+    void recordTask(String taskName, LocalDateTime startedAt, int attemptCount, Exception error);
+    // 배치 작업 1회 실행 결과 (처리 건수 포함)
+    void recordJob(JobExecution jobExecution);
+    // 최근 실행 기록, taskName 이 있으면 해당 이름으로 시작하는 기록만
+    Slice<SchedulerLogDTO.FindSchedulerLogDTO> findSchedulerLogs(String taskName, Pageable pageable);
+}
@@ -0,0 +1,9 @@
+package com.grinder.service;
+
+import com.grinder.utils.Shard;
+
+public interface MaintenanceJobService {
+    // 유지보수 배치 실행. cycle 회차에 걸쳐 모든 버킷을 한 번씩 처리하도록 이번 회차 버킷 중 이 조각(shard) 몫을 실행한다.
+    // 같은 회차가 실패했었다면 마지막 커밋 지점부터 재시작하고, 이미 완료했으면 건너뛴다.
+    void run(String jobName, int cycle, Shard shard);
+}
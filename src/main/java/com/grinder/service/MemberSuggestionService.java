@@ -0,0 +1,10 @@
+package com.grinder.service;
+
+import com.grinder.domain.dto.MemberDTO;
+
+import java.util.List;
+
+public interface MemberSuggestionService {
+    List<MemberDTO.SuggestedMemberDTO> findSuggestions(String email);
+    void refreshSuggestions();
+}
@@ -1,12 +1,15 @@
 package com.grinder.service;
 
-import com.grinder.domain.entity.Message;
+import com.grinder.domain.dto.MessageDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
-import java.util.List;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Map;
 
 public interface MessageService {
 
-    boolean existNonCheckMessage(String email);
-    List<Message> findAllByEmail(String email);
+    Slice<MessageDTO.findAllResponse> findInboxSlice(String memberId, LocalDateTime lastCreatedAt, String lastMessageId, Pageable pageable);
+    int checkAllMessages(String memberId);
+    int sendAdminMessages(String adminName, Map<String, String> contents);
 }
@@ -1,37 +1,29 @@
 package com.grinder.service;
 
-import com.grinder.domain.entity.Cafe;
+import com.grinder.utils.Shard;
 import org.springframework.scheduling.annotation.Scheduled;
 
-import java.util.List;
-
 public interface SchedulerService {
 
-    void performCalAverageTask();
-
-    void updateAverageGradeForCafes(int dayOfWeek);
+    void performCalAverageTask(Shard shard);
 
-    void calculateAndSetAverageGrade(Cafe cafe);
+    void updateAverageGradeForCafes(Shard shard);
 
-    void updateTagListForMembers(int dayOfWeek);
+    void updateTagListForMembers(Shard shard);
 
     @Scheduled(cron = "0 0 1 * * ?", zone = "Asia/Seoul")
     void recommendAlan();
 
-    void performRecommendAlanTask();
+    void performRecommendAlanTask(Shard shard);
 
-    void recommendCafeForMembers(int dayOfMonth);
+    void recommendCafeForMembers(Shard shard);
 
-    void updateRanks(int dayOfMonth);
+    void updateRanks(Shard shard);
 
     @Scheduled(cron = "0 0 2 * * ?", zone = "Asia/Seoul")
     void updateRank();
 
-    void performUpdateRankTask();
+    void performUpdateRankTask(Shard shard);
 
     void executeWithRetry(Runnable task, String taskName);
-
-    List<String> getLogList();
-
-    void clearLogList();
 }
@@ -0,0 +1,243 @@
+package com.grinder.service.implement;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grinder.domain.dto.AlanDTO;
+import com.grinder.domain.entity.AlanPromptCache;
+import com.grinder.domain.enums.AlanPromptKind;
+import com.grinder.repository.AlanPromptCacheRepository;
+import com.grinder.service.AlanPromptCacheService;
+import com.grinder.utils.AlanAPI;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 앨런 응답 캐시
+ * 같은 질문은 다시 보내지 않도록 종류(AlanPromptKind)와 정규화한 질문의 fingerprint 로 응답을 Redis 와 DB 에 함께 저장한다.
+ * 조회 순서는 Redis → DB(alan_prompt_cache, 찾으면 Redis 에 다시 올림) → 앨런 요청이며, 보관 기간은 종류별로 다르다.
+ * 같은 서버에서 같은 질문을 동시에 요청하면 한 번만 보내고 결과를 나눠 받는다. 실패한 응답과 키가 없을 때의 응답은 저장하지 않는다.
+ * 응답 완료 콜백은 앨런 HTTP 클라이언트 스레드에서 실행되므로, 저장(DB, Redis)은 alanCacheExecutor 에 넘기고 응답은 바로 돌려준다.
+ */
+@Slf4j
+@Service
+public class AlanPromptCacheServiceImpl implements AlanPromptCacheService {
+    private static final String KEY_PREFIX = "alan:prompt:";
+    private static final int CONTENT_MAX_LENGTH = 2000;
+
+    private final AlanAPI alanAPI;
+    private final AlanPromptCacheRepository alanPromptCacheRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Environment environment;
+    private final TaskExecutor alanCacheExecutor;
+
+    private final Map<String, CompletableFuture<AlanDTO.AlanResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public AlanPromptCacheServiceImpl(AlanAPI alanAPI,
+                                      AlanPromptCacheRepository alanPromptCacheRepository,
+                                      StringRedisTemplate stringRedisTemplate,
+                                      ObjectMapper objectMapper,
+                                      Environment environment,
+                                      @Qualifier("alanCacheExecutor") TaskExecutor alanCacheExecutor) {
+        this.alanAPI = alanAPI;
+        this.alanPromptCacheRepository = alanPromptCacheRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.environment = environment;
+        this.alanCacheExecutor = alanCacheExecutor;
+    }
+
+    @Override
+    public AlanDTO.AlanResponse requestSummary(String cafeName, String address) {
+        return await(get(AlanPromptKind.SUMMARY, AlanAPI.summaryPrompt(cafeName, address),
+                () -> alanAPI.requestSummaryAsync(cafeName, address)));
+    }
+
+    @Override
+    public AlanDTO.AlanResponse refreshSummary(String cafeName, String address) {
+        return await(refresh(AlanPromptKind.SUMMARY, AlanAPI.summaryPrompt(cafeName, address),
+                () -> alanAPI.requestSummaryAsync(cafeName, address)));
+    }
+
+    @Override
+    public AlanDTO.AlanResponse recommendCafeByTag(String tagList) {
+        return await(get(AlanPromptKind.RECOMMEND, AlanAPI.recommendPrompt(tagList),
+                () -> alanAPI.recommendCafeByTagAsync(tagList)));
+    }
+
+    /**
+     * @param prompt : fingerprint 를 만들 질문
+     * @param loader : 캐시에 없을 때 앨런에 보낼 요청
+     */
+    @Override
+    public CompletableFuture<AlanDTO.AlanResponse> get(AlanPromptKind kind, String prompt,
+                                                       Supplier<CompletableFuture<AlanDTO.AlanResponse>> loader) {
+        if (!alanAPI.isEnabled()) return loader.get();
+
+        String fingerprint = fingerprint(kind, prompt);
+        CompletableFuture<AlanDTO.AlanResponse> created = new CompletableFuture<>();
+        CompletableFuture<AlanDTO.AlanResponse> running = inFlight.putIfAbsent(fingerprint, created);
+        if (running != null) return running;
+
+        try {
+            Optional<AlanDTO.AlanResponse> cached = find(fingerprint);
+            if (cached.isPresent()) {
+                inFlight.remove(fingerprint, created);
+                created.complete(cached.get());
+                return created;
+            }
+            // 저장이 끝날 때까지 inFlight 에 남겨 두어 그 사이 같은 질문도 이 결과를 받게 한다.
+            loader.get().whenComplete((response, e) -> {
+                if (e != null) {
+                    inFlight.remove(fingerprint, created);
+                    created.completeExceptionally(e instanceof CompletionException ? e.getCause() : e);
+                    return;
+                }
+                created.complete(response);
+                storeAsync(kind, fingerprint, response, () -> inFlight.remove(fingerprint, created));
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(fingerprint, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    /**
+     * 저장된 응답을 지우고 (Redis, DB) 동시 요청 묶음과 관계없이 앨런에 다시 요청해 저장
+     */
+    private CompletableFuture<AlanDTO.AlanResponse> refresh(AlanPromptKind kind, String prompt,
+                                                            Supplier<CompletableFuture<AlanDTO.AlanResponse>> loader) {
+        if (!alanAPI.isEnabled()) return loader.get();
+
+        String fingerprint = fingerprint(kind, prompt);
+        evict(fingerprint);
+        return loader.get().thenApply(response -> {
+            storeAsync(kind, fingerprint, response, () -> { });
+            return response;
+        });
+    }
+
+    // 저장은 alanCacheExecutor 에서 한다. 큐가 가득 차면 저장을 건너뛴다. done 은 저장 여부와 관계없이 실행된다.
+    private void storeAsync(AlanPromptKind kind, String fingerprint, AlanDTO.AlanResponse response, Runnable done) {
+        try {
+            alanCacheExecutor.execute(() -> {
+                try {
+                    store(kind, fingerprint, response);
+                } finally {
+                    done.run();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.warn("앨런 응답 캐시 저장 큐가 가득 찼습니다. 저장을 건너뜁니다.");
+            done.run();
+        }
+    }
+
+    private void evict(String fingerprint) {
+        try {
+            stringRedisTemplate.delete(KEY_PREFIX + fingerprint);
+        } catch (DataAccessException e) {
+            log.warn("앨런 응답 캐시 삭제 실패 (Redis) : " + e.getMessage());
+        }
+        try {
+            alanPromptCacheRepository.deleteById(fingerprint);
+        } catch (DataAccessException e) {
+            log.warn("앨런 응답 캐시 삭제 실패 (DB) : " + e.getMessage());
+        }
+    }
+
+    private Optional<AlanDTO.AlanResponse> find(String fingerprint) {
+        String key = KEY_PREFIX + fingerprint;
+        try {
+            String json = stringRedisTemplate.opsForValue().get(key);
+            if (json != null) return Optional.of(objectMapper.readValue(json, AlanDTO.AlanResponse.class));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("앨런 응답 캐시 조회 실패 (Redis) : " + e.getMessage());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Optional<AlanPromptCache> stored;
+        try {
+            stored = alanPromptCacheRepository.findById(fingerprint).filter(cache -> cache.getExpiresAt().isAfter(now));
+        } catch (DataAccessException e) {
+            log.warn("앨런 응답 캐시 조회 실패 (DB) : " + e.getMessage());
+            return Optional.empty();
+        }
+        if (stored.isEmpty()) return Optional.empty();
+
+        AlanDTO.AlanResponse response = new AlanDTO.AlanResponse();
+        response.setActionName(stored.get().getActionName());
+        response.setActionSpeak(stored.get().getActionSpeak());
+        response.setContent(stored.get().getContent());
+        putRedis(key, response, Duration.between(now, stored.get().getExpiresAt()));
+        return Optional.of(response);
+    }
+
+    private void store(AlanPromptKind kind, String fingerprint, AlanDTO.AlanResponse response) {
+        Duration ttl = ttl(kind);
+        try {
+            String content = response.getContent();
+            alanPromptCacheRepository.save(AlanPromptCache.builder()
+                    .fingerprint(fingerprint)
+                    .kind(kind)
+                    .actionName(response.getActionName())
+                    .actionSpeak(response.getActionSpeak())
+                    .content(content != null && content.length() > CONTENT_MAX_LENGTH ? content.substring(0, CONTENT_MAX_LENGTH) : content)
+                    .expiresAt(LocalDateTime.now().plus(ttl))
+                    .build());
+        } catch (DataAccessException e) {
+            log.warn("앨런 응답 캐시 저장 실패 (DB) : " + e.getMessage());
+        }
+        putRedis(KEY_PREFIX + fingerprint, response, ttl);
+    }
+
+    private void putRedis(String key, AlanDTO.AlanResponse response, Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero()) return;
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(response), ttl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("앨런 응답 캐시 저장 실패 (Redis) : " + e.getMessage());
+        }
+    }
+
+    private Duration ttl(AlanPromptKind kind) {
+        return environment.getProperty("alan.cache." + kind.name().toLowerCase(Locale.ROOT) + ".ttl", Duration.class, kind.getTtl());
+    }
+
+    // 유니코드 정규화(NFC), 앞뒤 공백 제거, 연속 공백을 하나로 합친 질문의 SHA-256
+    static String fingerprint(AlanPromptKind kind, String prompt) {
+        String normalized = Normalizer.normalize(prompt, Normalizer.Form.NFC).strip().replaceAll("\\s+", " ");
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return kind.name() + ":" + HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private AlanDTO.AlanResponse await(CompletableFuture<AlanDTO.AlanResponse> future) {
+        return AlanAPI.await(future, environment.getProperty("alan.await-timeout", Duration.class, AlanAPI.DEFAULT_AWAIT_TIMEOUT));
+    }
+}
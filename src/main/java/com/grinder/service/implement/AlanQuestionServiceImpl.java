@@ -2,10 +2,10 @@ package com.grinder.service.implement;
 
 import com.grinder.domain.dto.AlanDTO;
 import com.grinder.domain.entity.AnalysisTag;
-import com.grinder.domain.entity.Message;
-import com.grinder.repository.MessageRepository;
+import com.grinder.service.AlanPromptCacheService;
 import com.grinder.service.AlanQuestionService;
 import com.grinder.service.AnalysisTagService;
+import com.grinder.service.MessageService;
 import com.grinder.utils.AlanAPI;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -13,14 +13,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AlanQuestionServiceImpl implements AlanQuestionService {
 
     private final AlanAPI alanAPI;
+    private final AlanPromptCacheService alanPromptCacheService;
     private final AnalysisTagService analysisTagService;
-    private final MessageRepository messageRepository;
+    private final MessageService messageService;
 
     @Override
     public AlanDTO.AlanResponse anyQuestion(String question) {
@@ -33,11 +36,9 @@ public class AlanQuestionServiceImpl implements AlanQuestionService {
         //email을 사용하여 AnalysisTag 데이터 가져와서 alan에 전송
         try {
             AnalysisTag analysisTag = analysisTagService.findByEmail(email);
-            AlanDTO.AlanResponse response = alanAPI.recommendCafeByTag(analysisTag.getTagList());
+            AlanDTO.AlanResponse response = alanPromptCacheService.recommendCafeByTag(analysisTag.getTagList());
             //앨런에게 받은 데이터를 message에 저장
-            messageRepository.save(Message.builder().adminName("Alan")
-                    .receiveMember(analysisTag.getMember())
-                    .content(response.getContent()).build());
+            messageService.sendAdminMessages("Alan", Map.of(analysisTag.getMember().getMemberId(), response.getContent()));
         } catch (EntityNotFoundException e) {
             log.info("(" + email + ")" + e);
             return false;
@@ -2,45 +2,67 @@ package com.grinder.service.implement;
 
 import com.grinder.domain.entity.AnalysisTag;
 import com.grinder.domain.entity.Member;
+import com.grinder.domain.enums.TagName;
 import com.grinder.exception.RecentAddedTagException;
 import com.grinder.repository.AnalysisTagRepository;
 import com.grinder.repository.MemberRepository;
 import com.grinder.repository.queries.AnalysisTagQueryRepository;
 import com.grinder.service.AnalysisTagService;
+import com.grinder.utils.TagVector;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
-
-import static java.time.LocalDate.now;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AnalysisTagServiceImpl implements AnalysisTagService {
+    // 회원마다 추가하는 상위 태그 수
+    private static final int TOP_TAGS = 5;
+
     private final AnalysisTagRepository analysisTagRepository;
     private final AnalysisTagQueryRepository analysisTagQueryRepository;
     private final MemberRepository memberRepository;
+    private final JdbcTemplate jdbcTemplate;
 
+    // 회원 목록 전체의 태그 점수를 한 번에 집계해 상위 태그마다 가중치 1 을 더하고, 바뀐 가중치는 한 번의 batch update 로 저장
     @Override
     @Transactional
-    public void updateTagList(String email) {
-        AnalysisTag analysisTag = analysisTagRepository.findByMember_Email(email)
-                .orElseThrow(() -> new EntityNotFoundException("해당 회원이 존재하지 않습니다."));
+    public void updateTagLists(List<String> memberIds) {
+        Map<String, Map<TagName, Long>> counts = analysisTagQueryRepository.countTagsByMember(memberIds);
+        if (counts.isEmpty()) return;
+        Map<String, TagVector> vectors = analysisTagQueryRepository.findTagVectors(counts.keySet());
 
-        List<String> list = analysisTagQueryRepository.AnalysisMemberTag(email);
-        for (String str : list) {
-            if (!list.isEmpty()) {
-                analysisTag.addTags(str);
-                analysisTagRepository.save(analysisTag);
-            }
-        }
+        List<Object[]> updates = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        vectors.forEach((memberId, vector) -> {
+            vector.decayTo(now);
+            topTags(counts.get(memberId)).forEach(tagName -> vector.add(tagName, 1));
+            updates.add(new Object[]{vector.summary(AnalysisTag.SUMMARY_SIZE), vector.encode(), now, now, memberId});
+        });
+        if (updates.isEmpty()) return;
+        jdbcTemplate.batchUpdate("UPDATE analysis_tag SET tag_list = ?, tag_vector = ?, decayed_at = ?, updated_at = ? WHERE member_id = ?", updates);
+    }
+
+    // 개수가 많은 순, 같으면 TagName 순서
+    private List<TagName> topTags(Map<TagName, Long> counts) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<TagName, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(TOP_TAGS)
+                .map(Map.Entry::getKey)
+                .toList();
     }
 
     @Override
@@ -56,7 +78,7 @@ public class AnalysisTagServiceImpl implements AnalysisTagService {
             }
         } catch (EntityNotFoundException e) {
             Member member = memberRepository.findByEmail(email).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
-            analysisTag = analysisTagRepository.save(AnalysisTag.builder().member(member).tagList(now() + "").build());
+            analysisTag = analysisTagRepository.save(AnalysisTag.builder().member(member).tagList("").build());
         }
         return analysisTag;
     }
@@ -65,9 +87,11 @@ public class AnalysisTagServiceImpl implements AnalysisTagService {
     @Transactional
     public boolean addTagList(List<String> list, AnalysisTag analysisTag) {
         try {
+            Map<TagName, Integer> weights = new EnumMap<>(TagName.class);
             for (String item : list) {
-                analysisTag.addTags(item);
+                TagName.fromValue(item).ifPresent(tagName -> weights.put(tagName, 1));
             }
+            analysisTag.addTags(weights, LocalDateTime.now());
         } catch (Exception e) {
             return false;
         }
@@ -23,7 +23,10 @@ import org.apache.tika.io.IOUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -120,6 +123,31 @@ public class AwsS3ServiceImpl implements AwsS3Service {
 
         return s3Client.getUrl(bucket, convertedFileName).toString();
     }
+
+    // 로컬 디스크에 임시 저장된 이미지를 업로드 (피드 이미지 업로드 워커에서 사용)
+    @Override
+    public String uploadSpooledImage(Path spoolPath, String originalFileName) {
+        String bucket = awsProperties.getBucket();
+        String convertedFileName = FileNameUtils.fileNameConvert(originalFileName);
+        File file = spoolPath.toFile();
+
+        try {
+            String mimeType = new Tika().detect(file);
+            ObjectMetadata metadata = new ObjectMetadata();
+
+            FileNameUtils.checkImageMimeType(mimeType);
+            metadata.setContentType(mimeType);
+            metadata.setContentLength(Files.size(spoolPath));
+            s3Client.putObject(
+                    new PutObjectRequest(bucket, convertedFileName, file)
+                            .withMetadata(metadata)
+                            .withCannedAcl(CannedAccessControlList.PublicRead));
+        } catch (IOException exception) {
+            throw new FileRoadFailedException("이미지 파일 저장에 실패하였습니다.");
+        }
+
+        return s3Client.getUrl(bucket, convertedFileName).toString();
+    }
     // Todo :  파일 삭제
 
 
@@ -1,5 +1,6 @@
 package com.grinder.service.implement;
 
+import com.grinder.config.CacheConfig;
 import com.grinder.domain.dto.BlacklistDTO;
 import com.grinder.domain.entity.Blacklist;
 import com.grinder.domain.entity.Member;
@@ -11,10 +12,14 @@ import com.grinder.service.BlacklistService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @Slf4j
@@ -30,6 +35,7 @@ public class BlacklistServiceImpl implements BlacklistService {
         return blacklistQueryRepository.findAllBlacklistByMemberEmail(memberEmail);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.BLOCKED_MEMBER_IDS, key = "#memberEmail")
     public boolean addBlacklist(BlacklistDTO.AddRequest request, String memberEmail) {
         request.setMemberEmail(memberEmail);
         Member member = memberRepository.findByEmail(request.getMemberEmail()).orElseThrow(() -> new EntityNotFoundException("해당 유저가 존재하지 않습니다."));
@@ -43,10 +49,19 @@ public class BlacklistServiceImpl implements BlacklistService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.BLOCKED_MEMBER_IDS, key = "#memberEmail")
     public boolean deleteBlacklist(Long blacklistId, String memberEmail) {
         Blacklist blacklist = blacklistRepository.findById(blacklistId).orElseThrow(() -> new EntityNotFoundException("해당 유저가 존재하지 않습니다."));
         if (!memberEmail.equals(blacklist.getMember().getEmail())) throw new IllegalArgumentException("데이터는 본인만 삭제 가능합니다.");
         blacklistRepository.delete(blacklist);
         return true;
     }
+
+    // 회원별 차단한 회원 id (회원당 최대 10명), 추가/삭제 시 무효화
+    @Override
+    @Cacheable(cacheNames = CacheConfig.BLOCKED_MEMBER_IDS, key = "#memberEmail", condition = "#memberEmail != null", sync = true)
+    public Set<String> findBlockedMemberIds(String memberEmail) {
+        if (memberEmail == null) return Collections.emptySet();
+        return Set.copyOf(blacklistRepository.findBlockedMemberIdsByMemberEmail(memberEmail));
+    }
 }
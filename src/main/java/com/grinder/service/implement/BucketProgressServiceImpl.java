@@ -0,0 +1,95 @@
+package com.grinder.service.implement;
+
+import com.grinder.domain.entity.BucketProgress;
+import com.grinder.repository.BucketProgressRepository;
+import com.grinder.service.BucketProgressService;
+import com.grinder.utils.Buckets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BucketProgressServiceImpl implements BucketProgressService {
+    private static final int BACKFILL_SIZE = 1000;
+    // 버킷 컬럼이 있는 테이블 → id 컬럼
+    private static final Map<String, String> BUCKET_TABLES = Map.of(
+            "member", "member_id",
+            "cafe", "cafe_id",
+            "feed", "feed_id");
+
+    private final BucketProgressRepository bucketProgressRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Integer> nextBuckets(String jobName, int cycle) {
+        Map<Integer, LocalDateTime> processed = new HashMap<>();
+        bucketProgressRepository.findAllByJobName(jobName)
+                .forEach(progress -> processed.put(progress.getBucket(), progress.getProcessedAt()));
+
+        return IntStream.range(0, Buckets.COUNT).boxed()
+                .sorted(Comparator.comparing((Integer bucket) -> processed.get(bucket), Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(Comparator.naturalOrder()))
+                .limit(Math.max(1, Buckets.COUNT / Math.max(1, cycle)))
+                .sorted()
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void markProcessed(String jobName, Collection<Integer> buckets) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, BucketProgress> existing = bucketProgressRepository.findAllByJobNameAndBucketIn(jobName, buckets).stream()
+                .collect(Collectors.toMap(BucketProgress::getBucket, Function.identity()));
+
+        for (Integer bucket : buckets) {
+            BucketProgress progress = existing.get(bucket);
+            if (progress != null) {
+                progress.process(now);
+                continue;
+            }
+            bucketProgressRepository.save(BucketProgress.builder()
+                    .jobName(jobName)
+                    .bucket(bucket)
+                    .processedAt(now)
+                    .build());
+        }
+    }
+
+    // 컬럼 추가 전에 있던 행은 버킷이 비어 있으므로 시작 시 채운다. (여러 서버가 동시에 실행해도 같은 값)
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillBuckets() {
+        BUCKET_TABLES.forEach((table, idColumn) -> {
+            int updated = 0;
+            while (true) {
+                List<String> ids = jdbcTemplate.queryForList("SELECT " + idColumn + " FROM " + table
+                        + " WHERE bucket IS NULL LIMIT " + BACKFILL_SIZE, String.class);
+                if (ids.isEmpty()) break;
+                jdbcTemplate.batchUpdate("UPDATE " + table + " SET bucket = ? WHERE " + idColumn + " = ?", ids, ids.size(),
+                        (ps, id) -> {
+                            ps.setInt(1, Buckets.of(id));
+                            ps.setString(2, id);
+                        });
+                updated += ids.size();
+            }
+            if (updated > 0) log.info(table + ": 버킷 " + updated + "건 채움");
+        });
+    }
+}
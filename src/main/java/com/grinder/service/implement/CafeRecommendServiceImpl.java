@@ -0,0 +1,201 @@
+package com.grinder.service.implement;
+
+import com.grinder.domain.dto.AnalysisTagDTO;
+import com.grinder.domain.entity.Cafe;
+import com.grinder.repository.CafeRepository;
+import com.grinder.repository.queries.AnalysisTagQueryRepository;
+import com.grinder.repository.queries.BookmarkQueryRepository;
+import com.grinder.repository.queries.CafeQueryRepository;
+import com.grinder.service.CafeRecommendService;
+import com.grinder.service.MessageService;
+import com.grinder.utils.TagVector;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 관심 태그 기반 카페 추천
+ * 회원 관심 태그 가중치(AnalysisTag)와 카페별 태그 분포(공개 피드의 태그 개수)의 코사인 유사도로 점수를 매겨
+ * 북마크하지 않은 카페 중 상위 TOP_K 개를 알림 메시지로 보낸다.
+ * 카페 태그 분포는 한 번 읽어 CAFE_VECTOR_TTL 동안 메모리에 보관하고, 점수 계산은 회원별로 병렬 처리한다.
+ * 최근 RESEND_AFTER 안에 추천을 보낸 회원은 그 뒤로 관심 태그가 바뀌지 않았으면 점수 계산 없이 건너뛰고,
+ * 다시 계산한 결과가 지난번(AnalysisTag.recommendedCafes)과 같아도 보내지 않는다.
+ * 메시지는 MessageService.sendAdminMessages 로 한 번에 batch insert 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CafeRecommendServiceImpl implements CafeRecommendService {
+    private static final int TOP_K = 3;
+    private static final int INTEREST_TAG_SIZE = 3;
+    private static final String ADMIN_NAME = "Alan";
+    private static final Duration CAFE_VECTOR_TTL = Duration.ofHours(1);
+    // 같은 추천이라도 이 기간이 지나면 다시 보낸다.
+    private static final Duration RESEND_AFTER = Duration.ofDays(30);
+
+    private final AnalysisTagQueryRepository analysisTagQueryRepository;
+    private final CafeQueryRepository cafeQueryRepository;
+    private final BookmarkQueryRepository bookmarkQueryRepository;
+    private final CafeRepository cafeRepository;
+    private final MessageService messageService;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private Map<String, TagVector> cafeVectors;
+    private long cafeVectorsLoadedAt;
+
+    /**
+     * @param memberIds : 추천 대상 회원 id (관심 태그가 없는 회원은 건너뛴다)
+     * @return : 보낸 추천 메시지 수
+     */
+    @Override
+    @Transactional
+    public int recommendCafes(List<String> memberIds) {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, TagVector> memberVectors = analysisTagQueryRepository.findTagVectors(memberIds);
+        memberVectors.values().removeIf(TagVector::isEmpty);
+        if (memberVectors.isEmpty()) return 0;
+        int targets = memberVectors.size();
+
+        // RESEND_AFTER 안에 추천을 보냈고 그 뒤로 관심 태그가 바뀌지 않은 회원은 점수 계산부터 건너뛴다.
+        Map<String, AnalysisTagDTO.RecommendedCafes> previous = analysisTagQueryRepository.findRecommendedCafes(memberVectors.keySet());
+        Map<String, String> recent = new HashMap<>();
+        previous.forEach((memberId, recommended) -> {
+            if (isRecent(recommended, now)) recent.put(memberId, recommended.getCafes());
+        });
+        memberVectors.entrySet().removeIf(entry -> recent.containsKey(entry.getKey())
+                && !isChangedSince(entry.getValue(), previous.get(entry.getKey()).getRecommendedAt()));
+        int unchanged = targets - memberVectors.size();
+
+        Map<String, String> contents = new HashMap<>();
+        Map<String, String> sentKeys = new HashMap<>();
+        if (!memberVectors.isEmpty()) {
+            Map<String, TagVector> cafes = findCafeVectors();
+            Map<String, Set<String>> bookmarked = bookmarkQueryRepository.findBookmarkedCafeIds(memberVectors.keySet());
+
+            Map<String, List<Candidate>> ranked = memberVectors.entrySet().parallelStream()
+                    .collect(Collectors.toConcurrentMap(Map.Entry::getKey, entry ->
+                            rank(entry.getValue(), cafes, bookmarked.getOrDefault(entry.getKey(), Set.of()))));
+            ranked.values().removeIf(List::isEmpty);
+
+            if (!ranked.isEmpty()) {
+                Set<String> cafeIds = ranked.values().stream()
+                        .flatMap(List::stream)
+                        .map(Candidate::getCafeId)
+                        .collect(Collectors.toSet());
+                Map<String, Cafe> cafeById = cafeRepository.findAllById(cafeIds).stream()
+                        .collect(Collectors.toMap(Cafe::getCafeId, Function.identity()));
+
+                for (Map.Entry<String, List<Candidate>> entry : ranked.entrySet()) {
+                    String memberId = entry.getKey();
+                    List<Cafe> recommended = entry.getValue().stream()
+                            .map(candidate -> cafeById.get(candidate.getCafeId()))
+                            .filter(Objects::nonNull)
+                            .toList();
+                    if (recommended.isEmpty()) continue;
+
+                    // 최근에 같은 카페를 같은 순서로 추천했다면 다시 보내지 않는다. (RESEND_AFTER 가 지나면 다시 보낸다)
+                    String key = recommendedKey(recommended);
+                    if (key.equals(recent.get(memberId))) {
+                        unchanged++;
+                        continue;
+                    }
+                    contents.put(memberId, content(memberVectors.get(memberId), recommended));
+                    sentKeys.put(memberId, key);
+                }
+            }
+        }
+
+        int sent = messageService.sendAdminMessages(ADMIN_NAME, contents);
+        Timestamp recommendedAt = Timestamp.valueOf(now);
+        List<Object[]> updates = sentKeys.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), recommendedAt, entry.getKey()})
+                .toList();
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE analysis_tag SET recommended_cafes = ?, recommended_at = ? WHERE member_id = ?", updates);
+        }
+
+        meterRegistry.counter("grinder.recommend.messages", "result", "sent").increment(sent);
+        meterRegistry.counter("grinder.recommend.messages", "result", "unchanged").increment(unchanged);
+        long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+        log.info("카페 추천 : 회원 " + targets + "명, 발송 " + sent + "건, 변경 없음 " + unchanged + "건, "
+                + elapsed + "ms (" + (sent * 1000L / elapsed) + "건/초)");
+        return sent;
+    }
+
+    private boolean isRecent(AnalysisTagDTO.RecommendedCafes recommended, LocalDateTime now) {
+        return recommended.getRecommendedAt() != null && recommended.getRecommendedAt().isAfter(now.minus(RESEND_AFTER));
+    }
+
+    // 추천 이후 관심 태그 가중치가 갱신되었는지 (감쇠 시각이 없으면 알 수 없으므로 바뀐 것으로 본다)
+    private boolean isChangedSince(TagVector vector, LocalDateTime recommendedAt) {
+        return vector.getAsOf() == null || vector.getAsOf().isAfter(recommendedAt);
+    }
+
+    // 추천 결과 비교용 키 (실제로 보낸 카페 id 를 순위 순으로 연결)
+    private String recommendedKey(List<Cafe> cafes) {
+        return cafes.stream().map(Cafe::getCafeId).collect(Collectors.joining(","));
+    }
+
+    // 점수가 높은 카페 TOP_K 개 (점수 내림차순, 유사도 0 은 제외)
+    private List<Candidate> rank(TagVector member, Map<String, TagVector> cafes, Set<String> excluded) {
+        PriorityQueue<Candidate> top = new PriorityQueue<>(Comparator.comparingDouble(Candidate::getScore));
+        cafes.forEach((cafeId, cafe) -> {
+            if (excluded.contains(cafeId)) return;
+            double score = member.cosine(cafe);
+            if (score <= 0) return;
+            if (top.size() < TOP_K) {
+                top.offer(new Candidate(cafeId, score));
+            } else if (score > top.peek().getScore()) {
+                top.poll();
+                top.offer(new Candidate(cafeId, score));
+            }
+        });
+
+        List<Candidate> sorted = new ArrayList<>(top);
+        sorted.sort(Comparator.comparingDouble(Candidate::getScore).reversed());
+        return sorted;
+    }
+
+    private String content(TagVector member, List<Cafe> cafes) {
+        StringBuilder content = new StringBuilder("관심 태그(")
+                .append(member.summary(INTEREST_TAG_SIZE))
+                .append(")와 어울리는 카페를 추천해 드려요.");
+        for (int i = 0; i < cafes.size(); i++) {
+            Cafe cafe = cafes.get(i);
+            content.append("\n").append(i + 1).append(". ").append(cafe.getName()).append(" (").append(cafe.getAddress()).append(")");
+        }
+        return content.toString();
+    }
+
+    // 파티션 스레드들이 함께 사용하므로 만료 시 한 스레드만 다시 읽는다.
+    private synchronized Map<String, TagVector> findCafeVectors() {
+        long now = System.currentTimeMillis();
+        if (cafeVectors == null || now - cafeVectorsLoadedAt > CAFE_VECTOR_TTL.toMillis()) {
+            cafeVectors = cafeQueryRepository.findAllTagVectors();
+            cafeVectorsLoadedAt = now;
+            log.info("카페 태그 분포 갱신 (카페 " + cafeVectors.size() + "개)");
+        }
+        return cafeVectors;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Candidate {
+        private String cafeId;
+        private double score;
+    }
+}
@@ -9,7 +9,7 @@ import com.grinder.repository.CafeRegisterRepository;
 import com.grinder.repository.CafeRepository;
 import com.grinder.repository.queries.CafeQueryRepository;
 import com.grinder.service.CafeService;
-import com.grinder.service.CafeSummaryService;
+import com.grinder.service.CafeSummaryOutboxService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -27,7 +27,7 @@ public class CafeServiceImpl implements CafeService {
 
     private final CafeRepository cafeRepository;
     private final CafeRegisterRepository cafeRegisterRepository;
-    private final CafeSummaryService cafeSummaryService;
+    private final CafeSummaryOutboxService cafeSummaryOutboxService;
     private final CafeQueryRepository cafeQueryRepository;
 
     @Override
@@ -44,7 +44,7 @@ public class CafeServiceImpl implements CafeService {
 
         Cafe result = cafeRepository.save(cafe);
 
-        cafeSummaryService.saveCafeSummary(result.getCafeId());
+        cafeSummaryOutboxService.requestSummary(result.getCafeId());
     }
 
     @Override
@@ -0,0 +1,131 @@
+package com.grinder.service.implement;
+
+import com.grinder.domain.entity.OutboxEvent;
+import com.grinder.domain.enums.OutboxEventType;
+import com.grinder.domain.enums.OutboxStatus;
+import com.grinder.repository.OutboxEventRepository;
+import com.grinder.service.CafeSummaryOutboxService;
+import com.grinder.service.CafeSummaryService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 카페 요약 생성 아웃박스
+ * 1. 카페 등록 트랜잭션에서는 CAFE_SUMMARY_REQUESTED 이벤트 행만 기록한다.
+ * 2. 커밋 직후와 주기적으로 처리할 차례가 된 이벤트를 SKIP LOCKED 로 잠가 가져가고, 점유 시간(LEASE)을 기록한 뒤 바로 커밋한다.
+ * 3. 요약 워커 풀(summaryExecutor)이 트랜잭션 밖에서 요약을 만들어 저장하고 이벤트를 삭제한다.
+ * 실패하면 지수 backoff 후 재시도하고, MAX_ATTEMPTS 번 실패한 이벤트는 FAILED 로 남긴다.
+ * 워커가 끝내지 못한 이벤트(서버 종료 등)는 점유 시간이 지나면 다른 서버가 다시 가져간다.
+ * 가져갈 때마다 늘어나는 attemptCount 를 점유 표시로 사용해, 처리 중 점유를 잃은 워커는 삭제나 실패 기록을 하지 않는다.
+ */
+@Slf4j
+@Service
+public class CafeSummaryOutboxServiceImpl implements CafeSummaryOutboxService {
+    private static final int BATCH_SIZE = 20;
+    private static final int MAX_ATTEMPTS = 6;
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration BACKOFF = Duration.ofMinutes(1);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final CafeSummaryService cafeSummaryService;
+    private final ThreadPoolTaskExecutor summaryExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    public CafeSummaryOutboxServiceImpl(OutboxEventRepository outboxEventRepository,
+                                        CafeSummaryService cafeSummaryService,
+                                        @Qualifier("summaryExecutor") ThreadPoolTaskExecutor summaryExecutor,
+                                        PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.cafeSummaryService = cafeSummaryService;
+        this.summaryExecutor = summaryExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void requestSummary(String cafeId) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(OutboxEventType.CAFE_SUMMARY_REQUESTED)
+                .aggregateId(cafeId)
+                .build());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatchAsync();
+            return;
+        }
+        // 커밋 이후에만 처리 시작 (롤백되면 이벤트도 없다)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatchAsync();
+            }
+        });
+    }
+
+    @Override
+    @Scheduled(initialDelay = 30000, fixedDelay = 30000)
+    public void dispatchPending() {
+        List<String> eventIds = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> events = outboxEventRepository.findClaimable(now, BATCH_SIZE);
+            events.forEach(event -> event.claim(now.plus(LEASE)));
+            return events.stream().map(OutboxEvent::getEventId).toList();
+        });
+        if (eventIds == null) return;
+        eventIds.forEach(eventId -> summaryExecutor.execute(() -> process(eventId)));
+    }
+
+    @Override
+    public void process(String eventId) {
+        OutboxEvent event = outboxEventRepository.findById(eventId).orElse(null);
+        if (event == null || event.getStatus() != OutboxStatus.PENDING) return;
+        // 가져가기 전에 점유 시간이 지났으면 다른 워커에게 맡긴다.
+        if (!event.getAvailableAt().isAfter(LocalDateTime.now())) return;
+        int attemptCount = event.getAttemptCount();
+
+        try {
+            cafeSummaryService.saveCafeSummary(event.getAggregateId());
+        } catch (EntityNotFoundException e) {
+            log.info("(" + event.getAggregateId() + ") 삭제된 카페의 요약 요청을 정리합니다.");
+        } catch (RuntimeException e) {
+            log.warn("(" + event.getAggregateId() + ") 카페 요약 생성 실패 " + attemptCount + "/" + MAX_ATTEMPTS + " : " + e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> recordFailure(eventId, attemptCount, e.getMessage()));
+            return;
+        }
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deleteLeased(eventId, attemptCount));
+        if (deleted == null || deleted == 0) {
+            log.warn("(" + event.getAggregateId() + ") 처리 중 점유 시간이 지나 다른 워커가 가져간 이벤트입니다.");
+        }
+    }
+
+    // 점유 시간 안에 처리할 수 있도록 다른 작업 스레드에서 가져간다.
+    private void dispatchAsync() {
+        try {
+            summaryExecutor.execute(this::dispatchPending);
+        } catch (RuntimeException e) {
+            log.warn("카페 요약 작업 등록 실패, 다음 주기에 처리합니다. : " + e.getMessage());
+        }
+    }
+
+    private void recordFailure(String eventId, int attemptCount, String error) {
+        OutboxEvent event = outboxEventRepository.findLockedById(eventId).orElse(null);
+        if (event == null || event.getStatus() != OutboxStatus.PENDING || event.getAttemptCount() != attemptCount) {
+            log.warn("(" + eventId + ") 점유를 잃은 이벤트라 실패를 기록하지 않습니다.");
+            return;
+        }
+        long delay = Math.min(BACKOFF.toMillis() << Math.min(attemptCount - 1, 10), MAX_BACKOFF.toMillis());
+        event.failAttempt(error, LocalDateTime.now().plus(Duration.ofMillis(delay)), MAX_ATTEMPTS);
+    }
+}
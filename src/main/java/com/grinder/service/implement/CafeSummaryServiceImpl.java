@@ -6,8 +6,8 @@ import com.grinder.domain.entity.Cafe;
 import com.grinder.domain.entity.CafeSummary;
 import com.grinder.repository.CafeRepository;
 import com.grinder.repository.CafeSummaryRepository;
+import com.grinder.service.AlanPromptCacheService;
 import com.grinder.service.CafeSummaryService;
-import com.grinder.utils.AlanAPI;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
@@ -21,7 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CafeSummaryServiceImpl implements CafeSummaryService {
     private final CafeSummaryRepository cafeSummaryRepository;
     private final CafeRepository cafeRepository;
-    private final AlanAPI alanAPI;
+    private final AlanPromptCacheService alanPromptCacheService;
 
     /**
      * 앨런을 사용하여 cafe 정보를 분석
@@ -31,20 +31,21 @@ public class CafeSummaryServiceImpl implements CafeSummaryService {
      */
     public AlanDTO.AlanResponse analysisCafe(String cafeId) {
         Cafe cafe = cafeRepository.findById(cafeId).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 카페입니다."));
-        AlanDTO.AlanResponse result = alanAPI.requestSummary(cafe.getName(), cafe.getAddress());
+        AlanDTO.AlanResponse result = alanPromptCacheService.requestSummary(cafe.getName(), cafe.getAddress());
         cafeSummaryRepository.save(CafeSummary.builder().cafeId(cafeId).summary(result.getContent()).build());
         return result;
     }
 
     /**
-     * 카페 정보 최신화
+     * 카페 정보 최신화 (관리자)
+     * 캐시된 응답을 쓰지 않고 앨런에 다시 요청한다.
      * @return : 최신정보 업데이트
      */
     @Transactional
     public boolean updateCafeSummary(String cafeId) {
         Cafe cafe = cafeRepository.findById(cafeId).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 카페입니다."));
         CafeSummary summary = cafeSummaryRepository.findById(cafeId).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 데이터입니다."));
-        AlanDTO.AlanResponse result = alanAPI.requestSummary(cafe.getName(), cafe.getAddress());
+        AlanDTO.AlanResponse result = alanPromptCacheService.refreshSummary(cafe.getName(), cafe.getAddress());
         summary.setSummary(result.getContent());
         return true;
     }
@@ -66,10 +67,13 @@ public class CafeSummaryServiceImpl implements CafeSummaryService {
         return new CafeSummaryDTO.CafeSummaryResponse(cafe, summary);
     }
 
-    @Transactional
+    /**
+     * 카페 등록 시 요약 저장 (CafeSummaryOutboxService 워커에서 호출)
+     * 앨런 요청 동안 DB 연결을 잡지 않도록 트랜잭션 없이 조회와 저장을 나눠 실행하고, 실패는 호출한 쪽에서 재시도한다.
+     */
     public void saveCafeSummary(String cafeId) {
         Cafe cafe = cafeRepository.findById(cafeId).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 카페입니다."));
-        String content = alanAPI.requestSummary(cafe.getName(), cafe.getAddress()).getContent();
+        String content = alanPromptCacheService.requestSummary(cafe.getName(), cafe.getAddress()).getContent();
 
         CafeSummary cafeSummary = CafeSummary
                 .builder()
@@ -0,0 +1,257 @@
+package com.grinder.service.implement;
+
+import com.grinder.service.ClusterSchedulerService;
+import com.grinder.utils.Shard;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 여러 서버에서 하루 한 번 실행하는 스케줄 작업 조정 (Redis)
+ * - 서버 목록 : scheduler:nodes (sorted set, 서버 id → 마지막 heartbeat 시각), node-ttl 동안 heartbeat 가 없으면 제외
+ * - 분할 실행 : 처음 시작한 서버가 scheduler:plan:{작업}:{날짜} 에 조각 수(살아 있는 서버 수 x shards-per-node)를 정하고,
+ *   각 서버는 자기 순번의 조각부터 scheduler:shard:{작업}:{날짜}:{조각} 을 SET NX 로 가져가 처리한다.
+ *   먼저 끝난 서버는 아직 아무도 가져가지 않은 조각을 이어서 처리하므로 서버가 늘면 전체 작업 시간이 줄어든다.
+ * - 조각 임대 : 조각 키는 짧은 임대 시간(lease)으로 잡고 처리하는 동안 lease/3 마다 연장한다.
+ *   성공하면 회차 동안 유지되는 완료 표시로 바꾸고, 실패하면 바로 풀어 다른 서버가 가져갈 수 있게 한다.
+ *   서버가 죽으면 연장이 멈춰 임대가 만료되므로 조각이 그 회차 내내 묶이지 않는다.
+ * - 완료 대기 : 각 서버는 모든 조각이 완료 표시가 될 때까지 남은 조각을 기다리며, 해제되거나 임대가 만료된 조각을 다시 가져간다.
+ *   자기가 실패한 조각은 다시 잡지 않으므로 서버가 하나뿐이면 그 조각은 BucketProgressService 가 다음 회차에 다시 처리한다.
+ * - 회차 값 : 조각 수처럼 서버마다 같아야 하는 값은 scheduler:plan:{이름}:{날짜} 에 처음 제안된 값으로 고정한다.
+ * Redis 장애로 분할 정보를 정하지 못하면 모든 서버가 전체를 중복 실행하지 않도록 이번 회차를 건너뛴다.
+ */
+@Slf4j
+@Service
+public class ClusterSchedulerServiceImpl implements ClusterSchedulerService {
+    private static final String NODES_KEY = "scheduler:nodes";
+    private static final String PLAN_PREFIX = "scheduler:plan:";
+    private static final String SHARD_PREFIX = "scheduler:shard:";
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    // 실행 회차 키 보관 시간 (다음 날 같은 작업 전에 만료)
+    private static final Duration RUN_TTL = Duration.ofHours(23);
+    private static final String DONE_PREFIX = "done:";
+
+    // KEYS[1]: 조각 키, ARGV[1]: 서버 id, ARGV[2]: 임대 시간(ms). 아직 이 서버의 임대일 때만 연장
+    private static final RedisScript<Long> RENEW = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return 0",
+            Long.class);
+    // KEYS[1]: 조각 키, ARGV[1]: 서버 id. 아직 이 서버의 임대일 때만 해제
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+    // KEYS[1]: 조각 키, ARGV[1]: 서버 id, ARGV[2]: 완료 표시, ARGV[3]: 회차 유지 시간(ms). 아직 이 서버의 임대일 때만 완료 처리
+    private static final RedisScript<Long> COMPLETE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 end " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration nodeTtl;
+    private final int shardsPerNode;
+    private final Duration lease;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ScheduledExecutorService leaseRenewer = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "scheduler-lease");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ClusterSchedulerServiceImpl(StringRedisTemplate stringRedisTemplate,
+                                       @Value("${scheduler.cluster.node-ttl:30s}") Duration nodeTtl,
+                                       @Value("${scheduler.cluster.shards-per-node:1}") int shardsPerNode,
+                                       @Value("${scheduler.cluster.lease:60s}") Duration lease) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.nodeTtl = nodeTtl;
+        this.shardsPerNode = Math.max(1, shardsPerNode);
+        this.lease = lease;
+    }
+
+    @PostConstruct
+    public void register() {
+        heartbeat();
+    }
+
+    @PreDestroy
+    public void unregister() {
+        leaseRenewer.shutdownNow();
+        try {
+            stringRedisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+        } catch (DataAccessException e) {
+            log.warn("스케줄러 서버 등록 해제 실패 : " + e.getMessage());
+        }
+    }
+
+    @Override
+    @Scheduled(initialDelay = 10000, fixedDelay = 10000)
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            stringRedisTemplate.opsForZSet().add(NODES_KEY, nodeId, now);
+            stringRedisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, now - nodeTtl.toMillis());
+        } catch (DataAccessException e) {
+            log.warn("스케줄러 heartbeat 실패 : " + e.getMessage());
+        }
+    }
+
+    @Override
+    public List<String> findLiveNodes() {
+        long now = System.currentTimeMillis();
+        Set<String> nodes = stringRedisTemplate.opsForZSet().rangeByScore(NODES_KEY, now - nodeTtl.toMillis(), Double.POSITIVE_INFINITY);
+        if (nodes == null) return Collections.emptyList();
+        List<String> sorted = new ArrayList<>(nodes);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void runSharded(String jobName, Consumer<Shard> task) {
+        String runKey = runKey();
+        List<String> nodes;
+        int count;
+        try {
+            nodes = findLiveNodes();
+            int proposed = Math.max(1, nodes.size()) * shardsPerNode;
+            count = Integer.parseInt(agree(jobName, () -> String.valueOf(proposed)));
+        } catch (DataAccessException e) {
+            log.warn(jobName + ": 분할 정보 조회 실패, 이번 회차를 건너뜁니다. : " + e.getMessage());
+            return;
+        }
+
+        // 모든 조각이 완료될 때까지 돈다. 다른 서버가 임대 중인 조각은 완료되거나 임대가 만료(서버 중단)될 때까지 기다리고,
+        // 해제된 조각(다른 서버에서 실패)은 다시 가져간다. 이 서버에서 실패한 조각은 다시 잡지 않는다.
+        int start = Math.max(0, nodes.indexOf(nodeId)) * shardsPerNode;
+        Set<Integer> failed = new HashSet<>();
+        int processed = 0;
+        while (true) {
+            boolean waiting = false;
+            boolean progressed = false;
+            for (int i = 0; i < count; i++) {
+                int index = (start + i) % count;
+                if (failed.contains(index)) continue;
+                String shardKey = SHARD_PREFIX + jobName + ":" + runKey + ":" + index;
+                String holder;
+                try {
+                    holder = stringRedisTemplate.opsForValue().get(shardKey);
+                } catch (DataAccessException e) {
+                    log.warn(jobName + ": 조각 상태 조회 실패, 남은 조각은 처리하지 않습니다. : " + e.getMessage());
+                    log.info(jobName + ": 전체 " + count + "개 중 " + processed + "개 조각 처리");
+                    return;
+                }
+                if (holder != null && holder.startsWith(DONE_PREFIX)) continue;
+                if (holder == null && claim(jobName, shardKey, index)) {
+                    progressed = true;
+                    if (runLeased(jobName, shardKey, () -> task.accept(new Shard(index, count)))) processed++;
+                    else failed.add(index);
+                    continue;
+                }
+                waiting = true;
+            }
+            if (!waiting) break;
+            if (!progressed && !pause(lease.toMillis() / 3)) break;
+        }
+        log.info(jobName + ": 전체 " + count + "개 중 " + processed + "개 조각 처리" + (failed.isEmpty() ? "" : ", 실패 " + failed.size() + "개"));
+    }
+
+    @Override
+    public String agree(String name, Supplier<String> proposal) {
+        String key = PLAN_PREFIX + name + ":" + runKey();
+        try {
+            String planned = stringRedisTemplate.opsForValue().get(key);
+            if (planned != null) return planned;
+            String proposed = proposal.get();
+            stringRedisTemplate.opsForValue().setIfAbsent(key, proposed, RUN_TTL);
+            planned = stringRedisTemplate.opsForValue().get(key);
+            return planned == null ? proposed : planned;
+        } catch (DataAccessException e) {
+            log.warn(name + ": 회차 값 조회 실패, 이 서버의 값을 사용합니다. : " + e.getMessage());
+            return proposal.get();
+        }
+    }
+
+    // 다른 서버의 임대를 기다린다. 중단되면 false
+    private boolean pause(long millis) {
+        try {
+            Thread.sleep(Math.max(1, millis));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean claim(String jobName, String shardKey, int index) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(shardKey, nodeId, lease));
+        } catch (DataAccessException e) {
+            log.warn(jobName + ": " + (index + 1) + "번 조각 할당 실패 : " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 임대를 연장하면서 조각 실행. 성공 시 완료 표시, 실패 시 임대를 풀어 남은 조각을 기다리는 다른 서버가 다시 가져가게 한다.
+     * @return : 성공 여부
+     */
+    private boolean runLeased(String jobName, String shardKey, Runnable task) {
+        long renewMillis = Math.max(1, lease.toMillis() / 3);
+        ScheduledFuture<?> renewal = leaseRenewer.scheduleAtFixedRate(() -> execute(RENEW, shardKey,
+                nodeId, String.valueOf(lease.toMillis())), renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            renewal.cancel(false);
+            execute(RELEASE, shardKey, nodeId);
+            log.error(jobName + ": 조각 처리 실패, 임대를 해제합니다. (" + shardKey + ")", e);
+            return false;
+        }
+        renewal.cancel(false);
+        if (execute(COMPLETE, shardKey, nodeId, DONE_PREFIX + nodeId, String.valueOf(RUN_TTL.toMillis())) == 0) {
+            log.warn(jobName + ": 처리 중 조각 임대를 잃었습니다. (" + shardKey + ")");
+        }
+        return true;
+    }
+
+    private long execute(RedisScript<Long> script, String key, String... args) {
+        try {
+            Long result = stringRedisTemplate.execute(script, List.of(key), (Object[]) args);
+            return result == null ? 0 : result;
+        } catch (DataAccessException e) {
+            log.warn("스케줄러 조각 임대 갱신 실패 (" + key + ") : " + e.getMessage());
+            return 0;
+        }
+    }
+
+    private String runKey() {
+        return LocalDate.now(ZONE).toString();
+    }
+}
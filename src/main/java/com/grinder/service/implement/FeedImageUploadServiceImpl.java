@@ -0,0 +1,240 @@
+package com.grinder.service.implement;
+
+import com.grinder.domain.entity.Feed;
+import com.grinder.domain.entity.Image;
+import com.grinder.domain.entity.PendingUpload;
+import com.grinder.domain.enums.ContentType;
+import com.grinder.domain.enums.UploadStatus;
+import com.grinder.exception.FileRoadFailedException;
+import com.grinder.repository.FeedRepository;
+import com.grinder.repository.ImageRepository;
+import com.grinder.repository.PendingUploadRepository;
+import com.grinder.service.AwsS3Service;
+import com.grinder.service.FeedImageUploadService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 피드 이미지 업로드 파이프라인
+ * 1. 피드 트랜잭션 안에서는 이미지를 로컬 디스크에 임시 저장하고 PendingUpload 행만 기록한다.
+ * 2. 커밋 이후 업로드 워커 풀(imageUploadExecutor)이 S3 업로드 후 Image 행을 기록한다.
+ * 3. 피드의 대기 업로드가 모두 끝나면 피드를 이미지 준비 완료 상태로 바꾼다.
+ * 실패한 업로드는 스케줄러가 재시도하고, 오래된 업로드 행과 임시 파일은 정리한다.
+ */
+@Slf4j
+@Service
+public class FeedImageUploadServiceImpl implements FeedImageUploadService {
+    private static final int MAX_RETRIES = 3;
+    // 마지막 시도 이후 이 시간이 지난 대기 업로드를 다시 시도 (재시도마다 updatedAt 갱신 → 백오프)
+    private static final Duration STALE_AFTER = Duration.ofMinutes(1);
+    // 이 시간이 지나도 남아 있는 업로드 행은 고아로 보고 정리
+    private static final Duration ORPHAN_AFTER = Duration.ofDays(1);
+
+    private final PendingUploadRepository pendingUploadRepository;
+    private final ImageRepository imageRepository;
+    private final FeedRepository feedRepository;
+    private final AwsS3Service awsS3Service;
+    private final ThreadPoolTaskExecutor imageUploadExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Path spoolDir;
+    // 워커가 처리 중인 업로드 (재시도 스케줄러와의 중복 업로드 방지)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public FeedImageUploadServiceImpl(PendingUploadRepository pendingUploadRepository,
+                                      ImageRepository imageRepository,
+                                      FeedRepository feedRepository,
+                                      AwsS3Service awsS3Service,
+                                      @Qualifier("imageUploadExecutor") ThreadPoolTaskExecutor imageUploadExecutor,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${feed.image.spool-dir:${java.io.tmpdir}/grinder-upload}") String spoolDir) {
+        this.pendingUploadRepository = pendingUploadRepository;
+        this.imageRepository = imageRepository;
+        this.feedRepository = feedRepository;
+        this.awsS3Service = awsS3Service;
+        this.imageUploadExecutor = imageUploadExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.spoolDir = Paths.get(spoolDir);
+    }
+
+    @Override
+    public void stageFeedImages(Feed feed, List<MultipartFile> imageList) {
+        if (imageList == null) return;
+        List<String> uploadIds = new ArrayList<>();
+        List<Path> spoolPaths = new ArrayList<>();
+        for (MultipartFile image : imageList) {
+            if (image == null || image.isEmpty()) continue;
+            Path spoolPath = spool(image);
+            spoolPaths.add(spoolPath);
+            PendingUpload pendingUpload = pendingUploadRepository.save(PendingUpload.builder()
+                    .contentId(feed.getFeedId())
+                    .contentType(ContentType.FEED)
+                    .spoolPath(spoolPath.toString())
+                    .originalFileName(Optional.ofNullable(image.getOriginalFilename()).orElse("image"))
+                    .build());
+            uploadIds.add(pendingUpload.getUploadId());
+        }
+        if (uploadIds.isEmpty()) return;
+        feed.waitForImages();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            uploadIds.forEach(this::dispatch);
+            return;
+        }
+        // 커밋 이후에만 업로드 시작, 롤백되면 임시 파일 삭제
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    uploadIds.forEach(FeedImageUploadServiceImpl.this::dispatch);
+                } else {
+                    spoolPaths.forEach(FeedImageUploadServiceImpl.this::deleteSpoolFile);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void discardPendingImages(String feedId) {
+        List<PendingUpload> pendingUploads = pendingUploadRepository.findAllByContentIdAndContentType(feedId, ContentType.FEED);
+        pendingUploads.forEach(pendingUpload -> deleteSpoolFile(Paths.get(pendingUpload.getSpoolPath())));
+        pendingUploadRepository.deleteAll(pendingUploads);
+    }
+
+    @Override
+    public void upload(String uploadId) {
+        PendingUpload pendingUpload = pendingUploadRepository.findById(uploadId).orElse(null);
+        if (pendingUpload == null || pendingUpload.getStatus() != UploadStatus.PENDING) return;
+
+        Path spoolPath = Paths.get(pendingUpload.getSpoolPath());
+        // 다른 서버에 임시 저장된 파일이면 해당 서버의 워커가 처리
+        if (!Files.exists(spoolPath)) return;
+
+        String imageUrl;
+        try {
+            imageUrl = awsS3Service.uploadSpooledImage(spoolPath, pendingUpload.getOriginalFileName());
+        } catch (Exception e) {
+            log.warn("이미지 업로드 실패 (uploadId: " + uploadId + ")", e);
+            transactionTemplate.executeWithoutResult(status -> recordFailure(uploadId));
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> complete(uploadId, imageUrl));
+        deleteSpoolFile(spoolPath);
+    }
+
+    @Override
+    @Scheduled(fixedDelay = 60000)
+    public void retryStaleUploads() {
+        LocalDateTime staleTime = LocalDateTime.now().minus(STALE_AFTER);
+        pendingUploadRepository.findAllByStatusAndUpdatedAtBefore(UploadStatus.PENDING, staleTime).stream()
+                .filter(pendingUpload -> Files.exists(Paths.get(pendingUpload.getSpoolPath())))
+                .map(PendingUpload::getUploadId)
+                .forEach(this::dispatch);
+
+        // 동시에 끝난 업로드로 인해 준비 완료 처리가 누락된 피드 보정
+        transactionTemplate.executeWithoutResult(status ->
+                feedRepository.findFeedsWithFinishedUploads().forEach(Feed::imageReady));
+    }
+
+    @Override
+    @Scheduled(fixedDelay = 3600000)
+    public void cleanUpOrphanedUploads() {
+        LocalDateTime orphanTime = LocalDateTime.now().minus(ORPHAN_AFTER);
+        List<PendingUpload> orphans = new ArrayList<>();
+        orphans.addAll(pendingUploadRepository.findAllByStatusAndUpdatedAtBefore(UploadStatus.FAILED, orphanTime));
+        orphans.addAll(pendingUploadRepository.findAllByStatusAndUpdatedAtBefore(UploadStatus.PENDING, orphanTime));
+        if (orphans.isEmpty()) return;
+
+        orphans.forEach(pendingUpload -> deleteSpoolFile(Paths.get(pendingUpload.getSpoolPath())));
+        pendingUploadRepository.deleteAll(orphans);
+        log.info("고아 이미지 업로드 " + orphans.size() + "건 정리");
+
+        transactionTemplate.executeWithoutResult(status ->
+                feedRepository.findFeedsWithFinishedUploads().forEach(Feed::imageReady));
+    }
+
+    private void dispatch(String uploadId) {
+        if (!inFlight.add(uploadId)) return;
+        try {
+            imageUploadExecutor.execute(() -> {
+                try {
+                    upload(uploadId);
+                } finally {
+                    inFlight.remove(uploadId);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(uploadId);
+            log.warn("이미지 업로드 작업 등록 실패, 다음 재시도 주기에 처리합니다. (uploadId: " + uploadId + ") : " + e.getMessage());
+        }
+    }
+
+    private void complete(String uploadId, String imageUrl) {
+        // 업로드 중 피드가 수정되어 폐기된 경우
+        PendingUpload pendingUpload = pendingUploadRepository.findById(uploadId).orElse(null);
+        if (pendingUpload == null) {
+            log.info("폐기된 이미지 업로드 (uploadId: " + uploadId + ")");
+            return;
+        }
+        imageRepository.save(Image.builder()
+                .imageUrl(imageUrl)
+                .contentId(pendingUpload.getContentId())
+                .contentType(pendingUpload.getContentType())
+                .build());
+        pendingUploadRepository.delete(pendingUpload);
+
+        if (!pendingUploadRepository.existsByContentIdAndStatus(pendingUpload.getContentId(), UploadStatus.PENDING)) {
+            feedRepository.findById(pendingUpload.getContentId()).ifPresent(Feed::imageReady);
+        }
+    }
+
+    private void recordFailure(String uploadId) {
+        pendingUploadRepository.findById(uploadId).ifPresent(pendingUpload -> {
+            pendingUpload.failAttempt(MAX_RETRIES);
+            if (pendingUpload.getStatus() == UploadStatus.FAILED) {
+                deleteSpoolFile(Paths.get(pendingUpload.getSpoolPath()));
+            }
+        });
+    }
+
+    private Path spool(MultipartFile image) {
+        try {
+            Files.createDirectories(spoolDir);
+            Path spoolPath = spoolDir.resolve(UUID.randomUUID().toString());
+            image.transferTo(spoolPath);
+            return spoolPath;
+        } catch (IOException e) {
+            throw new FileRoadFailedException("이미지 파일 임시 저장에 실패하였습니다.");
+        }
+    }
+
+    private void deleteSpoolFile(Path spoolPath) {
+        try {
+            Files.deleteIfExists(spoolPath);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패 : " + spoolPath, e);
+        }
+    }
+}
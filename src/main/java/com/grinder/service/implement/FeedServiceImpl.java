@@ -6,9 +6,9 @@ import com.grinder.domain.enums.ContentType;
 import com.grinder.repository.CafeRepository;
 import com.grinder.repository.FeedRepository;
 import com.grinder.repository.queries.FeedQueryRepository;
+import com.grinder.security.service.ViewerContext;
 import com.grinder.service.*;
 
-import java.util.ArrayList;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -28,7 +28,10 @@ public class FeedServiceImpl implements FeedService {
     private final CafeRepository cafeRepository;
     private final MemberService memberService;
     private final FeedQueryRepository feedQueryRepository;
-//    private final AwsS3Service awsS3Service;
+    private final FeedImageUploadService feedImageUploadService;
+    private final FollowGraphService followGraphService;
+    // 요청 단위로 한 번만 조회한 로그인 회원의 차단 목록 사용
+    private final ViewerContext viewerContext;
 
     @Override
     public Feed findFeed(String feedId) {
@@ -53,13 +56,8 @@ public class FeedServiceImpl implements FeedService {
         // Tag 저장
         tagService.saveTag(feed, request.getTagNameList());
 
-        // Image 저장, TODO: S3 저장 로직 추가
-        if (imageList == null) {
-            imageList = new ArrayList<>();
-        }
-//        for (MultipartFile image : imageList) {
-//            awsS3Service.uploadSingleImageBucket(image, feed.getFeedId(), ContentType.FEED);
-//        }
+        // Image 저장 : 임시 저장 후 커밋 이후 업로드 워커가 S3에 업로드
+        feedImageUploadService.stageFeedImages(feed, imageList);
 
         return feed;
     }
@@ -70,6 +68,7 @@ public class FeedServiceImpl implements FeedService {
     }
 
     @Override
+    @Transactional
     public Feed updateFeed(String feedId, FeedDTO.FeedRequestDTO request, List<MultipartFile> imageList) {
         // 피드 수정
         Feed feed = findFeed(feedId);
@@ -84,12 +83,8 @@ public class FeedServiceImpl implements FeedService {
         // 이미지 수정
         // TODO: 선택된 것만 수정하기
         imageService.deleteFeedImage(feedId, ContentType.FEED);
-        if (imageList == null) {
-            imageList = new ArrayList<>();
-        }
-//        for (MultipartFile image : imageList) {
-//            awsS3Service.uploadSingleImageBucket(image, feed.getFeedId(), ContentType.FEED);
-//        }
+        feedImageUploadService.discardPendingImages(feedId);
+        feedImageUploadService.stageFeedImages(feed, imageList);
 
         return feed;
     }
@@ -121,31 +116,32 @@ public class FeedServiceImpl implements FeedService {
 
     @Override
     public Slice<FeedDTO.FeedWithImageResponseDTO> findMyPageFeedWithImage(String connectEmail, String myPageEmail, Pageable pageable) {
-        return feedQueryRepository.FindMemberFeedWithImage(connectEmail, myPageEmail, pageable);
+        return feedQueryRepository.FindMemberFeedWithImage(connectEmail, viewerContext.getBlockedIds(), myPageEmail, pageable);
     }
 
     @Override
     public Slice<FeedDTO.FeedWithImageResponseDTO> findCafeFeedWithImage(String connectEmail, String cafeId, Pageable pageable) {
-        return feedQueryRepository.FindCafeFeedWithImage(connectEmail, cafeId, pageable);
+        return feedQueryRepository.FindCafeFeedWithImage(connectEmail, viewerContext.getBlockedIds(), cafeId, pageable);
     }
 
     @Override
     public Slice<FeedDTO.FeedWithImageResponseDTO> searchFeed(String email, String query, Pageable pageable) {
-        return feedQueryRepository.findSearchRecentFeedWithImage(email, query, pageable);
+        return feedQueryRepository.findSearchRecentFeedWithImage(email, viewerContext.getBlockedIds(), query, pageable);
     }
     
     @Override
     public Slice<FeedDTO.FeedWithImageResponseDTO> findRecentFeedWithImage(String email, Pageable pageable) {
-        return feedQueryRepository.findRecentFeedWithImage(email, pageable);
+        return feedQueryRepository.findRecentFeedWithImage(email, viewerContext.getBlockedIds(), pageable);
     }
 
     @Override
     public Slice<FeedDTO.FeedWithImageResponseDTO> RecommendFeedWithImage(String email, Pageable pageable) {
-        return feedQueryRepository.RecommendFeedWithImage(email, pageable);
+        return feedQueryRepository.RecommendFeedWithImage(email, followGraphService.findFollowingIds(email),
+                viewerContext.getBlockedIds(), pageable);
     }
 
     @Override
     public List<FeedDTO.FeedWithImageResponseDTO> findFeedForComment(String email,String feedId) {
-        return feedQueryRepository.findFeedWithImage(email, feedId);
+        return feedQueryRepository.findFeedWithImage(email, viewerContext.getBlockedIds(), feedId);
     }
 }
@@ -0,0 +1,384 @@
+package com.grinder.service.implement;
+
+import com.grinder.domain.dto.FollowDTO;
+import com.grinder.domain.entity.Member;
+import com.grinder.repository.queries.FollowQueryRepository;
+import com.grinder.service.FollowGraphService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 팔로우 그래프
+ * 회원 UUID 를 0부터 시작하는 정수 id 로 바꾸고, 회원별 팔로잉/팔로워 목록을 정렬된 int 배열로 보관한다.
+ * 팔로우 여부 확인, 팔로우 수, 팔로워 목록 조회를 쿼리 없이 처리한다.
+ * 서버 시작 시 전체를 적재하고 FollowServiceImpl 의 추가/삭제가 커밋된 뒤 갱신하며,
+ * 변경은 follow:edge 채널로 "{서버 id}|{+/-}|{회원 id}|{이메일}|{팔로우 회원 id}|{팔로우 이메일}" 을 보내 다른 서버에도 반영한다.
+ * 주기적인 재적재는 메시지 유실 보정용이며, 적재 중 반영된 변경은 기록해 두었다가 새 그래프에 다시 적용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowGraphServiceImpl implements FollowGraphService, MessageListener {
+    private static final ChannelTopic CHANNEL = new ChannelTopic("follow:edge");
+
+    private final FollowQueryRepository followQueryRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final String nodeId = UUID.randomUUID().toString();
+    private Graph graph = new Graph();
+    // 재적재 중 반영된 변경 (재적재 중이 아니면 null)
+    private List<Change> journal;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, CHANNEL);
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelay = 600000, fixedDelay = 600000)
+    public synchronized void reload() {
+        lock.writeLock().lock();
+        try {
+            journal = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Graph loaded;
+        int edgeCount;
+        try {
+            List<FollowDTO.FollowEdgeDTO> edges = followQueryRepository.findAllFollowEdges();
+            loaded = Graph.of(edges);
+            edgeCount = edges.size();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                journal = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        // 조회 이후 반영된 변경을 순서대로 다시 적용한 뒤 교체 (조회에 이미 포함된 변경은 다시 적용해도 같다)
+        lock.writeLock().lock();
+        try {
+            journal.forEach(change -> change.applyTo(loaded));
+            graph = loaded;
+            journal = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("팔로우 그래프 적재 완료 (회원 " + loaded.size + "명, 팔로우 " + edgeCount + "건)");
+    }
+
+    @Override
+    public void addFollow(Member member, Member following) {
+        afterCommit(new Change(true, edge(member, following)));
+    }
+
+    @Override
+    public void removeFollow(Member member, Member following) {
+        afterCommit(new Change(false, edge(member, following)));
+    }
+
+    // 다른 서버에서 반영한 팔로우 변경 (자기 서버가 보낸 메시지는 무시)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 6);
+        if (parts.length < 6 || nodeId.equals(parts[0])) return;
+        apply(new Change("+".equals(parts[1]), new FollowDTO.FollowEdgeDTO(parts[2], parts[3], parts[4], parts[5])));
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋된 뒤에만 반영해 롤백된 팔로우가 그래프에 남지 않게 한다.
+    private void afterCommit(Change change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                    publish(change);
+                }
+            });
+        } else {
+            apply(change);
+            publish(change);
+        }
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            change.applyTo(graph);
+            if (journal != null) journal.add(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void publish(Change change) {
+        FollowDTO.FollowEdgeDTO edge = change.edge;
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL.getTopic(), nodeId + "|" + (change.linked ? "+" : "-") + "|"
+                    + edge.getMemberId() + "|" + edge.getMemberEmail() + "|" + edge.getFollowingId() + "|" + edge.getFollowingEmail());
+        } catch (DataAccessException e) {
+            log.warn("팔로우 변경 전파 실패 : " + e.getMessage());
+        }
+    }
+
+    private FollowDTO.FollowEdgeDTO edge(Member member, Member following) {
+        return new FollowDTO.FollowEdgeDTO(member.getMemberId(), member.getEmail(), following.getMemberId(), following.getEmail());
+    }
+
+    @Override
+    public boolean isFollowing(String email, String followEmail) {
+        lock.readLock().lock();
+        try {
+            Integer from = graph.emailIndex.get(email);
+            Integer to = graph.emailIndex.get(followEmail);
+            if (from == null || to == null) return false;
+            return Arrays.binarySearch(graph.following[from], to) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int countFollowing(String email) {
+        lock.readLock().lock();
+        try {
+            Integer id = graph.emailIndex.get(email);
+            return id == null ? 0 : graph.following[id].length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int countFollowers(String email) {
+        lock.readLock().lock();
+        try {
+            Integer id = graph.emailIndex.get(email);
+            return id == null ? 0 : graph.followers[id].length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<String> findFollowingIds(String email) {
+        lock.readLock().lock();
+        try {
+            Integer id = graph.emailIndex.get(email);
+            if (id == null) return Collections.emptySet();
+            Set<String> memberIds = new HashSet<>();
+            for (int following : graph.following[id]) {
+                memberIds.add(graph.memberIds.get(following));
+            }
+            return memberIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<String> findFollowerIds(String email) {
+        lock.readLock().lock();
+        try {
+            Integer id = graph.emailIndex.get(email);
+            if (id == null) return Collections.emptyList();
+            List<String> memberIds = new ArrayList<>();
+            for (int follower : graph.followers[id]) {
+                memberIds.add(graph.memberIds.get(follower));
+            }
+            return memberIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return : 그래프에 있는 회원의 이메일, 회원 id
+     */
+    @Override
+    public Map<String, String> findAllMembers() {
+        lock.readLock().lock();
+        try {
+            Map<String, String> members = new HashMap<>();
+            graph.emailIndex.forEach((email, id) -> members.put(email, graph.memberIds.get(id)));
+            return members;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 친구의 친구 후보와 공통 팔로우 수
+     * 내가 팔로우하는 회원들이 팔로우하는 회원 중 나 자신과 이미 팔로우한 회원을 제외하고,
+     * 몇 명의 팔로잉을 거쳐 닿는지를 센다.
+     * @return : 후보 회원 id, 공통 팔로우 수
+     */
+    @Override
+    public Map<String, Integer> countTwoHopCandidates(String email) {
+        lock.readLock().lock();
+        try {
+            Integer id = graph.emailIndex.get(email);
+            if (id == null) return Collections.emptyMap();
+            int[] myFollowing = graph.following[id];
+
+            Map<Integer, Integer> counts = new HashMap<>();
+            for (int following : myFollowing) {
+                for (int candidate : graph.following[following]) {
+                    if (candidate == id || Arrays.binarySearch(myFollowing, candidate) >= 0) continue;
+                    counts.merge(candidate, 1, Integer::sum);
+                }
+            }
+
+            Map<String, Integer> candidates = new HashMap<>();
+            counts.forEach((candidate, count) -> candidates.put(graph.memberIds.get(candidate), count));
+            return candidates;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 팔로우 추가(linked) / 삭제
+    private static class Change {
+        private final boolean linked;
+        private final FollowDTO.FollowEdgeDTO edge;
+
+        private Change(boolean linked, FollowDTO.FollowEdgeDTO edge) {
+            this.linked = linked;
+            this.edge = edge;
+        }
+
+        private void applyTo(Graph graph) {
+            if (linked) {
+                int from = graph.intern(edge.getMemberId(), edge.getMemberEmail());
+                int to = graph.intern(edge.getFollowingId(), edge.getFollowingEmail());
+                graph.link(from, to);
+                return;
+            }
+            Integer from = graph.emailIndex.get(edge.getMemberEmail());
+            Integer to = graph.emailIndex.get(edge.getFollowingEmail());
+            if (from == null || to == null) return;
+            graph.unlink(from, to);
+        }
+    }
+
+    /**
+     * 정수 id 기반 인접 배열. 락 밖에서 생성한 뒤 통째로 교체하거나, 쓰기 락 안에서만 수정한다.
+     * 인접 배열은 수정 시 새 배열로 복사하므로 읽기 중인 배열은 바뀌지 않는다.
+     */
+    private static class Graph {
+        private static final int[] EMPTY = new int[0];
+
+        private final Map<String, Integer> idIndex = new HashMap<>();
+        private final Map<String, Integer> emailIndex = new HashMap<>();
+        private final List<String> memberIds = new ArrayList<>();
+        private int[][] following = new int[16][];
+        private int[][] followers = new int[16][];
+        private int size;
+
+        private static Graph of(List<FollowDTO.FollowEdgeDTO> edges) {
+            Graph graph = new Graph();
+            int[] from = new int[edges.size()];
+            int[] to = new int[edges.size()];
+            for (int i = 0; i < edges.size(); i++) {
+                FollowDTO.FollowEdgeDTO edge = edges.get(i);
+                from[i] = graph.intern(edge.getMemberId(), edge.getMemberEmail());
+                to[i] = graph.intern(edge.getFollowingId(), edge.getFollowingEmail());
+            }
+
+            // 회원별 개수를 먼저 세고 배열을 한 번에 채운 뒤 정렬
+            int[] followingCount = new int[graph.size];
+            int[] followerCount = new int[graph.size];
+            for (int i = 0; i < from.length; i++) {
+                followingCount[from[i]]++;
+                followerCount[to[i]]++;
+            }
+            for (int id = 0; id < graph.size; id++) {
+                graph.following[id] = followingCount[id] == 0 ? EMPTY : new int[followingCount[id]];
+                graph.followers[id] = followerCount[id] == 0 ? EMPTY : new int[followerCount[id]];
+                followingCount[id] = 0;
+                followerCount[id] = 0;
+            }
+            for (int i = 0; i < from.length; i++) {
+                graph.following[from[i]][followingCount[from[i]]++] = to[i];
+                graph.followers[to[i]][followerCount[to[i]]++] = from[i];
+            }
+            for (int id = 0; id < graph.size; id++) {
+                Arrays.sort(graph.following[id]);
+                Arrays.sort(graph.followers[id]);
+            }
+            return graph;
+        }
+
+        private int intern(String memberId, String email) {
+            Integer id = idIndex.get(memberId);
+            if (id != null) return id;
+
+            id = size++;
+            if (id == following.length) {
+                following = Arrays.copyOf(following, id * 2);
+                followers = Arrays.copyOf(followers, id * 2);
+            }
+            following[id] = EMPTY;
+            followers[id] = EMPTY;
+            idIndex.put(memberId, id);
+            emailIndex.put(email, id);
+            memberIds.add(memberId);
+            return id;
+        }
+
+        private void link(int from, int to) {
+            following[from] = insert(following[from], to);
+            followers[to] = insert(followers[to], from);
+        }
+
+        private void unlink(int from, int to) {
+            following[from] = remove(following[from], to);
+            followers[to] = remove(followers[to], from);
+        }
+
+        private static int[] insert(int[] ids, int id) {
+            int index = Arrays.binarySearch(ids, id);
+            if (index >= 0) return ids;
+            index = -index - 1;
+            int[] inserted = new int[ids.length + 1];
+            System.arraycopy(ids, 0, inserted, 0, index);
+            inserted[index] = id;
+            System.arraycopy(ids, index, inserted, index + 1, ids.length - index);
+            return inserted;
+        }
+
+        private static int[] remove(int[] ids, int id) {
+            int index = Arrays.binarySearch(ids, id);
+            if (index < 0) return ids;
+            if (ids.length == 1) return EMPTY;
+            int[] removed = new int[ids.length - 1];
+            System.arraycopy(ids, 0, removed, 0, index);
+            System.arraycopy(ids, index + 1, removed, index, ids.length - index - 1);
+            return removed;
+        }
+    }
+}
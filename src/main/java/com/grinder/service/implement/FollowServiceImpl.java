@@ -6,6 +6,7 @@ import com.grinder.domain.entity.Member;
 import com.grinder.repository.FollowRepository;
 import com.grinder.repository.MemberRepository;
 import com.grinder.repository.queries.FollowQueryRepository;
+import com.grinder.service.FollowGraphService;
 import com.grinder.service.FollowService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -24,18 +26,20 @@ public class FollowServiceImpl implements FollowService {
     private final FollowRepository followRepository;
     private final FollowQueryRepository followQueryRepository;
     private final MemberRepository memberRepository;
+    private final FollowGraphService followGraphService;
 
     @Override
-    public Slice<FollowDTO.findAllFollowingResponse> findAllFollowingSlice(String email, Pageable pageable) {
-        Slice<FollowDTO.findAllFollowingResponse> slice = followQueryRepository.findAllFollowingSlice(email, pageable);
+    public Slice<FollowDTO.findAllFollowingResponse> findAllFollowingSlice(String email, Long lastFollowId, Pageable pageable) {
+        Slice<FollowDTO.findAllFollowingResponse> slice = followQueryRepository.findAllFollowingSlice(email, lastFollowId, pageable);
         return slice;
     }
     @Override
-    public Slice<FollowDTO.findAllFollowerResponse> findAllFollowerSlice(String email, Pageable pageable) {
-        Slice<FollowDTO.findAllFollowerResponse> slice = followQueryRepository.findAllFollowerSlice(email, pageable);
+    public Slice<FollowDTO.findAllFollowerResponse> findAllFollowerSlice(String email, Long lastFollowId, Pageable pageable) {
+        Slice<FollowDTO.findAllFollowerResponse> slice = followQueryRepository.findAllFollowerSlice(email, lastFollowId, pageable);
         return slice;
     }
     @Override
+    @Transactional
     public boolean addFollow(String email, String followEmail) {
         if (email.equals(followEmail)) throw new IllegalArgumentException("자기 자신은 추가할 수 없습니다.");
         Member member = memberRepository.findByEmail(email).orElseThrow(() -> new EntityNotFoundException("해당 유저가 존재하지 않습니다."));
@@ -46,9 +50,13 @@ public class FollowServiceImpl implements FollowService {
         }
         Follow follow = Follow.builder().member(member).following(following).build();
         followRepository.save(follow);
+        memberRepository.addFollowingCount(member.getMemberId(), 1);
+        memberRepository.addFollowerCount(following.getMemberId(), 1);
+        followGraphService.addFollow(member, following);
         return true;
     }
     @Override
+    @Transactional
     public boolean deleteFollow(String email, String followEmail) {
         if (!followQueryRepository.existsByMemberEmailAndFollowEmail(email, followEmail)) {
             throw new IllegalArgumentException("존재하지 않는 팔로우 입니다.");
@@ -58,11 +66,26 @@ public class FollowServiceImpl implements FollowService {
 
         Follow follow = followRepository.findByMemberAndFollowing(member,following).orElseThrow(() -> new EntityNotFoundException("해당 유저가 존재하지 않습니다."));
         followRepository.delete(follow);
+        memberRepository.addFollowingCount(member.getMemberId(), -1);
+        memberRepository.addFollowerCount(following.getMemberId(), -1);
+        followGraphService.removeFollow(member, following);
         return true;
     }
 
     @Override
     public boolean existFollow(String email, String followEmail) {
-        return followRepository.existsByMember_EmailAndFollowing_Email(email, followEmail);
+        return followGraphService.isFollowing(email, followEmail);
+    }
+
+    /**
+     * 팔로우 테이블 기준으로 회원의 팔로워/팔로잉 수 재계산 (관리자 수동 실행)
+     * 전체 회원 행을 갱신하므로 카운터가 어긋났을 때만 사용한다. 기존 데이터는 마이그레이션에서 채운다.
+     * @return : 갱신된 회원 수
+     */
+    @Override
+    public int syncFollowCounts() {
+        int updated = memberRepository.syncFollowCounts();
+        log.info("팔로우 수 재계산 완료 (회원 " + updated + "명)");
+        return updated;
     }
 }
@@ -0,0 +1,137 @@
+package com.grinder.service.implement;
+
+import com.grinder.domain.dto.SchedulerLogDTO;
+import com.grinder.domain.entity.SchedulerLog;
+import com.grinder.repository.SchedulerLogRepository;
+import com.grinder.service.ClusterSchedulerService;
+import com.grinder.service.JobTelemetryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 스케줄/배치 작업 실행 기록
+ * 실행이 끝날 때마다 SchedulerLog 로 바로 저장하고 아래 지표로 내보낸다. (job 태그는 조각 번호를 뺀 작업 이름)
+ * - grinder.job.duration{job, result} : 실행 시간
+ * - grinder.job.items{job, type=read|write|skip} : 배치 작업 처리 건수
+ * - grinder.job.retries{job} : 재시도 횟수
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobTelemetryServiceImpl implements JobTelemetryService {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final SchedulerLogRepository schedulerLogRepository;
+    private final ClusterSchedulerService clusterSchedulerService;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void recordTask(String taskName, LocalDateTime startedAt, int attemptCount, Exception error) {
+        LocalDateTime endedAt = LocalDateTime.now();
+        boolean success = error == null;
+        long durationMs = Duration.between(startedAt, endedAt).toMillis();
+
+        meterRegistry.timer("grinder.job.duration", "job", metricName(taskName), "result", result(success))
+                .record(Duration.ofMillis(durationMs));
+        if (attemptCount > 1) meterRegistry.counter("grinder.job.retries", "job", metricName(taskName)).increment(attemptCount - 1);
+
+        save(SchedulerLog.builder()
+                .taskName(taskName)
+                .logMessage(success ? taskName + ": 성공" : taskName + ": 실패, 재시도 " + attemptCount + " 번째 - " + error.getMessage())
+                .nodeId(clusterSchedulerService.getNodeId())
+                .success(success)
+                .startedAt(startedAt)
+                .endedAt(endedAt)
+                .durationMs(durationMs)
+                .attemptCount(attemptCount)
+                .errorSample(success ? null : truncate(error.toString()))
+                .build());
+    }
+
+    @Override
+    public void recordJob(JobExecution jobExecution) {
+        String jobName = jobExecution.getJobInstance().getJobName();
+        boolean success = jobExecution.getStatus() == BatchStatus.COMPLETED;
+        LocalDateTime startedAt = jobExecution.getStartTime() == null ? jobExecution.getCreateTime() : jobExecution.getStartTime();
+        LocalDateTime endedAt = jobExecution.getEndTime() == null ? LocalDateTime.now() : jobExecution.getEndTime();
+        long durationMs = Duration.between(startedAt, endedAt).toMillis();
+
+        // 파티션 작업은 관리 step 에 파티션 건수가 합산되므로 파티션 step(이름에 ':')은 제외
+        long readCount = 0;
+        long writeCount = 0;
+        long skipCount = 0;
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            if (stepExecution.getStepName().contains(":")) continue;
+            readCount += stepExecution.getReadCount();
+            writeCount += stepExecution.getWriteCount();
+            skipCount += stepExecution.getSkipCount();
+        }
+
+        meterRegistry.timer("grinder.job.duration", "job", jobName, "result", result(success))
+                .record(Duration.ofMillis(durationMs));
+        meterRegistry.counter("grinder.job.items", "job", jobName, "type", "read").increment(readCount);
+        meterRegistry.counter("grinder.job.items", "job", jobName, "type", "write").increment(writeCount);
+        meterRegistry.counter("grinder.job.items", "job", jobName, "type", "skip").increment(skipCount);
+
+        List<Throwable> failures = jobExecution.getAllFailureExceptions();
+        save(SchedulerLog.builder()
+                .taskName(jobName)
+                .logMessage(jobName + ": " + jobExecution.getStatus() + " (" + jobExecution.getJobParameters().getString("buckets") + ")")
+                .nodeId(clusterSchedulerService.getNodeId())
+                .success(success)
+                .startedAt(startedAt)
+                .endedAt(endedAt)
+                .durationMs(durationMs)
+                .attemptCount(1)
+                .readCount(readCount)
+                .writeCount(writeCount)
+                .skipCount(skipCount)
+                .errorSample(failures.isEmpty() ? null : truncate(failures.get(0).toString()))
+                .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<SchedulerLogDTO.FindSchedulerLogDTO> findSchedulerLogs(String taskName, Pageable pageable) {
+        Slice<SchedulerLog> logs = taskName == null || taskName.isBlank()
+                ? schedulerLogRepository.findAllByOrderByIdDesc(pageable)
+                : schedulerLogRepository.findAllByTaskNameStartingWithOrderByIdDesc(taskName, pageable);
+        return logs.map(SchedulerLogDTO.FindSchedulerLogDTO::new);
+    }
+
+    // 기록 저장 실패가 작업 실패로 이어지지 않도록 로그만 남긴다.
+    private void save(SchedulerLog schedulerLog) {
+        try {
+            schedulerLogRepository.save(schedulerLog);
+        } catch (DataAccessException e) {
+            log.warn(schedulerLog.getTaskName() + ": 실행 기록 저장 실패 - " + e.getMessage());
+        }
+    }
+
+    // "CalAverage[1/2]" → "CalAverage"
+    private String metricName(String taskName) {
+        int index = taskName.indexOf('[');
+        return index < 0 ? taskName : taskName.substring(0, index);
+    }
+
+    private String result(boolean success) {
+        return success ? "success" : "failure";
+    }
+
+    private String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,96 @@
+package com.grinder.service.implement;
+
+import com.grinder.service.BucketProgressService;
+import com.grinder.service.ClusterSchedulerService;
+import com.grinder.service.MaintenanceJobService;
+import com.grinder.utils.BucketPartitioner;
+import com.grinder.utils.Shard;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Service
+public class MaintenanceJobServiceImpl implements MaintenanceJobService {
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final JobLauncher jobLauncher;
+    private final ClusterSchedulerService clusterSchedulerService;
+    private final BucketProgressService bucketProgressService;
+    private final Map<String, Job> jobs;
+    private final long chunkSize;
+    private final long gridSize;
+    private final long concurrency;
+
+    public MaintenanceJobServiceImpl(JobLauncher jobLauncher,
+                                     ClusterSchedulerService clusterSchedulerService,
+                                     BucketProgressService bucketProgressService,
+                                     List<Job> jobs,
+                                     @Value("${batch.maintenance.chunk-size:100}") long chunkSize,
+                                     @Value("${batch.maintenance.grid-size:4}") long gridSize,
+                                     @Value("${batch.maintenance.concurrency:4}") long concurrency) {
+        this.jobLauncher = jobLauncher;
+        this.clusterSchedulerService = clusterSchedulerService;
+        this.bucketProgressService = bucketProgressService;
+        this.jobs = jobs.stream().collect(Collectors.toMap(Job::getName, Function.identity()));
+        this.chunkSize = chunkSize;
+        this.gridSize = gridSize;
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public void run(String jobName, int cycle, Shard shard) {
+        Job job = jobs.get(jobName);
+        if (job == null) throw new IllegalArgumentException("존재하지 않는 배치 작업입니다. : " + jobName);
+
+        // 이번 회차 버킷은 처음 고른 서버의 목록을 모든 서버가 같이 쓰고, 조각 순번대로 나눠 가진다.
+        List<Integer> buckets = BucketPartitioner.parse(clusterSchedulerService.agree(jobName + ":buckets",
+                () -> BucketPartitioner.join(bucketProgressService.nextBuckets(jobName, cycle))));
+        List<Integer> mine = IntStream.range(0, buckets.size())
+                .filter(i -> i % shard.getCount() == shard.getIndex())
+                .mapToObj(buckets::get)
+                .toList();
+        if (mine.isEmpty()) {
+            log.info(jobName + ": 이 조각(" + shard + ")에 배정된 버킷이 없습니다.");
+            return;
+        }
+
+        // chunkSize, gridSize, concurrency 는 재시작 시 바꿔도 같은 회차로 취급
+        JobParameters parameters = new JobParametersBuilder()
+                .addString("runDate", LocalDate.now(ZONE).toString())
+                .addString("buckets", BucketPartitioner.join(mine))
+                .addLong("chunkSize", chunkSize, false)
+                .addLong("gridSize", gridSize, false)
+                .addLong("concurrency", concurrency, false)
+                .toJobParameters();
+
+        JobExecution execution;
+        try {
+            execution = jobLauncher.run(job, parameters);
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.info(jobName + ": 이미 완료된 회차입니다. (버킷 " + BucketPartitioner.join(mine) + ")");
+            return;
+        } catch (JobExecutionException e) {
+            throw new IllegalStateException(jobName + " 실행 실패 : " + e.getMessage(), e);
+        }
+        if (execution.getStatus() != BatchStatus.COMPLETED) {
+            throw new IllegalStateException(jobName + " 실행 실패 : " + execution.getExitStatus().getExitDescription());
+        }
+    }
+}
@@ -9,6 +9,8 @@ import com.grinder.repository.ImageRepository;
 import com.grinder.repository.MemberRepository;
 import com.grinder.repository.queries.MemberQueryRepository;
 import com.grinder.repository.queries.SearchQueryRepository;
+import com.grinder.security.service.PrincipalCache;
+import com.grinder.security.service.RefreshTokenStore;
 import com.grinder.service.MailService;
 import com.grinder.service.MemberService;
 import com.grinder.utils.RedisUtil;
@@ -43,6 +45,8 @@ public class MemberServiceImpl implements MemberService {
     private final MailService mailService;
     private final RedisUtil redisUtil;
     private final SearchQueryRepository searchQueryRepository;
+    private final PrincipalCache principalCache;
+    private final RefreshTokenStore refreshTokenStore;
 
     public Member findMemberById(String memberId) {
         return memberRepository.findById(memberId).orElseThrow(() -> new NoSuchElementException("회원 아이디: " + memberId + " 인 회원이 존재하지 않습니다."));
@@ -79,21 +83,36 @@ public class MemberServiceImpl implements MemberService {
         } else if (member.getRole() == Role.VERIFIED_MEMBER) {
             member.cancelVerify();
         }
+        principalCache.evict(member.getEmail());
     }
 
     @Override
     @Transactional
     public boolean deleteMember(String memberId) {
         Member member = findMemberById(memberId);
-
-        return member.delete();
+        principalCache.evict(member.getEmail());
+        refreshTokenStore.revokeAll(member.getEmail());
+        boolean wasDeleted = Boolean.TRUE.equals(member.getIsDeleted());
+        boolean result = member.delete();
+        // 팔로우 목록에서 빠지므로 상대 회원들의 팔로우 수도 줄인다.
+        if (!wasDeleted) addNeighborFollowCounts(memberId, -1);
+        return result;
     }
 
     @Override
     @Transactional
     public boolean recoverMember(String memberId) {
         Member member = findMemberById(memberId);
-        return member.recover();
+        principalCache.evict(member.getEmail());
+        boolean wasDeleted = Boolean.TRUE.equals(member.getIsDeleted());
+        boolean result = member.recover();
+        if (wasDeleted) addNeighborFollowCounts(memberId, 1);
+        return result;
+    }
+
+    private void addNeighborFollowCounts(String memberId, int delta) {
+        memberRepository.addFollowerCountOfFollowings(memberId, delta);
+        memberRepository.addFollowingCountOfFollowers(memberId, delta);
     }
 
     @Override
@@ -124,6 +143,7 @@ public class MemberServiceImpl implements MemberService {
         ,request.getNickname()
         ,passwordEncoder.encode(request.getPassword())
         ,request.getPhoneNum());
+        principalCache.evict(member.getEmail());
         return true;
     }
 
@@ -148,8 +168,7 @@ public class MemberServiceImpl implements MemberService {
                         "인증번호를 웹사이트에 입력해주세요";
         mailService.sendEmail(toEmail, title, content);
         // 이메일 인증 요청 시 인증 번호 Redis에 저장 ( key = "AuthCode " + Email / value = AuthCode )
-        redisUtil.set(toEmail,
-                authCode, 30);
+        redisUtil.set(toEmail, authCode, Duration.ofMinutes(30));
         return true;
     }
 
@@ -169,7 +188,7 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     public boolean verifiedCode(String email, String authCode) {
-        String redisAuthCode = (String) redisUtil.get(email);
+        String redisAuthCode = redisUtil.get(email);
 
         return authCode.equals(redisAuthCode);
     }
@@ -186,6 +205,8 @@ public class MemberServiceImpl implements MemberService {
                         "추후 비밀번호 변경을 부탁드립니다.";
         Member member = findMemberByEmail(email);
         member.setPassword(passwordEncoder.encode(password));
+        // 비밀번호가 재설정되면 기존 로그인 세션 폐기
+        refreshTokenStore.revokeAll(email);
         mailService.sendEmail(email, title, content);
         return true;
     }
@@ -0,0 +1,141 @@
+package com.grinder.service.implement;
+
+import com.grinder.config.CacheConfig;
+import com.grinder.domain.dto.MemberDTO;
+import com.grinder.domain.enums.TagName;
+import com.grinder.repository.queries.AnalysisTagQueryRepository;
+import com.grinder.repository.queries.BlacklistQueryRepository;
+import com.grinder.repository.queries.MemberQueryRepository;
+import com.grinder.service.FollowGraphService;
+import com.grinder.service.MemberSuggestionService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 알 수도 있는 사람 추천
+ * 팔로우 그래프에서 친구의 친구를 후보로 뽑아 공통 팔로우 수와 관심 태그(AnalysisTag) 일치 수로 점수를 매긴다.
+ * 탈퇴 회원과 어느 한쪽이라도 차단한 회원은 제외하며, 회원별 상위 TOP_K 명만 주기적으로 계산해 메모리에 보관한다.
+ * 조회 시에는 보관된 결과에서 이후 팔로우한 회원과 차단 목록 캐시에 있는 차단 회원만 걸러 반환한다.
+ * 조회 경로에서는 DB 를 읽지 않으며, 차단 목록이 캐시에 없으면 다음 갱신 때 걸러진다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberSuggestionServiceImpl implements MemberSuggestionService {
+    private static final int TOP_K = 10;
+    private static final int INTEREST_TAG_SIZE = 5;
+    private static final int MUTUAL_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 1;
+    private static final int MEMBER_FETCH_SIZE = 1000;
+
+    private final FollowGraphService followGraphService;
+    private final CacheManager cacheManager;
+    private final MemberQueryRepository memberQueryRepository;
+    private final BlacklistQueryRepository blacklistQueryRepository;
+    private final AnalysisTagQueryRepository analysisTagQueryRepository;
+
+    private volatile Map<String, List<MemberDTO.SuggestedMemberDTO>> suggestions = Collections.emptyMap();
+
+    @Override
+    public List<MemberDTO.SuggestedMemberDTO> findSuggestions(String email) {
+        List<MemberDTO.SuggestedMemberDTO> cached = suggestions.getOrDefault(email, List.of());
+        if (cached.isEmpty()) return cached;
+
+        Set<String> blockedIds = findCachedBlockedIds(email);
+        return cached.stream()
+                .filter(suggestion -> !blockedIds.contains(suggestion.getFollowMemberId()))
+                .filter(suggestion -> !followGraphService.isFollowing(email, suggestion.getFollowEmail()))
+                .toList();
+    }
+
+    @Override
+    @Scheduled(initialDelay = 120000, fixedDelay = 3600000)
+    public void refreshSuggestions() {
+        Set<String> deletedIds = memberQueryRepository.findDeletedMemberIds();
+        Map<String, Set<String>> blockedIds = blacklistQueryRepository.findAllBlockedMemberIds();
+        Map<String, Set<TagName>> interests = new HashMap<>();
+        analysisTagQueryRepository.findAllTagVectors()
+                .forEach((memberId, vector) -> interests.put(memberId, new HashSet<>(vector.top(INTEREST_TAG_SIZE))));
+
+        // 회원별 상위 TOP_K 후보만 유지
+        Map<String, List<Candidate>> ranked = new HashMap<>();
+        Set<String> candidateIds = new HashSet<>();
+        followGraphService.findAllMembers().forEach((email, memberId) -> {
+            if (deletedIds.contains(memberId)) return;
+            Set<TagName> myInterests = interests.getOrDefault(memberId, Set.of());
+            Set<String> myBlocked = blockedIds.getOrDefault(memberId, Set.of());
+
+            PriorityQueue<Candidate> top = new PriorityQueue<>(Comparator.comparingInt(Candidate::getScore));
+            followGraphService.countTwoHopCandidates(email).forEach((candidateId, mutualCount) -> {
+                if (deletedIds.contains(candidateId) || myBlocked.contains(candidateId)
+                        || blockedIds.getOrDefault(candidateId, Set.of()).contains(memberId)) return;
+
+                int sharedTagCount = countShared(myInterests, interests.getOrDefault(candidateId, Set.of()));
+                Candidate candidate = new Candidate(candidateId, mutualCount, sharedTagCount,
+                        mutualCount * MUTUAL_WEIGHT + sharedTagCount * TAG_WEIGHT);
+                top.offer(candidate);
+                if (top.size() > TOP_K) top.poll();
+            });
+            if (top.isEmpty()) return;
+
+            List<Candidate> sorted = new ArrayList<>(top);
+            sorted.sort(Comparator.comparingInt(Candidate::getScore).reversed());
+            ranked.put(email, sorted);
+            sorted.forEach(candidate -> candidateIds.add(candidate.getMemberId()));
+        });
+
+        Map<String, MemberDTO.FindMemberAndImageDTO> members = findMembers(candidateIds);
+        Map<String, List<MemberDTO.SuggestedMemberDTO>> refreshed = new HashMap<>();
+        ranked.forEach((email, candidates) -> refreshed.put(email, candidates.stream()
+                .filter(candidate -> members.containsKey(candidate.getMemberId()))
+                .map(candidate -> new MemberDTO.SuggestedMemberDTO(members.get(candidate.getMemberId()),
+                        candidate.getMutualCount(), candidate.getSharedTagCount()))
+                .toList()));
+
+        suggestions = refreshed;
+        log.info("알 수도 있는 사람 추천 갱신 완료 (회원 " + refreshed.size() + "명)");
+    }
+
+    // 캐시에 적재된 차단 목록만 사용 (없으면 차단 없음으로 보고 다음 갱신에서 제외)
+    @SuppressWarnings("unchecked")
+    private Set<String> findCachedBlockedIds(String email) {
+        Cache cache = cacheManager.getCache(CacheConfig.BLOCKED_MEMBER_IDS);
+        Set<String> blockedIds = cache == null ? null : cache.get(email, Set.class);
+        return blockedIds == null ? Set.of() : blockedIds;
+    }
+
+    private Map<String, MemberDTO.FindMemberAndImageDTO> findMembers(Set<String> memberIds) {
+        Map<String, MemberDTO.FindMemberAndImageDTO> members = new HashMap<>();
+        List<String> ids = new ArrayList<>(memberIds);
+        for (int i = 0; i < ids.size(); i += MEMBER_FETCH_SIZE) {
+            memberQueryRepository.findAllMemberAndImageByIds(ids.subList(i, Math.min(i + MEMBER_FETCH_SIZE, ids.size())))
+                    .forEach(member -> members.putIfAbsent(member.getMemberId(), member));
+        }
+        return members;
+    }
+
+    private int countShared(Set<TagName> mine, Set<TagName> theirs) {
+        int count = 0;
+        for (TagName tag : mine) {
+            if (theirs.contains(tag)) count++;
+        }
+        return count;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Candidate {
+        private String memberId;
+        private int mutualCount;
+        private int sharedTagCount;
+        private int score;
+    }
+}
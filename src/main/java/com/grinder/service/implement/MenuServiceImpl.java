@@ -1,5 +1,6 @@
 package com.grinder.service.implement;
 
+import com.grinder.config.CacheConfig;
 import com.grinder.domain.dto.MenuDTO;
 import com.grinder.domain.entity.Cafe;
 import com.grinder.domain.entity.Menu;
@@ -17,6 +18,8 @@ import com.grinder.service.ImageService;
 import com.grinder.service.MenuService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +31,7 @@ public class MenuServiceImpl implements MenuService {
     private final CafeRepository cafeRepository;
     private final ImageService imageService;
 
+    @Cacheable(cacheNames = CacheConfig.CAFE_MENUS, key = "#cafeId", sync = true)
     public List<MenuDTO.findAllMenuResponse> findAllMenusByCafeId(String cafeId) {
         List<Menu> menuList = menuRepository.findAllByCafe_CafeId(cafeId);
         List<MenuDTO.findAllMenuResponse> dtoList = menuList.stream()
@@ -37,6 +41,7 @@ public class MenuServiceImpl implements MenuService {
     }
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CAFE_MENUS, key = "#request.cafeId")
     public boolean saveMyCafeMenu(MenuDTO.saveMenuRequest request) {
         String uuid = UUID.randomUUID().toString();
 
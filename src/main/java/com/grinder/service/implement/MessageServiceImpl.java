@@ -1,31 +1,81 @@
 package com.grinder.service.implement;
 
-import com.grinder.domain.entity.Message;
+import com.grinder.domain.dto.MessageDTO;
+import com.grinder.repository.MemberRepository;
 import com.grinder.repository.MessageRepository;
 import com.grinder.repository.queries.MessageQueryRepository;
 import com.grinder.service.MessageService;
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.UUID;
 
+/**
+ * 메시지 (앨런 알림)
+ * 읽지 않은 메시지 수는 Member.unreadMessageCount 에 두고, 메시지 저장과 확인 시 같은 트랜잭션에서 함께 갱신한다.
+ * 헤더는 이 카운터만 읽고, 메시지 목록은 앨런 탭을 열 때 키셋 페이지 단위로 읽는다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class MessageServiceImpl implements MessageService {
+    private static final int INSERT_BATCH_SIZE = 500;
+
     private final MessageRepository messageRepository;
     private final MessageQueryRepository messageQueryRepository;
+    private final MemberRepository memberRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Slice<MessageDTO.findAllResponse> findInboxSlice(String memberId, LocalDateTime lastCreatedAt, String lastMessageId, Pageable pageable) {
+        return messageQueryRepository.findInboxSlice(memberId, lastCreatedAt, lastMessageId, pageable);
+    }
 
+    /**
+     * 받은 메시지 모두 확인 처리
+     * @return : 새로 확인 처리된 메시지 수 (그 수만큼 카운터를 줄인다)
+     */
     @Override
-    public boolean existNonCheckMessage(String email) {
-        return messageQueryRepository.existsNonCheck(email);
+    @Transactional
+    public int checkAllMessages(String memberId) {
+        int checked = messageRepository.checkAllByReceiveMemberId(memberId);
+        if (checked > 0) memberRepository.addUnreadMessageCount(memberId, -checked);
+        return checked;
     }
 
+    /**
+     * 관리자 알림 일괄 발송 (야간 카페 추천 등)
+     * 엔티티를 거치지 않고 INSERT_BATCH_SIZE 개씩 JDBC batch insert 한다.
+     * @param contents : 받는 회원 id → 내용
+     * @return : 보낸 메시지 수
+     */
     @Override
-    public List<Message> findAllByEmail(String email) {
-        return messageRepository.findAllByReceiveMember_Email(email);
+    @Transactional
+    public int sendAdminMessages(String adminName, Map<String, String> contents) {
+        if (contents.isEmpty()) return 0;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("INSERT INTO message (message_id, receive_member_id, content, is_checked, admin_name, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                new ArrayList<>(contents.entrySet()), INSERT_BATCH_SIZE, (ps, entry) -> {
+                    ps.setString(1, UUID.randomUUID().toString());
+                    ps.setString(2, entry.getKey());
+                    ps.setString(3, entry.getValue());
+                    ps.setBoolean(4, false);
+                    ps.setString(5, adminName);
+                    ps.setTimestamp(6, now);
+                    ps.setTimestamp(7, now);
+                });
+        jdbcTemplate.batchUpdate("UPDATE member SET unread_message_count = unread_message_count + 1 WHERE member_id = ?",
+                new ArrayList<>(contents.keySet()), INSERT_BATCH_SIZE, (ps, memberId) -> ps.setString(1, memberId));
+        return contents.size();
     }
 }
@@ -1,5 +1,6 @@
 package com.grinder.service.implement;
 
+import com.grinder.config.CacheConfig;
 import com.grinder.domain.dto.MenuDTO;
 import com.grinder.domain.entity.Image;
 import com.grinder.domain.enums.ContentType;
@@ -10,6 +11,7 @@ import com.grinder.repository.queries.MenuQueryRepository;
 import com.grinder.service.MyMenuService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +35,7 @@ public class MyMenuServiceImpl implements MyMenuService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CAFE_MENUS, key = "#cafeId")
     public boolean deleteMenu(String menuId, String cafeId) {
         menuRepository.deleteByMenuIdAndCafe_CafeId(menuId, cafeId);
         if(imageRepository.existsAllByContentTypeAndContentId(ContentType.MENU, menuId)) {
@@ -1,163 +1,111 @@
 package com.grinder.service.implement;
 
-import com.grinder.domain.entity.Cafe;
-import com.grinder.domain.entity.Feed;
-import com.grinder.domain.entity.Member;
-import com.grinder.domain.enums.ContentType;
-import com.grinder.repository.*;
-import com.grinder.service.AlanQuestionService;
-import com.grinder.service.AnalysisTagService;
+import com.grinder.config.MaintenanceBatchConfig;
+import com.grinder.service.ClusterSchedulerService;
+import com.grinder.service.JobTelemetryService;
+import com.grinder.service.MaintenanceJobService;
 import com.grinder.service.SchedulerService;
+import com.grinder.utils.Shard;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.core.Job;
-import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.launch.JobLauncher;
-import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
+import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class SchedulerServiceImpl implements SchedulerService {
-    private final CafeRepository cafeRepository;
-    private final MemberRepository memberRepository;
-    private final AnalysisTagService analysisTagService;
-    private final AlanQuestionService alanQuestionService;
-    private final FeedRepository feedRepository;
-    private final HeartRepository heartRepository;
-    private final CommentRepository commentRepository;
-    private static final List<String> logList = new ArrayList<>();
+    private final ClusterSchedulerService clusterSchedulerService;
+    private final MaintenanceJobService maintenanceJobService;
+    private final JobTelemetryService jobTelemetryService;
+    // 모든 대상을 한 번씩 처리하는 주기 (회차 수)
+    private static final int WEEKLY = 7;
+    private static final int MONTHLY = 30;
 
-    // 매일 0시에 전체 카페의 1/7만 평균 별점 업데이트 진행
+    // 매일 0시에 전체 카페의 1/7만 평균 별점 업데이트 진행 (가장 오래전에 처리한 버킷부터)
+    // 스케줄 작업은 모든 서버에서 실행되므로 ClusterSchedulerService 로 대상을 서버별로 나눠 처리한다.
+    // 실제 처리는 MaintenanceBatchConfig 의 배치 작업이 하며, 재시도 시 마지막 커밋 지점부터 이어서 실행된다.
 
     @Scheduled(cron = "0 0 0 * * ?", zone = "Asia/Seoul")
     public void CalAverage() {
-        executeWithRetry(this::performCalAverageTask, "CalAverage");
+        clusterSchedulerService.runSharded("CalAverage",
+                shard -> executeWithRetry(() -> performCalAverageTask(shard), "CalAverage[" + shard + "]"));
     }
 
     @Override
-    public void performCalAverageTask() {
-        LocalDate today = LocalDate.now();
-        int dayOfWeek = today.getDayOfWeek().getValue();
-        updateAverageGradeForCafes(dayOfWeek);
-        updateTagListForMembers(dayOfWeek);
-        int dayOfMonth = today.getDayOfMonth();
-        recommendCafeForMembers(dayOfMonth);
-        updateRanks(dayOfMonth);
+    public void performCalAverageTask(Shard shard) {
+        updateAverageGradeForCafes(shard);
+        updateTagListForMembers(shard);
+        recommendCafeForMembers(shard);
+        updateRanks(shard);
     }
 
     @Override
-    public void updateAverageGradeForCafes(int dayOfWeek) {
-        long totalCafes = cafeRepository.count();
-        long batchSize = totalCafes / 7;
-        long offset = (dayOfWeek - 1) * batchSize;
-
-        List<Cafe> cafes = cafeRepository.findCafesForAverageCalculation(batchSize, offset);
-        cafes.forEach(this::calculateAndSetAverageGrade);
-    }
-
-    @Override
-    public void calculateAndSetAverageGrade(Cafe cafe) {
-        Double average = cafeRepository.findAverageGradeByCafeId(cafe.getCafeId());
-        cafe.setAverageGrade(average.intValue());
-        cafeRepository.save(cafe);
+    public void updateAverageGradeForCafes(Shard shard) {
+        maintenanceJobService.run(MaintenanceBatchConfig.AVERAGE_GRADE_JOB, WEEKLY, shard);
     }
 
     @Override
-    public void updateTagListForMembers(int dayOfWeek) {
-        long totalMembers = memberRepository.count();
-        long batchSize = totalMembers / 7;
-        long offset = (dayOfWeek - 1) * batchSize;
-
-        List<Member> members = memberRepository.findMembersForTagUpdate(batchSize, offset);
-        members.forEach(member -> analysisTagService.updateTagList(member.getEmail()));
+    public void updateTagListForMembers(Shard shard) {
+        maintenanceJobService.run(MaintenanceBatchConfig.TAG_ANALYSIS_JOB, WEEKLY, shard);
     }
 
     @Override
     @Scheduled(cron = "0 0 1 * * ?", zone = "Asia/Seoul")
     public void recommendAlan() {
-        executeWithRetry(this::performRecommendAlanTask, "recommendAlan");
+        clusterSchedulerService.runSharded("recommendAlan",
+                shard -> executeWithRetry(() -> performRecommendAlanTask(shard), "recommendAlan[" + shard + "]"));
     }
 
     @Override
-    public void performRecommendAlanTask() {
-        LocalDate today = LocalDate.now();
-        int dayOfMonth = today.getDayOfMonth();
-        recommendCafeForMembers(dayOfMonth);
-        updateRanks(dayOfMonth);
+    public void performRecommendAlanTask(Shard shard) {
+        recommendCafeForMembers(shard);
+        updateRanks(shard);
     }
 
     @Override
-    public void recommendCafeForMembers(int dayOfMonth) {
-        long totalMembers = memberRepository.count();
-        long batchSize = totalMembers / 30;
-        long offset = (dayOfMonth - 1) * batchSize;
-
-        List<Member> members = memberRepository.findMembersForTagUpdate(batchSize, offset);
-        for (Member member : members) {
-            alanQuestionService.recommendCafe(member.getEmail());
-        }
+    public void recommendCafeForMembers(Shard shard) {
+        maintenanceJobService.run(MaintenanceBatchConfig.CAFE_RECOMMEND_JOB, MONTHLY, shard);
     }
 
     @Override
-    public void updateRanks(int dayOfMonth) {
-        long totalMembers = feedRepository.count();
-        long batchSize = totalMembers / 30;
-        long offset = (dayOfMonth - 1) * batchSize;
-
-        List<Feed> feeds = feedRepository.findFeedsForRankUpdate(batchSize, offset);
-        for (Feed feed : feeds) {
-            Long rank = heartRepository.countByContentTypeAndContentId(ContentType.FEED, feed.getFeedId()) / 10;
-            rank += commentRepository.countByFeed(feed) / 5;
-            feedRepository.updateFeedRank(feed.getFeedId(), rank.intValue());
-        }
+    public void updateRanks(Shard shard) {
+        maintenanceJobService.run(MaintenanceBatchConfig.FEED_RANK_JOB, MONTHLY, shard);
     }
 
     @Override
     @Scheduled(cron = "0 0 2 * * ?", zone = "Asia/Seoul")
     public void updateRank() {
-        executeWithRetry(this::performUpdateRankTask, "updateRank");
+        clusterSchedulerService.runSharded("updateRank",
+                shard -> executeWithRetry(() -> performUpdateRankTask(shard), "updateRank[" + shard + "]"));
     }
 
     @Override
-    public void performUpdateRankTask() {
-        LocalDate today = LocalDate.now();
-        int dayOfMonth = today.getDayOfMonth();
-        updateRanks(dayOfMonth);
+    public void performUpdateRankTask(Shard shard) {
+        updateRanks(shard);
     }
 
     @Override
     public void executeWithRetry(Runnable task, String taskName) {
         int MAX_RETRIES = 3;
         int retryCount = 0;
+        LocalDateTime startedAt = LocalDateTime.now();
         while (retryCount < MAX_RETRIES) {
             try {
                 task.run();
-                logList.add(taskName + ": 성공");
+                jobTelemetryService.recordTask(taskName, startedAt, retryCount + 1, null);
                 return;
-            } catch (Exception e) {
+            } catch (RuntimeException e) {
                 retryCount++;
                 log.error(taskName + ": 재시도 " + retryCount + " 실패", e);
                 if (retryCount >= MAX_RETRIES) {
-                    logList.add(taskName + ": 실패, 재시도 " + MAX_RETRIES + " 번째 - " + e.getMessage());
+                    jobTelemetryService.recordTask(taskName, startedAt, retryCount, e);
+                    // 조각 임대를 풀도록 실패를 알린다 (남은 조각을 기다리는 다른 서버가 다시 가져가고, 없으면 다음 회차에 처리)
+                    throw e;
                 }
             }
         }
     }
-
-    @Override
-    public List<String> getLogList() {
-        return new ArrayList<>(logList);
-    }
-
-    @Override
-    public void clearLogList() {
-        logList.clear();
-    }
 }
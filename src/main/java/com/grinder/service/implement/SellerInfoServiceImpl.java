@@ -8,6 +8,7 @@ import com.grinder.repository.MemberRepository;
 import com.grinder.repository.SellerInfoRepository;
 import com.grinder.repository.queries.ImageQueryRepository;
 import com.grinder.repository.queries.SellerInfoQueryRepository;
+import com.grinder.security.service.PrincipalCache;
 import com.grinder.service.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -28,6 +29,7 @@ public class SellerInfoServiceImpl implements SellerInfoService {
     private final MemberRepository memberRepository;
     private final ImageService imageService;
     private final MemberService memberService;
+    private final PrincipalCache principalCache;
 
     @Override
     @Transactional
@@ -48,6 +50,7 @@ public class SellerInfoServiceImpl implements SellerInfoService {
         cafe.uploadRegImage(sellerApply.getRegImageUrl());
         Member member = memberService.findMemberById(sellerApply.getMember().getMemberId());
         member.toSeller();
+        principalCache.evict(member.getEmail());
         sellerApplyService.deleteSellerApply(applyId);
     }
 
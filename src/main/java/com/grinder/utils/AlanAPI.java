@@ -1,120 +1,280 @@
 package com.grinder.utils;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.grinder.domain.dto.AlanDTO;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
-import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import com.grinder.exception.AlanUnavailableException;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 
-import java.util.LinkedHashMap;
-import java.util.Objects;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
-@Component
-public class AlanAPI {
-    @Value("${alan.secret}")
-    private String key;
+/**
+ * 앨런 API 클라이언트
+ * - 연결 : HttpClient 하나를 재사용해 연결을 유지하고, connectTimeout / readTimeout 을 넘기면 실패로 처리한다.
+ * - 동시 요청 : 최대 maxConcurrency 개만 보내고 나머지는 maxQueue 개까지 대기열에 넣으며, 넘치면 바로 거절한다.
+ * - 재시도 : 연결 실패, 시간 초과, 5xx 는 maxAttempts 번까지 지수 backoff(+jitter) 후 다시 보낸다. 재시도 수는 RetryBudget 으로 제한한다.
+ * - 서킷 브레이커 : 연속 실패가 쌓이면 한동안 요청을 보내지 않고 AlanUnavailableException 으로 바로 실패한다.
+ * *Async 메서드는 호출 스레드를 막지 않으며, 동기 메서드는 awaitTimeout 까지만 기다리고 AlanUnavailableException 으로 실패한다.
+ * 키(alan.secret)가 없으면 요청하지 않고 "종료된 서비스" 응답을 반환한다.
+ */
+@Slf4j
+public class AlanAPI implements DisposableBean {
+    private static final String ENDED_SERVICE = "종료된 서비스";
+    private static final int SUMMARY_MAX_LENGTH = 250;
+    private static final int IO_THREADS = 2;
+    public static final Duration DEFAULT_AWAIT_TIMEOUT = Duration.ofSeconds(60);
 
-    public AlanDTO.AlanResponse requestSummary(String cafeName, String address) {
-        AlanDTO.AlanResponse alanResponse = new AlanDTO.AlanResponse();
-//        RestTemplate restTemplate = new RestTemplate();
-//
-//        StringBuilder url = new StringBuilder();
-//        url.append("https://kdt-api-function.azurewebsites.net/api/v1/question?content=")
-//                .append("카페명 : ").append(cafeName).append(" 주소명 :").append(address)
-//                .append("에 대해 1.분위기, 2. 맛, 3. 가격 형식으로 검색해서 250자 이내로 정리해서 알려줘.")
-//                .append("&client_id=").append(key);
-//
-//        ResponseEntity<LinkedHashMap> response = restTemplate.getForEntity(url.toString(), LinkedHashMap.class);
-//
-//        if (response.getStatusCode().is2xxSuccessful()) {
-//            LinkedHashMap<String, Object> responseBody = response.getBody();
-//            if (responseBody != null) {
-//                LinkedHashMap<String, String> action = (LinkedHashMap<String, String>) responseBody.get("action");
-//                alanResponse.setActionName(action.get("name"));
-//                alanResponse.setActionSpeak(action.get("speak"));
-//                if (responseBody.get("content").toString().length() > 250) {
-//                    alanResponse.setContent(responseBody.get("content").toString().substring(0,250));
-//                    return alanResponse;
-//                }
-//                alanResponse.setContent((String) responseBody.get("content"));
-//            }
-//        } else throw new IllegalArgumentException("잘못된 입력입니다.");
+    private final Settings settings;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+    private final CircuitBreaker circuitBreaker;
+    private final RetryBudget retryBudget;
 
-        alanResponse.setActionSpeak("actionSpeak");
-        alanResponse.setActionName("actionName");
-        alanResponse.setContent("종료된 서비스");
+    private final Object permitLock = new Object();
+    private final Deque<Runnable> waiting = new ArrayDeque<>();
+    private int inFlight;
 
-        return alanResponse;
+    public AlanAPI(Settings settings, ObjectMapper objectMapper) {
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(IO_THREADS, task -> {
+            Thread thread = new Thread(task, "alan-client-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(settings.getConnectTimeout())
+                .executor(executor)
+                .build();
+        this.circuitBreaker = new CircuitBreaker(settings.getFailureThreshold(), settings.getOpenDuration());
+        this.retryBudget = new RetryBudget(settings.getRetryRatio(), settings.getRetryMaxTokens());
     }
 
-    public AlanDTO.AlanResponse anyQuestion(String question) {
-        AlanDTO.AlanResponse alanResponse = new AlanDTO.AlanResponse();
-//        RestTemplate restTemplate = new RestTemplate();
-
-//        StringBuilder url = new StringBuilder();
-//        url.append("https://kdt-api-function.azurewebsites.net/api/v1/question?content=")
-//                .append(question)
-//                .append("&client_id=").append(key);
-//
-//        ResponseEntity<LinkedHashMap> response = restTemplate.getForEntity(url.toString(), LinkedHashMap.class);
-//
-//        if (response.getStatusCode().is2xxSuccessful()) {
-//            LinkedHashMap<String, Object> responseBody = response.getBody();
-//            if (responseBody != null) {
-//                LinkedHashMap<String, String> action = (LinkedHashMap<String, String>) responseBody.get("action");
-//                alanResponse.setActionName(action.get("name"));
-//                alanResponse.setActionSpeak(action.get("speak"));
-//                alanResponse.setContent((String) responseBody.get("content"));
-//            }
-//        } else throw new IllegalArgumentException("잘못된 입력입니다.");
+    public AlanDTO.AlanResponse requestSummary(String cafeName, String address) {
+        return await(requestSummaryAsync(cafeName, address));
+    }
 
-        alanResponse.setActionSpeak("actionSpeak");
-        alanResponse.setActionName("actionName");
-        alanResponse.setContent("종료된 서비스");
+    public CompletableFuture<AlanDTO.AlanResponse> requestSummaryAsync(String cafeName, String address) {
+        return ask(summaryPrompt(cafeName, address)).thenApply(response -> {
+            if (response.getContent() != null && response.getContent().length() > SUMMARY_MAX_LENGTH) {
+                response.setContent(response.getContent().substring(0, SUMMARY_MAX_LENGTH));
+            }
+            return response;
+        });
+    }
 
-        return alanResponse;
+    public AlanDTO.AlanResponse anyQuestion(String question) {
+        return await(ask(question));
     }
 
     public AlanDTO.AlanResponse recommendCafeByTag(String tagList) {
-        AlanDTO.AlanResponse alanResponse = new AlanDTO.AlanResponse();
-//        RestTemplate restTemplate = new RestTemplate();
-
-//        StringBuilder url = new StringBuilder();
-//        url.append("https://kdt-api-function.azurewebsites.net/api/v1/question?content=")
-//                .append(tagList)
-//                .append("해당 태그들을 참고해서 [1. 카페명(위치) : 설명] 양식으로 3개 추천해줘.")
-//                .append("가장 많이 등장한 태그를 중점적으로 찾아보고, 도심지 외곽이라고 하면 멀지 않은 곳까지만 추천해줘")
-//                .append("서울 경기 위주로 찾아보고, 없다면 차츰 범위를 확장시켜줘")
-//                .append("글자 길이는 300자 이내로 해줘")
-//                .append("&client_id=").append(key);
-//
-//        ResponseEntity<LinkedHashMap> response = restTemplate.getForEntity(url.toString(), LinkedHashMap.class);
-//
-//        if (response.getStatusCode().is2xxSuccessful()) {
-//            LinkedHashMap<String, Object> responseBody = response.getBody();
-//            if (responseBody != null) {
-//                LinkedHashMap<String, String> action = (LinkedHashMap<String, String>) responseBody.get("action");
-//                alanResponse.setActionName(action.get("name"));
-//                alanResponse.setActionSpeak(action.get("speak"));
-//                alanResponse.setContent((String) responseBody.get("content"));
-//            }
-//        } else throw new IllegalArgumentException("잘못된 입력입니다.");
+        return await(recommendCafeByTagAsync(tagList));
+    }
 
-        alanResponse.setActionSpeak("actionSpeak");
-        alanResponse.setActionName("actionName");
-        alanResponse.setContent("종료된 서비스");
+    public CompletableFuture<AlanDTO.AlanResponse> recommendCafeByTagAsync(String tagList) {
+        return ask(recommendPrompt(tagList));
+    }
 
-        return alanResponse;
+    public static String summaryPrompt(String cafeName, String address) {
+        return "카페명 : " + cafeName + " 주소명 :" + address
+                + "에 대해 1.분위기, 2. 맛, 3. 가격 형식으로 검색해서 250자 이내로 정리해서 알려줘.";
     }
-}
 
+    public static String recommendPrompt(String tagList) {
+        return tagList
+                + "해당 태그들을 참고해서 [1. 카페명(위치) : 설명] 양식으로 3개 추천해줘."
+                + "가장 많이 등장한 태그를 중점적으로 찾아보고, 도심지 외곽이라고 하면 멀지 않은 곳까지만 추천해줘"
+                + "서울 경기 위주로 찾아보고, 없다면 차츰 범위를 확장시켜줘"
+                + "글자 길이는 300자 이내로 해줘";
+    }
 
+    /**
+     * @param question : 질문 (URL 인코딩은 여기서 한다)
+     * @return : 앨런 응답. 요청 실패 시 AlanUnavailableException, 4xx 응답은 IllegalArgumentException 으로 끝난다.
+     */
+    public CompletableFuture<AlanDTO.AlanResponse> ask(String question) {
+        if (!isEnabled()) {
+            return CompletableFuture.completedFuture(endedService());
+        }
 
+        CompletableFuture<AlanDTO.AlanResponse> result = new CompletableFuture<>();
+        HttpRequest request = request(question);
+        retryBudget.onRequest();
+        if (!acquire(() -> send(request, 1, result))) {
+            result.completeExceptionally(new AlanUnavailableException("앨런 요청이 많아 잠시 후 다시 시도해주세요."));
+            return result;
+        }
+        result.whenComplete((response, e) -> release());
+        return result;
+    }
 
+    // 키가 없으면 요청하지 않는다.
+    public boolean isEnabled() {
+        return settings.getKey() != null && !settings.getKey().isBlank();
+    }
 
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
 
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void send(HttpRequest request, int attempt, CompletableFuture<AlanDTO.AlanResponse> result) {
+        if (!circuitBreaker.tryAcquire()) {
+            result.completeExceptionally(new AlanUnavailableException("앨런 서비스 장애로 잠시 요청을 보내지 않습니다."));
+            return;
+        }
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .whenComplete((response, e) -> {
+                    if (e == null && response.statusCode() < 500) {
+                        circuitBreaker.onSuccess();
+                        try {
+                            result.complete(parse(response));
+                        } catch (RuntimeException parseError) {
+                            result.completeExceptionally(parseError);
+                        }
+                        return;
+                    }
+
+                    circuitBreaker.onFailure();
+                    Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                    String reason = cause != null ? cause.getClass().getSimpleName() : "HTTP " + response.statusCode();
+                    if (attempt < settings.getMaxAttempts() && retryBudget.tryRetry()) {
+                        long delay = backoff(attempt);
+                        log.info("앨런 요청 실패 (" + reason + "), " + delay + "ms 후 재시도 (" + (attempt + 1) + "/" + settings.getMaxAttempts() + ")");
+                        CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, executor)
+                                .execute(() -> send(request, attempt + 1, result));
+                        return;
+                    }
+                    result.completeExceptionally(new AlanUnavailableException("앨런 요청 실패 (" + reason + ")", cause));
+                });
+    }
+
+    private HttpRequest request(String question) {
+        String url = settings.getBaseUrl()
+                + "?content=" + URLEncoder.encode(question, StandardCharsets.UTF_8)
+                + "&client_id=" + URLEncoder.encode(settings.getKey(), StandardCharsets.UTF_8);
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(settings.getReadTimeout())
+                .GET()
+                .build();
+    }
+
+    private AlanDTO.AlanResponse parse(HttpResponse<String> response) {
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            throw new IllegalArgumentException("잘못된 입력입니다.");
+        }
+        JsonNode body;
+        try {
+            body = objectMapper.readTree(response.body());
+        } catch (JsonProcessingException e) {
+            throw new AlanUnavailableException("앨런 응답을 읽을 수 없습니다.", e);
+        }
+        AlanDTO.AlanResponse alanResponse = new AlanDTO.AlanResponse();
+        JsonNode action = body.path("action");
+        alanResponse.setActionName(action.path("name").asText(null));
+        alanResponse.setActionSpeak(action.path("speak").asText(null));
+        alanResponse.setContent(body.path("content").asText(null));
+        return alanResponse;
+    }
+
+    // backoff x 2^(attempt - 1) 의 절반 + 나머지 절반 이내 무작위
+    private long backoff(int attempt) {
+        long delay = settings.getBackoff().toMillis() << Math.min(attempt - 1, 10);
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
 
+    // 동시 요청 수를 넘으면 대기열에 넣는다. 대기열도 가득 차면 false
+    private boolean acquire(Runnable start) {
+        synchronized (permitLock) {
+            if (inFlight >= settings.getMaxConcurrency()) {
+                if (waiting.size() >= settings.getMaxQueue()) return false;
+                waiting.add(start);
+                return true;
+            }
+            inFlight++;
+        }
+        start.run();
+        return true;
+    }
+
+    // 끝난 요청의 자리를 대기 중인 요청에 넘긴다.
+    private void release() {
+        Runnable next;
+        synchronized (permitLock) {
+            next = waiting.poll();
+            if (next == null) inFlight--;
+        }
+        if (next != null) next.run();
+    }
 
+    private AlanDTO.AlanResponse await(CompletableFuture<AlanDTO.AlanResponse> future) {
+        return await(future, settings.getAwaitTimeout());
+    }
 
+    /**
+     * 동기 호출용 대기. 시간을 넘기면 요청은 그대로 두고 (같은 요청을 기다리는 다른 호출이 있을 수 있다) 호출 스레드만 실패시킨다.
+     */
+    public static <T> T await(CompletableFuture<T> future, Duration timeout) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new AlanUnavailableException("앨런 응답 대기 시간을 초과했습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AlanUnavailableException("앨런 응답 대기가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new AlanUnavailableException("앨런 요청 실패", e.getCause());
+        }
+    }
 
+    private AlanDTO.AlanResponse endedService() {
+        AlanDTO.AlanResponse alanResponse = new AlanDTO.AlanResponse();
+        alanResponse.setActionSpeak("actionSpeak");
+        alanResponse.setActionName("actionName");
+        alanResponse.setContent(ENDED_SERVICE);
+        return alanResponse;
+    }
 
+    @Getter
+    @Builder
+    public static class Settings {
+        private final String baseUrl;
+        private final String key;
+        private final Duration connectTimeout;
+        // 요청 하나(시도 한 번)의 응답 대기 시간
+        private final Duration readTimeout;
+        private final int maxConcurrency;
+        private final int maxQueue;
+        // 첫 요청 포함 최대 시도 횟수
+        private final int maxAttempts;
+        private final Duration backoff;
+        // 요청 하나당 적립되는 재시도 수
+        private final double retryRatio;
+        private final double retryMaxTokens;
+        private final int failureThreshold;
+        private final Duration openDuration;
+        // 동기 메서드의 최대 대기 시간 (대기열, 재시도 포함)
+        private final Duration awaitTimeout;
+    }
+}
@@ -0,0 +1,60 @@
+package com.grinder.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SHA-256 다이제스트 전용 Bloom filter
+ * 입력이 이미 균일한 해시값이므로 앞 16바이트를 두 개의 64비트 해시로 나눠
+ * h1 + i * h2 (double hashing) 로 k 개의 비트 위치를 만든다.
+ * 비트 배열은 AtomicLongArray 로 보관해 락 없이 여러 스레드에서 추가/조회할 수 있다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions : 예상 원소 수
+     * @param falsePositiveRate : 허용 오탐률 (0 ~ 1)
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(64, bits);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.words = new AtomicLongArray((int) ((bitSize + 63) / 64));
+    }
+
+    public void put(byte[] digest) {
+        long h1 = toLong(digest, 0);
+        long h2 = toLong(digest, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word;
+            do {
+                word = words.get(index);
+                if ((word & mask) != 0) break;
+            } while (!words.compareAndSet(index, word, word | mask));
+        }
+    }
+
+    public boolean mightContain(byte[] digest) {
+        long h1 = toLong(digest, 0);
+        long h2 = toLong(digest, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,53 @@
+package com.grinder.utils;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 버킷 분할
+ * 처리할 버킷을 min(gridSize, 버킷 수) 개의 파티션에 차례로 나눠 담는다. 버킷 목록이 같으면 항상 같은 파티션이 만들어지므로
+ * 재시작 시 같은 파티션 이름에 이전 실행 상태가 이어진다.
+ */
+public class BucketPartitioner implements Partitioner {
+    public static final String BUCKETS = "buckets";
+
+    private final List<Integer> buckets;
+
+    public BucketPartitioner(List<Integer> buckets) {
+        this.buckets = buckets;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int size = Math.max(1, Math.min(gridSize, buckets.size()));
+        List<List<Integer>> groups = new ArrayList<>();
+        for (int i = 0; i < size; i++) groups.add(new ArrayList<>());
+        for (int i = 0; i < buckets.size(); i++) groups.get(i % size).add(buckets.get(i));
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            ExecutionContext context = new ExecutionContext();
+            context.putString(BUCKETS, join(groups.get(i)));
+            partitions.put("partition" + i, context);
+        }
+        return partitions;
+    }
+
+    // 버킷 목록 ↔ "1,5,9" (작업 파라미터, 실행 상태 저장용)
+    public static String join(Collection<Integer> buckets) {
+        return buckets.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    public static List<Integer> parse(String buckets) {
+        if (buckets == null || buckets.isBlank()) return List.of();
+        return Arrays.stream(buckets.split(",")).map(String::trim).map(Integer::parseInt).toList();
+    }
+}
@@ -0,0 +1,17 @@
+package com.grinder.utils;
+
+/**
+ * 순환 작업용 고정 버킷 (회원, 카페, 피드)
+ * 버킷은 id 의 String.hashCode 를 COUNT 로 나눈 나머지로 생성 시 한 번 정해지고 바뀌지 않는다.
+ * COUNT 는 7(주간)과 30(월간)의 최소공배수라 어느 주기로 나눠도 회차마다 같은 수의 버킷을 처리한다.
+ */
+public final class Buckets {
+    public static final int COUNT = 210;
+
+    private Buckets() {
+    }
+
+    public static int of(String id) {
+        return Math.floorMod(id.hashCode(), COUNT);
+    }
+}
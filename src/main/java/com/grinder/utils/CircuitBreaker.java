@@ -0,0 +1,58 @@
+package com.grinder.utils;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 기반 서킷 브레이커
+ * CLOSED 에서 failureThreshold 번 연속 실패하면 OPEN 이 되어 openDuration 동안 호출을 바로 거절한다.
+ * 이후 한 번의 시험 호출(HALF_OPEN)이 성공하면 CLOSED, 실패하면 다시 OPEN 으로 돌아간다.
+ */
+public class CircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int failures;
+    private long openedAt;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier clock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = openDuration.toMillis();
+        this.clock = clock;
+    }
+
+    // 호출 가능 여부 (OPEN 시간이 지났으면 시험 호출 한 번만 허용)
+    public synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) return true;
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openMillis) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        failures = 0;
+    }
+
+    public synchronized void onFailure() {
+        failures++;
+        if (state == State.HALF_OPEN || failures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -1,77 +1,115 @@
 package com.grinder.utils;
 
-import com.grinder.security.exception.AccessTokenException;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.time.ZonedDateTime;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JWTUtil {
 
-    @Value("${jwt.secret}")
-    private String key;
+    // 검증 결과 캐시 최대 개수 (초과 시 만료된 항목부터 정리)
+    private static final int MAX_CLAIMS_CACHE_SIZE = 10000;
 
-    private final RedisUtil redisUtil;
+    private final SecretKey secretKey;
+    // JwtParser 는 불변 객체라 여러 스레드에서 공유 가능
+    private final JwtParser jwtParser;
+    // 토큰 SHA-256 다이제스트 → 검증된 클레임 (토큰 만료 시각까지 보관)
+    private final Map<String, VerifiedClaims> claimsCache = new ConcurrentHashMap<>();
 
+    public JWTUtil(@Value("${jwt.secret}") String key) {
+        this.secretKey = new SecretKeySpec(key.getBytes(), SignatureAlgorithm.HS256.getJcaName());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+    }
 
     // 인증 완료시 토큰 발급하는 메소드
     public String generateToken(Map<String,Object> valueMap, int hours){
 
-        // JWT 헤더
-        Map<String, Object> headers = new HashMap<>();
-        headers.put("typ","JWT");
-        headers.put("alg","HS256");
-
-        // JWT 페이로드 (내용) : 인증 정보 반환)
-        Map<String,Object> payloads = new HashMap<>();
-        payloads.putAll(valueMap);
+        Instant now = Instant.now();
 
-        int time = (60) * hours;
-
-        String jwtStr = Jwts.builder()
-                .setHeader(headers)
-                .setClaims(payloads)
-                .setIssuedAt(Date.from(ZonedDateTime.now().toInstant()))
-                .setExpiration(Date.from(ZonedDateTime.now().plusMinutes(time).toInstant()))
-                .signWith(SignatureAlgorithm.HS256, key.getBytes())
+        // JWT 헤더(alg 는 signWith 에서 설정) + 페이로드 (내용) : 인증 정보 반환
+        return Jwts.builder()
+                .setHeaderParam("typ", "JWT")
+                .setClaims(valueMap)
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(Duration.ofHours(hours))))
+                .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
-
-        return jwtStr;
     }
+
     // 토큰 검증 기능
+    // 한 번 검증한 토큰은 만료 시각까지 캐시된 클레임을 반환하고, 만료되었으면 다시 파싱해 ExpiredJwtException 을 던진다.
     public Map<String, Object> validateToken(String token) throws JwtException{
-        Map<String, Object> claim = null;
-
-        claim = Jwts.parserBuilder()
-                .setSigningKey(key.getBytes())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        // blacklist에 있는 token(로그아웃한 token)인지 확인
-//        if(redisUtil.hasKeyBlackList(token)){
-//            throw new AccessTokenException(AccessTokenException.TOKEN_ERROR.BLACKLISTED);
-//        }
-        return claim;
+        String digest = digest(token);
+        VerifiedClaims cached = claimsCache.get(digest);
+        if (cached != null) {
+            if (cached.expiresAt > System.currentTimeMillis()) return cached.claims;
+            claimsCache.remove(digest, cached);
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        // 로그아웃한 access token 여부는 TokenCheckFilter 에서 TokenRevocationService 로 확인
+        Map<String, Object> verified = Collections.unmodifiableMap(claims);
+        if (claims.getExpiration() != null) {
+            if (claimsCache.size() >= MAX_CLAIMS_CACHE_SIZE) evictExpired();
+            if (claimsCache.size() >= MAX_CLAIMS_CACHE_SIZE) claimsCache.clear();
+            claimsCache.put(digest, new VerifiedClaims(verified, claims.getExpiration().getTime()));
+        }
+        return verified;
     }
+
     public String getEmail(String token) {
+        return (String) validateToken(token).get("email");
+    }
+
+    // 로그아웃 등으로 더 이상 쓰지 않는 토큰의 검증 결과 제거
+    public void evictToken(String token) {
+        if (token == null) return;
+        claimsCache.remove(digest(token));
+    }
 
-        return Jwts.parserBuilder()
-                .setSigningKey(key.getBytes())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("email", String.class);
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        claimsCache.values().removeIf(verified -> verified.expiresAt <= now);
     }
 
+    // 토큰 식별자 (SHA-256 hex). 캐시, 리프레시 토큰 저장소, 폐기 목록의 키로 사용
+    public static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static class VerifiedClaims {
+        private final Map<String, Object> claims;
+        private final long expiresAt;
+
+        private VerifiedClaims(Map<String, Object> claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
 }
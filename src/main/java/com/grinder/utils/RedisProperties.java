@@ -6,6 +6,8 @@ import lombok.Setter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Getter
 @Component
 public class RedisProperties {
@@ -17,4 +19,21 @@ public class RedisProperties {
     @Value("${spring.data.redis.host}")
     private String host;
 
+    // 명령 응답 대기 시간
+    @Value("${spring.data.redis.timeout:2s}")
+    private Duration timeout;
+
+    @Value("${spring.data.redis.lettuce.pool.max-active:16}")
+    private int poolMaxActive;
+
+    @Value("${spring.data.redis.lettuce.pool.max-idle:8}")
+    private int poolMaxIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.min-idle:2}")
+    private int poolMinIdle;
+
+    // 풀이 비었을 때 연결을 기다리는 최대 시간
+    @Value("${spring.data.redis.lettuce.pool.max-wait:500ms}")
+    private Duration poolMaxWait;
+
 }
@@ -1,50 +1,136 @@
 package com.grinder.utils;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Redis 값 접근 계층
+ * 문자열 값은 StringRedisTemplate 으로, 그 외 타입은 타입별로 한 번 만든 템플릿(Jackson 직렬화)으로 처리한다.
+ * 템플릿은 생성 후 설정을 바꾸지 않으므로 여러 스레드에서 공유해도 안전하다.
+ * 여러 키를 다룰 때는 MGET, 파이프라인 SET, 일괄 DEL 로 왕복 횟수를 줄인다.
+ */
 @Component
-@RequiredArgsConstructor
 public class RedisUtil {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final RedisTemplate<String, Object> redisBlackListTemplate;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, TypedOps<?>> typedOps = new ConcurrentHashMap<>();
 
-    public void set(String key, Object o, int minutes) {
-        redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer(o.getClass()));
-        redisTemplate.opsForValue().set(key, o, minutes, TimeUnit.MINUTES);
+    public RedisUtil(RedisConnectionFactory redisConnectionFactory,
+                     StringRedisTemplate stringRedisTemplate,
+                     ObjectMapper objectMapper) {
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
     }
 
-    public Object get(String key) {
-        return redisTemplate.opsForValue().get(key);
+    public void set(String key, String value, Duration ttl) {
+        stringRedisTemplate.opsForValue().set(key, value, ttl);
+    }
+
+    public String get(String key) {
+        return stringRedisTemplate.opsForValue().get(key);
     }
 
     public boolean delete(String key) {
-        return Boolean.TRUE.equals(redisTemplate.delete(key));
+        return Boolean.TRUE.equals(stringRedisTemplate.delete(key));
     }
 
     public boolean hasKey(String key) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key));
+    }
+
+    /**
+     * @return : 키 순서대로 값 (없는 키는 null)
+     */
+    public List<String> multiGet(List<String> keys) {
+        if (keys.isEmpty()) return Collections.emptyList();
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        return values == null ? Collections.nCopies(keys.size(), null) : values;
+    }
+
+    public void multiSet(Map<String, String> values, Duration ttl) {
+        multiSet(values, ttl, StringRedisSerializer.UTF_8);
+    }
+
+    /**
+     * @return : 삭제된 키 수
+     */
+    public long delete(Collection<String> keys) {
+        if (keys.isEmpty()) return 0;
+        Long deleted = stringRedisTemplate.delete(keys);
+        return deleted == null ? 0 : deleted;
     }
-    // blacklist 관련 메소드 -> 로그아웃 이용
-    public void setBlackList(String key, Object o, int minutes) {
-        redisBlackListTemplate.setValueSerializer(new Jackson2JsonRedisSerializer(o.getClass()));
-        redisBlackListTemplate.opsForValue().set(key, o, minutes, TimeUnit.MINUTES);
+
+    /**
+     * 타입별 값 접근. 같은 타입이면 같은 템플릿을 재사용한다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> TypedOps<T> forType(Class<T> type) {
+        return (TypedOps<T>) typedOps.computeIfAbsent(type, this::createTypedOps);
     }
 
-    public Object getBlackList(String key) {
-        return redisBlackListTemplate.opsForValue().get(key);
+    private <T> TypedOps<T> createTypedOps(Class<T> type) {
+        RedisTemplate<String, T> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(StringRedisSerializer.UTF_8);
+        template.setValueSerializer(new Jackson2JsonRedisSerializer<>(objectMapper, type));
+        template.afterPropertiesSet();
+        return new TypedOps<>(template);
     }
 
-    public boolean deleteBlackList(String key) {
-        return Boolean.TRUE.equals(redisBlackListTemplate.delete(key));
+    // SET key value EX ttl 을 파이프라인 한 번으로 전송
+    private <T> void multiSet(Map<String, T> values, Duration ttl, RedisSerializer<T> valueSerializer) {
+        if (values.isEmpty()) return;
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            Expiration expiration = Expiration.from(ttl);
+            values.forEach((key, value) -> connection.stringCommands().set(
+                    StringRedisSerializer.UTF_8.serialize(key),
+                    valueSerializer.serialize(value),
+                    expiration,
+                    RedisStringCommands.SetOption.upsert()));
+            return null;
+        });
     }
 
-    public boolean hasKeyBlackList(String key) {
-        return Boolean.TRUE.equals(redisBlackListTemplate.hasKey(key));
+    public class TypedOps<T> {
+        private final RedisTemplate<String, T> template;
+
+        private TypedOps(RedisTemplate<String, T> template) {
+            this.template = template;
+        }
+
+        public void set(String key, T value, Duration ttl) {
+            template.opsForValue().set(key, value, ttl);
+        }
+
+        public T get(String key) {
+            return template.opsForValue().get(key);
+        }
+
+        public List<T> multiGet(List<String> keys) {
+            if (keys.isEmpty()) return Collections.emptyList();
+            List<T> values = template.opsForValue().multiGet(keys);
+            return values == null ? Collections.nCopies(keys.size(), null) : values;
+        }
+
+        @SuppressWarnings("unchecked")
+        public void multiSet(Map<String, T> values, Duration ttl) {
+            RedisUtil.this.multiSet(values, ttl, (RedisSerializer<T>) template.getValueSerializer());
+        }
     }
 }
@@ -0,0 +1,28 @@
+package com.grinder.utils;
+
+/**
+ * 재시도 예산
+ * 요청마다 ratio 만큼 적립하고 재시도마다 1 을 사용해, 장애 중에도 재시도가 전체 요청의 ratio 비율을 넘지 않게 한다.
+ * 적립량은 maxTokens 를 넘지 않으며 처음에는 가득 찬 상태로 시작한다.
+ */
+public class RetryBudget {
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    public RetryBudget(double ratio, double maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+    }
+
+    public synchronized void onRequest() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    public synchronized boolean tryRetry() {
+        if (tokens < 1) return false;
+        tokens -= 1;
+        return true;
+    }
+}
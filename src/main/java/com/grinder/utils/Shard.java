@@ -0,0 +1,46 @@
+package com.grinder.utils;
+
+import lombok.Getter;
+
+/**
+ * 작업 분할 단위. id 의 해시값을 count 로 나눈 나머지가 index 인 항목만 담당한다.
+ * String.hashCode 는 JVM 과 무관하게 같은 값이므로 서버마다 같은 id 를 같은 조각으로 나눈다.
+ * 순번(요일/일자) 분할도 hashCode 나머지를 쓰므로, 두 분할이 겹치지 않도록 해시를 한 번 섞어서 사용한다.
+ */
+@Getter
+public class Shard {
+    // 분할하지 않음 (모든 항목 담당)
+    public static final Shard ALL = new Shard(0, 1);
+
+    private final int index;
+    private final int count;
+
+    public Shard(int index, int count) {
+        if (count < 1 || index < 0 || index >= count) throw new IllegalArgumentException("잘못된 분할 정보입니다. : " + index + "/" + count);
+        this.index = index;
+        this.count = count;
+    }
+
+    public boolean owns(String id) {
+        return count == 1 || indexOf(id) == index;
+    }
+
+    public int indexOf(String id) {
+        return Math.floorMod(mix(id.hashCode()), count);
+    }
+
+    // murmur3 finalizer
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return (index + 1) + "/" + count;
+    }
+}
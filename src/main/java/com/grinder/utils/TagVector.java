@@ -0,0 +1,124 @@
+package com.grinder.utils;
+
+import com.grinder.domain.enums.TagName;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 회원 관심 태그 가중치 (TagName 순서의 고정 길이 float 배열)
+ * 가중치는 반감기 HALF_LIFE 로 시간이 지날수록 줄어들며, asOf 는 가중치가 마지막으로 감쇠된 시각이다.
+ * 저장 시에는 태그당 4바이트로 직렬화한다. 저장된 배열이 짧으면 이후 추가된 태그는 0 으로 읽으므로 TagName 은 뒤에만 추가해야 한다.
+ */
+public class TagVector {
+    public static final int SIZE = TagName.values().length;
+    // 저장 컬럼 길이 (태그 64개까지)
+    public static final int MAX_BYTES = 256;
+    public static final Duration HALF_LIFE = Duration.ofDays(30);
+
+    private final float[] weights;
+    private LocalDateTime asOf;
+
+    private TagVector(float[] weights, LocalDateTime asOf) {
+        this.weights = weights;
+        this.asOf = asOf;
+    }
+
+    public static TagVector empty() {
+        return new TagVector(new float[SIZE], null);
+    }
+
+    public static TagVector decode(byte[] bytes, LocalDateTime asOf) {
+        float[] weights = new float[SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        for (int i = 0; i < SIZE && buffer.remaining() >= Float.BYTES; i++) {
+            weights[i] = buffer.getFloat();
+        }
+        return new TagVector(weights, asOf);
+    }
+
+    // 이전 형식 ("/" 로 구분한 태그 이름 목록) 의 등장 횟수, 알 수 없는 태그는 무시
+    public static TagVector fromTagList(String tagList, LocalDateTime asOf) {
+        TagVector vector = new TagVector(new float[SIZE], asOf);
+        if (tagList == null || tagList.isBlank()) return vector;
+        for (String value : tagList.split("/")) {
+            TagName.fromValue(value.trim()).ifPresent(tagName -> vector.add(tagName, 1));
+        }
+        return vector;
+    }
+
+    public byte[] encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(SIZE * Float.BYTES);
+        for (float weight : weights) buffer.putFloat(weight);
+        return buffer.array();
+    }
+
+    // now 시점까지 감쇠 (처음이면 시각만 기록)
+    public void decayTo(LocalDateTime now) {
+        if (asOf != null && now.isAfter(asOf)) {
+            double factor = Math.pow(0.5, (double) Duration.between(asOf, now).toMinutes() / HALF_LIFE.toMinutes());
+            for (int i = 0; i < SIZE; i++) weights[i] *= (float) factor;
+        }
+        if (asOf == null || now.isAfter(asOf)) asOf = now;
+    }
+
+    public void add(TagName tagName, double weight) {
+        weights[tagName.ordinal()] += (float) weight;
+    }
+
+    public float get(TagName tagName) {
+        return weights[tagName.ordinal()];
+    }
+
+    public LocalDateTime getAsOf() {
+        return asOf;
+    }
+
+    public boolean isEmpty() {
+        for (float weight : weights) {
+            if (weight > 0) return false;
+        }
+        return true;
+    }
+
+    // 가중치가 큰 태그 k 개 (같으면 TagName 순서, 0 은 제외)
+    public List<TagName> top(int k) {
+        TagName[] tagNames = TagName.values();
+        return IntStream.range(0, SIZE)
+                .filter(i -> weights[i] > 0)
+                .boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> weights[i]).reversed().thenComparingInt(i -> i))
+                .limit(k)
+                .map(i -> tagNames[i])
+                .toList();
+    }
+
+    // 상위 태그 k 개를 "/" 로 연결 (알림 문구, 앨런 질문용)
+    public String summary(int k) {
+        return top(k).stream().map(TagName::getValue).collect(Collectors.joining("/"));
+    }
+
+    public double cosine(TagVector other) {
+        double dot = 0;
+        double norm = 0;
+        double otherNorm = 0;
+        for (int i = 0; i < SIZE; i++) {
+            dot += weights[i] * other.weights[i];
+            norm += weights[i] * weights[i];
+            otherNorm += other.weights[i] * other.weights[i];
+        }
+        if (norm == 0 || otherNorm == 0) return 0;
+        return dot / Math.sqrt(norm * otherNorm);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(weights) + "@" + asOf;
+    }
+}
@@ -0,0 +1,213 @@
+package com.grinder.utils;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * 2단계 캐시 (L1 : 서버 내 Caffeine, L2 : Redis)
+ * 조회는 L1 → L2 → 원본 순서로 하고, L2 에서 찾은 값은 L1 에 올린다.
+ * 저장/삭제 시 L2 를 먼저 바꾼 뒤 invalidation 으로 다른 서버의 L1 을 비운다.
+ * Redis 장애 시에는 L1 과 원본만 사용한다. null 값은 캐시하지 않는다.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+    private static final String KEY_PREFIX = "cache:";
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration ttl;
+    // (캐시 이름, 키) 변경 알림. 키가 null 이면 전체
+    private final BiConsumer<String, String> invalidation;
+
+    private final Counter l1Hits;
+    private final Counter l2Hits;
+    private final Counter misses;
+
+    /**
+     * @param ttl : L2 유효 시간
+     * @param localTtl : L1 유효 시간 (ttl 보다 길면 ttl 사용)
+     * @param maxSize : L1 최대 항목 수
+     */
+    public TwoLevelCache(String name,
+                         RedisTemplate<String, Object> redisTemplate,
+                         Duration ttl,
+                         Duration localTtl,
+                         long maxSize,
+                         MeterRegistry meterRegistry,
+                         BiConsumer<String, String> invalidation) {
+        super(false);
+        this.name = name;
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.invalidation = invalidation;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(localTtl.compareTo(ttl) > 0 ? ttl : localTtl)
+                .recordStats()
+                .build();
+
+        this.l1Hits = requests(meterRegistry, "l1_hit");
+        this.l2Hits = requests(meterRegistry, "l2_hit");
+        this.misses = requests(meterRegistry, "miss");
+        Gauge.builder("grinder.cache.hit.ratio", this, TwoLevelCache::hitRatio)
+                .tag("cache", name)
+                .description("L1 + L2 적중률")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name, "level", "l1");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = key.toString();
+        Object value = local.getIfPresent(cacheKey);
+        if (value != null) {
+            l1Hits.increment();
+            return value;
+        }
+        value = getRemote(cacheKey);
+        if (value != null) {
+            l2Hits.increment();
+            local.put(cacheKey, value);
+            return value;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * @Cacheable(sync = true) 용 조회. 같은 서버에서 같은 키를 동시에 조회하면 원본은 한 번만 읽는다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = key.toString();
+        Object value = local.getIfPresent(cacheKey);
+        if (value != null) {
+            l1Hits.increment();
+            return (T) value;
+        }
+        return (T) local.get(cacheKey, ignored -> {
+            Object remote = getRemote(cacheKey);
+            if (remote != null) {
+                l2Hits.increment();
+                return remote;
+            }
+            misses.increment();
+            Object loaded;
+            try {
+                loaded = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            if (loaded != null) putRemote(cacheKey, loaded);
+            return loaded;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String cacheKey = key.toString();
+        Object storeValue = toStoreValue(value);
+        putRemote(cacheKey, storeValue);
+        local.put(cacheKey, storeValue);
+        invalidation.accept(name, cacheKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = key.toString();
+        try {
+            redisTemplate.delete(redisKey(cacheKey));
+        } catch (DataAccessException e) {
+            log.warn("캐시 L2 삭제 실패 (" + name + ") : " + e.getMessage());
+        }
+        local.invalidate(cacheKey);
+        invalidation.accept(name, cacheKey);
+    }
+
+    @Override
+    public void clear() {
+        try {
+            List<String> keys = new ArrayList<>();
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + name + ":*").count(1000).build();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) keys.add(cursor.next());
+            }
+            if (!keys.isEmpty()) redisTemplate.delete(keys);
+        } catch (DataAccessException e) {
+            log.warn("캐시 L2 전체 삭제 실패 (" + name + ") : " + e.getMessage());
+        }
+        local.invalidateAll();
+        invalidation.accept(name, null);
+    }
+
+    /**
+     * 다른 서버의 변경 알림 수신 시 L1 만 비운다.
+     * @param key : null 이면 전체
+     */
+    public void invalidateLocal(String key) {
+        if (key == null) local.invalidateAll();
+        else local.invalidate(key);
+    }
+
+    public double hitRatio() {
+        double hits = l1Hits.count() + l2Hits.count();
+        double total = hits + misses.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private Object getRemote(String cacheKey) {
+        try {
+            return redisTemplate.opsForValue().get(redisKey(cacheKey));
+        } catch (DataAccessException | SerializationException e) {
+            log.warn("캐시 L2 조회 실패 (" + name + ") : " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(String cacheKey, Object value) {
+        try {
+            redisTemplate.opsForValue().set(redisKey(cacheKey), value, ttl);
+        } catch (DataAccessException | SerializationException e) {
+            log.warn("캐시 L2 저장 실패 (" + name + ") : " + e.getMessage());
+        }
+    }
+
+    private String redisKey(String cacheKey) {
+        return KEY_PREFIX + name + ":" + cacheKey;
+    }
+
+    private Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("grinder.cache.requests")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,118 @@
+package com.grinder.utils;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TwoLevelCache 관리자
+ * 캐시 값이 바뀌면 cache:invalidate 채널로 "{서버 id}|{캐시 이름}|{키}" 를 보내고,
+ * 다른 서버는 해당 키의 L1 을 비운다. (키가 비어 있으면 캐시 전체) 자기 서버가 보낸 메시지는 무시한다.
+ * 트랜잭션 안에서의 저장/삭제는 커밋 이후에 반영된다. (setTransactionAware)
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+    private static final ChannelTopic CHANNEL = new ChannelTopic("cache:invalidate");
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final List<CacheSpec> specs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    /**
+     * @param specs : 캐시 설정. 값 타입을 알아야 L2 에서 역직렬화할 수 있으므로 설정에 없는 캐시 이름은 사용할 수 없다.
+     */
+    public TwoLevelCacheManager(RedisConnectionFactory redisConnectionFactory,
+                                StringRedisTemplate stringRedisTemplate,
+                                RedisMessageListenerContainer redisMessageListenerContainer,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                List<CacheSpec> specs) {
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.specs = specs;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        redisMessageListenerContainer.addMessageListener(this, CHANNEL);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return specs.stream().map(this::createCache).toList();
+    }
+
+    // 다른 서버에서 바뀐 캐시 키
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) return;
+        TwoLevelCache cache = twoLevelCaches.get(parts[1]);
+        if (cache != null) cache.invalidateLocal(parts[2].isEmpty() ? null : parts[2]);
+    }
+
+    private TwoLevelCache createCache(CacheSpec spec) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(StringRedisSerializer.UTF_8);
+        template.setValueSerializer(new Jackson2JsonRedisSerializer<>(objectMapper, spec.getValueType()));
+        template.afterPropertiesSet();
+
+        TwoLevelCache cache = new TwoLevelCache(spec.getName(), template, spec.getTtl(), spec.getLocalTtl(),
+                spec.getMaxSize(), meterRegistry, this::publish);
+        twoLevelCaches.put(spec.getName(), cache);
+        return cache;
+    }
+
+    private void publish(String cacheName, String key) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL.getTopic(), nodeId + "|" + cacheName + "|" + (key == null ? "" : key));
+        } catch (DataAccessException e) {
+            log.warn("캐시 무효화 전파 실패 (" + cacheName + ") : " + e.getMessage());
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class CacheSpec {
+        private final String name;
+        // Redis 저장 시 JSON 역직렬화 타입
+        private final JavaType valueType;
+        private final Duration ttl;
+        private final Duration localTtl;
+        private final long maxSize;
+    }
+}
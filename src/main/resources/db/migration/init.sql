@@ -337,3 +337,140 @@ create table tag (
                      tag_name varchar(45) not null check (tag_name in ('CLEAN','KIND','GOOD_INTERIOR','GOOD_COFFEE','MANY_SEATS','GOOD_DESSERT','GOOD_VIEW')),
                      primary key (tag_id)
 );
+
+
+-- 이후 변경 사항 (기존 DB 에는 아래 순서대로 적용)
+
+-- 피드 이미지 비동기 업로드
+alter table feed add column if not exists is_image_ready boolean default true;
+
+create table if not exists pending_upload (
+                                retry_count integer not null,
+                                created_at timestamp(6) not null,
+                                updated_at timestamp(6),
+                                content_type varchar(16) not null check (content_type in ('MEMBER','FEED','CAFE','MENU','COMMENT')),
+                                status varchar(16) not null check (status in ('PENDING','FAILED')),
+                                content_id varchar(36) not null,
+                                upload_id varchar(36) not null,
+                                original_file_name varchar(255) not null,
+                                spool_path varchar(255) not null,
+                                primary key (upload_id)
+);
+create index if not exists idx_pending_upload_content_id on pending_upload (content_id);
+create index if not exists idx_pending_upload_status_updatedAt on pending_upload (status, updated_at);
+
+-- 팔로우 수 카운터, 팔로우 목록 키셋 페이지네이션
+alter table member add column if not exists follower_count integer not null default 0;
+alter table member add column if not exists following_count integer not null default 0;
+-- 기존 데이터 1회 보정 (목록과 같이 삭제된 회원 제외)
+update member m set
+    follower_count = (select count(*) from follow f join member fm on fm.member_id = f.member_id
+                      where f.following_id = m.member_id and fm.is_deleted = false),
+    following_count = (select count(*) from follow f join member fm on fm.member_id = f.following_id
+                       where f.member_id = m.member_id and fm.is_deleted = false);
+create index if not exists idx_follow_member_followId on follow (member_id, follow_id);
+create index if not exists idx_follow_following_followId on follow (following_id, follow_id);
+
+-- 리프레시 토큰 테이블 (security.refresh-store.jpa-fallback) 조회 인덱스
+create table if not exists refresh_entity (
+                                refresh_id varchar(36) not null,
+                                refresh varchar(255),
+                                email varchar(255),
+                                expiration varchar(255),
+                                primary key (refresh_id)
+);
+create index if not exists idx_refresh_refresh on refresh_entity (refresh);
+create index if not exists idx_refresh_email on refresh_entity (email);
+
+-- 순환 배치 작업용 고정 버킷, 버킷별 처리 시각
+-- 기존 행의 bucket 은 String.hashCode 기준이라 SQL 로 계산하지 않고 서버 시작 시 BucketProgressService.backfillBuckets 가 채운다.
+alter table member add column if not exists bucket integer;
+alter table cafe add column if not exists bucket integer;
+alter table feed add column if not exists bucket integer;
+create index if not exists idx_member_bucket_memberId on member (bucket, member_id);
+create index if not exists idx_cafe_bucket_cafeId on cafe (bucket, cafe_id);
+create index if not exists idx_feed_bucket_feedId on feed (bucket, feed_id);
+
+create table if not exists bucket_progress (
+                                bucket integer not null,
+                                created_at timestamp(6) not null,
+                                updated_at timestamp(6),
+                                processed_at timestamp(6) not null,
+                                job_name varchar(50) not null,
+                                progress_id varchar(36) not null,
+                                primary key (progress_id),
+                                constraint uk_bucket_progress_job_bucket unique (job_name, bucket)
+);
+
+-- 스케줄 작업 실행 기록 (작업 이름, 서버, 소요 시간, 처리 건수)
+create table if not exists scheduler_log (
+                                id bigserial not null,
+                                created_at timestamp(6) not null,
+                                updated_at timestamp(6),
+                                log_message varchar(255),
+                                primary key (id)
+);
+alter table scheduler_log add column if not exists task_name varchar(100);
+alter table scheduler_log add column if not exists node_id varchar(36);
+alter table scheduler_log add column if not exists success boolean;
+alter table scheduler_log add column if not exists started_at timestamp(6);
+alter table scheduler_log add column if not exists ended_at timestamp(6);
+alter table scheduler_log add column if not exists duration_ms bigint;
+alter table scheduler_log add column if not exists attempt_count integer;
+alter table scheduler_log add column if not exists read_count bigint;
+alter table scheduler_log add column if not exists write_count bigint;
+alter table scheduler_log add column if not exists skip_count bigint;
+alter table scheduler_log add column if not exists error_sample varchar(1000);
+create index if not exists idx_scheduler_log_taskName_startedAt on scheduler_log (task_name, started_at);
+
+-- 관심 태그 가중치 벡터와 감쇠 시각
+-- 기존 행은 tag_vector 가 null 이면 tag_list 에서 계산하므로 별도 보정이 필요 없다.
+create table if not exists analysis_tag (
+                                analysis_id bigserial not null,
+                                created_at timestamp(6) not null,
+                                updated_at timestamp(6),
+                                member_id varchar(36) not null unique,
+                                tag_list varchar(255) not null,
+                                primary key (analysis_id)
+);
+create index if not exists idx_memberId on analysis_tag (member_id);
+alter table analysis_tag add column if not exists tag_vector bytea;
+alter table analysis_tag add column if not exists decayed_at timestamp(6);
+alter table analysis_tag add column if not exists recommended_cafes varchar(200);
+alter table analysis_tag add column if not exists recommended_at timestamp(6);
+
+-- 앨런 응답 캐시
+create table if not exists alan_prompt_cache (
+                                created_at timestamp(6) not null,
+                                expires_at timestamp(6) not null,
+                                updated_at timestamp(6),
+                                kind varchar(20) not null check (kind in ('SUMMARY','RECOMMEND')),
+                                fingerprint varchar(80) not null,
+                                action_name varchar(255),
+                                action_speak varchar(255),
+                                content varchar(2000),
+                                primary key (fingerprint)
+);
+
+-- 카페 요약 생성 아웃박스
+create table if not exists outbox_event (
+                                attempt_count integer not null,
+                                available_at timestamp(6) not null,
+                                created_at timestamp(6) not null,
+                                updated_at timestamp(6),
+                                status varchar(16) not null check (status in ('PENDING','FAILED')),
+                                aggregate_id varchar(36) not null,
+                                event_id varchar(36) not null,
+                                event_type varchar(40) not null check (event_type in ('CAFE_SUMMARY_REQUESTED')),
+                                last_error varchar(500),
+                                primary key (event_id)
+);
+create index if not exists idx_outbox_event_status_availableAt on outbox_event (status, available_at);
+
+-- 읽지 않은 메시지 수 카운터, 받은 메시지 키셋 페이지네이션
+alter table member add column if not exists unread_message_count integer not null default 0;
+-- 기존 데이터 1회 보정
+update member m set
+    unread_message_count = (select count(*) from message ms
+                            where ms.receive_member_id = m.member_id and ms.is_checked = false);
+create index if not exists idx_message_receiveMemberId_createdAt on message (receive_member_id, created_at);
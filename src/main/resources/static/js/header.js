@@ -130,6 +130,7 @@ function alarmTab() {
                 backdrop.style.display = 'block';
                 modal.style.display = 'block';
                 closeAlan();
+                moreAlanMessage();
                 checkTagBox();
             } else {
                 // 서버에서 4xx, 5xx 응답을 반환하면 오류 처리를 합니다.
@@ -148,6 +149,28 @@ function alarmTab() {
         xhr.send(); // 요청을 서버로 보냅니다.
     }
 
+    // 마지막으로 불러온 메시지 기준으로 다음 메시지 목록을 이어 붙인다.
+    function moreAlanMessage() {
+        const list = document.querySelector('.alan_message_list');
+        if (!list) return;
+        list.addEventListener('click', function (event) {
+            if (!event.target.classList.contains('alan_more')) return;
+            const messages = list.querySelectorAll('[data-message-id]');
+            const last = messages[messages.length - 1];
+            event.target.remove();
+            fetch('/get-alan?lastCreatedAt=' + encodeURIComponent(last.dataset.createdAt)
+                + '&lastMessageId=' + encodeURIComponent(last.dataset.messageId))
+                .then(response => {
+                    if (!response.ok) throw new Error('Unexpected response status: ' + response.status);
+                    return response.text();
+                })
+                .then(html => list.insertAdjacentHTML('beforeend', html))
+                .catch((error) => {
+                    console.error('Error:', error);
+                });
+        });
+    }
+
     function closeAlan() {
         document.getElementById('modalBackdrop').addEventListener('click', function () {
             let modal = document.getElementById('alanContainer');
@@ -33,8 +33,7 @@ document.addEventListener('DOMContentLoaded', function() {
     // myPageContainer에 이벤트 위임 설정(팔로워)
     document.getElementById('myPageMenuContainer').addEventListener('click', function(event) {
         if (event.target.classList.contains('follower_more')) {
-            nextPage++; // 페이지 번호 증가
-            MoreFollowContent('/api/follower?page=' + nextPage, '.followerList');
+            MoreFollowContent('/api/follower?lastFollowId=' + lastFollowId(), '.followerList');
         }
     });
 
@@ -48,11 +47,16 @@ document.addEventListener('DOMContentLoaded', function() {
     // myPageContainer에 이벤트 위임 설정(팔로잉)
     document.getElementById('myPageMenuContainer').addEventListener('click', function(event) {
         if (event.target.classList.contains('following_more')) {
-            nextPage++; // 페이지 번호 증가
-            MoreFollowContent('/api/following?page=' + nextPage, '.followerList');
+            MoreFollowContent('/api/following?lastFollowId=' + lastFollowId(), '.followerList');
         }
     });
 
+    // 알 수도 있는 사람 보기 버튼 이벤트 리스너 추가
+    document.getElementById('view_suggestion').addEventListener('click', function() {
+        document.querySelector('.myPage_title').innerHTML = '알 수도 있는 사람';
+        fetchContent('/get-suggestion', 'myPageMenuContainer');
+    });
+
     // 차단목록 보기 버튼 이벤트 리스너 추가
     document.getElementById('view_blacklist').addEventListener('click', function() {
         document.querySelector('.myPage_title').innerHTML = '차단목록 보기';
@@ -135,6 +139,12 @@ function MoreFollowContent(url, insertTag) {
         });
 }
 
+// 마지막으로 불러온 팔로우 id (키셋 페이지네이션 기준)
+function lastFollowId() {
+    const follows = document.querySelectorAll('[data-follow-id]');
+    return follows.length === 0 ? '' : follows[follows.length - 1].dataset.followId;
+}
+
 function renderFollowList(follows, insertTag) {
     let container = document.querySelector(insertTag);
     follows.forEach(follow => {
@@ -152,7 +162,7 @@ function renderFollowList(follows, insertTag) {
         }
 
         const bookmarkHTML = `
-            <div class="followerList_follower">
+            <div class="followerList_follower" data-follow-id="${follow.followId}">
             <img src="${followImage}">
             <p>${followNickname} (${followEmail})</p>
             <span class="followerList_role">
@@ -52,6 +52,10 @@ class AdminControllerTest {
     SellerApplyService sellerApplyService;
     @Mock
     SellerInfoService sellerInfoService;
+    @Mock
+    JobTelemetryService jobTelemetryService;
+    @Mock
+    FollowService followService;
 
 
     MockMvc mockMvc;
@@ -100,6 +104,18 @@ class AdminControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @DisplayName("스케줄 작업 실행 기록 조회")
+    @Test
+    void testFindSchedulerLogs() throws Exception {
+        Pageable pageable = PageRequest.of(0, 20);
+        when(jobTelemetryService.findSchedulerLogs(anyString(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
+
+        mockMvc.perform(get("/admin/api/scheduler_log")
+                        .param("taskName", "averageGradeJob"))
+                .andExpect(status().isOk());
+    }
+
     @DisplayName("댓글 조회")
     @Test
     void testFindCommentForAdmin() throws Exception {
@@ -136,6 +152,15 @@ class AdminControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @DisplayName("팔로우 수 재계산")
+    @Test
+    void testRecountFollows() throws Exception {
+        when(followService.syncFollowCounts()).thenReturn(2);
+
+        mockMvc.perform(post("/admin/api/follow/recount"))
+                .andExpect(status().isOk());
+    }
+
     @DisplayName("회원 복구")
     @Test
     void testRecoverMember() throws Exception {
@@ -51,7 +51,7 @@ class AnalysisTagControllerTest {
         SecurityContextHolder.getContext().setAuthentication(authentication);
         when(authentication.getName()).thenReturn("test@test.com");
 
-        analysisTagData = new AnalysisTag(1L, new Member(), "tag");
+        analysisTagData = AnalysisTag.builder().analysisId(1L).member(new Member()).tagList("tag").build();
     }
 
     @Test
@@ -73,12 +73,12 @@ class FollowControllerTest {
         Slice<FollowDTO.findAllFollowingResponse> expectedSlice = new PageImpl<>(sampleData, pageable, sampleData.size());
 
         // Mockito를 사용하여 서비스 메서드가 Slice를 반환하도록 설정
-        Mockito.when(followService.findAllFollowingSlice(any(String.class), any(Pageable.class)))
+        Mockito.when(followService.findAllFollowingSlice(any(String.class), any(), any(Pageable.class)))
                 .thenReturn(expectedSlice);
 
         // API 호출
         ResultActions resultActions = mockMvc.perform(get("/api/following")
-                .param("page", "0")
+                .param("lastFollowId", "20")
                 .param("size", "10")
                 .principal(authentication));
 
@@ -101,12 +101,12 @@ class FollowControllerTest {
         Slice<FollowDTO.findAllFollowerResponse> expectedSlice = new PageImpl<>(sampleData, pageable, sampleData.size());
 
         // Mockito를 사용하여 서비스 메서드가 Slice를 반환하도록 설정
-        Mockito.when(followService.findAllFollowerSlice(any(String.class), any(Pageable.class)))
+        Mockito.when(followService.findAllFollowerSlice(any(String.class), any(), any(Pageable.class)))
                 .thenReturn(expectedSlice);
 
         // API 호출
         ResultActions resultActions = mockMvc.perform(get("/api/follower")
-                .param("page", "0")
+                .param("lastFollowId", "20")
                 .param("size", "10")
                 .principal(authentication));
 
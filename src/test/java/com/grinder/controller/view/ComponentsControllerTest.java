@@ -7,6 +7,7 @@ import com.grinder.domain.enums.MenuType;
 import com.grinder.domain.enums.Role;
 import com.grinder.domain.enums.TagName;
 import com.grinder.exception.NoMoreContentException;
+import com.grinder.security.service.ViewerContext;
 import com.grinder.service.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,6 +31,11 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -60,6 +66,10 @@ class ComponentsControllerTest {
     private CafeService cafeService;
     @Mock
     private ImageService imageService;
+    @Mock
+    private MemberSuggestionService memberSuggestionService;
+    @Mock
+    private ViewerContext viewerContext;
 
     private MockMvc mockMvc;
 
@@ -72,45 +82,90 @@ class ComponentsControllerTest {
 
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken("test@test.com", "password", List.of());
         SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        lenient().when(viewerContext.isAuthenticated()).thenReturn(true);
+        lenient().when(viewerContext.getEmail()).thenReturn("test@test.com");
     }
 
     @Test
     void getHeader() throws Exception {
-        Member member = Member.builder().memberId("test").email("test").nickname("test").phoneNum("test").role(Role.ADMIN).isDeleted(false).build();
-        when(memberService.findMemberByEmail(any())).thenReturn(member);
-        when(messageService.existNonCheckMessage(any())).thenReturn(true);
-        when(messageService.findAllByEmail(any())).thenReturn(new ArrayList<>());
+        Member member = Member.builder().memberId("test").email("test").nickname("test").phoneNum("test").role(Role.ADMIN).isDeleted(false).unreadMessageCount(2).build();
+        when(viewerContext.getMember()).thenReturn(new MemberDTO.FindMemberDTO(member));
 
         mockMvc.perform(get("/get-header"))
                 .andExpect(status().isOk())
-                .andExpect(view().name("components/header :: headers"));
+                .andExpect(view().name("components/header :: headers"))
+                .andExpect(model().attribute("checkMessage", true))
+                .andExpect(model().attribute("unreadMessageCount", 2));
+
+        // 헤더는 회원 정보의 카운터만 읽는다.
+        verifyNoInteractions(messageService);
+    }
+
+    @Test
+    void getHeader_비로그인() throws Exception {
+        when(viewerContext.isAuthenticated()).thenReturn(false);
+
+        mockMvc.perform(get("/get-header"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("checkMessage", false));
+
+        verifyNoInteractions(messageService);
     }
 
     @Test
     void getAlanMessage() throws Exception {
-        when(messageService.findAllByEmail(any())).thenReturn(new ArrayList<>());
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(viewerContext.getMemberId()).thenReturn("test");
+        when(messageService.findInboxSlice(any(), isNull(), isNull(), any())).thenReturn(new SliceImpl<>(new ArrayList<>(), pageable, true));
 
         mockMvc.perform(get("/get-alan"))
                 .andExpect(status().isOk())
-                .andExpect(view().name("components/alanTab :: alan_tab"));
+                .andExpect(view().name("components/alanTab :: alan_tab"))
+                .andExpect(model().attribute("hasNext", true));
+
+        verify(messageService).checkAllMessages("test");
+    }
+
+    @Test
+    void getAlanMessage_다음페이지() throws Exception {
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(viewerContext.getMemberId()).thenReturn("test");
+        when(messageService.findInboxSlice(any(), any(), anyString(), any())).thenReturn(new SliceImpl<>(new ArrayList<>(), pageable, false));
+
+        mockMvc.perform(get("/get-alan")
+                        .param("lastCreatedAt", "2024-05-30T10:15:30")
+                        .param("lastMessageId", "messageId"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("components/alanTab :: alan_messages"));
+
+        verify(messageService, never()).checkAllMessages(any());
     }
 
     @Test
     void getFollower() throws Exception {
         List<FollowDTO.findAllFollowerResponse> followerResponses = new ArrayList<>();
         PageRequest pageable = PageRequest.of(0, 10);
-        when(followService.findAllFollowerSlice(any(), any())).thenReturn(new SliceImpl<>(followerResponses, pageable, false));
+        when(followService.findAllFollowerSlice(any(), any(), any())).thenReturn(new SliceImpl<>(followerResponses, pageable, false));
 
         mockMvc.perform(get("/get-follower"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("components/followerList :: followList(title='follower')"));
     }
 
+    @Test
+    void getSuggestion() throws Exception {
+        when(memberSuggestionService.findSuggestions(any())).thenReturn(new ArrayList<>());
+
+        mockMvc.perform(get("/get-suggestion"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("components/followerList :: followList(title='suggestion')"));
+    }
+
     @Test
     void getFollowing() throws Exception {
         List<FollowDTO.findAllFollowingResponse> followingResponses = new ArrayList<>();
         PageRequest pageable = PageRequest.of(0, 10);
-        when(followService.findAllFollowingSlice(any(), any())).thenReturn(new SliceImpl<>(followingResponses, pageable, false));
+        when(followService.findAllFollowingSlice(any(), any(), any())).thenReturn(new SliceImpl<>(followingResponses, pageable, false));
 
         mockMvc.perform(get("/get-following"))
                 .andExpect(status().isOk())
@@ -174,7 +229,7 @@ class ComponentsControllerTest {
         PageRequest pageable = PageRequest.of(0, 20);
         when(feedService.findRecentFeedWithImage(any(), any())).thenReturn(new SliceImpl<>(new ArrayList<>(), pageable, true));
         Member member = Member.builder().memberId("test").email("test").nickname("test").phoneNum("test").role(Role.ADMIN).isDeleted(false).build();
-        when(memberService.findMemberByEmail(anyString())).thenReturn(member);
+        when(viewerContext.getMember()).thenReturn(new MemberDTO.FindMemberDTO(member));
 
         mockMvc.perform(get("/get-feed"))
                 .andExpect(status().isOk())
@@ -197,7 +252,7 @@ class ComponentsControllerTest {
         PageRequest pageable = PageRequest.of(0, 5);
         when(feedService.searchFeed(any(), any(), any())).thenReturn(new SliceImpl<>(new ArrayList<>(), pageable, true));
         Member member = Member.builder().memberId("test").email("test").nickname("test").phoneNum("test").role(Role.ADMIN).isDeleted(false).build();
-        when(memberService.findMemberByEmail(any())).thenReturn(member);
+        when(viewerContext.getMember()).thenReturn(new MemberDTO.FindMemberDTO(member));
         mockMvc.perform(get("/get-search-feed")
                         .param("query", "test"))
                 .andExpect(status().isOk())
@@ -209,7 +264,7 @@ class ComponentsControllerTest {
         PageRequest pageable = PageRequest.of(0, 5);
         when(feedService.searchFeed(any(), any(), any())).thenReturn(new SliceImpl<>(new ArrayList<>(), pageable, false));
         Member member = Member.builder().memberId("test").email("test").nickname("test").phoneNum("test").role(Role.ADMIN).isDeleted(false).build();
-        when(memberService.findMemberByEmail(any())).thenReturn(member);
+        when(viewerContext.getMember()).thenReturn(new MemberDTO.FindMemberDTO(member));
 
         mockMvc.perform(get("/get-search-feed")
                         .param("query", "test"))
@@ -221,7 +276,7 @@ class ComponentsControllerTest {
         PageRequest pageable = PageRequest.of(0, 10);
         when(feedService.findMyPageFeedWithImage(any(), any(), any())).thenReturn(new SliceImpl<>(new ArrayList<>(), pageable, true));
         Member member = Member.builder().memberId("test").email("test").nickname("test").phoneNum("test").role(Role.ADMIN).isDeleted(false).build();
-        when(memberService.findMemberByEmail(any())).thenReturn(member);
+        when(viewerContext.getMember()).thenReturn(new MemberDTO.FindMemberDTO(member));
 
         mockMvc.perform(get("/get-myFeed/test@test.com"))
                 .andExpect(status().isOk())
@@ -233,7 +288,7 @@ class ComponentsControllerTest {
         PageRequest pageable = PageRequest.of(0, 10);
         when(feedService.findCafeFeedWithImage(any(), any(), any())).thenReturn(new SliceImpl<>(new ArrayList<>(), pageable, true));
         Member member = Member.builder().memberId("test").email("test").nickname("test").phoneNum("test").role(Role.ADMIN).isDeleted(false).build();
-        when(memberService.findMemberByEmail(any())).thenReturn(member);
+        when(viewerContext.getMember()).thenReturn(new MemberDTO.FindMemberDTO(member));
 
         mockMvc.perform(get("/get-cafeFeed/testCafeId"))
                 .andExpect(status().isOk())
@@ -244,8 +299,7 @@ class ComponentsControllerTest {
     void getSearchMember() throws Exception {
         PageRequest pageable = PageRequest.of(0, 10);
         when(memberService.searchMember(any(), any(), any())).thenReturn(new SliceImpl<>(new ArrayList<>(), pageable, true));
-        Member member = Member.builder().memberId("test").email("test").nickname("test").phoneNum("test").role(Role.ADMIN).isDeleted(false).build();
-        when(memberService.findMemberByEmail(any())).thenReturn(member);
+        when(viewerContext.getMemberId()).thenReturn("test");
 
         mockMvc.perform(get("/get-search-member")
                         .param("query", "test"))
@@ -266,7 +320,7 @@ class ComponentsControllerTest {
     void getFeedComment() throws Exception {
         when(feedService.findFeedForComment(any(), any())).thenReturn(new ArrayList<>());
         Member member = Member.builder().memberId("test").email("test").nickname("test").phoneNum("test").role(Role.ADMIN).isDeleted(false).build();
-        when(memberService.findMemberByEmail(any())).thenReturn(member);
+        when(viewerContext.getMember()).thenReturn(new MemberDTO.FindMemberDTO(member));
 
         mockMvc.perform(get("/get-feed-comment/testFeedId"))
                 .andExpect(status().isOk())
@@ -3,26 +3,19 @@ package com.grinder.controller.view;
 import com.grinder.domain.dto.MemberDTO;
 import com.grinder.domain.entity.Member;
 import com.grinder.domain.enums.Role;
-import com.grinder.service.MemberService;
+import com.grinder.security.service.ViewerContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
-import org.springframework.ui.Model;
 
-import java.util.ArrayList;
-
-import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
@@ -33,49 +26,36 @@ class IndexControllerTest {
     private IndexController indexController;
 
     @Mock
-    private MemberService memberService;
-
-    @Mock
-    private Authentication authentication;
+    private ViewerContext viewerContext;
 
     private MockMvc mockMvc;
 
     @BeforeEach
     void setUp() {
         this.mockMvc = MockMvcBuilders.standaloneSetup(indexController).build();
-
-        // Setup security context
-        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken("test@test.com", "password", new ArrayList<>());
-        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-        SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
     @Test
     void index_AuthenticatedUser() throws Exception {
-        // Mock member service to return a member DTO
-        MemberDTO.FindMemberDTO memberDTO = new MemberDTO.FindMemberDTO(Member.builder()
-                .email("test@test.com")
-                .nickname("testUser")
-                .role(Role.MEMBER)
-                .build());
-        when(authentication.getName()).thenReturn("test@test.com");
+        // 로그인 회원 정보
         Member member = Member.builder().memberId("test").email("test").nickname("test").phoneNum("test").role(Role.ADMIN).isDeleted(false).build();
-        when(memberService.findMemberByEmail(anyString())).thenReturn(member);
+        when(viewerContext.getMember()).thenReturn(new MemberDTO.FindMemberDTO(member));
 
         // Perform the request and verify the view name and model attributes
         mockMvc.perform(get("/"))
                 .andExpect(status().isOk())
-                .andExpect(view().name("index"));
+                .andExpect(view().name("index"))
+                .andExpect(model().attributeExists("member"));
     }
 
     @Test
     void index_AnonymousUser() throws Exception {
-        // Mock member service to return null for anonymous user
-        when(authentication.getName()).thenReturn("anonymousUser");
+        // 비로그인 시 회원 정보 없음
+        when(viewerContext.getMember()).thenReturn(null);
 
         // Perform the request and verify the view name and model attributes
         mockMvc.perform(get("/"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("index"));
     }
-}
\ No newline at end of file
+}
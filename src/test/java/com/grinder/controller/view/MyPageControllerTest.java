@@ -3,6 +3,7 @@ package com.grinder.controller.view;
 import com.grinder.domain.dto.CafeDTO;
 import com.grinder.domain.dto.MemberDTO;
 import com.grinder.domain.entity.Cafe;
+import com.grinder.security.service.ViewerContext;
 import com.grinder.service.*;
 import com.grinder.service.implement.CafeServiceImpl;
 import jakarta.persistence.EntityNotFoundException;
@@ -12,13 +13,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
-import java.util.ArrayList;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
@@ -47,7 +44,7 @@ class MyPageControllerTest {
     FollowService followService;
 
     @Mock
-    Authentication authentication;
+    ViewerContext viewerContext;
 
     MockMvc mockMvc;
 
@@ -55,10 +52,7 @@ class MyPageControllerTest {
     void setUp() {
         this.mockMvc = MockMvcBuilders.standaloneSetup(myPageController).build();
 
-        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken("test@test.com", "password", new ArrayList<>());
-        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-        when(authentication.getName()).thenReturn("test@test.com");
+        when(viewerContext.getEmail()).thenReturn("test@test.com");
     }
 
     @Test
@@ -9,9 +9,9 @@ import com.grinder.domain.entity.Tag;
 import com.grinder.domain.enums.ContentType;
 import com.grinder.domain.enums.Role;
 import com.grinder.domain.enums.TagName;
+import com.grinder.security.service.ViewerContext;
 import com.grinder.service.FeedService;
 import com.grinder.service.ImageService;
-import com.grinder.service.MemberService;
 import com.grinder.service.TagService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,9 +19,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -50,10 +47,7 @@ class NewFeedControllerTest {
     TagService tagService;
 
     @Mock
-    MemberService memberService;
-
-    @Mock
-    Authentication authentication;
+    ViewerContext viewerContext;
 
     MockMvc mockMvc;
 
@@ -61,19 +55,13 @@ class NewFeedControllerTest {
     void setUp() {
         this.mockMvc = MockMvcBuilders.standaloneSetup(newFeedController).build();
 
-        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken("test@test.com", "password", new ArrayList<>());
-        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-        when(authentication.getName()).thenReturn("test@test.com");
     }
 
     @Test
     void newFeed_withFeedId() throws Exception {
         // Arrange
-        MemberDTO.FindMemberDTO memberDTO = new MemberDTO.FindMemberDTO();
-        memberDTO.setEmail("test@test.com");
         Member member = Member.builder().memberId("test").email("test").nickname("test").phoneNum("test").role(Role.ADMIN).isDeleted(false).build();
-        when(memberService.findMemberByEmail(anyString())).thenReturn(member);
+        when(viewerContext.getMember()).thenReturn(new MemberDTO.FindMemberDTO(member));
 
         Feed feed = new Feed();
         when(feedService.findFeed(anyString())).thenReturn(feed);
@@ -97,10 +85,8 @@ class NewFeedControllerTest {
     @Test
     void newFeed_withoutFeedId() throws Exception {
         // Arrange
-        MemberDTO.FindMemberDTO memberDTO = new MemberDTO.FindMemberDTO();
-        memberDTO.setEmail("test@test.com");
         Member member = Member.builder().memberId("test").email("test").nickname("test").phoneNum("test").role(Role.ADMIN).isDeleted(false).build();
-        when(memberService.findMemberByEmail(anyString())).thenReturn(member);
+        when(viewerContext.getMember()).thenReturn(new MemberDTO.FindMemberDTO(member));
 
         // Act & Assert
         mockMvc.perform(get("/feed/newfeed"))
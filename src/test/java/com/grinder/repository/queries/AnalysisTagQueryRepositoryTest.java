@@ -19,6 +19,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -58,8 +59,14 @@ class AnalysisTagQueryRepositoryTest {
 
     @Test
     @DisplayName("회원 태그 분석")
-    void analysisMemberTag() {
-        List<String> find = analysisTagQueryRepository.AnalysisMemberTag("test@test.com");
-        Assertions.assertEquals(find.size(), 3);
+    void countTagsByMember() {
+        Member member = memberRepository.findByEmail("test@test.com").get();
+        Member member1 = memberRepository.findByEmail("test1@test.com").get();
+
+        Map<String, Map<TagName, Long>> counts = analysisTagQueryRepository.countTagsByMember(List.of(member.getMemberId(), member1.getMemberId()));
+
+        // 좋아요한 피드 1 + 북마크한 카페의 피드 1
+        Assertions.assertEquals(Map.of(TagName.ACCESSIBLE, 2L, TagName.CLEAN, 2L, TagName.FAST_WIFI, 2L), counts.get(member.getMemberId()));
+        Assertions.assertFalse(counts.containsKey(member1.getMemberId()));
     }
 }
\ No newline at end of file
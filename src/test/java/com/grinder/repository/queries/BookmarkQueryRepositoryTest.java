@@ -18,6 +18,8 @@ import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -85,4 +87,16 @@ class BookmarkQueryRepositoryTest {
 
         Assertions.assertThat(find).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("회원별 북마크한 카페 id")
+    void findBookmarkedCafeIds() {
+        Member member = memberRepository.findByEmail("test@test.com").orElseThrow();
+        Member member1 = memberRepository.findByEmail("test1@test.com").orElseThrow();
+        Cafe cafe = cafeRepository.findAll().stream().filter(c -> c.getName().equals("그라인더0")).findFirst().orElseThrow();
+
+        Map<String, Set<String>> find = bookmarkQueryRepository.findBookmarkedCafeIds(List.of(member.getMemberId(), member1.getMemberId()));
+
+        Assertions.assertThat(find).containsExactly(Map.entry(member.getMemberId(), Set.of(cafe.getCafeId())));
+    }
+}
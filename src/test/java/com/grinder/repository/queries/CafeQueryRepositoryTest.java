@@ -6,6 +6,7 @@ import com.grinder.domain.entity.*;
 import com.grinder.domain.enums.ContentType;
 import com.grinder.domain.enums.TagName;
 import com.grinder.repository.*;
+import com.grinder.utils.TagVector;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +20,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -98,4 +100,15 @@ class CafeQueryRepositoryTest {
         assertThat(find).extracting("cafeImageUrl").contains("1234");
         assertThat(find.get(0).getTagList().size()).isEqualTo(2);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("카페별 태그 분포")
+    void findAllTagVectors() {
+        Cafe cafe = cafeRepository.findAll().stream().filter(c -> c.getName().equals("그라인더0")).findFirst().orElseThrow();
+
+        Map<String, TagVector> vectors = cafeQueryRepository.findAllTagVectors();
+
+        assertThat(vectors).containsOnlyKeys(cafe.getCafeId());
+        assertThat(vectors.get(cafe.getCafeId()).top(5)).containsExactly(TagName.CLEAN, TagName.FAST_WIFI, TagName.ACCESSIBLE);
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -82,7 +83,7 @@ class FeedQueryRepositoryTest {
     void findFeedWithImage() {
         String feedId = feedRepository.findAll().get(0).getFeedId();
         List<Tag> tagList = tagRepository.findByFeed_FeedId(feedId);
-        List<FeedDTO.FeedWithImageResponseDTO> result = feedQueryRepository.findFeedWithImage("test@test.com", feedId);
+        List<FeedDTO.FeedWithImageResponseDTO> result = feedQueryRepository.findFeedWithImage("test@test.com", Set.of(), feedId);
 
         assertThat(result).isNotNull();
         assertThat(result).extracting("memberNickname").contains("test");
@@ -92,7 +93,7 @@ class FeedQueryRepositoryTest {
 
     @Test
     void recommendFeedWithImage() {
-        Slice<FeedDTO.FeedWithImageResponseDTO> result = feedQueryRepository.RecommendFeedWithImage("test1@test.com", Pageable.ofSize(2));
+        Slice<FeedDTO.FeedWithImageResponseDTO> result = feedQueryRepository.RecommendFeedWithImage("test1@test.com", Set.of(), Set.of(), Pageable.ofSize(2));
 
         assertThat(result).isNotNull();
         assertThat(result).extracting("memberNickname").contains("test");
@@ -100,7 +101,7 @@ class FeedQueryRepositoryTest {
 
     @Test
     void findRecentFeedWithImage() {
-        Slice<FeedDTO.FeedWithImageResponseDTO> result = feedQueryRepository.findRecentFeedWithImage("test1@test.com", Pageable.ofSize(3));
+        Slice<FeedDTO.FeedWithImageResponseDTO> result = feedQueryRepository.findRecentFeedWithImage("test1@test.com", Set.of(), Pageable.ofSize(3));
 
         assertThat(result).isNotNull();
         assertThat(result).extracting("memberNickname").contains("test");
@@ -109,7 +110,7 @@ class FeedQueryRepositoryTest {
 
     @Test
     void findSearchRecentFeedWithImage() {
-        Slice<FeedDTO.FeedWithImageResponseDTO> result = feedQueryRepository.findSearchRecentFeedWithImage("test1@test.com","내용", Pageable.ofSize(2));
+        Slice<FeedDTO.FeedWithImageResponseDTO> result = feedQueryRepository.findSearchRecentFeedWithImage("test1@test.com", Set.of(), "내용", Pageable.ofSize(2));
 
         assertThat(result).isNotNull();
         assertThat(result).extracting("memberNickname").contains("test");
@@ -117,7 +118,7 @@ class FeedQueryRepositoryTest {
 
     @Test
     void findMemberFeedWithImage() {
-        Slice<FeedDTO.FeedWithImageResponseDTO> result = feedQueryRepository.FindMemberFeedWithImage("test1@test.com","test@test.com", Pageable.ofSize(3));
+        Slice<FeedDTO.FeedWithImageResponseDTO> result = feedQueryRepository.FindMemberFeedWithImage("test1@test.com", Set.of(), "test@test.com", Pageable.ofSize(3));
 
         assertThat(result).isNotNull();
         assertThat(result).extracting("memberNickname").contains("test");
@@ -127,8 +128,17 @@ class FeedQueryRepositoryTest {
     @Test
     void findCafeFeedWithImage() {
         String cafeId = cafeRepository.findAll().get(0).getCafeId();
-        Slice<FeedDTO.FeedWithImageResponseDTO> result = feedQueryRepository.FindCafeFeedWithImage("test1@test.com",cafeId, Pageable.ofSize(2));
+        Slice<FeedDTO.FeedWithImageResponseDTO> result = feedQueryRepository.FindCafeFeedWithImage("test1@test.com", Set.of(), cafeId, Pageable.ofSize(2));
 
         assertThat(result).extracting("memberNickname").contains("test");
     }
-}
\ No newline at end of file
+
+    @Test
+    void findRecentFeedWithImage_차단회원제외() {
+        String writerId = memberRepository.findByEmail("test@test.com").orElseThrow().getMemberId();
+
+        Slice<FeedDTO.FeedWithImageResponseDTO> result = feedQueryRepository.findRecentFeedWithImage("test1@test.com", Set.of(writerId), Pageable.ofSize(3));
+
+        assertThat(result.getContent()).isEmpty();
+    }
+}
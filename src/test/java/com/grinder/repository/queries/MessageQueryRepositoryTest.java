@@ -1,6 +1,7 @@
 package com.grinder.repository.queries;
 
 import com.grinder.config.TestConfig;
+import com.grinder.domain.dto.MessageDTO;
 import com.grinder.domain.entity.Member;
 import com.grinder.domain.entity.Message;
 import com.grinder.repository.MemberRepository;
@@ -10,8 +11,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
@@ -25,19 +31,32 @@ class MessageQueryRepositoryTest {
     @Autowired
     MemberRepository memberRepository;
 
+    Member member1;
+
     @BeforeEach
     void setUp() {
         Member member = memberRepository.save(Member.builder().email("test@test.com").nickname("test").phoneNum("01012341234").password("1234").build());
-        Member member1 = memberRepository.save(Member.builder().email("test1@test.com").nickname("test1").phoneNum("01012341234").password("1234").build());
+        member1 = memberRepository.save(Member.builder().email("test1@test.com").nickname("test1").phoneNum("01012341234").password("1234").build());
         messageRepository.save(Message.builder().sendMember(member).receiveMember(member1).content("message").build());
     }
 
     @Test
-    void existsNonCheck() {
-        boolean result = messageQueryRepository.existsNonCheck("test@test.com");
-        boolean result1 = messageQueryRepository.existsNonCheck("test1@test.com");
+    void findInboxSlice() {
+        messageRepository.save(Message.builder().adminName("Alan").receiveMember(member1).content("message1").build());
+        messageRepository.save(Message.builder().adminName("Alan").receiveMember(member1).content("message2").build());
+
+        Slice<MessageDTO.findAllResponse> first = messageQueryRepository.findInboxSlice(member1.getMemberId(), null, null, PageRequest.of(0, 2));
+        MessageDTO.findAllResponse last = first.getContent().get(first.getContent().size() - 1);
+        Slice<MessageDTO.findAllResponse> second = messageQueryRepository.findInboxSlice(member1.getMemberId(),
+                last.getCreatedAt(), last.getMessageId(), PageRequest.of(0, 2));
 
-        assertFalse(result);
-        assertTrue(result1);
+        assertEquals(2, first.getContent().size());
+        assertTrue(first.hasNext());
+        assertEquals(1, second.getContent().size());
+        assertFalse(second.hasNext());
+        List<String> ids = new ArrayList<>();
+        first.getContent().forEach(message -> ids.add(message.getMessageId()));
+        second.getContent().forEach(message -> ids.add(message.getMessageId()));
+        assertEquals(3, ids.stream().distinct().count());
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,9 @@
 package com.grinder.security.filter;
 
 
+import com.grinder.exception.PasswordHashThrottledException;
+import com.grinder.security.exception.LoginThrottledException;
+import com.grinder.security.service.LoginRateLimiter;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.DisplayName;
@@ -85,4 +88,40 @@ class APILoginFilterTest {
 
         assertEquals(401, response.getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("로그인 시도 제한 초과 시 비밀번호 검증 없이 예외를 반환합니다.")
+    void throttled_login_should_not_authenticate() {
+        var request = new MockHttpServletRequest();
+        var response = new MockHttpServletResponse();
+        request.setMethod("POST");
+        request.setRemoteAddr("127.0.0.1");
+        request.setContent("{\"email\":\"user@example.com\", \"password\":\"password\"}".getBytes());
+
+        var authManager = mock(AuthenticationManager.class);
+        var loginRateLimiter = mock(LoginRateLimiter.class);
+        when(loginRateLimiter.tryAcquire("127.0.0.1", "user@example.com")).thenReturn(false);
+        var filter = new APILoginFilter("/api/login", loginRateLimiter);
+        filter.setAuthenticationManager(authManager);
+
+        assertThrows(LoginThrottledException.class, () -> filter.attemptAuthentication(request, response));
+        verify(authManager, never()).authenticate(any(Authentication.class));
+    }
+
+    @Test
+    @DisplayName("비밀번호 검증 풀 포화 시 로그인 제한 예외로 변환합니다.")
+    void password_hash_throttled_should_be_login_throttled() {
+        var request = new MockHttpServletRequest();
+        var response = new MockHttpServletResponse();
+        request.setMethod("POST");
+        request.setContent("{\"email\":\"user@example.com\", \"password\":\"password\"}".getBytes());
+
+        var authManager = mock(AuthenticationManager.class);
+        when(authManager.authenticate(any(Authentication.class)))
+                .thenThrow(new PasswordHashThrottledException("요청이 많아 잠시 후 다시 시도해주세요."));
+        var filter = new APILoginFilter("/api/login");
+        filter.setAuthenticationManager(authManager);
+
+        assertThrows(LoginThrottledException.class, () -> filter.attemptAuthentication(request, response));
+    }
+}
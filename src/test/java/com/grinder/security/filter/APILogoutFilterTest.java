@@ -1,10 +1,10 @@
 package com.grinder.security.filter;
 
-import com.grinder.repository.RefreshRepository;
 import com.grinder.security.exception.AccessTokenException;
 import com.grinder.security.exception.RefreshTokenException;
+import com.grinder.security.service.RefreshTokenStore;
+import com.grinder.security.service.TokenRevocationService;
 import com.grinder.utils.JWTUtil;
-import com.grinder.utils.RedisUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -27,16 +27,16 @@ import static org.mockito.Mockito.*;
 class APILogoutFilterTest {
 
     private JWTUtil jwtUtil;
-    private RefreshRepository refreshRepository;
-    private RedisUtil redisUtil;
+    private RefreshTokenStore refreshTokenStore;
+    private TokenRevocationService tokenRevocationService;
     private APILogoutFilter logoutFilter;
 
     @BeforeEach
     void setUp() {
         jwtUtil = mock(JWTUtil.class);
-        refreshRepository = mock(RefreshRepository.class);
-        redisUtil = mock(RedisUtil.class);
-        logoutFilter = new APILogoutFilter(jwtUtil, refreshRepository, redisUtil);
+        refreshTokenStore = mock(RefreshTokenStore.class);
+        tokenRevocationService = mock(TokenRevocationService.class);
+        logoutFilter = new APILogoutFilter(jwtUtil, refreshTokenStore, tokenRevocationService);
     }
 
     @Test
@@ -53,11 +53,12 @@ class APILogoutFilterTest {
         Cookie accessCookie = new Cookie("access", "access-token-value");
         request.setCookies(refreshCookie, accessCookie);
 
-        when(refreshRepository.existsByRefresh(anyString())).thenReturn(true);
+        when(refreshTokenStore.exists(anyString())).thenReturn(true);
 
         logoutFilter.doFilter(request, response, filterChain);
 
-        verify(refreshRepository, times(1)).deleteByRefresh(anyString());
+        verify(refreshTokenStore, times(1)).delete(anyString());
+        verify(tokenRevocationService, times(1)).revoke("access-token-value");
         assertEquals(200, response.getStatus());
         assertEquals(0, response.getCookie("refresh").getMaxAge());
         assertEquals(0, response.getCookie("access").getMaxAge());
@@ -76,7 +77,7 @@ class APILogoutFilterTest {
         Cookie refreshCookie = new Cookie("refresh", "invalid-refresh-token");
         request.setCookies(refreshCookie);
 
-        when(refreshRepository.existsByRefresh(anyString())).thenReturn(false);
+        when(refreshTokenStore.exists(anyString())).thenReturn(false);
 
         assertThrows(RefreshTokenException.class, () -> {
             logoutFilter.doFilter(request, response, filterChain);
@@ -99,7 +100,7 @@ class APILogoutFilterTest {
         Cookie refreshCookie = new Cookie("refresh", "refresh-token-value");
         request.setCookies(refreshCookie);
 
-        when(refreshRepository.existsByRefresh(anyString())).thenReturn(true);
+        when(refreshTokenStore.exists(anyString())).thenReturn(true);
 
         assertThrows(AccessTokenException.class, () -> {
             logoutFilter.doFilter(request, response, filterChain);
@@ -1,9 +1,8 @@
 package com.grinder.security.filter;
 
-import com.grinder.repository.RefreshRepository;
 import com.grinder.security.exception.RefreshTokenException;
+import com.grinder.security.service.RefreshTokenStore;
 import com.grinder.utils.JWTUtil;
-import com.grinder.utils.RedisUtil;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import jakarta.servlet.FilterChain;
@@ -30,16 +29,14 @@ import static org.mockito.Mockito.*;
 class RefreshTokenFilterTest {
 
     private JWTUtil jwtUtil;
-    private RefreshRepository refreshRepository;
-    private RedisUtil redisUtil;
+    private RefreshTokenStore refreshTokenStore;
     private RefreshTokenFilter refreshTokenFilter;
 
     @BeforeEach
     void setUp() {
         jwtUtil = mock(JWTUtil.class);
-        refreshRepository = mock(RefreshRepository.class);
-        redisUtil = mock(RedisUtil.class);
-        refreshTokenFilter = Mockito.spy(new RefreshTokenFilter("/api/refresh", jwtUtil, refreshRepository, redisUtil));
+        refreshTokenStore = mock(RefreshTokenStore.class);
+        refreshTokenFilter = Mockito.spy(new RefreshTokenFilter("/api/refresh", jwtUtil, refreshTokenStore));
     }
 
     @Test
@@ -59,7 +56,7 @@ class RefreshTokenFilterTest {
         claims.put("email", "test@example.com");
         claims.put("exp", (int) (System.currentTimeMillis() / 1000 + 3600));
         when(jwtUtil.validateToken(anyString())).thenReturn(claims);
-        when(jwtUtil.getEmail(anyString())).thenReturn("test@example.com");
+        when(refreshTokenStore.exists(anyString())).thenReturn(true);
         when(jwtUtil.generateToken(anyMap(), anyInt())).thenReturn("new-access-token");
 
         refreshTokenFilter.doFilterInternal(request, response, filterChain);
@@ -121,6 +118,6 @@ class RefreshTokenFilterTest {
         request.setCookies(refreshCookie);
 
         when(jwtUtil.validateToken(anyString())).thenReturn(new HashMap<>());
-        when(refreshRepository.existsByRefresh(anyString())).thenReturn(false);
+        when(refreshTokenStore.exists(anyString())).thenReturn(false);
     }
 }
\ No newline at end of file
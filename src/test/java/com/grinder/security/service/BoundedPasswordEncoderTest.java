@@ -0,0 +1,69 @@
+package com.grinder.security.service;
+
+import com.grinder.exception.PasswordHashThrottledException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.destroy();
+    }
+
+    @DisplayName("전용 풀에서 해시 후 검증")
+    @Test
+    void testEncodeAndMatches() {
+        passwordEncoder = new BoundedPasswordEncoder(4, 1, 4, 3000);
+
+        String encoded = passwordEncoder.encode("password");
+
+        assertTrue(passwordEncoder.matches("password", encoded));
+        assertFalse(passwordEncoder.matches("wrong", encoded));
+    }
+
+    @DisplayName("설정한 strength 보다 낮은 해시는 다시 해시 대상")
+    @Test
+    void testUpgradeEncoding() {
+        passwordEncoder = new BoundedPasswordEncoder(5, 1, 4, 3000);
+
+        assertTrue(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password")));
+        assertFalse(passwordEncoder.upgradeEncoding(passwordEncoder.encode("password")));
+    }
+
+    @DisplayName("대기열이 가득 차면 즉시 실패")
+    @Test
+    void testRejectWhenQueueFull() {
+        passwordEncoder = new BoundedPasswordEncoder(12, 1, 1, 10000);
+
+        ExecutorService requests = Executors.newFixedThreadPool(4);
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> passwordEncoder.encode("password"), requests));
+        }
+
+        boolean throttled = futures.stream().anyMatch(future -> {
+            try {
+                future.join();
+                return false;
+            } catch (CompletionException e) {
+                return e.getCause() instanceof PasswordHashThrottledException;
+            }
+        });
+        requests.shutdown();
+        assertTrue(throttled);
+    }
+}
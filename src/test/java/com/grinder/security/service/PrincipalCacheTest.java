@@ -0,0 +1,80 @@
+package com.grinder.security.service;
+
+import com.grinder.domain.entity.Member;
+import com.grinder.domain.enums.Role;
+import com.grinder.security.dto.CustomUserDetails;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class PrincipalCacheTest {
+
+    private PrincipalCache principalCache;
+    private StringRedisTemplate stringRedisTemplate;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        principalCache = new PrincipalCache(stringRedisTemplate, mock(RedisMessageListenerContainer.class), Duration.ofMinutes(30));
+        member = Member.builder().memberId("test").email("test@test.com").role(Role.MEMBER).nickname("testNick").password("test").phoneNum("1234").isDeleted(false).build();
+    }
+
+    @DisplayName("캐시 저장 시 비밀번호 제외")
+    @Test
+    void testPut() {
+        principalCache.put(member.getEmail(), new CustomUserDetails(member));
+
+        CustomUserDetails cached = principalCache.get(member.getEmail());
+        assertNotNull(cached);
+        assertEquals("test", cached.getMemberId());
+        assertNull(cached.getPassword());
+        assertEquals("ROLE_" + Role.MEMBER.getValue(), cached.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @DisplayName("캐시 무효화")
+    @Test
+    void testEvict() {
+        principalCache.put(member.getEmail(), new CustomUserDetails(member));
+        principalCache.evict(member.getEmail());
+
+        assertNull(principalCache.get(member.getEmail()));
+        verify(stringRedisTemplate).convertAndSend(eq("cache:invalidate"), endsWith("|principal|" + member.getEmail()));
+    }
+
+    @DisplayName("다른 서버의 무효화 메시지 수신")
+    @Test
+    void testOnMessage() {
+        principalCache.put(member.getEmail(), new CustomUserDetails(member));
+        principalCache.onMessage(message("otherNode|blockedMemberIds|" + member.getEmail()), null);
+        assertNotNull(principalCache.get(member.getEmail()));
+
+        principalCache.onMessage(message("otherNode|principal|" + member.getEmail()), null);
+        assertNull(principalCache.get(member.getEmail()));
+    }
+
+    @DisplayName("유효 시간이 지난 캐시는 조회되지 않음")
+    @Test
+    void testExpired() {
+        PrincipalCache expiredCache = new PrincipalCache(stringRedisTemplate, mock(RedisMessageListenerContainer.class), Duration.ZERO);
+        expiredCache.put(member.getEmail(), new CustomUserDetails(member));
+
+        assertNull(expiredCache.get(member.getEmail()));
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage("cache:invalidate".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
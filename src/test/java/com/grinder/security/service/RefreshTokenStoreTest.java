@@ -0,0 +1,105 @@
+package com.grinder.security.service;
+
+import com.grinder.repository.RefreshRepository;
+import com.grinder.utils.JWTUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenStoreTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private SetOperations<String, String> setOperations;
+    private RefreshRepository refreshRepository;
+    private JWTUtil jwtUtil;
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        setOperations = mock(SetOperations.class);
+        refreshRepository = mock(RefreshRepository.class);
+        jwtUtil = new JWTUtil("grinder-test-secret-key-0123456789abcdef");
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        refreshTokenStore = new RefreshTokenStore(stringRedisTemplate, refreshRepository, jwtUtil, false);
+    }
+
+    @DisplayName("리프레시 토큰 저장 시 토큰 만료 시각까지 TTL 설정")
+    @Test
+    void testSave() {
+        String token = jwtUtil.generateToken(Map.of("email", "test@test.com"), 24 * 7);
+
+        refreshTokenStore.save("test@test.com", token);
+
+        verify(valueOperations).set(startsWith("refresh:token:"), eq("test@test.com"),
+                argThat((Duration ttl) -> ttl.compareTo(Duration.ofDays(7)) <= 0 && ttl.compareTo(Duration.ofDays(6)) > 0));
+        verify(setOperations).add(eq("refresh:member:test@test.com"), anyString());
+        verify(refreshRepository, never()).save(any());
+    }
+
+    @DisplayName("토큰 원문 대신 다이제스트로 조회")
+    @Test
+    void testExists() {
+        String token = jwtUtil.generateToken(Map.of("email", "test@test.com"), 24 * 7);
+        when(stringRedisTemplate.hasKey(startsWith("refresh:token:"))).thenReturn(true);
+
+        assertTrue(refreshTokenStore.exists(token));
+        verify(stringRedisTemplate, never()).hasKey(contains(token));
+    }
+
+    @DisplayName("회원의 리프레시 토큰 일괄 폐기")
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRevokeAll() {
+        when(setOperations.members("refresh:member:test@test.com")).thenReturn(Set.of("a", "b"));
+
+        refreshTokenStore.revokeAll("test@test.com");
+
+        verify(stringRedisTemplate).delete(argThat((Collection<String> keys) ->
+                keys.containsAll(Set.of("refresh:token:a", "refresh:token:b"))));
+        verify(stringRedisTemplate).delete("refresh:member:test@test.com");
+    }
+
+    @DisplayName("토큰 교체 시 이전 토큰을 소비하고 새 토큰 저장")
+    @Test
+    void testRotate() {
+        String oldToken = jwtUtil.generateToken(Map.of("email", "test@test.com"), 24);
+        String newToken = jwtUtil.generateToken(Map.of("email", "test@test.com"), 24 * 7);
+        when(valueOperations.getAndDelete("refresh:token:" + JWTUtil.digest(oldToken))).thenReturn("test@test.com");
+
+        assertTrue(refreshTokenStore.rotate("test@test.com", oldToken, newToken));
+
+        verify(setOperations).remove("refresh:member:test@test.com", JWTUtil.digest(oldToken));
+        verify(valueOperations).set(eq("refresh:token:" + JWTUtil.digest(newToken)), eq("test@test.com"), any(Duration.class));
+        verify(stringRedisTemplate, never()).delete("refresh:member:test@test.com");
+    }
+
+    @DisplayName("이미 소비된 토큰으로 교체 시 재사용으로 보고 모든 토큰 폐기")
+    @Test
+    void testRotate_재사용() {
+        String oldToken = jwtUtil.generateToken(Map.of("email", "test@test.com"), 24);
+        String newToken = jwtUtil.generateToken(Map.of("email", "test@test.com"), 24 * 7);
+        when(valueOperations.getAndDelete(anyString())).thenReturn(null);
+
+        assertFalse(refreshTokenStore.rotate("test@test.com", oldToken, newToken));
+
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+        verify(stringRedisTemplate).delete("refresh:member:test@test.com");
+    }
+}
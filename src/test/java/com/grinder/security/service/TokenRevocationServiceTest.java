@@ -0,0 +1,86 @@
+package com.grinder.security.service;
+
+import com.grinder.utils.JWTUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationServiceTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private JWTUtil jwtUtil;
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        jwtUtil = new JWTUtil("grinder-test-secret-key-0123456789abcdef");
+        tokenRevocationService = new TokenRevocationService(stringRedisTemplate,
+                mock(RedisMessageListenerContainer.class), jwtUtil, 1000, 0.01);
+    }
+
+    @DisplayName("폐기되지 않은 토큰은 Redis 조회 없이 통과")
+    @Test
+    void testIsRevokedLocalMiss() {
+        String token = jwtUtil.generateToken(Map.of("email", "test@test.com"), 1);
+
+        assertFalse(tokenRevocationService.isRevoked(token));
+        verify(stringRedisTemplate, never()).hasKey(anyString());
+    }
+
+    @DisplayName("토큰 폐기 시 만료 시각까지 저장하고 다른 서버에 전파")
+    @Test
+    void testRevoke() {
+        String token = jwtUtil.generateToken(Map.of("email", "test@test.com"), 1);
+        String key = "revoked:access:" + JWTUtil.digest(token);
+        when(stringRedisTemplate.hasKey(key)).thenReturn(true);
+
+        tokenRevocationService.revoke(token);
+
+        verify(valueOperations).set(eq(key), eq("1"), argThat((Duration ttl) -> ttl.compareTo(Duration.ofHours(1)) <= 0));
+        verify(stringRedisTemplate).convertAndSend("token:revoked", JWTUtil.digest(token));
+        assertTrue(tokenRevocationService.isRevoked(token));
+    }
+
+    @DisplayName("다른 서버에서 폐기한 토큰 수신")
+    @Test
+    void testOnMessage() {
+        String token = jwtUtil.generateToken(Map.of("email", "test@test.com"), 1);
+        String digest = JWTUtil.digest(token);
+        when(stringRedisTemplate.hasKey("revoked:access:" + digest)).thenReturn(true);
+
+        tokenRevocationService.onMessage(new DefaultMessage("token:revoked".getBytes(StandardCharsets.UTF_8),
+                digest.getBytes(StandardCharsets.UTF_8)), null);
+
+        assertTrue(tokenRevocationService.isRevoked(token));
+    }
+
+    @DisplayName("세대가 두 번 교체되면 로컬 필터에서 제거")
+    @Test
+    void testRotate() {
+        String token = jwtUtil.generateToken(Map.of("email", "test@test.com"), 1);
+        tokenRevocationService.revoke(token);
+
+        tokenRevocationService.rotate();
+        tokenRevocationService.rotate();
+
+        assertFalse(tokenRevocationService.isRevoked(token));
+        verify(stringRedisTemplate, never()).hasKey(anyString());
+    }
+}
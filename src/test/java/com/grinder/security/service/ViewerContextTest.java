@@ -0,0 +1,92 @@
+package com.grinder.security.service;
+
+import com.grinder.domain.entity.Member;
+import com.grinder.domain.enums.Role;
+import com.grinder.security.dto.CustomUserDetails;
+import com.grinder.service.implement.BlacklistServiceImpl;
+import com.grinder.service.implement.ImageServiceImpl;
+import com.grinder.service.implement.MemberServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewerContextTest {
+
+    @InjectMocks
+    ViewerContext viewerContext;
+    @Mock
+    MemberServiceImpl memberService;
+    @Mock
+    BlacklistServiceImpl blacklistService;
+    @Mock
+    ImageServiceImpl imageService;
+
+    Member member = Member.builder().memberId("test").email("test@test.com").role(Role.MEMBER).nickname("testNick").password("test").phoneNum("1234").isDeleted(false).build();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("인증 정보에서 회원 id, 이메일, 권한을 조회 없이 가져옴")
+    @Test
+    void testPrincipal() {
+        CustomUserDetails userDetails = new CustomUserDetails(member).withoutPassword();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+
+        assertThat(viewerContext.isAuthenticated()).isTrue();
+        assertThat(viewerContext.getEmail()).isEqualTo("test@test.com");
+        assertThat(viewerContext.getMemberId()).isEqualTo("test");
+        assertThat(viewerContext.getRole()).isEqualTo(Role.MEMBER);
+        verifyNoInteractions(memberService);
+    }
+
+    @DisplayName("같은 요청 안에서는 회원, 차단 목록, 이미지를 한 번만 조회")
+    @Test
+    void testLoadOnce() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("test@test.com", null, AuthorityUtils.NO_AUTHORITIES));
+        when(memberService.findMemberByEmail("test@test.com")).thenReturn(member);
+        when(blacklistService.findBlockedMemberIds("test@test.com")).thenReturn(Set.of("blocked"));
+        when(imageService.findImageUrlByContentId("test")).thenReturn(null);
+
+        viewerContext.getMember();
+        viewerContext.getMember();
+        viewerContext.getBlockedIds();
+        viewerContext.getBlockedIds();
+        viewerContext.getProfileImageUrl();
+        viewerContext.getProfileImageUrl();
+
+        assertThat(viewerContext.getMemberId()).isEqualTo("test");
+        verify(memberService, times(1)).findMemberByEmail("test@test.com");
+        verify(blacklistService, times(1)).findBlockedMemberIds("test@test.com");
+        verify(imageService, times(1)).findImageUrlByContentId("test");
+    }
+
+    @DisplayName("비로그인 사용자")
+    @Test
+    void testAnonymous() {
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken("key", "anonymousUser",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        assertThat(viewerContext.isAuthenticated()).isFalse();
+        assertThat(viewerContext.getMember()).isNull();
+        assertThat(viewerContext.getBlockedIds()).isEmpty();
+        verifyNoInteractions(memberService, blacklistService, imageService);
+    }
+}
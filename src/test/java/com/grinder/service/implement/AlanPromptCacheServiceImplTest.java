@@ -0,0 +1,224 @@
+package com.grinder.service.implement;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grinder.domain.dto.AlanDTO;
+import com.grinder.domain.entity.AlanPromptCache;
+import com.grinder.domain.enums.AlanPromptKind;
+import com.grinder.repository.AlanPromptCacheRepository;
+import com.grinder.utils.AlanAPI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AlanPromptCacheServiceImplTest {
+
+    private AlanAPI alanAPI;
+    private StringRedisTemplate stringRedisTemplate;
+    private AlanPromptCacheRepository alanPromptCacheRepository;
+    private ValueOperations<String, String> valueOperations;
+    private AlanPromptCacheServiceImpl alanPromptCacheService;
+    private final List<Runnable> storeTasks = new ArrayList<>();
+    private boolean deferStore;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        alanAPI = mock(AlanAPI.class);
+        alanPromptCacheRepository = mock(AlanPromptCacheRepository.class);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(alanAPI.isEnabled()).thenReturn(true);
+        MockEnvironment environment = new MockEnvironment().withProperty("alan.cache.recommend.ttl", "1d");
+        environment.setConversionService(new ApplicationConversionService());
+        alanPromptCacheService = new AlanPromptCacheServiceImpl(alanAPI, alanPromptCacheRepository, stringRedisTemplate,
+                objectMapper, environment, task -> {
+                    if (deferStore) storeTasks.add(task);
+                    else task.run();
+                });
+    }
+
+    @DisplayName("캐시에 없으면 앨런에 요청하고 DB, Redis 에 저장")
+    @Test
+    void testLoadAndStore() {
+        when(alanAPI.recommendCafeByTagAsync("조용해요")).thenReturn(CompletableFuture.completedFuture(response("추천")));
+
+        assertEquals("추천", alanPromptCacheService.recommendCafeByTag("조용해요").getContent());
+
+        verify(alanPromptCacheRepository, times(1)).save(any(AlanPromptCache.class));
+        verify(valueOperations, times(1)).set(startsWith("alan:prompt:RECOMMEND:"), contains("추천"), eq(Duration.ofDays(1)));
+    }
+
+    @DisplayName("Redis 에 있으면 앨런에 요청하지 않는다")
+    @Test
+    void testRedisHit() throws Exception {
+        when(valueOperations.get(anyString())).thenReturn(objectMapper.writeValueAsString(response("요약")));
+
+        assertEquals("요약", alanPromptCacheService.requestSummary("그라인더", "서울시 강남구").getContent());
+
+        verify(alanAPI, never()).requestSummaryAsync(anyString(), anyString());
+        verify(alanPromptCacheRepository, never()).findById(anyString());
+    }
+
+    @DisplayName("최신화 요청은 저장된 응답을 지우고 앨런에 다시 요청")
+    @Test
+    void testRefreshSummary() throws Exception {
+        when(valueOperations.get(anyString())).thenReturn(objectMapper.writeValueAsString(response("이전 요약")));
+        when(alanAPI.requestSummaryAsync("그라인더", "서울시 강남구")).thenReturn(CompletableFuture.completedFuture(response("요약")));
+
+        assertEquals("요약", alanPromptCacheService.refreshSummary("그라인더", "서울시 강남구").getContent());
+
+        verify(stringRedisTemplate, times(1)).delete(startsWith("alan:prompt:SUMMARY:"));
+        verify(alanPromptCacheRepository, times(1)).deleteById(startsWith("SUMMARY:"));
+        verify(alanPromptCacheRepository, times(1)).save(any(AlanPromptCache.class));
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @DisplayName("Redis 장애 시 만료 전 DB 값을 사용")
+    @Test
+    void testDbFallback() {
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        when(alanPromptCacheRepository.findById(anyString())).thenReturn(Optional.of(AlanPromptCache.builder()
+                .kind(AlanPromptKind.SUMMARY).content("요약").expiresAt(LocalDateTime.now().plusDays(1)).build()));
+
+        assertEquals("요약", alanPromptCacheService.requestSummary("그라인더", "서울시 강남구").getContent());
+
+        verify(alanAPI, never()).requestSummaryAsync(anyString(), anyString());
+    }
+
+    @DisplayName("만료된 DB 값은 사용하지 않는다")
+    @Test
+    void testDbExpired() {
+        when(alanPromptCacheRepository.findById(anyString())).thenReturn(Optional.of(AlanPromptCache.builder()
+                .kind(AlanPromptKind.SUMMARY).content("이전 요약").expiresAt(LocalDateTime.now().minusMinutes(1)).build()));
+        when(alanAPI.requestSummaryAsync("그라인더", "서울시 강남구")).thenReturn(CompletableFuture.completedFuture(response("요약")));
+
+        assertEquals("요약", alanPromptCacheService.requestSummary("그라인더", "서울시 강남구").getContent());
+    }
+
+    @DisplayName("같은 질문을 동시에 요청하면 한 번만 보낸다")
+    @Test
+    void testSingleFlight() {
+        CompletableFuture<AlanDTO.AlanResponse> pending = new CompletableFuture<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<AlanDTO.AlanResponse> first = alanPromptCacheService.get(AlanPromptKind.RECOMMEND, "조용해요", () -> {
+            loads.incrementAndGet();
+            return pending;
+        });
+        CompletableFuture<AlanDTO.AlanResponse> second = alanPromptCacheService.get(AlanPromptKind.RECOMMEND, " 조용해요 ", () -> {
+            loads.incrementAndGet();
+            return pending;
+        });
+        pending.complete(response("추천"));
+
+        assertSame(first, second);
+        assertEquals("추천", second.join().getContent());
+        assertEquals(1, loads.get());
+    }
+
+    @DisplayName("저장은 응답 완료 스레드가 아닌 저장 풀에서 하고, 저장 중인 같은 질문은 다시 보내지 않는다")
+    @Test
+    void testStoreOffCompletionThread() {
+        deferStore = true;
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<AlanDTO.AlanResponse> pending = new CompletableFuture<>();
+
+        CompletableFuture<AlanDTO.AlanResponse> first = alanPromptCacheService.get(AlanPromptKind.RECOMMEND, "조용해요", () -> {
+            loads.incrementAndGet();
+            return pending;
+        });
+        pending.complete(response("추천"));
+
+        assertEquals("추천", first.join().getContent());
+        verify(alanPromptCacheRepository, never()).save(any(AlanPromptCache.class));
+        assertSame(first, alanPromptCacheService.get(AlanPromptKind.RECOMMEND, "조용해요", () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture(response("추천"));
+        }));
+
+        storeTasks.forEach(Runnable::run);
+        verify(alanPromptCacheRepository, times(1)).save(any(AlanPromptCache.class));
+        assertEquals(1, loads.get());
+    }
+
+    @DisplayName("저장 풀이 가득 차면 저장만 건너뛴다")
+    @Test
+    void testStoreRejected() {
+        alanPromptCacheService = new AlanPromptCacheServiceImpl(alanAPI, alanPromptCacheRepository, stringRedisTemplate,
+                objectMapper, new MockEnvironment(), task -> {
+                    throw new TaskRejectedException("full");
+                });
+        when(alanAPI.recommendCafeByTagAsync("조용해요")).thenReturn(CompletableFuture.completedFuture(response("추천")));
+
+        assertEquals("추천", alanPromptCacheService.recommendCafeByTag("조용해요").getContent());
+        assertEquals("추천", alanPromptCacheService.recommendCafeByTag("조용해요").getContent());
+
+        verify(alanAPI, times(2)).recommendCafeByTagAsync("조용해요");
+        verify(alanPromptCacheRepository, never()).save(any(AlanPromptCache.class));
+    }
+
+    @DisplayName("실패한 응답은 저장하지 않고 다음 요청에서 다시 보낸다")
+    @Test
+    void testFailureNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<AlanDTO.AlanResponse> failed = alanPromptCacheService.get(AlanPromptKind.RECOMMEND, "조용해요", () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.failedFuture(new IllegalStateException("down"));
+        });
+        assertTrue(failed.isCompletedExceptionally());
+        alanPromptCacheService.get(AlanPromptKind.RECOMMEND, "조용해요", () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture(response("추천"));
+        });
+
+        assertEquals(2, loads.get());
+        verify(alanPromptCacheRepository, times(1)).save(any(AlanPromptCache.class));
+    }
+
+    @DisplayName("키가 없으면 캐시를 거치지 않는다")
+    @Test
+    void testDisabled() {
+        when(alanAPI.isEnabled()).thenReturn(false);
+        when(alanAPI.recommendCafeByTagAsync("조용해요")).thenReturn(CompletableFuture.completedFuture(response("종료된 서비스")));
+
+        alanPromptCacheService.recommendCafeByTag("조용해요");
+
+        verifyNoInteractions(valueOperations, alanPromptCacheRepository);
+    }
+
+    @DisplayName("공백만 다른 질문은 같은 fingerprint")
+    @Test
+    void testFingerprint() {
+        assertEquals(AlanPromptCacheServiceImpl.fingerprint(AlanPromptKind.SUMMARY, "카페명 : 그라인더  주소"),
+                AlanPromptCacheServiceImpl.fingerprint(AlanPromptKind.SUMMARY, " 카페명 : 그라인더 주소\n"));
+        assertNotEquals(AlanPromptCacheServiceImpl.fingerprint(AlanPromptKind.SUMMARY, "질문"),
+                AlanPromptCacheServiceImpl.fingerprint(AlanPromptKind.RECOMMEND, "질문"));
+    }
+
+    private AlanDTO.AlanResponse response(String content) {
+        AlanDTO.AlanResponse response = new AlanDTO.AlanResponse();
+        response.setContent(content);
+        return response;
+    }
+}
@@ -2,9 +2,10 @@ package com.grinder.service.implement;
 
 import com.grinder.domain.dto.AlanDTO;
 import com.grinder.domain.entity.AnalysisTag;
-import com.grinder.domain.entity.Message;
-import com.grinder.repository.MessageRepository;
+import com.grinder.domain.entity.Member;
+import com.grinder.service.AlanPromptCacheService;
 import com.grinder.service.AnalysisTagService;
+import com.grinder.service.MessageService;
 import com.grinder.utils.AlanAPI;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,15 +15,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Map;
+
 import static org.mockito.Mockito.*;
 import static org.assertj.core.api.Assertions.*;
 
 @ExtendWith(MockitoExtension.class)
 class AlanQuestionServiceImplTest {
     @Mock
-    private MessageRepository messageRepository;
+    private MessageService messageService;
     @Mock
     private AlanAPI alanAPI;
+    @Mock
+    private AlanPromptCacheService alanPromptCacheService;
     @InjectMocks
     private AlanQuestionServiceImpl alanQuestionService;
     @Mock
@@ -46,16 +51,17 @@ class AlanQuestionServiceImplTest {
 
     @Test
     void recommendCafe() {
-        AnalysisTag analysisTag = AnalysisTag.builder().tagList("test tagList").build();
+        Member member = Member.builder().memberId("test").build();
+        AnalysisTag analysisTag = AnalysisTag.builder().member(member).tagList("test tagList").build();
         AlanDTO.AlanResponse question = new AlanDTO.AlanResponse();
         question.setContent("test question");
-        Message message = Message.builder().content("ture").build();
         doReturn(analysisTag).when(analysisTagService).findByEmail(any(String.class));
-        doReturn(question).when(alanAPI).recommendCafeByTag(any(String.class));
-        doReturn(message).when(messageRepository).save(any(Message.class));
+        doReturn(question).when(alanPromptCacheService).recommendCafeByTag(any(String.class));
+        doReturn(1).when(messageService).sendAdminMessages("Alan", Map.of("test", "test question"));
 
         boolean result = alanQuestionService.recommendCafe("test@test.com");
 
         assertThat(result).isTrue();
+        verify(messageService, times(1)).sendAdminMessages("Alan", Map.of("test", "test question"));
     }
 }
\ No newline at end of file
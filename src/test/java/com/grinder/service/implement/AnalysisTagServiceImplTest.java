@@ -1,21 +1,27 @@
 package com.grinder.service.implement;
 
 import com.grinder.domain.entity.AnalysisTag;
+import com.grinder.domain.enums.TagName;
 import com.grinder.exception.RecentAddedTagException;
 import com.grinder.repository.AnalysisTagRepository;
 import com.grinder.repository.MemberRepository;
 import com.grinder.repository.queries.AnalysisTagQueryRepository;
 import com.grinder.service.AnalysisTagService;
+import com.grinder.utils.TagVector;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.Mockito.*;
@@ -31,20 +37,44 @@ class AnalysisTagServiceImplTest {
     private AnalysisTagQueryRepository analysisTagQueryRepository;
     @Mock
     private MemberRepository memberRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
 
     @Test
-    void updateTagList() {
-        //기존 태그
-        Optional<AnalysisTag> analysisTag = Optional.ofNullable(AnalysisTag.builder().tagList("tag").build());
-        doReturn(analysisTag).when(analysisTagRepository).findByMember_Email(any(String.class));
-        //분석 태그
-        List<String> list = List.of("tag1","tag2");
-        doReturn(list).when(analysisTagQueryRepository).AnalysisMemberTag(any(String.class));
-        doReturn(AnalysisTag.builder().tagList("tag/tag1/tag2").build()).when(analysisTagRepository).save(any(AnalysisTag.class));
+    @SuppressWarnings("unchecked")
+    void updateTagLists() {
+        //분석 태그 (m2 는 AnalysisTag 없음)
+        Map<TagName, Long> counts = new EnumMap<>(TagName.class);
+        counts.put(TagName.CLEAN, 3L);
+        counts.put(TagName.ACCESSIBLE, 3L);
+        counts.put(TagName.FAST_WIFI, 5L);
+        doReturn(Map.of("m1", counts, "m2", counts)).when(analysisTagQueryRepository).countTagsByMember(anyList());
+        TagVector vector = TagVector.empty();
+        vector.add(TagName.KIND, 2);
+        doReturn(Map.of("m1", vector)).when(analysisTagQueryRepository).findTagVectors(anyCollection());
+
+        analysisTagService.updateTagLists(List.of("m1", "m2", "m3"));
+
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        Object[] update = captor.getValue().get(0);
+        // 기존 KIND 2 + 이번 상위 태그 각 1
+        assertThat(update[0]).isEqualTo(String.join("/", TagName.KIND.getValue(), TagName.CLEAN.getValue(),
+                TagName.FAST_WIFI.getValue(), TagName.ACCESSIBLE.getValue()));
+        TagVector saved = TagVector.decode((byte[]) update[1], null);
+        assertThat(saved.get(TagName.FAST_WIFI)).isEqualTo(1f);
+        assertThat(saved.get(TagName.KIND)).isEqualTo(2f);
+        assertThat(update[4]).isEqualTo("m1");
+    }
 
-        analysisTagService.updateTagList("test");
+    @Test
+    void updateTagLists_분석할태그없음() {
+        doReturn(Map.of()).when(analysisTagQueryRepository).countTagsByMember(anyList());
+
+        analysisTagService.updateTagLists(List.of("m1"));
 
-        verify(analysisTagRepository, times(2)).save(analysisTag.get());
+        verifyNoInteractions(jdbcTemplate);
     }
 
     @Test
@@ -87,8 +117,12 @@ class AnalysisTagServiceImplTest {
 
     @Test
     void addTagList() {
-        boolean result = analysisTagService.addTagList(new ArrayList<>(), AnalysisTag.builder().tagList("tag").build());
+        AnalysisTag analysisTag = AnalysisTag.builder().tagList("tag").build();
+
+        boolean result = analysisTagService.addTagList(List.of(TagName.QUIET.getValue(), "없는 태그"), analysisTag);
 
         assertThat(result).isTrue();
+        assertThat(analysisTag.getVector().get(TagName.QUIET)).isEqualTo(1f);
+        assertThat(analysisTag.getTagList()).isEqualTo(TagName.QUIET.getValue());
     }
 }
\ No newline at end of file
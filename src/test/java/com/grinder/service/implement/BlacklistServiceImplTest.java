@@ -14,6 +14,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -67,4 +68,20 @@ class BlacklistServiceImplTest {
 
         assertTrue(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findBlockedMemberIds_추가삭제시갱신() {
+        Member member1 = memberRepository.save(Member.builder().email("test1@test.com").nickname("test-user-1").password("1234").phoneNum("01012345678").build());
+        Member member2 = memberRepository.save(Member.builder().email("test2@test.com").nickname("test-user-2").password("1234").phoneNum("01012345678").build());
+        BlacklistDTO.AddRequest request = new BlacklistDTO.AddRequest();
+        request.setBlockedMemberEmail(member2.getEmail());
+
+        assertTrue(blacklistService.findBlockedMemberIds(member1.getEmail()).isEmpty());
+
+        blacklistService.addBlacklist(request, member1.getEmail());
+        assertEquals(Set.of(member2.getMemberId()), blacklistService.findBlockedMemberIds(member1.getEmail()));
+
+        blacklistService.deleteBlacklist(blacklistRepository.findAll().get(0).getBlacklistId(), member1.getEmail());
+        assertTrue(blacklistService.findBlockedMemberIds(member1.getEmail()).isEmpty());
+    }
+}
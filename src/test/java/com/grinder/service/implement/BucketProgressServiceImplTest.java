@@ -0,0 +1,92 @@
+package com.grinder.service.implement;
+
+import com.grinder.domain.entity.BucketProgress;
+import com.grinder.repository.BucketProgressRepository;
+import com.grinder.utils.Buckets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BucketProgressServiceImplTest {
+
+    @InjectMocks
+    private BucketProgressServiceImpl bucketProgressService;
+
+    @Mock
+    private BucketProgressRepository bucketProgressRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("처리한 적 없는 버킷부터 주기당 COUNT / cycle 개")
+    @Test
+    void testNextBucketsFirstRun() {
+        when(bucketProgressRepository.findAllByJobName("job")).thenReturn(List.of());
+
+        List<Integer> buckets = bucketProgressService.nextBuckets("job", 7);
+
+        assertEquals(Buckets.COUNT / 7, buckets.size());
+        assertEquals(0, buckets.get(0));
+    }
+
+    @DisplayName("가장 오래전에 처리한 버킷부터 고른다")
+    @Test
+    void testNextBucketsOldestFirst() {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<BucketProgress> progress = new ArrayList<>();
+        // 0 ~ 179 는 처리 완료, 이 중 버킷 번호가 클수록 최근에 처리
+        IntStream.range(0, 180).forEach(bucket -> progress.add(BucketProgress.builder()
+                .jobName("job").bucket(bucket).processedAt(base.plusMinutes(bucket)).build()));
+        when(bucketProgressRepository.findAllByJobName("job")).thenReturn(progress);
+
+        List<Integer> buckets = bucketProgressService.nextBuckets("job", 30);
+
+        assertEquals(Buckets.COUNT / 30, buckets.size());
+        assertEquals(IntStream.range(180, 187).boxed().toList(), buckets);
+    }
+
+    @DisplayName("7번 연속 처리하면 모든 버킷을 한 번씩 처리한다")
+    @Test
+    void testNextBucketsCoversAll() {
+        List<BucketProgress> progress = new ArrayList<>();
+        when(bucketProgressRepository.findAllByJobName("job")).thenReturn(progress);
+
+        List<Integer> processed = new ArrayList<>();
+        for (int run = 0; run < 7; run++) {
+            List<Integer> buckets = bucketProgressService.nextBuckets("job", 7);
+            processed.addAll(buckets);
+            LocalDateTime processedAt = LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(run);
+            buckets.forEach(bucket -> progress.add(BucketProgress.builder()
+                    .jobName("job").bucket(bucket).processedAt(processedAt).build()));
+        }
+
+        assertEquals(IntStream.range(0, Buckets.COUNT).boxed().toList(), processed.stream().sorted().toList());
+    }
+
+    @DisplayName("기존 기록은 처리 시각만 바꾸고 없는 버킷은 새로 저장")
+    @Test
+    void testMarkProcessed() {
+        BucketProgress existing = BucketProgress.builder()
+                .jobName("job").bucket(1).processedAt(LocalDateTime.of(2024, 1, 1, 0, 0)).build();
+        when(bucketProgressRepository.findAllByJobNameAndBucketIn("job", List.of(1, 2))).thenReturn(List.of(existing));
+
+        bucketProgressService.markProcessed("job", List.of(1, 2));
+
+        assertTrue(existing.getProcessedAt().isAfter(LocalDateTime.of(2024, 1, 1, 0, 0)));
+        verify(bucketProgressRepository, times(1)).save(any(BucketProgress.class));
+    }
+}
@@ -0,0 +1,181 @@
+package com.grinder.service.implement;
+
+import com.grinder.domain.dto.AnalysisTagDTO;
+import com.grinder.domain.entity.Cafe;
+import com.grinder.domain.enums.TagName;
+import com.grinder.repository.CafeRepository;
+import com.grinder.repository.queries.AnalysisTagQueryRepository;
+import com.grinder.repository.queries.BookmarkQueryRepository;
+import com.grinder.repository.queries.CafeQueryRepository;
+import com.grinder.service.MessageService;
+import com.grinder.utils.TagVector;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CafeRecommendServiceImplTest {
+    @InjectMocks
+    CafeRecommendServiceImpl cafeRecommendService;
+    @Mock
+    AnalysisTagQueryRepository analysisTagQueryRepository;
+    @Mock
+    CafeQueryRepository cafeQueryRepository;
+    @Mock
+    BookmarkQueryRepository bookmarkQueryRepository;
+    @Mock
+    CafeRepository cafeRepository;
+    @Mock
+    MessageService messageService;
+    @Mock
+    JdbcTemplate jdbcTemplate;
+    @Spy
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recommendCafes() {
+        Map<String, TagVector> memberVectors = new HashMap<>();
+        memberVectors.put("id1", tagVector(TagName.QUIET, TagName.QUIET, TagName.CLEAN));
+        memberVectors.put("id2", TagVector.empty());
+        doReturn(memberVectors).when(analysisTagQueryRepository).findTagVectors(List.of("id1", "id2"));
+        doReturn(Map.of(
+                "cafe1", tagVector(TagName.QUIET, TagName.CLEAN),
+                "cafe2", tagVector(TagName.QUIET),
+                "cafe3", tagVector(TagName.FAST_WIFI),
+                "cafe4", tagVector(TagName.QUIET, TagName.QUIET, TagName.CLEAN),
+                "cafe5", tagVector(TagName.CLEAN))).when(cafeQueryRepository).findAllTagVectors();
+        doReturn(Map.of("id1", Set.of("cafe4"))).when(bookmarkQueryRepository).findBookmarkedCafeIds(Set.of("id1"));
+        doReturn(Map.of()).when(analysisTagQueryRepository).findRecommendedCafes(Set.of("id1"));
+        doReturn(List.of(cafe("cafe1"), cafe("cafe2"), cafe("cafe5"))).when(cafeRepository).findAllById(anyCollection());
+        doReturn(1).when(messageService).sendAdminMessages(eq("Alan"), anyMap());
+
+        int result = cafeRecommendService.recommendCafes(List.of("id1", "id2"));
+
+        // 관심 태그가 없는 id2 제외, 북마크한 cafe4 와 유사도 0 인 cafe3 제외
+        ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(messageService, times(1)).sendAdminMessages(eq("Alan"), captor.capture());
+        assertThat(result).isEqualTo(1);
+        assertThat(captor.getValue()).containsOnlyKeys("id1");
+        String content = captor.getValue().get("id1");
+        assertThat(content.indexOf("cafe1")).isLessThan(content.indexOf("cafe2"));
+        assertThat(content.indexOf("cafe2")).isLessThan(content.indexOf("cafe5"));
+        assertThat(content).doesNotContain("cafe3", "cafe4");
+
+        ArgumentCaptor<List<Object[]>> updates = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), updates.capture());
+        assertThat(updates.getValue()).hasSize(1);
+        assertThat(updates.getValue().get(0)[0]).isEqualTo("cafe1,cafe2,cafe5");
+        assertThat(updates.getValue().get(0)[2]).isEqualTo("id1");
+        assertThat(meterRegistry.counter("grinder.recommend.messages", "result", "sent").count()).isEqualTo(1);
+    }
+
+    @Test
+    void recommendCafes_추천결과같으면생략() {
+        TagVector vector = tagVector(TagName.QUIET);
+        vector.decayTo(LocalDateTime.now());
+        doReturn(new HashMap<>(Map.of("id1", vector))).when(analysisTagQueryRepository).findTagVectors(List.of("id1"));
+        doReturn(Map.of("cafe1", tagVector(TagName.QUIET), "cafe2", tagVector(TagName.QUIET, TagName.CLEAN)))
+                .when(cafeQueryRepository).findAllTagVectors();
+        doReturn(Map.of()).when(bookmarkQueryRepository).findBookmarkedCafeIds(anyCollection());
+        doReturn(Map.of("id1", new AnalysisTagDTO.RecommendedCafes("cafe1,cafe2", LocalDateTime.now().minusDays(1))))
+                .when(analysisTagQueryRepository).findRecommendedCafes(Set.of("id1"));
+        doReturn(List.of(cafe("cafe1"), cafe("cafe2"))).when(cafeRepository).findAllById(anyCollection());
+
+        int result = cafeRecommendService.recommendCafes(List.of("id1"));
+
+        assertThat(result).isZero();
+        verify(messageService, times(1)).sendAdminMessages("Alan", Map.of());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertThat(meterRegistry.counter("grinder.recommend.messages", "result", "unchanged").count()).isEqualTo(1);
+    }
+
+    @Test
+    void recommendCafes_태그변경없으면점수계산생략() {
+        TagVector vector = tagVector(TagName.QUIET);
+        vector.decayTo(LocalDateTime.now().minusDays(3));
+        doReturn(new HashMap<>(Map.of("id1", vector))).when(analysisTagQueryRepository).findTagVectors(List.of("id1"));
+        doReturn(Map.of("id1", new AnalysisTagDTO.RecommendedCafes("cafe1", LocalDateTime.now().minusDays(1))))
+                .when(analysisTagQueryRepository).findRecommendedCafes(Set.of("id1"));
+
+        int result = cafeRecommendService.recommendCafes(List.of("id1"));
+
+        assertThat(result).isZero();
+        verify(cafeQueryRepository, never()).findAllTagVectors();
+        verify(cafeRepository, never()).findAllById(anyCollection());
+        assertThat(meterRegistry.counter("grinder.recommend.messages", "result", "unchanged").count()).isEqualTo(1);
+    }
+
+    @Test
+    void recommendCafes_기간지나면다시발송() {
+        TagVector vector = tagVector(TagName.QUIET);
+        vector.decayTo(LocalDateTime.now().minusDays(60));
+        doReturn(new HashMap<>(Map.of("id1", vector))).when(analysisTagQueryRepository).findTagVectors(List.of("id1"));
+        doReturn(Map.of("cafe1", tagVector(TagName.QUIET), "cafe2", tagVector(TagName.QUIET, TagName.CLEAN)))
+                .when(cafeQueryRepository).findAllTagVectors();
+        doReturn(Map.of()).when(bookmarkQueryRepository).findBookmarkedCafeIds(anyCollection());
+        doReturn(Map.of("id1", new AnalysisTagDTO.RecommendedCafes("cafe1", LocalDateTime.now().minusDays(31))))
+                .when(analysisTagQueryRepository).findRecommendedCafes(Set.of("id1"));
+        // cafe2 는 삭제되어 보내지 않으므로 저장하는 추천 기록에서도 빠진다.
+        doReturn(List.of(cafe("cafe1"))).when(cafeRepository).findAllById(anyCollection());
+        doReturn(1).when(messageService).sendAdminMessages(eq("Alan"), anyMap());
+
+        int result = cafeRecommendService.recommendCafes(List.of("id1"));
+
+        assertThat(result).isEqualTo(1);
+        verify(messageService, times(1)).sendAdminMessages(eq("Alan"), argThat(contents -> contents.containsKey("id1")));
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), argThat((List<Object[]> updates) ->
+                updates.size() == 1 && "cafe1".equals(updates.get(0)[0]) && "id1".equals(updates.get(0)[2])));
+    }
+
+    @Test
+    void recommendCafes_관심태그없음() {
+        doReturn(new HashMap<>(Map.of("id1", TagVector.empty()))).when(analysisTagQueryRepository).findTagVectors(List.of("id1"));
+
+        int result = cafeRecommendService.recommendCafes(List.of("id1"));
+
+        assertThat(result).isZero();
+        verify(cafeQueryRepository, never()).findAllTagVectors();
+        verify(messageService, never()).sendAdminMessages(anyString(), anyMap());
+    }
+
+    @Test
+    void recommendCafes_카페분포캐시() {
+        doReturn(new HashMap<>(Map.of("id1", tagVector(TagName.QUIET)))).when(analysisTagQueryRepository).findTagVectors(anyCollection());
+        doReturn(Map.of()).when(cafeQueryRepository).findAllTagVectors();
+        doReturn(Map.of()).when(bookmarkQueryRepository).findBookmarkedCafeIds(anyCollection());
+
+        cafeRecommendService.recommendCafes(List.of("id1"));
+        cafeRecommendService.recommendCafes(List.of("id1"));
+
+        verify(cafeQueryRepository, times(1)).findAllTagVectors();
+    }
+
+    private TagVector tagVector(TagName... tagNames) {
+        TagVector vector = TagVector.empty();
+        for (TagName tagName : tagNames) vector.add(tagName, 1);
+        return vector;
+    }
+
+    private Cafe cafe(String cafeId) {
+        return Cafe.builder().cafeId(cafeId).name(cafeId).address("서울시 강남구").build();
+    }
+}
@@ -33,7 +33,7 @@ class CafeServiceImplTest {
     @Mock
     private CafeRegisterRepository cafeRegisterRepository;
     @Mock
-    private CafeSummaryServiceImpl cafeSummaryService;
+    private CafeSummaryOutboxServiceImpl cafeSummaryOutboxService;
     @Mock
     private CafeQueryRepository cafeQueryRepository;
     @Mock
@@ -50,7 +50,7 @@ class CafeServiceImplTest {
         Cafe cafe = Cafe.builder().cafeId("testCafeId").build();
         doReturn(cafe).when(cafeRepository).save(any(Cafe.class));
 
-        doNothing().when(cafeSummaryService).saveCafeSummary(any(String.class));
+        doNothing().when(cafeSummaryOutboxService).requestSummary(any(String.class));
 
         cafeService.saveCafe("testId");
 
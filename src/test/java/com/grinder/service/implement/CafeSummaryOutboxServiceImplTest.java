@@ -0,0 +1,160 @@
+package com.grinder.service.implement;
+
+import com.grinder.domain.entity.OutboxEvent;
+import com.grinder.domain.enums.OutboxEventType;
+import com.grinder.domain.enums.OutboxStatus;
+import com.grinder.exception.AlanUnavailableException;
+import com.grinder.repository.OutboxEventRepository;
+import com.grinder.service.CafeSummaryService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CafeSummaryOutboxServiceImplTest {
+    @Mock
+    OutboxEventRepository outboxEventRepository;
+    @Mock
+    CafeSummaryService cafeSummaryService;
+    @Mock
+    ThreadPoolTaskExecutor summaryExecutor;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    CafeSummaryOutboxServiceImpl cafeSummaryOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        cafeSummaryOutboxService = new CafeSummaryOutboxServiceImpl(outboxEventRepository, cafeSummaryService,
+                summaryExecutor, transactionManager);
+    }
+
+    @Test
+    void requestSummary() {
+        cafeSummaryOutboxService.requestSummary("cafeId");
+
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getEventType()).isEqualTo(OutboxEventType.CAFE_SUMMARY_REQUESTED);
+        assertThat(captor.getValue().getAggregateId()).isEqualTo("cafeId");
+        // 요약 생성은 요청 스레드가 아닌 워커 풀에서
+        verify(summaryExecutor, times(1)).execute(any(Runnable.class));
+        verifyNoInteractions(cafeSummaryService);
+    }
+
+    @Test
+    void dispatchPending() {
+        OutboxEvent event = event();
+        doReturn(List.of(event)).when(outboxEventRepository).findClaimable(any(LocalDateTime.class), anyInt());
+
+        cafeSummaryOutboxService.dispatchPending();
+
+        assertThat(event.getAttemptCount()).isEqualTo(1);
+        assertThat(event.getAvailableAt()).isAfter(LocalDateTime.now());
+        verify(summaryExecutor, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void process() {
+        OutboxEvent event = claimedEvent(1);
+        doReturn(Optional.of(event)).when(outboxEventRepository).findById("eventId");
+        doReturn(1).when(outboxEventRepository).deleteLeased("eventId", 1);
+
+        cafeSummaryOutboxService.process("eventId");
+
+        verify(cafeSummaryService, times(1)).saveCafeSummary("cafeId");
+        verify(outboxEventRepository, times(1)).deleteLeased("eventId", 1);
+    }
+
+    @Test
+    void process_실패시재시도() {
+        OutboxEvent event = claimedEvent(1);
+        doReturn(Optional.of(event)).when(outboxEventRepository).findById("eventId");
+        doReturn(Optional.of(event)).when(outboxEventRepository).findLockedById("eventId");
+        doThrow(new AlanUnavailableException("down")).when(cafeSummaryService).saveCafeSummary("cafeId");
+
+        cafeSummaryOutboxService.process("eventId");
+
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(event.getLastError()).isEqualTo("down");
+        assertThat(event.getAvailableAt()).isAfter(LocalDateTime.now());
+        verify(outboxEventRepository, never()).deleteLeased(anyString(), anyInt());
+    }
+
+    @Test
+    void process_최대횟수실패() {
+        OutboxEvent event = claimedEvent(6);
+        doReturn(Optional.of(event)).when(outboxEventRepository).findById("eventId");
+        doReturn(Optional.of(event)).when(outboxEventRepository).findLockedById("eventId");
+        doThrow(new AlanUnavailableException("down")).when(cafeSummaryService).saveCafeSummary("cafeId");
+
+        cafeSummaryOutboxService.process("eventId");
+
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+    }
+
+    @Test
+    void process_점유를잃으면실패기록안함() {
+        OutboxEvent event = claimedEvent(1);
+        OutboxEvent reclaimed = claimedEvent(2);
+        doReturn(Optional.of(event)).when(outboxEventRepository).findById("eventId");
+        doReturn(Optional.of(reclaimed)).when(outboxEventRepository).findLockedById("eventId");
+        doThrow(new AlanUnavailableException("down")).when(cafeSummaryService).saveCafeSummary("cafeId");
+
+        cafeSummaryOutboxService.process("eventId");
+
+        assertThat(reclaimed.getLastError()).isNull();
+    }
+
+    @Test
+    void process_점유시간이지난이벤트() {
+        OutboxEvent event = event();
+        event.claim(LocalDateTime.now().minusSeconds(1));
+        doReturn(Optional.of(event)).when(outboxEventRepository).findById("eventId");
+
+        cafeSummaryOutboxService.process("eventId");
+
+        verifyNoInteractions(cafeSummaryService);
+    }
+
+    @Test
+    void process_삭제된카페() {
+        OutboxEvent event = claimedEvent(1);
+        doReturn(Optional.of(event)).when(outboxEventRepository).findById("eventId");
+        doThrow(new EntityNotFoundException("존재하지 않는 카페입니다.")).when(cafeSummaryService).saveCafeSummary("cafeId");
+
+        cafeSummaryOutboxService.process("eventId");
+
+        verify(outboxEventRepository, times(1)).deleteLeased("eventId", 1);
+    }
+
+    private OutboxEvent claimedEvent(int attemptCount) {
+        OutboxEvent event = event();
+        for (int i = 0; i < attemptCount; i++) event.claim(LocalDateTime.now().plusMinutes(5));
+        return event;
+    }
+
+    private OutboxEvent event() {
+        OutboxEvent event = OutboxEvent.builder()
+                .eventId("eventId")
+                .eventType(OutboxEventType.CAFE_SUMMARY_REQUESTED)
+                .aggregateId("cafeId")
+                .build();
+        event.prePersist();
+        return event;
+    }
+}
@@ -5,9 +5,10 @@ import com.grinder.domain.dto.CafeSummaryDTO;
 import com.grinder.domain.entity.AnalysisTag;
 import com.grinder.domain.entity.Cafe;
 import com.grinder.domain.entity.CafeSummary;
+import com.grinder.exception.AlanUnavailableException;
 import com.grinder.repository.CafeRepository;
 import com.grinder.repository.CafeSummaryRepository;
-import com.grinder.utils.AlanAPI;
+import com.grinder.service.AlanPromptCacheService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -29,7 +30,7 @@ class CafeSummaryServiceImplTest {
     @Mock
     private CafeRepository cafeRepository;
     @Mock
-    private AlanAPI alanAPI;
+    private AlanPromptCacheService alanPromptCacheService;
 
     @Test
     void analysisCafe() {
@@ -40,7 +41,7 @@ class CafeSummaryServiceImplTest {
         alanResponse.setContent("content");
         alanResponse.setActionName("name");
         alanResponse.setActionSpeak("speak");
-        doReturn(alanResponse).when(alanAPI).requestSummary(any(String.class),any(String.class));
+        doReturn(alanResponse).when(alanPromptCacheService).requestSummary(any(String.class),any(String.class));
 
         doReturn(CafeSummary.builder().cafeId("test").summary(alanResponse.getContent()).build()).when(cafeSummaryRepository).save(any(CafeSummary.class));
 
@@ -60,11 +61,13 @@ class CafeSummaryServiceImplTest {
         alanResponse.setContent("content");
         alanResponse.setActionName("name");
         alanResponse.setActionSpeak("speak");
-        doReturn(alanResponse).when(alanAPI).requestSummary(any(String.class),any(String.class));
+        doReturn(alanResponse).when(alanPromptCacheService).refreshSummary(any(String.class),any(String.class));
 
         boolean result = cafeSummaryService.updateCafeSummary("test");
 
         assertThat(result).isTrue();
+        assertThat(summary.get().getSummary()).isEqualTo("content");
+        verify(alanPromptCacheService, never()).requestSummary(any(String.class), any(String.class));
     }
     @Test
     void deleteCafeSummary() {
@@ -100,7 +103,7 @@ class CafeSummaryServiceImplTest {
         alanResponse.setContent("content");
         alanResponse.setActionName("name");
         alanResponse.setActionSpeak("speak");
-        doReturn(alanResponse).when(alanAPI).requestSummary(any(String.class),any(String.class));
+        doReturn(alanResponse).when(alanPromptCacheService).requestSummary(any(String.class),any(String.class));
 
         CafeSummary summary = CafeSummary.builder().cafeId("test").summary(alanResponse.getContent()).build();
         doReturn(summary).when(cafeSummaryRepository).save(any(CafeSummary.class));
@@ -109,6 +112,16 @@ class CafeSummaryServiceImplTest {
 
         verify(cafeSummaryRepository, times(1)).save(any(CafeSummary.class));
     }
+    @Test
+    void saveCafeSummary_앨런장애() {
+        Optional<Cafe> cafe = Optional.ofNullable(Cafe.builder().cafeId("cafeId").name("cafeName").address("cafeAddress").build());
+        doReturn(cafe).when(cafeRepository).findById(any(String.class));
+        doThrow(new AlanUnavailableException("down")).when(alanPromptCacheService).requestSummary(any(String.class), any(String.class));
+
+        assertThatThrownBy(() -> cafeSummaryService.saveCafeSummary("cafeId")).isInstanceOf(AlanUnavailableException.class);
+
+        verify(cafeSummaryRepository, never()).save(any(CafeSummary.class));
+    }
 
     private void setUpdatedAt(CafeSummary cafeSummary, LocalDateTime updatedAt) {
         try {
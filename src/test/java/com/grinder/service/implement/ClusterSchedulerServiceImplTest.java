@@ -0,0 +1,166 @@
+package com.grinder.service.implement;
+
+import com.grinder.utils.Shard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ClusterSchedulerServiceImplTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private ZSetOperations<String, String> zSetOperations;
+    private ClusterSchedulerServiceImpl clusterSchedulerService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        clusterSchedulerService = new ClusterSchedulerServiceImpl(stringRedisTemplate, Duration.ofSeconds(30), 1, Duration.ofSeconds(60));
+    }
+
+    @DisplayName("정해진 조각 수로 나누고 다른 서버가 가져간 조각은 건너뛴다")
+    @Test
+    void testRunSharded() {
+        String nodeId = clusterSchedulerService.getNodeId();
+        when(zSetOperations.rangeByScore(eq("scheduler:nodes"), anyDouble(), anyDouble()))
+                .thenReturn(new LinkedHashSet<>(List.of(nodeId, "~other")));
+        when(valueOperations.setIfAbsent(startsWith("scheduler:plan:job:"), eq("2"), any(Duration.class))).thenReturn(true);
+        when(valueOperations.get(startsWith("scheduler:plan:job:"))).thenReturn("2");
+        when(valueOperations.setIfAbsent(endsWith(":0"), eq(nodeId), eq(Duration.ofSeconds(60)))).thenReturn(true);
+        when(valueOperations.get(shardKey(1))).thenReturn("done:~other");
+
+        List<Shard> shards = new ArrayList<>();
+        clusterSchedulerService.runSharded("job", shards::add);
+
+        assertEquals(1, shards.size());
+        assertEquals(0, shards.get(0).getIndex());
+        assertEquals(2, shards.get(0).getCount());
+        // 성공한 조각만 완료 표시
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(shardKey(0))),
+                eq(nodeId), eq("done:" + nodeId), eq(String.valueOf(Duration.ofHours(23).toMillis())));
+    }
+
+    @DisplayName("실패한 조각은 임대를 풀어 다른 서버가 다시 가져간다")
+    @Test
+    void testRunShardedFailureReleasesLease() {
+        String nodeId = clusterSchedulerService.getNodeId();
+        when(zSetOperations.rangeByScore(eq("scheduler:nodes"), anyDouble(), anyDouble()))
+                .thenReturn(new LinkedHashSet<>(List.of(nodeId)));
+        when(valueOperations.get(startsWith("scheduler:plan:job:"))).thenReturn("1");
+        when(valueOperations.setIfAbsent(endsWith(":0"), eq(nodeId), any(Duration.class))).thenReturn(true);
+
+        clusterSchedulerService.runSharded("job", shard -> {
+            throw new IllegalStateException("fail");
+        });
+
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(shardKey(0))), eq(nodeId));
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), startsWith("done:"), any());
+        // 자기가 실패한 조각은 다시 잡지 않는다
+        verify(valueOperations, times(1)).setIfAbsent(eq(shardKey(0)), eq(nodeId), any(Duration.class));
+    }
+
+    @DisplayName("다른 서버가 임대 중인 조각은 기다리고, 임대가 풀리면 가져간다")
+    @Test
+    void testRunShardedWaitsForLease() {
+        clusterSchedulerService = new ClusterSchedulerServiceImpl(stringRedisTemplate, Duration.ofSeconds(30), 1, Duration.ofMillis(30));
+        String nodeId = clusterSchedulerService.getNodeId();
+        when(zSetOperations.rangeByScore(eq("scheduler:nodes"), anyDouble(), anyDouble()))
+                .thenReturn(new LinkedHashSet<>(List.of(nodeId, "~other")));
+        when(valueOperations.get(startsWith("scheduler:plan:job:"))).thenReturn("2");
+        when(valueOperations.setIfAbsent(shardKey(0), nodeId, Duration.ofMillis(30))).thenReturn(true);
+        when(valueOperations.get(shardKey(0))).thenReturn(null, "done:" + nodeId);
+        // 다른 서버가 임대 중이다가 실패(해제) 또는 서버 중단(만료)으로 풀린다
+        when(valueOperations.get(shardKey(1))).thenReturn("~other", "~other", null, "done:" + nodeId);
+        when(valueOperations.setIfAbsent(shardKey(1), nodeId, Duration.ofMillis(30))).thenReturn(true);
+
+        List<Shard> shards = new ArrayList<>();
+        clusterSchedulerService.runSharded("job", shards::add);
+
+        assertEquals(List.of(0, 1), shards.stream().map(Shard::getIndex).toList());
+    }
+
+    @DisplayName("Redis 장애 시 전체를 중복 실행하지 않고 이번 회차를 건너뛴다")
+    @Test
+    void testRunShardedRedisFailure() {
+        when(zSetOperations.rangeByScore(anyString(), anyDouble(), anyDouble()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        List<Shard> shards = new ArrayList<>();
+        clusterSchedulerService.runSharded("job", shards::add);
+
+        assertTrue(shards.isEmpty());
+    }
+
+    @DisplayName("회차 값은 먼저 정해진 값을 따른다")
+    @Test
+    void testAgree() {
+        when(valueOperations.get(startsWith("scheduler:plan:job:buckets:"))).thenReturn("1,2,3");
+
+        assertEquals("1,2,3", clusterSchedulerService.agree("job:buckets", () -> fail("제안 값을 만들면 안 됩니다.")));
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+
+    @DisplayName("Redis 장애 시 이 서버의 제안 값 사용")
+    @Test
+    void testAgreeRedisFailure() {
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertEquals("4,5", clusterSchedulerService.agree("job:buckets", () -> "4,5"));
+    }
+
+    @DisplayName("heartbeat 가 끊긴 서버는 목록에서 정리")
+    @Test
+    void testHeartbeat() {
+        clusterSchedulerService.heartbeat();
+
+        verify(zSetOperations).add(eq("scheduler:nodes"), eq(clusterSchedulerService.getNodeId()), anyDouble());
+        verify(zSetOperations).removeRangeByScore(eq("scheduler:nodes"), eq(0.0), anyDouble());
+    }
+
+    @DisplayName("조각은 id 해시로 겹치지 않게 나뉜다")
+    @Test
+    void testShardOwns() {
+        Set<Integer> owners = new LinkedHashSet<>();
+        for (int index = 0; index < 3; index++) {
+            if (new Shard(index, 3).owns("cafe-1")) owners.add(index);
+        }
+        assertEquals(Set.of(new Shard(0, 3).indexOf("cafe-1")), owners);
+    }
+
+    @DisplayName("요일 순번과 같은 수로 나눠도 모든 조각에 대상이 배정된다")
+    @Test
+    void testShardIndependentOfBucket() {
+        Set<Integer> shards = new LinkedHashSet<>();
+        for (int i = 0; shards.size() < 7 && i < 10000; i++) {
+            String id = "member-" + i;
+            if (Math.floorMod(id.hashCode(), 7) == 0) shards.add(new Shard(0, 7).indexOf(id));
+        }
+        assertEquals(7, shards.size());
+    }
+
+    private String shardKey(int index) {
+        return "scheduler:shard:job:" + LocalDate.now(ZoneId.of("Asia/Seoul")) + ":" + index;
+    }
+}
@@ -0,0 +1,158 @@
+package com.grinder.service.implement;
+
+import com.grinder.config.AsyncConfig;
+import com.grinder.domain.entity.Feed;
+import com.grinder.domain.entity.Image;
+import com.grinder.domain.entity.PendingUpload;
+import com.grinder.domain.enums.ContentType;
+import com.grinder.domain.enums.UploadStatus;
+import com.grinder.repository.FeedRepository;
+import com.grinder.repository.ImageRepository;
+import com.grinder.repository.PendingUploadRepository;
+import com.grinder.service.AwsS3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeedImageUploadServiceImplTest {
+    @Mock
+    PendingUploadRepository pendingUploadRepository;
+    @Mock
+    ImageRepository imageRepository;
+    @Mock
+    FeedRepository feedRepository;
+    @Mock
+    AwsS3Service awsS3Service;
+    @Mock
+    ThreadPoolTaskExecutor imageUploadExecutor;
+    @Mock
+    PlatformTransactionManager transactionManager;
+    @TempDir
+    Path spoolDir;
+
+    FeedImageUploadServiceImpl feedImageUploadService;
+    Feed feed;
+
+    @BeforeEach
+    void setUp() {
+        feedImageUploadService = new FeedImageUploadServiceImpl(pendingUploadRepository, imageRepository, feedRepository,
+                awsS3Service, imageUploadExecutor, transactionManager, spoolDir.toString());
+        feed = Feed.builder().feedId("feedId").isImageReady(true).build();
+    }
+
+    @Test
+    void stageFeedImages() {
+        doAnswer(invocation -> {
+            PendingUpload pendingUpload = invocation.getArgument(0);
+            pendingUpload.prePersist();
+            return pendingUpload;
+        }).when(pendingUploadRepository).save(any(PendingUpload.class));
+
+        feedImageUploadService.stageFeedImages(feed, List.of(new MockMultipartFile("image", "a.png", "image/png", new byte[]{1, 2, 3})));
+
+        assertThat(feed.getIsImageReady()).isFalse();
+        verify(imageUploadExecutor, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void stageFeedImages_이미지없음() {
+        feedImageUploadService.stageFeedImages(feed, null);
+
+        assertThat(feed.getIsImageReady()).isTrue();
+        verifyNoInteractions(pendingUploadRepository, imageUploadExecutor);
+    }
+
+    @Test
+    void upload() throws IOException {
+        PendingUpload pendingUpload = spooledUpload();
+        doReturn(Optional.of(pendingUpload)).when(pendingUploadRepository).findById("uploadId");
+        doReturn("https://bucket/a.png").when(awsS3Service).uploadSpooledImage(any(Path.class), anyString());
+        doReturn(false).when(pendingUploadRepository).existsByContentIdAndStatus("feedId", UploadStatus.PENDING);
+        doReturn(Optional.of(feed)).when(feedRepository).findById("feedId");
+        feed.waitForImages();
+
+        feedImageUploadService.upload("uploadId");
+
+        verify(imageRepository, times(1)).save(any(Image.class));
+        verify(pendingUploadRepository, times(1)).delete(pendingUpload);
+        assertThat(feed.getIsImageReady()).isTrue();
+        assertThat(Files.exists(Path.of(pendingUpload.getSpoolPath()))).isFalse();
+    }
+
+    @Test
+    void upload_실패시재시도횟수증가() throws IOException {
+        PendingUpload pendingUpload = spooledUpload();
+        doReturn(Optional.of(pendingUpload)).when(pendingUploadRepository).findById("uploadId");
+        doThrow(new RuntimeException("S3 오류")).when(awsS3Service).uploadSpooledImage(any(Path.class), anyString());
+
+        feedImageUploadService.upload("uploadId");
+
+        assertThat(pendingUpload.getRetryCount()).isEqualTo(1);
+        assertThat(pendingUpload.getStatus()).isEqualTo(UploadStatus.PENDING);
+        verify(imageRepository, never()).save(any(Image.class));
+    }
+
+    @Test
+    void retryStaleUploads_큐가득참() throws Exception {
+        ThreadPoolTaskExecutor executor = new AsyncConfig().imageUploadExecutor();
+        feedImageUploadService = new FeedImageUploadServiceImpl(pendingUploadRepository, imageRepository, feedRepository,
+                awsS3Service, executor, transactionManager, spoolDir.toString());
+        doReturn(List.of(spooledUpload())).when(pendingUploadRepository).findAllByStatusAndUpdatedAtBefore(eq(UploadStatus.PENDING), any());
+
+        // 워커와 큐를 모두 채운다.
+        CountDownLatch release = new CountDownLatch(1);
+        int capacity = executor.getMaxPoolSize() + executor.getQueueCapacity();
+        try {
+            for (int i = 0; i < capacity; i++) {
+                executor.execute(() -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            feedImageUploadService.retryStaleUploads();
+            verify(pendingUploadRepository, never()).findById("uploadId");
+        } finally {
+            release.countDown();
+        }
+
+        // 거절된 업로드는 처리 중으로 남지 않고 다음 주기에 다시 등록된다.
+        feedImageUploadService.retryStaleUploads();
+        verify(pendingUploadRepository, timeout(5000).times(1)).findById("uploadId");
+        executor.shutdown();
+    }
+
+    private PendingUpload spooledUpload() throws IOException {
+        Path spoolPath = Files.write(spoolDir.resolve("spooled"), new byte[]{1, 2, 3});
+        return PendingUpload.builder()
+                .uploadId("uploadId")
+                .contentId("feedId")
+                .contentType(ContentType.FEED)
+                .spoolPath(spoolPath.toString())
+                .originalFileName("a.png")
+                .status(UploadStatus.PENDING)
+                .retryCount(0)
+                .build();
+    }
+}
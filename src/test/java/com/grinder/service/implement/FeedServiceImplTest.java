@@ -12,6 +12,7 @@ import com.grinder.repository.CafeRepository;
 import com.grinder.repository.FeedRepository;
 import com.grinder.repository.MemberRepository;
 import com.grinder.repository.queries.FeedQueryRepository;
+import com.grinder.security.service.ViewerContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,6 +32,7 @@ import org.springframework.test.context.ActiveProfiles;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.mockito.Mockito.*;
 import static org.assertj.core.api.Assertions.*;
@@ -53,6 +55,12 @@ class FeedServiceImplTest {
     @Mock
     FeedQueryRepository feedQueryRepository;
     @Mock
+    FeedImageUploadServiceImpl feedImageUploadService;
+    @Mock
+    FollowGraphServiceImpl followGraphService;
+    @Mock
+    ViewerContext viewerContext;
+    @Mock
     Pageable pageable;
 
 
@@ -177,7 +185,7 @@ class FeedServiceImplTest {
     void findMyPageFeedWithImage() {
         FeedDTO.FeedWithImageResponseDTO feedDTO = new FeedDTO.FeedWithImageResponseDTO(feed1, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), false, 1L, "test");
         List<FeedDTO.FeedWithImageResponseDTO> feedList = List.of(feedDTO);
-        doReturn(new SliceImpl<>(feedList, pageable , true)).when(feedQueryRepository).FindMemberFeedWithImage(anyString(), anyString(), any(org.springframework.data.domain.Pageable.class));
+        doReturn(new SliceImpl<>(feedList, pageable , true)).when(feedQueryRepository).FindMemberFeedWithImage(anyString(), anySet(), anyString(), any(org.springframework.data.domain.Pageable.class));
 
         Slice<FeedDTO.FeedWithImageResponseDTO> result = feedService.findMyPageFeedWithImage("test", "test", pageable);
 
@@ -204,7 +212,7 @@ class FeedServiceImplTest {
     void findCafeFeedWithImage() {
         FeedDTO.FeedWithImageResponseDTO feedDTO = new FeedDTO.FeedWithImageResponseDTO(feed1, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), false, 1L, "test");
         List<FeedDTO.FeedWithImageResponseDTO> feedList = List.of(feedDTO);
-        doReturn(new SliceImpl<>(feedList, pageable , true)).when(feedQueryRepository).FindCafeFeedWithImage(anyString(), anyString(), any(org.springframework.data.domain.Pageable.class));
+        doReturn(new SliceImpl<>(feedList, pageable , true)).when(feedQueryRepository).FindCafeFeedWithImage(anyString(), anySet(), anyString(), any(org.springframework.data.domain.Pageable.class));
 
         Slice<FeedDTO.FeedWithImageResponseDTO> result = feedService.findCafeFeedWithImage("test", "test", pageable);
 
@@ -217,7 +225,7 @@ class FeedServiceImplTest {
     void searchFeed() {
         FeedDTO.FeedWithImageResponseDTO feedDTO = new FeedDTO.FeedWithImageResponseDTO(feed1, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), false, 1L, "test");
         List<FeedDTO.FeedWithImageResponseDTO> feedList = List.of(feedDTO);
-        doReturn(new SliceImpl<>(feedList, pageable , true)).when(feedQueryRepository).findSearchRecentFeedWithImage(anyString(), anyString(), any(org.springframework.data.domain.Pageable.class));
+        doReturn(new SliceImpl<>(feedList, pageable , true)).when(feedQueryRepository).findSearchRecentFeedWithImage(anyString(), anySet(), anyString(), any(org.springframework.data.domain.Pageable.class));
 
         Slice<FeedDTO.FeedWithImageResponseDTO> result = feedService.searchFeed("test", "test", pageable);
 
@@ -230,7 +238,7 @@ class FeedServiceImplTest {
     void findRecentFeedWithImage() {
         FeedDTO.FeedWithImageResponseDTO feedDTO = new FeedDTO.FeedWithImageResponseDTO(feed1, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), false, 1L, "test");
         List<FeedDTO.FeedWithImageResponseDTO> feedList = List.of(feedDTO);
-        doReturn(new SliceImpl<>(feedList, pageable , true)).when(feedQueryRepository).findRecentFeedWithImage(anyString(), any(org.springframework.data.domain.Pageable.class));
+        doReturn(new SliceImpl<>(feedList, pageable , true)).when(feedQueryRepository).findRecentFeedWithImage(anyString(), anySet(), any(org.springframework.data.domain.Pageable.class));
 
         Slice<FeedDTO.FeedWithImageResponseDTO> result = feedService.findRecentFeedWithImage("test", pageable);
 
@@ -243,7 +251,9 @@ class FeedServiceImplTest {
     void recommendFeedWithImage() {
         FeedDTO.FeedWithImageResponseDTO feedDTO = new FeedDTO.FeedWithImageResponseDTO(feed1, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), false, 1L, "test");
         List<FeedDTO.FeedWithImageResponseDTO> feedList = List.of(feedDTO);
-        doReturn(new SliceImpl<>(feedList, pageable , true)).when(feedQueryRepository).RecommendFeedWithImage(anyString(), any(org.springframework.data.domain.Pageable.class));
+        doReturn(new SliceImpl<>(feedList, pageable , true)).when(feedQueryRepository).RecommendFeedWithImage(anyString(), anySet(), anySet(), any(org.springframework.data.domain.Pageable.class));
+
+        doReturn(Set.of()).when(followGraphService).findFollowingIds("test");
 
         Slice<FeedDTO.FeedWithImageResponseDTO> result = feedService.RecommendFeedWithImage("test", pageable);
 
@@ -256,7 +266,7 @@ class FeedServiceImplTest {
     void findFeedForComment() {
         FeedDTO.FeedWithImageResponseDTO feedDTO = new FeedDTO.FeedWithImageResponseDTO(feed1, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), false, 1L, "test");
         List<FeedDTO.FeedWithImageResponseDTO> feedList = List.of(feedDTO);
-        doReturn(feedList).when(feedQueryRepository).findFeedWithImage(anyString(), anyString());
+        doReturn(feedList).when(feedQueryRepository).findFeedWithImage(anyString(), anySet(), anyString());
 
         List<FeedDTO.FeedWithImageResponseDTO> result = feedService.findFeedForComment("test", "test");
 
@@ -0,0 +1,155 @@
+package com.grinder.service.implement;
+
+import com.grinder.domain.dto.FollowDTO;
+import com.grinder.domain.entity.Member;
+import com.grinder.repository.queries.FollowQueryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FollowGraphServiceImplTest {
+    @InjectMocks
+    FollowGraphServiceImpl followGraphService;
+    @Mock
+    FollowQueryRepository followQueryRepository;
+    @Mock
+    StringRedisTemplate stringRedisTemplate;
+    @Mock
+    RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private Member member1;
+    private Member member2;
+    private Member member3;
+
+    @BeforeEach
+    void setUp() {
+        member1 = Member.builder().memberId("id1").email("test1@test.com").build();
+        member2 = Member.builder().memberId("id2").email("test2@test.com").build();
+        member3 = Member.builder().memberId("id3").email("test3@test.com").build();
+
+        doReturn(List.of(
+                new FollowDTO.FollowEdgeDTO("id1", "test1@test.com", "id2", "test2@test.com"),
+                new FollowDTO.FollowEdgeDTO("id1", "test1@test.com", "id3", "test3@test.com"),
+                new FollowDTO.FollowEdgeDTO("id3", "test3@test.com", "id2", "test2@test.com")
+        )).when(followQueryRepository).findAllFollowEdges();
+        followGraphService.reload();
+    }
+
+    @Test
+    void reload() {
+        assertThat(followGraphService.isFollowing("test1@test.com", "test2@test.com")).isTrue();
+        assertThat(followGraphService.isFollowing("test2@test.com", "test1@test.com")).isFalse();
+        assertThat(followGraphService.countFollowing("test1@test.com")).isEqualTo(2);
+        assertThat(followGraphService.countFollowers("test2@test.com")).isEqualTo(2);
+        assertThat(followGraphService.findFollowingIds("test1@test.com")).containsExactlyInAnyOrder("id2", "id3");
+        assertThat(followGraphService.findFollowerIds("test2@test.com")).containsExactlyInAnyOrder("id1", "id3");
+    }
+
+    @Test
+    void addFollow() {
+        Member newMember = Member.builder().memberId("id4").email("test4@test.com").build();
+
+        followGraphService.addFollow(newMember, member1);
+        followGraphService.addFollow(member2, member1);
+
+        assertThat(followGraphService.isFollowing("test4@test.com", "test1@test.com")).isTrue();
+        assertThat(followGraphService.countFollowers("test1@test.com")).isEqualTo(2);
+        assertThat(followGraphService.findFollowerIds("test1@test.com")).containsExactlyInAnyOrder("id2", "id4");
+        verify(stringRedisTemplate, times(2)).convertAndSend(eq("follow:edge"), anyString());
+    }
+
+    @Test
+    void addFollow_커밋후반영() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            followGraphService.addFollow(member2, member1);
+            assertThat(followGraphService.isFollowing("test2@test.com", "test1@test.com")).isFalse();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(followGraphService.isFollowing("test2@test.com", "test1@test.com")).isTrue();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void addFollow_롤백() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            followGraphService.addFollow(member2, member1);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(followGraphService.isFollowing("test2@test.com", "test1@test.com")).isFalse();
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    void reload_적재중변경반영() {
+        // 전체 조회 이후 반영된 팔로우 추가/삭제가 새 그래프에 덮어써지지 않아야 한다.
+        doAnswer(invocation -> {
+            List<FollowDTO.FollowEdgeDTO> edges = List.of(
+                    new FollowDTO.FollowEdgeDTO("id1", "test1@test.com", "id2", "test2@test.com"),
+                    new FollowDTO.FollowEdgeDTO("id1", "test1@test.com", "id3", "test3@test.com"));
+            followGraphService.addFollow(member2, member1);
+            followGraphService.removeFollow(member1, member3);
+            return edges;
+        }).when(followQueryRepository).findAllFollowEdges();
+
+        followGraphService.reload();
+
+        assertThat(followGraphService.isFollowing("test2@test.com", "test1@test.com")).isTrue();
+        assertThat(followGraphService.isFollowing("test1@test.com", "test3@test.com")).isFalse();
+        assertThat(followGraphService.isFollowing("test1@test.com", "test2@test.com")).isTrue();
+    }
+
+    @Test
+    void onMessage() {
+        followGraphService.onMessage(message("node|+|id2|test2@test.com|id1|test1@test.com"), null);
+        followGraphService.onMessage(message("node|-|id1|test1@test.com|id3|test3@test.com"), null);
+
+        assertThat(followGraphService.isFollowing("test2@test.com", "test1@test.com")).isTrue();
+        assertThat(followGraphService.isFollowing("test1@test.com", "test3@test.com")).isFalse();
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    void removeFollow() {
+        followGraphService.removeFollow(member1, member3);
+
+        assertThat(followGraphService.isFollowing("test1@test.com", "test3@test.com")).isFalse();
+        assertThat(followGraphService.countFollowing("test1@test.com")).isEqualTo(1);
+        assertThat(followGraphService.countFollowers("test3@test.com")).isEqualTo(0);
+    }
+
+    @Test
+    void isFollowing_없는회원() {
+        assertThat(followGraphService.isFollowing("none@test.com", "test1@test.com")).isFalse();
+        assertThat(followGraphService.findFollowingIds("none@test.com")).isEmpty();
+    }
+
+    private Message message(String body) {
+        return new DefaultMessage("follow:edge".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
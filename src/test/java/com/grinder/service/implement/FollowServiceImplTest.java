@@ -13,6 +13,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
@@ -21,7 +22,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 
 @DataJpaTest
-@Import({FollowServiceImpl.class, FollowQueryRepository.class})
+@Import({FollowServiceImpl.class, FollowGraphServiceImpl.class, FollowQueryRepository.class})
 @ActiveProfiles("test")
 class FollowServiceImplTest {
     @Autowired
@@ -46,7 +47,7 @@ class FollowServiceImplTest {
         followRepository.save(Follow.builder().member(follower).following(following).build());
         Pageable pageable = PageRequest.of(0, 10);
 
-        List<FollowDTO.findAllFollowingResponse> list = followService.findAllFollowingSlice(follower.getEmail(), pageable).getContent();
+        List<FollowDTO.findAllFollowingResponse> list = followService.findAllFollowingSlice(follower.getEmail(), null, pageable).getContent();
 
         assertEquals(list.get(0).getFollowEmail(), following.getEmail());
     }
@@ -56,17 +57,35 @@ class FollowServiceImplTest {
         followRepository.save(Follow.builder().member(follower).following(following).build());
         Pageable pageable = PageRequest.of(0, 10);
 
-        List<FollowDTO.findAllFollowerResponse> list = followService.findAllFollowerSlice(following.getEmail(), pageable).getContent();
+        List<FollowDTO.findAllFollowerResponse> list = followService.findAllFollowerSlice(following.getEmail(), null, pageable).getContent();
 
         assertEquals(list.get(0).getFollowEmail(), follower.getEmail());
     }
 
+    @Test
+    void findAllFollowingSlice_키셋페이지() {
+        Member other = memberRepository.save(Member.builder().email("test3@test.com").nickname("test-user-3").password("1234").phoneNum("01012345678").build());
+        followRepository.save(Follow.builder().member(follower).following(following).build());
+        Follow last = followRepository.save(Follow.builder().member(follower).following(other).build());
+        Pageable pageable = PageRequest.of(0, 1);
+
+        Slice<FollowDTO.findAllFollowingResponse> first = followService.findAllFollowingSlice(follower.getEmail(), null, pageable);
+        Slice<FollowDTO.findAllFollowingResponse> second = followService.findAllFollowingSlice(follower.getEmail(), last.getFollowId(), pageable);
+
+        assertEquals(first.getContent().get(0).getFollowEmail(), other.getEmail());
+        assertTrue(first.hasNext());
+        assertEquals(second.getContent().get(0).getFollowEmail(), following.getEmail());
+        assertFalse(second.hasNext());
+    }
+
     @Test
     void addFollow() {
         boolean result = followService.addFollow(follower.getEmail(), following.getEmail());
 
         assertTrue(result);
         assertTrue(followQueryRepository.existsByMemberEmailAndFollowEmail(follower.getEmail(), following.getEmail()));
+        assertEquals(1, memberRepository.findById(follower.getMemberId()).orElseThrow().getFollowingCount());
+        assertEquals(1, memberRepository.findById(following.getMemberId()).orElseThrow().getFollowerCount());
     }
 
     @Test
@@ -80,7 +99,7 @@ class FollowServiceImplTest {
 
     @Test
     void existFollow() {
-        followRepository.save(Follow.builder().member(follower).following(following).build());
+        followService.addFollow(follower.getEmail(), following.getEmail());
         boolean result = followService.existFollow(follower.getEmail(), following.getEmail());
 
         assertTrue(result);
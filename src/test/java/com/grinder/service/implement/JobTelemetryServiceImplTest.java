@@ -0,0 +1,91 @@
+package com.grinder.service.implement;
+
+import com.grinder.domain.entity.SchedulerLog;
+import com.grinder.repository.SchedulerLogRepository;
+import com.grinder.service.ClusterSchedulerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class JobTelemetryServiceImplTest {
+
+    private SchedulerLogRepository schedulerLogRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private JobTelemetryServiceImpl jobTelemetryService;
+
+    @BeforeEach
+    void setUp() {
+        schedulerLogRepository = mock(SchedulerLogRepository.class);
+        ClusterSchedulerService clusterSchedulerService = mock(ClusterSchedulerService.class);
+        when(clusterSchedulerService.getNodeId()).thenReturn("node-1");
+        meterRegistry = new SimpleMeterRegistry();
+        jobTelemetryService = new JobTelemetryServiceImpl(schedulerLogRepository, clusterSchedulerService, meterRegistry);
+    }
+
+    @DisplayName("재시도 후 실패한 작업 기록")
+    @Test
+    void testRecordTaskFailed() {
+        jobTelemetryService.recordTask("CalAverage[1/2]", LocalDateTime.now().minusSeconds(5), 3, new IllegalStateException("실패"));
+
+        ArgumentCaptor<SchedulerLog> captor = ArgumentCaptor.forClass(SchedulerLog.class);
+        verify(schedulerLogRepository).save(captor.capture());
+        SchedulerLog schedulerLog = captor.getValue();
+        assertFalse(schedulerLog.getSuccess());
+        assertEquals(3, schedulerLog.getAttemptCount());
+        assertEquals("node-1", schedulerLog.getNodeId());
+        assertTrue(schedulerLog.getDurationMs() >= 5000);
+        assertTrue(schedulerLog.getErrorSample().contains("실패"));
+        assertEquals(1, meterRegistry.timer("grinder.job.duration", "job", "CalAverage", "result", "failure").count());
+        assertEquals(2.0, meterRegistry.counter("grinder.job.retries", "job", "CalAverage").count());
+    }
+
+    @DisplayName("배치 작업 처리 건수는 파티션 step 을 빼고 합산")
+    @Test
+    void testRecordJob() {
+        JobExecution execution = new JobExecution(new JobInstance(1L, "feedRankJob"), 1L,
+                new JobParametersBuilder().addString("buckets", "1,2").toJobParameters());
+        execution.setStatus(BatchStatus.COMPLETED);
+        execution.setStartTime(LocalDateTime.now().minusSeconds(10));
+        execution.setEndTime(LocalDateTime.now());
+        StepExecution manager = execution.createStepExecution("feedRankJobStep");
+        manager.setReadCount(100);
+        manager.setWriteCount(90);
+        manager.setReadSkipCount(10);
+        StepExecution worker = execution.createStepExecution("feedRankJobWorkerStep:partition0");
+        worker.setReadCount(100);
+        worker.setWriteCount(90);
+
+        jobTelemetryService.recordJob(execution);
+
+        ArgumentCaptor<SchedulerLog> captor = ArgumentCaptor.forClass(SchedulerLog.class);
+        verify(schedulerLogRepository).save(captor.capture());
+        SchedulerLog schedulerLog = captor.getValue();
+        assertTrue(schedulerLog.getSuccess());
+        assertEquals(100L, schedulerLog.getReadCount());
+        assertEquals(90L, schedulerLog.getWriteCount());
+        assertEquals(10L, schedulerLog.getSkipCount());
+        assertEquals(90.0, meterRegistry.counter("grinder.job.items", "job", "feedRankJob", "type", "write").count());
+    }
+
+    @DisplayName("기록 저장 실패는 작업에 영향을 주지 않는다")
+    @Test
+    void testSaveFailure() {
+        when(schedulerLogRepository.save(any())).thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertDoesNotThrow(() -> jobTelemetryService.recordTask("updateRank", LocalDateTime.now(), 1, null));
+    }
+}
@@ -0,0 +1,94 @@
+package com.grinder.service.implement;
+
+import com.grinder.service.BucketProgressService;
+import com.grinder.service.ClusterSchedulerService;
+import com.grinder.utils.Shard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MaintenanceJobServiceImplTest {
+
+    private JobLauncher jobLauncher;
+    private ClusterSchedulerService clusterSchedulerService;
+    private BucketProgressService bucketProgressService;
+    private Job job;
+    private MaintenanceJobServiceImpl maintenanceJobService;
+
+    @BeforeEach
+    void setUp() {
+        jobLauncher = mock(JobLauncher.class);
+        clusterSchedulerService = mock(ClusterSchedulerService.class);
+        bucketProgressService = mock(BucketProgressService.class);
+        job = mock(Job.class);
+        when(job.getName()).thenReturn("testJob");
+        // 다른 서버가 먼저 정한 값이 없으면 이 서버의 제안 값
+        when(clusterSchedulerService.agree(anyString(), any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+        when(bucketProgressService.nextBuckets(anyString(), anyInt())).thenReturn(List.of(0, 1, 2, 3, 4));
+        maintenanceJobService = new MaintenanceJobServiceImpl(jobLauncher, clusterSchedulerService, bucketProgressService,
+                List.of(job), 50, 4, 2);
+    }
+
+    @DisplayName("회차 식별 파라미터와 실행 파라미터 전달")
+    @Test
+    void testRun() throws Exception {
+        JobExecution execution = new JobExecution(1L);
+        execution.setStatus(BatchStatus.COMPLETED);
+        when(jobLauncher.run(eq(job), any(JobParameters.class))).thenReturn(execution);
+
+        maintenanceJobService.run("testJob", 7, new Shard(1, 2));
+
+        ArgumentCaptor<JobParameters> captor = ArgumentCaptor.forClass(JobParameters.class);
+        verify(jobLauncher).run(eq(job), captor.capture());
+        verify(bucketProgressService).nextBuckets("testJob", 7);
+        JobParameters parameters = captor.getValue();
+        assertEquals("1,3", parameters.getString("buckets"));
+        assertEquals(50L, parameters.getLong("chunkSize"));
+        assertTrue(parameters.getParameter("buckets").isIdentifying());
+        assertFalse(parameters.getParameter("chunkSize").isIdentifying());
+        assertFalse(parameters.getParameter("concurrency").isIdentifying());
+    }
+
+    @DisplayName("배정된 버킷이 없는 조각은 실행하지 않는다")
+    @Test
+    void testNoBuckets() throws Exception {
+        maintenanceJobService.run("testJob", 7, new Shard(5, 6));
+
+        verify(jobLauncher, never()).run(any(), any());
+    }
+
+    @DisplayName("이미 완료된 회차는 건너뛴다")
+    @Test
+    void testAlreadyComplete() throws Exception {
+        when(jobLauncher.run(eq(job), any(JobParameters.class))).thenThrow(new JobInstanceAlreadyCompleteException("완료"));
+
+        assertDoesNotThrow(() -> maintenanceJobService.run("testJob", 7, Shard.ALL));
+    }
+
+    @DisplayName("실패하면 예외를 던져 재시도(재시작)하게 한다")
+    @Test
+    void testFailed() throws Exception {
+        JobExecution execution = new JobExecution(1L);
+        execution.setStatus(BatchStatus.FAILED);
+        when(jobLauncher.run(eq(job), any(JobParameters.class))).thenReturn(execution);
+
+        assertThrows(IllegalStateException.class, () -> maintenanceJobService.run("testJob", 7, Shard.ALL));
+    }
+}
@@ -9,6 +9,8 @@ import com.grinder.repository.ImageRepository;
 import com.grinder.repository.MemberRepository;
 import com.grinder.repository.queries.MemberQueryRepository;
 import com.grinder.repository.queries.SearchQueryRepository;
+import com.grinder.security.service.PrincipalCache;
+import com.grinder.security.service.RefreshTokenStore;
 import com.grinder.utils.RedisUtil;
 import org.assertj.core.api.Condition;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +29,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -54,6 +57,10 @@ class MemberServiceImplTest {
     @Mock
     ImageRepository imageRepository;
     @Mock
+    PrincipalCache principalCache;
+    @Mock
+    RefreshTokenStore refreshTokenStore;
+    @Mock
     Pageable pageable;
 
     private Member member1;
@@ -141,6 +148,9 @@ class MemberServiceImplTest {
 
         assertThat(result).isTrue();
         assertThat(member1.getIsDeleted()).isTrue();
+        verify(refreshTokenStore).revokeAll(member1.getEmail());
+        verify(memberRepository).addFollowerCountOfFollowings("test", -1);
+        verify(memberRepository).addFollowingCountOfFollowers("test", -1);
     }
 
     @Test
@@ -150,6 +160,8 @@ class MemberServiceImplTest {
 
         assertThat(result).isTrue();
         assertThat(member3.getIsDeleted()).isFalse();
+        verify(memberRepository).addFollowerCountOfFollowings("test", 1);
+        verify(memberRepository).addFollowingCountOfFollowers("test", 1);
     }
 
     @Test
@@ -239,7 +251,7 @@ class MemberServiceImplTest {
     @Test
     void sendCodeToEmail() {
         doNothing().when(mailService).sendEmail(anyString(), anyString(), anyString());
-        doNothing().when(redisUtil).set(anyString(), anyString(), anyInt());
+        doNothing().when(redisUtil).set(anyString(), anyString(), any(Duration.class));
 
         boolean result = memberService.sendCodeToEmail("test");
 
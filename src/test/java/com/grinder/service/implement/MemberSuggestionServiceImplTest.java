@@ -0,0 +1,93 @@
+package com.grinder.service.implement;
+
+import com.grinder.config.CacheConfig;
+import com.grinder.domain.dto.MemberDTO;
+import com.grinder.domain.entity.Member;
+import com.grinder.domain.enums.Role;
+import com.grinder.domain.enums.TagName;
+import com.grinder.repository.queries.AnalysisTagQueryRepository;
+import com.grinder.repository.queries.BlacklistQueryRepository;
+import com.grinder.repository.queries.MemberQueryRepository;
+import com.grinder.utils.TagVector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+class MemberSuggestionServiceImplTest {
+    @InjectMocks
+    MemberSuggestionServiceImpl memberSuggestionService;
+    @Mock
+    FollowGraphServiceImpl followGraphService;
+    @Mock
+    CacheManager cacheManager;
+    @Mock
+    Cache cache;
+    @Mock
+    MemberQueryRepository memberQueryRepository;
+    @Mock
+    BlacklistQueryRepository blacklistQueryRepository;
+    @Mock
+    AnalysisTagQueryRepository analysisTagQueryRepository;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(Map.of("test1@test.com", "id1")).when(followGraphService).findAllMembers();
+        doReturn(Map.of("id3", 2, "id4", 1, "id5", 3)).when(followGraphService).countTwoHopCandidates("test1@test.com");
+        doReturn(Set.of("id5")).when(memberQueryRepository).findDeletedMemberIds();
+        doReturn(Map.of()).when(blacklistQueryRepository).findAllBlockedMemberIds();
+        doReturn(Map.of("id1", tagVector(TagName.QUIET, TagName.QUIET, TagName.CLEAN),
+                "id4", tagVector(TagName.QUIET, TagName.CLEAN, TagName.FAST_WIFI))).when(analysisTagQueryRepository).findAllTagVectors();
+        doReturn(List.of(memberDTO("id3", "test3@test.com"), memberDTO("id4", "test4@test.com")))
+                .when(memberQueryRepository).findAllMemberAndImageByIds(anyCollection());
+    }
+
+    @Test
+    void refreshSuggestions() {
+        memberSuggestionService.refreshSuggestions();
+        doReturn(cache).when(cacheManager).getCache(CacheConfig.BLOCKED_MEMBER_IDS);
+        doReturn(null).when(cache).get("test1@test.com", Set.class);
+
+        List<MemberDTO.SuggestedMemberDTO> result = memberSuggestionService.findSuggestions("test1@test.com");
+
+        // id3: 공통 팔로우 2 * 3 = 6점, id4: 공통 팔로우 1 * 3 + 공통 태그 2 = 5점, id5: 탈퇴 회원 제외
+        assertThat(result).extracting("followMemberId").containsExactly("id3", "id4");
+        assertThat(result.get(1).getSharedTagCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findSuggestions_차단및팔로우제외() {
+        memberSuggestionService.refreshSuggestions();
+        doReturn(cache).when(cacheManager).getCache(CacheConfig.BLOCKED_MEMBER_IDS);
+        doReturn(Set.of("id3")).when(cache).get("test1@test.com", Set.class);
+        doReturn(true).when(followGraphService).isFollowing("test1@test.com", "test4@test.com");
+
+        List<MemberDTO.SuggestedMemberDTO> result = memberSuggestionService.findSuggestions("test1@test.com");
+
+        assertThat(result).isEmpty();
+    }
+
+    private TagVector tagVector(TagName... tagNames) {
+        TagVector vector = TagVector.empty();
+        for (TagName tagName : tagNames) vector.add(tagName, 1);
+        return vector;
+    }
+
+    private MemberDTO.FindMemberAndImageDTO memberDTO(String memberId, String email) {
+        Member member = Member.builder().memberId(memberId).email(email).nickname(memberId).role(Role.MEMBER).build();
+        return new MemberDTO.FindMemberAndImageDTO(member, null);
+    }
+}
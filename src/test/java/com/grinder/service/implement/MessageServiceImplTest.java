@@ -1,8 +1,10 @@
 package com.grinder.service.implement;
 
+import com.grinder.domain.dto.MessageDTO;
 import com.grinder.domain.entity.Member;
 import com.grinder.domain.entity.Message;
 import com.grinder.domain.enums.Role;
+import com.grinder.repository.MemberRepository;
 import com.grinder.repository.MessageRepository;
 import com.grinder.repository.queries.MemberQueryRepository;
 import com.grinder.repository.queries.MessageQueryRepository;
@@ -14,9 +16,20 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.assertj.core.api.Assertions.*;
 
@@ -29,6 +42,10 @@ class MessageServiceImplTest {
     MessageRepository messageRepository;
     @Mock
     MessageQueryRepository messageQueryRepository;
+    @Mock
+    MemberRepository memberRepository;
+    @Mock
+    JdbcTemplate jdbcTemplate;
 
     Message message;
     Member member1;
@@ -42,25 +59,54 @@ class MessageServiceImplTest {
     }
 
     @Test
-    void existNonCheckMessage() {
-        doReturn(true).when(messageQueryRepository).existsNonCheck(anyString());
+    void findInboxSlice() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        MessageDTO.findAllResponse response = new MessageDTO.findAllResponse("id", "content", "admin", false, null, null);
+        doReturn(new SliceImpl<>(List.of(response), pageable, false)).when(messageQueryRepository).findInboxSlice("test", null, null, pageable);
+
+        Slice<MessageDTO.findAllResponse> result = messageService.findInboxSlice("test", null, null, pageable);
+
+        assertThat(result.getContent()).extracting("messageId").containsExactly("id");
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    void checkAllMessages() {
+        doReturn(3).when(messageRepository).checkAllByReceiveMemberId("test");
 
-        boolean result = messageService.existNonCheckMessage("test");
+        int result = messageService.checkAllMessages("test");
 
-        assertThat(result).isTrue();
+        assertThat(result).isEqualTo(3);
+        verify(memberRepository, times(1)).addUnreadMessageCount("test", -3);
     }
 
     @Test
-    void findAllByEmail() {
-        doReturn(List.of(message)).when(messageRepository).findAllByReceiveMember_Email(anyString());
+    void checkAllMessages_확인할메시지없음() {
+        doReturn(0).when(messageRepository).checkAllByReceiveMemberId("test");
+
+        int result = messageService.checkAllMessages("test");
 
-        List<Message> result = messageService.findAllByEmail("test");
+        assertThat(result).isZero();
+        verify(memberRepository, never()).addUnreadMessageCount(anyString(), anyInt());
+    }
+
+    @Test
+    void sendAdminMessages() {
+        int result = messageService.sendAdminMessages("Alan", Map.of("test", "content1", "test1", "content2"));
+
+        assertThat(result).isEqualTo(2);
+        verify(jdbcTemplate, times(1)).batchUpdate(startsWith("INSERT INTO message"), argThat((Collection<Map.Entry<String, String>> rows) -> rows.size() == 2),
+                eq(500), any(ParameterizedPreparedStatementSetter.class));
+        // 받는 회원마다 읽지 않은 메시지 수 증가
+        verify(jdbcTemplate, times(1)).batchUpdate(startsWith("UPDATE member"), argThat((Collection<String> memberIds) -> memberIds.size() == 2),
+                eq(500), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void sendAdminMessages_빈목록() {
+        int result = messageService.sendAdminMessages("Alan", Map.of());
 
-        assertThat(result).extracting("messageId").contains("id");
-        assertThat(result).extracting("sendMember").contains(member1);
-        assertThat(result).extracting("receiveMember").contains(member2);
-        assertThat(result).extracting("content").contains("content");
-        assertThat(result).extracting("isChecked").contains(false);
-        assertThat(result).extracting("adminName").contains("admin");
+        assertThat(result).isZero();
+        verifyNoInteractions(jdbcTemplate);
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,10 @@
 package com.grinder.service.implement;
 
-import com.grinder.domain.entity.Cafe;
-import com.grinder.domain.entity.Feed;
-import com.grinder.domain.entity.Member;
-import com.grinder.domain.enums.ContentType;
-import com.grinder.repository.*;
-import com.grinder.service.AlanQuestionService;
-import com.grinder.service.AnalysisTagService;
-import org.junit.jupiter.api.BeforeEach;
+import com.grinder.config.MaintenanceBatchConfig;
+import com.grinder.service.ClusterSchedulerService;
+import com.grinder.service.JobTelemetryService;
+import com.grinder.service.MaintenanceJobService;
+import com.grinder.utils.Shard;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -15,12 +12,9 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDate;
-import java.util.List;
+import java.util.function.Consumer;
 
-import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,162 +25,129 @@ class SchedulerServiceImplTest {
     private SchedulerServiceImpl schedulerService;
 
     @Mock
-    private CafeRepository cafeRepository;
+    private ClusterSchedulerService clusterSchedulerService;
 
     @Mock
-    private MemberRepository memberRepository;
+    private MaintenanceJobService maintenanceJobService;
 
     @Mock
-    private AnalysisTagService analysisTagService;
-
-    @Mock
-    private AlanQuestionService alanQuestionService;
-
-    @Mock
-    private FeedRepository feedRepository;
-
-    @Mock
-    private HeartRepository heartRepository;
-
-    @Mock
-    private CommentRepository commentRepository;
-
-    private Member member;
-    private Cafe cafe;
-    private Feed feed;
-
-    @BeforeEach
-    void setUp() {
-        member = Member.builder().memberId("testMemberId").email("member1@example.com").nickname("user1").build();
-        cafe = Cafe.builder().cafeId("testCafeId").name("Cafe A").averageGrade(4).build();
-        feed = Feed.builder().feedId("testFeedId").member(member).cafe(cafe).build();
-    }
+    private JobTelemetryService jobTelemetryService;
 
     @Test
     void testCalAverage() {
-        doNothing().when(schedulerService).performCalAverageTask();
+        runShardedLocally();
+        doNothing().when(schedulerService).performCalAverageTask(any(Shard.class));
         schedulerService.CalAverage();
-        verify(schedulerService, times(1)).performCalAverageTask();
+        verify(schedulerService, times(1)).performCalAverageTask(any(Shard.class));
     }
 
     @Test
     void testPerformCalAverageTask() {
-        doNothing().when(schedulerService).updateAverageGradeForCafes(anyInt());
-        doNothing().when(schedulerService).updateTagListForMembers(anyInt());
-        doNothing().when(schedulerService).recommendCafeForMembers(anyInt());
-        doNothing().when(schedulerService).updateRanks(anyInt());
+        doNothing().when(schedulerService).updateAverageGradeForCafes(any(Shard.class));
+        doNothing().when(schedulerService).updateTagListForMembers(any(Shard.class));
+        doNothing().when(schedulerService).recommendCafeForMembers(any(Shard.class));
+        doNothing().when(schedulerService).updateRanks(any(Shard.class));
 
-        schedulerService.performCalAverageTask();
+        schedulerService.performCalAverageTask(Shard.ALL);
 
-        verify(schedulerService, times(1)).updateAverageGradeForCafes(anyInt());
-        verify(schedulerService, times(1)).updateTagListForMembers(anyInt());
-        verify(schedulerService, times(1)).recommendCafeForMembers(anyInt());
-        verify(schedulerService, times(1)).updateRanks(anyInt());
+        verify(schedulerService, times(1)).updateAverageGradeForCafes(any(Shard.class));
+        verify(schedulerService, times(1)).updateTagListForMembers(any(Shard.class));
+        verify(schedulerService, times(1)).recommendCafeForMembers(any(Shard.class));
+        verify(schedulerService, times(1)).updateRanks(any(Shard.class));
     }
 
     @Test
     void testUpdateAverageGradeForCafes() {
-        when(cafeRepository.count()).thenReturn(100L);
-        when(cafeRepository.findCafesForAverageCalculation(anyLong(), anyLong())).thenReturn(List.of(cafe));
-        doNothing().when(schedulerService).calculateAndSetAverageGrade(any(Cafe.class));
-
-        schedulerService.updateAverageGradeForCafes(1);
-
-        verify(cafeRepository, times(1)).count();
-        verify(cafeRepository, times(1)).findCafesForAverageCalculation(anyLong(), anyLong());
-        verify(schedulerService, times(1)).calculateAndSetAverageGrade(any(Cafe.class));
-    }
-
-    @Test
-    void testCalculateAndSetAverageGrade() {
-        when(cafeRepository.findAverageGradeByCafeId(anyString())).thenReturn(4.5);
-
-        schedulerService.calculateAndSetAverageGrade(cafe);
+        schedulerService.updateAverageGradeForCafes(Shard.ALL);
 
-        assertThat(cafe.getAverageGrade()).isEqualTo(4);
-        verify(cafeRepository, times(1)).save(any(Cafe.class));
+        verify(maintenanceJobService, times(1)).run(MaintenanceBatchConfig.AVERAGE_GRADE_JOB, 7, Shard.ALL);
     }
 
     @Test
     void testUpdateTagListForMembers() {
-        when(memberRepository.count()).thenReturn(100L);
-        when(memberRepository.findMembersForTagUpdate(anyLong(), anyLong())).thenReturn(List.of(member));
-        doNothing().when(analysisTagService).updateTagList(anyString());
+        schedulerService.updateTagListForMembers(Shard.ALL);
 
-        schedulerService.updateTagListForMembers(1);
-
-        verify(memberRepository, times(1)).count();
-        verify(memberRepository, times(1)).findMembersForTagUpdate(anyLong(), anyLong());
-        verify(analysisTagService, times(1)).updateTagList(anyString());
+        verify(maintenanceJobService, times(1)).run(MaintenanceBatchConfig.TAG_ANALYSIS_JOB, 7, Shard.ALL);
     }
 
     @Test
     void testRecommendAlan() {
-        doNothing().when(schedulerService).performRecommendAlanTask();
+        runShardedLocally();
+        doNothing().when(schedulerService).performRecommendAlanTask(any(Shard.class));
         schedulerService.recommendAlan();
-        verify(schedulerService, times(1)).performRecommendAlanTask();
+        verify(schedulerService, times(1)).performRecommendAlanTask(any(Shard.class));
     }
 
     @Test
     void testPerformRecommendAlanTask() {
-        doNothing().when(schedulerService).recommendCafeForMembers(anyInt());
-        doNothing().when(schedulerService).updateRanks(anyInt());
+        doNothing().when(schedulerService).recommendCafeForMembers(any(Shard.class));
+        doNothing().when(schedulerService).updateRanks(any(Shard.class));
 
-        schedulerService.performRecommendAlanTask();
+        schedulerService.performRecommendAlanTask(Shard.ALL);
 
-        verify(schedulerService, times(1)).recommendCafeForMembers(anyInt());
-        verify(schedulerService, times(1)).updateRanks(anyInt());
+        verify(schedulerService, times(1)).recommendCafeForMembers(any(Shard.class));
+        verify(schedulerService, times(1)).updateRanks(any(Shard.class));
     }
 
     @Test
     void testRecommendCafeForMembers() {
-        when(memberRepository.count()).thenReturn(100L);
-        when(memberRepository.findMembersForTagUpdate(anyLong(), anyLong())).thenReturn(List.of(member));
-        doReturn(true).when(alanQuestionService).recommendCafe(anyString());
+        Shard shard = new Shard(1, 2);
 
-        schedulerService.recommendCafeForMembers(1);
+        schedulerService.recommendCafeForMembers(shard);
 
-        verify(memberRepository, times(1)).count();
-        verify(memberRepository, times(1)).findMembersForTagUpdate(anyLong(), anyLong());
-        verify(alanQuestionService, times(1)).recommendCafe(anyString());
+        verify(maintenanceJobService, times(1)).run(MaintenanceBatchConfig.CAFE_RECOMMEND_JOB, 30, shard);
     }
 
     @Test
     void testUpdateRanks() {
-        when(feedRepository.count()).thenReturn(100L);
-        when(feedRepository.findFeedsForRankUpdate(anyLong(), anyLong())).thenReturn(List.of(feed));
-        when(heartRepository.countByContentTypeAndContentId(any(ContentType.class), anyString())).thenReturn(50L);
-        when(commentRepository.countByFeed(any(Feed.class))).thenReturn(20L);
-
-        schedulerService.updateRanks(1);
-
-        verify(feedRepository, times(1)).count();
-        verify(feedRepository, times(1)).findFeedsForRankUpdate(anyLong(), anyLong());
-        verify(heartRepository, times(1)).countByContentTypeAndContentId(any(ContentType.class), anyString());
-        verify(commentRepository, times(1)).countByFeed(any(Feed.class));
-        verify(feedRepository, times(1)).updateFeedRank(anyString(), anyInt());
+        schedulerService.updateRanks(Shard.ALL);
+
+        verify(maintenanceJobService, times(1)).run(MaintenanceBatchConfig.FEED_RANK_JOB, 30, Shard.ALL);
     }
 
     @Test
     void testUpdateRank() {
-        doNothing().when(schedulerService).performUpdateRankTask();
+        runShardedLocally();
+        doNothing().when(schedulerService).performUpdateRankTask(any(Shard.class));
         schedulerService.updateRank();
-        verify(schedulerService, times(1)).performUpdateRankTask();
+        verify(schedulerService, times(1)).performUpdateRankTask(any(Shard.class));
     }
 
     @Test
     void testPerformUpdateRankTask() {
-        doNothing().when(schedulerService).updateRanks(anyInt());
-        schedulerService.performUpdateRankTask();
-        verify(schedulerService, times(1)).updateRanks(anyInt());
+        doNothing().when(schedulerService).updateRanks(any(Shard.class));
+        schedulerService.performUpdateRankTask(Shard.ALL);
+        verify(schedulerService, times(1)).updateRanks(any(Shard.class));
     }
 
     @Test
     void testExecuteWithRetry() {
-        doThrow(new RuntimeException("Test Exception")).doNothing().when(schedulerService).performCalAverageTask();
+        doThrow(new RuntimeException("Test Exception")).doNothing().when(schedulerService).performCalAverageTask(any(Shard.class));
+
+        schedulerService.executeWithRetry(() -> schedulerService.performCalAverageTask(Shard.ALL), "CalAverage");
 
-        schedulerService.executeWithRetry(schedulerService::performCalAverageTask, "CalAverage");
+        verify(schedulerService, times(2)).performCalAverageTask(any(Shard.class)); // 1 실패 + 1 성공
+        verify(jobTelemetryService, times(1)).recordTask(eq("CalAverage"), any(), eq(2), isNull());
+    }
+
+    @Test
+    void testExecuteWithRetryFailed() {
+        RuntimeException exception = new RuntimeException("Test Exception");
+        doThrow(exception).when(schedulerService).performCalAverageTask(any(Shard.class));
+
+        assertThrows(RuntimeException.class,
+                () -> schedulerService.executeWithRetry(() -> schedulerService.performCalAverageTask(Shard.ALL), "CalAverage"));
+
+        verify(schedulerService, times(3)).performCalAverageTask(any(Shard.class));
+        verify(jobTelemetryService, times(1)).recordTask(eq("CalAverage"), any(), eq(3), eq(exception));
+    }
 
-        verify(schedulerService, times(2)).performCalAverageTask(); // 1 실패 + 1 성공
+    // 분할 없이 이 서버에서 바로 실행
+    @SuppressWarnings("unchecked")
+    private void runShardedLocally() {
+        doAnswer(invocation -> {
+            ((Consumer<Shard>) invocation.getArgument(1)).accept(Shard.ALL);
+            return null;
+        }).when(clusterSchedulerService).runSharded(anyString(), any());
     }
-}
\ No newline at end of file
+}
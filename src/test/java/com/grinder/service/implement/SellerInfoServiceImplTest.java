@@ -10,6 +10,7 @@ import com.grinder.repository.MemberRepository;
 import com.grinder.repository.SellerInfoRepository;
 import com.grinder.repository.queries.ImageQueryRepository;
 import com.grinder.repository.queries.SellerInfoQueryRepository;
+import com.grinder.security.service.PrincipalCache;
 import com.grinder.service.CafeService;
 import com.grinder.service.ImageService;
 import com.grinder.service.MemberService;
@@ -49,6 +50,8 @@ class SellerInfoServiceImplTest {
     ImageServiceImpl imageService;
     @Mock
     MemberServiceImpl memberService;
+    @Mock
+    PrincipalCache principalCache;
 
     SellerInfo sellerInfoData;
     SellerApply sellerApplyData;
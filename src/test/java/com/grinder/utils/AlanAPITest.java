@@ -0,0 +1,161 @@
+package com.grinder.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grinder.domain.dto.AlanDTO;
+import com.grinder.exception.AlanUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlanAPITest {
+
+    private AlanStubServer stubServer;
+    private AlanAPI alanAPI;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = new AlanStubServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (alanAPI != null) alanAPI.destroy();
+        stubServer.close();
+    }
+
+    @DisplayName("한글, 특수문자 질문을 인코딩해 보내고 응답을 읽는다")
+    @Test
+    void testAsk() {
+        alanAPI = alanAPI(settings -> {});
+
+        AlanDTO.AlanResponse response = alanAPI.anyQuestion("강남 카페 & 추천?");
+
+        assertEquals("응답:강남 카페 & 추천?", response.getContent());
+        assertEquals("search", response.getActionName());
+    }
+
+    @DisplayName("키가 없으면 요청하지 않는다")
+    @Test
+    void testNoKey() {
+        alanAPI = alanAPI(settings -> settings.key(""));
+
+        assertEquals("종료된 서비스", alanAPI.anyQuestion("질문").getContent());
+        assertEquals(0, stubServer.getRequests());
+    }
+
+    @DisplayName("5xx 응답은 maxAttempts 번까지 재시도")
+    @Test
+    void testRetry() {
+        alanAPI = alanAPI(settings -> settings.maxAttempts(3));
+        stubServer.failNext(2);
+
+        assertEquals("응답:질문", alanAPI.anyQuestion("질문").getContent());
+        assertEquals(3, stubServer.getRequests());
+    }
+
+    @DisplayName("재시도 예산을 다 쓰면 더 재시도하지 않는다")
+    @Test
+    void testRetryBudget() {
+        alanAPI = alanAPI(settings -> settings.maxAttempts(3).retryRatio(0).retryMaxTokens(1));
+        stubServer.failNext(10);
+
+        assertThrows(AlanUnavailableException.class, () -> alanAPI.anyQuestion("질문"));
+        assertThrows(AlanUnavailableException.class, () -> alanAPI.anyQuestion("질문"));
+
+        // 첫 요청만 한 번 재시도
+        assertEquals(3, stubServer.getRequests());
+    }
+
+    @DisplayName("응답 대기 시간을 넘으면 실패")
+    @Test
+    void testReadTimeout() {
+        alanAPI = alanAPI(settings -> settings.readTimeout(Duration.ofMillis(100)));
+        stubServer.setDelayMillis(1000);
+
+        assertThrows(AlanUnavailableException.class, () -> alanAPI.anyQuestion("질문"));
+    }
+
+    @DisplayName("동기 호출은 awaitTimeout 까지만 기다린다")
+    @Test
+    void testAwaitTimeout() {
+        alanAPI = alanAPI(settings -> settings.readTimeout(Duration.ofSeconds(5)).awaitTimeout(Duration.ofMillis(100)));
+        stubServer.setDelayMillis(1000);
+
+        long start = System.nanoTime();
+        assertThrows(AlanUnavailableException.class, () -> alanAPI.anyQuestion("질문"));
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofMillis(900)) < 0);
+    }
+
+    @DisplayName("연속 실패 시 서킷이 열려 요청을 보내지 않는다")
+    @Test
+    void testCircuitBreaker() {
+        alanAPI = alanAPI(settings -> settings.failureThreshold(2));
+        stubServer.failNext(10);
+
+        assertThrows(AlanUnavailableException.class, () -> alanAPI.anyQuestion("질문"));
+        assertThrows(AlanUnavailableException.class, () -> alanAPI.anyQuestion("질문"));
+        assertEquals(CircuitBreaker.State.OPEN, alanAPI.getCircuitState());
+        assertThrows(AlanUnavailableException.class, () -> alanAPI.anyQuestion("질문"));
+
+        assertEquals(2, stubServer.getRequests());
+    }
+
+    @DisplayName("대기열까지 가득 차면 바로 거절")
+    @Test
+    void testQueueFull() {
+        alanAPI = alanAPI(settings -> settings.maxConcurrency(1).maxQueue(0));
+        stubServer.setDelayMillis(300);
+
+        CompletableFuture<AlanDTO.AlanResponse> first = alanAPI.ask("질문1");
+        CompletableFuture<AlanDTO.AlanResponse> second = alanAPI.ask("질문2");
+
+        CompletionException e = assertThrows(CompletionException.class, second::join);
+        assertInstanceOf(AlanUnavailableException.class, e.getCause());
+        assertEquals("응답:질문1", first.join().getContent());
+    }
+
+    @DisplayName("동시 요청은 maxConcurrency 개를 넘지 않고 대기 요청도 모두 처리")
+    @Test
+    void testBoundedConcurrency() {
+        alanAPI = alanAPI(settings -> settings.maxConcurrency(4).maxQueue(200));
+        stubServer.setDelayMillis(20);
+
+        List<CompletableFuture<AlanDTO.AlanResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) futures.add(alanAPI.ask("질문" + i));
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        for (int i = 0; i < 100; i++) assertEquals("응답:질문" + i, futures.get(i).join().getContent());
+        assertEquals(100, stubServer.getRequests());
+        assertTrue(stubServer.getMaxInFlight() <= 4);
+    }
+
+    private AlanAPI alanAPI(Consumer<AlanAPI.Settings.SettingsBuilder> customizer) {
+        AlanAPI.Settings.SettingsBuilder settings = AlanAPI.Settings.builder()
+                .baseUrl(stubServer.url())
+                .key("test-key")
+                .connectTimeout(Duration.ofSeconds(1))
+                .readTimeout(Duration.ofSeconds(2))
+                .maxConcurrency(8)
+                .maxQueue(100)
+                .maxAttempts(1)
+                .backoff(Duration.ofMillis(10))
+                .retryRatio(0.2)
+                .retryMaxTokens(10)
+                .failureThreshold(5)
+                .openDuration(Duration.ofSeconds(30))
+                .awaitTimeout(Duration.ofSeconds(10));
+        customizer.accept(settings);
+        return new AlanAPI(settings.build(), new ObjectMapper());
+    }
+}
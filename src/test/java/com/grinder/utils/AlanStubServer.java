@@ -0,0 +1,99 @@
+package com.grinder.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 앨런 API 서버 (JDK HttpServer)
+ * 응답 지연과 실패(503) 횟수를 바꿔 가며 외부 서비스 없이 AlanAPI 의 시간 초과, 재시도, 서킷 브레이커, 동시 요청 수를 확인한다.
+ * 응답 content 는 "응답:" + 받은 질문이다.
+ */
+class AlanStubServer implements AutoCloseable {
+    private static final String PATH = "/api/v1/question";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile long delayMillis;
+
+    AlanStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(executor);
+        server.createContext(PATH, this::handle);
+        server.start();
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + PATH;
+    }
+
+    void setDelayMillis(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    // 다음 count 번의 요청에 503 응답
+    void failNext(int count) {
+        failuresLeft.set(count);
+    }
+
+    int getRequests() {
+        return requests.get();
+    }
+
+    int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            if (delayMillis > 0) Thread.sleep(delayMillis);
+            if (failuresLeft.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            byte[] body = objectMapper.writeValueAsBytes(Map.of(
+                    "action", Map.of("name", "search", "speak", "speak"),
+                    "content", "응답:" + content(exchange.getRequestURI().getRawQuery())));
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private String content(String rawQuery) {
+        for (String pair : rawQuery.split("&")) {
+            if (pair.startsWith("content=")) return URLDecoder.decode(pair.substring(8), StandardCharsets.UTF_8);
+        }
+        return "";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,41 @@
+package com.grinder.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BucketPartitionerTest {
+
+    @DisplayName("버킷을 파티션에 차례로 나눠 담는다")
+    @Test
+    void testPartition() {
+        Map<String, ExecutionContext> partitions = new BucketPartitioner(List.of(3, 8, 13, 18, 23)).partition(2);
+
+        assertEquals(2, partitions.size());
+        assertEquals("3,13,23", partitions.get("partition0").getString(BucketPartitioner.BUCKETS));
+        assertEquals("8,18", partitions.get("partition1").getString(BucketPartitioner.BUCKETS));
+    }
+
+    @DisplayName("버킷보다 파티션이 많으면 버킷 수만큼만 만든다")
+    @Test
+    void testPartitionFewBuckets() {
+        Map<String, ExecutionContext> partitions = new BucketPartitioner(List.of(7)).partition(4);
+
+        assertEquals(1, partitions.size());
+        assertEquals("7", partitions.get("partition0").getString(BucketPartitioner.BUCKETS));
+    }
+
+    @DisplayName("버킷 목록 문자열 변환")
+    @Test
+    void testJoinAndParse() {
+        assertEquals("1,20,209", BucketPartitioner.join(List.of(1, 20, 209)));
+        assertEquals(List.of(1, 20, 209), BucketPartitioner.parse("1, 20,209"));
+        assertTrue(BucketPartitioner.parse("").isEmpty());
+        assertThrows(NumberFormatException.class, () -> BucketPartitioner.parse("1) OR (1=1"));
+    }
+}
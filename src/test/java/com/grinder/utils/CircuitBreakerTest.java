@@ -0,0 +1,49 @@
+package com.grinder.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(3, Duration.ofSeconds(10), now::get);
+
+    @DisplayName("연속 실패가 기준에 닿으면 열린다")
+    @Test
+    void testOpen() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        assertTrue(circuitBreaker.tryAcquire());
+
+        circuitBreaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    @DisplayName("열린 시간이 지나면 시험 호출 한 번만 허용하고 결과에 따라 닫히거나 다시 열린다")
+    @Test
+    void testHalfOpen() {
+        for (int i = 0; i < 3; i++) circuitBreaker.onFailure();
+        now.addAndGet(10000);
+
+        assertTrue(circuitBreaker.tryAcquire());
+        assertFalse(circuitBreaker.tryAcquire());
+        circuitBreaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        now.addAndGet(10000);
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+}
@@ -0,0 +1,56 @@
+package com.grinder.utils;
+
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JWTUtilTest {
+
+    private static final String KEY = "grinder-test-secret-key-0123456789abcdef";
+
+    private JWTUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JWTUtil(KEY);
+    }
+
+    @DisplayName("토큰 발급 후 검증")
+    @Test
+    void testValidateToken() {
+        String token = jwtUtil.generateToken(Map.of("email", "test@test.com"), 1);
+
+        Map<String, Object> claims = jwtUtil.validateToken(token);
+
+        assertEquals("test@test.com", claims.get("email"));
+        assertEquals("test@test.com", jwtUtil.getEmail(token));
+        assertNotNull(claims.get("exp"));
+    }
+
+    @DisplayName("같은 토큰은 캐시된 검증 결과 사용")
+    @Test
+    void testValidateTokenCached() {
+        String token = jwtUtil.generateToken(Map.of("email", "test@test.com"), 1);
+
+        Map<String, Object> first = jwtUtil.validateToken(token);
+        Map<String, Object> second = jwtUtil.validateToken(token);
+        assertSame(first, second);
+
+        jwtUtil.evictToken(token);
+        assertNotSame(first, jwtUtil.validateToken(token));
+    }
+
+    @DisplayName("다른 키로 서명된 토큰 검증 실패")
+    @Test
+    void testValidateTokenBadSign() {
+        JWTUtil other = new JWTUtil("other-test-secret-key-0123456789abcdefgh");
+        String token = other.generateToken(Map.of("email", "test@test.com"), 1);
+
+        assertThrows(SignatureException.class, () -> jwtUtil.validateToken(token));
+    }
+}
@@ -0,0 +1,64 @@
+package com.grinder.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RedisUtilTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private RedisUtil redisUtil;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        redisUtil = new RedisUtil(mock(RedisConnectionFactory.class), stringRedisTemplate, new ObjectMapper());
+    }
+
+    @DisplayName("같은 타입은 같은 템플릿 재사용")
+    @Test
+    void testForType() {
+        assertSame(redisUtil.forType(Long.class), redisUtil.forType(Long.class));
+        assertNotSame(redisUtil.forType(Long.class), redisUtil.forType(Integer.class));
+    }
+
+    @DisplayName("여러 키는 MGET 한 번으로 조회")
+    @Test
+    void testMultiGet() {
+        when(valueOperations.multiGet(List.of("a", "b"))).thenReturn(Arrays.asList("1", null));
+
+        List<String> values = redisUtil.multiGet(List.of("a", "b"));
+
+        assertEquals("1", values.get(0));
+        assertNull(values.get(1));
+        verify(valueOperations, times(1)).multiGet(any());
+        verify(valueOperations, never()).get(any());
+    }
+
+    @DisplayName("여러 키 저장은 파이프라인으로 전송")
+    @Test
+    void testMultiSet() {
+        redisUtil.multiSet(Map.of("a", "1", "b", "2"), Duration.ofMinutes(1));
+
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(valueOperations, never()).set(any(), any(), any(Duration.class));
+    }
+}
@@ -0,0 +1,80 @@
+package com.grinder.utils;
+
+import com.grinder.domain.enums.TagName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TagVectorTest {
+
+    @DisplayName("저장 후 다시 읽어도 같은 가중치")
+    @Test
+    void testEncodeDecode() {
+        TagVector vector = TagVector.empty();
+        vector.add(TagName.QUIET, 2.5);
+        vector.add(TagName.SMOKING_AREA, 1);
+
+        TagVector decoded = TagVector.decode(vector.encode(), null);
+
+        assertEquals(TagVector.SIZE * Float.BYTES, vector.encode().length);
+        assertEquals(2.5f, decoded.get(TagName.QUIET));
+        assertEquals(1f, decoded.get(TagName.SMOKING_AREA));
+    }
+
+    @DisplayName("태그가 추가되기 전에 저장된 짧은 배열은 나머지를 0 으로 읽는다")
+    @Test
+    void testDecodeShorter() {
+        TagVector vector = TagVector.empty();
+        vector.add(TagName.CLEAN, 3);
+        byte[] shorter = Arrays.copyOf(vector.encode(), Float.BYTES * 2);
+
+        TagVector decoded = TagVector.decode(shorter, null);
+
+        assertEquals(3f, decoded.get(TagName.CLEAN));
+        assertEquals(0f, decoded.get(TagName.SMOKING_AREA));
+    }
+
+    @DisplayName("반감기마다 가중치가 절반으로 줄어든다")
+    @Test
+    void testDecay() {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+        TagVector vector = TagVector.empty();
+        vector.decayTo(now);
+        vector.add(TagName.QUIET, 4);
+
+        vector.decayTo(now.plus(TagVector.HALF_LIFE).plus(TagVector.HALF_LIFE));
+
+        assertEquals(1f, vector.get(TagName.QUIET), 0.0001);
+        assertEquals(now.plus(TagVector.HALF_LIFE).plus(TagVector.HALF_LIFE), vector.getAsOf());
+    }
+
+    @DisplayName("이전 형식의 태그 목록은 등장 횟수로 변환")
+    @Test
+    void testFromTagList() {
+        TagVector vector = TagVector.fromTagList(
+                String.join("/", TagName.QUIET.getValue(), TagName.CLEAN.getValue(), TagName.QUIET.getValue(), "2024-01-01"), null);
+
+        assertEquals(List.of(TagName.QUIET, TagName.CLEAN), vector.top(5));
+        assertEquals(TagName.QUIET.getValue() + "/" + TagName.CLEAN.getValue(), vector.summary(5));
+    }
+
+    @DisplayName("코사인 유사도")
+    @Test
+    void testCosine() {
+        TagVector a = TagVector.empty();
+        a.add(TagName.QUIET, 1);
+        TagVector b = TagVector.empty();
+        b.add(TagName.QUIET, 3);
+        TagVector c = TagVector.empty();
+        c.add(TagName.CLEAN, 1);
+
+        assertEquals(1.0, a.cosine(b), 0.0001);
+        assertEquals(0.0, a.cosine(c), 0.0001);
+        assertEquals(0.0, a.cosine(TagVector.empty()));
+    }
+}
@@ -0,0 +1,104 @@
+package com.grinder.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TwoLevelCacheTest {
+
+    private RedisTemplate<String, Object> redisTemplate;
+    private ValueOperations<String, Object> valueOperations;
+    private List<String> published;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        published = new ArrayList<>();
+        cache = new TwoLevelCache("test", redisTemplate, Duration.ofMinutes(10), Duration.ofMinutes(1), 100,
+                new SimpleMeterRegistry(), (name, key) -> published.add(name + ":" + key));
+    }
+
+    @DisplayName("L1, L2 모두 없으면 원본을 한 번 읽고 L2 에 저장")
+    @Test
+    void testLoadOnMiss() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("value", cache.get("key", () -> {
+            loads.incrementAndGet();
+            return "value";
+        }));
+        assertEquals("value", cache.get("key", () -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+
+        assertEquals(1, loads.get());
+        verify(valueOperations, times(1)).get("cache:test:key");
+        verify(valueOperations, times(1)).set("cache:test:key", "value", Duration.ofMinutes(10));
+        assertEquals(0.5, cache.hitRatio());
+    }
+
+    @DisplayName("L2 에 있으면 원본을 읽지 않고 L1 에 올린다")
+    @Test
+    void testL2Hit() {
+        when(valueOperations.get("cache:test:key")).thenReturn("remote");
+
+        assertEquals("remote", cache.get("key", () -> fail("원본을 읽으면 안 됩니다.")));
+        assertEquals("remote", cache.get("key").get());
+
+        verify(valueOperations, times(1)).get("cache:test:key");
+        verify(valueOperations, never()).set(any(), any(), any(Duration.class));
+    }
+
+    @DisplayName("삭제 시 L2 삭제 후 다른 서버에 알림")
+    @Test
+    void testEvict() {
+        cache.get("key", () -> "value");
+
+        cache.evict("key");
+
+        verify(redisTemplate, times(1)).delete("cache:test:key");
+        assertEquals(List.of("test:key"), published);
+        assertNull(cache.get("key"));
+    }
+
+    @DisplayName("다른 서버의 알림은 L1 만 비운다")
+    @Test
+    void testInvalidateLocal() {
+        cache.get("key", () -> "value");
+
+        cache.invalidateLocal("key");
+
+        verify(redisTemplate, never()).delete(any(String.class));
+        assertTrue(published.isEmpty());
+        cache.get("key", () -> "value");
+        verify(valueOperations, times(2)).get("cache:test:key");
+    }
+
+    @DisplayName("Redis 장애 시 원본과 L1 로 동작")
+    @Test
+    void testRedisFailure() {
+        when(valueOperations.get(any())).thenThrow(new RedisConnectionFailureException("down"));
+        doThrow(new RedisConnectionFailureException("down")).when(valueOperations).set(any(), any(), any(Duration.class));
+
+        assertEquals("value", cache.get("key", () -> "value"));
+        assertEquals("value", cache.get("key", () -> "other"));
+    }
+}